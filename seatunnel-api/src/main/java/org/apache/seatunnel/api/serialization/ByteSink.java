@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.api.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * A reusable and growable byte buffer which the rows are serialized into by {@link
+ * SerializationSchema#serialize(org.apache.seatunnel.api.table.type.SeaTunnelRow, OutputStream)}.
+ * The sink appends many rows into one buffer, and sends the bytes by {@link #getBuffer()} and
+ * {@link #size()} without copying. Unlike {@link java.io.ByteArrayOutputStream}, the methods are
+ * not synchronized.
+ */
+public class ByteSink extends OutputStream {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private byte[] buffer;
+    private int count;
+
+    private CharsetEncoder encoder;
+
+    public ByteSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ByteSink(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative initial capacity: " + initialCapacity);
+        }
+        this.buffer = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(count + length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    /** Encodes the chars into the buffer, the malformed and unmappable chars are replaced. */
+    public void write(CharSequence chars, Charset charset) {
+        if (encoder == null || !encoder.charset().equals(charset)) {
+            encoder =
+                    charset.newEncoder()
+                            .onMalformedInput(CodingErrorAction.REPLACE)
+                            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        encoder.reset();
+        CharBuffer in = CharBuffer.wrap(chars);
+        ensureCapacity(count + (int) (chars.length() * (double) encoder.maxBytesPerChar()));
+        ByteBuffer out = ByteBuffer.wrap(buffer, count, buffer.length - count);
+        try {
+            CoderResult result = encoder.encode(in, out, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            result = encoder.flush(out);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+        } catch (CharacterCodingException e) {
+            // never happens, the buffer has the room of the max bytes
+            throw new IllegalStateException(e);
+        }
+        count = out.position();
+    }
+
+    /** Discards the written bytes, the buffer is kept for the next rows. */
+    public void reset() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** Returns the internal buffer, whose first {@link #size()} bytes are written. */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, count);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required buffer size is too large: " + minCapacity);
+        }
+        if (minCapacity > buffer.length) {
+            int newCapacity = Math.max(buffer.length << 1, minCapacity);
+            if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+                newCapacity = MAX_CAPACITY;
+            }
+            buffer = Arrays.copyOf(buffer, newCapacity);
+        }
+    }
+}
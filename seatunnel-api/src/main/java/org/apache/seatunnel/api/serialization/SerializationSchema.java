@@ -19,6 +19,8 @@ package org.apache.seatunnel.api.serialization;
 
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 
 public interface SerializationSchema extends Serializable {
@@ -29,4 +31,15 @@ public interface SerializationSchema extends Serializable {
      * @return The serialized element.
      */
     byte[] serialize(SeaTunnelRow element);
+
+    /**
+     * Serializes the incoming element into the output, so that the sink can append many elements
+     * into one reusable buffer like {@link ByteSink} without copying.
+     *
+     * @param element The incoming element to be serialized
+     * @param out The output the serialized element is appended to
+     */
+    default void serialize(SeaTunnelRow element, OutputStream out) throws IOException {
+        out.write(serialize(element));
+    }
 }
@@ -44,6 +44,14 @@ public class SourceOptions {
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
 
+    public static final Option<Integer> SNAPSHOT_FETCH_PARALLELISM =
+            Options.key("snapshot.fetch.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of snapshot splits read concurrently by one reader in the snapshot phase, "
+                                    + "each concurrent split holds its own database connection.");
+
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
                     .longType()
@@ -69,6 +77,15 @@ public class SourceOptions {
                     .defaultValue(1)
                     .withDescription("The number of parallel readers in the incremental phase.");
 
+    public static final Option<Integer> INCREMENTAL_DECODE_PARALLELISM =
+            Options.key("incremental.decode.parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads used by one reader to deserialize the change "
+                                    + "events into rows concurrently in the incremental phase, "
+                                    + "the rows are still emitted in the binlog order.");
+
     public static final Option<Long> STOP_TIMESTAMP =
             Options.key("stop.timestamp")
                     .longType()
@@ -111,8 +128,8 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
-                .optional(INCREMENTAL_PARALLELISM)
+                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE, SNAPSHOT_FETCH_PARALLELISM)
+                .optional(INCREMENTAL_PARALLELISM, INCREMENTAL_DECODE_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
 }
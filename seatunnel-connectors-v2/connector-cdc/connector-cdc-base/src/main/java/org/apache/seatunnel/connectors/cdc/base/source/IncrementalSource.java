@@ -88,6 +88,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
     protected StartupConfig startupConfig;
 
     protected int incrementalParallelism;
+    protected int snapshotFetchParallelism;
+    protected int incrementalDecodeParallelism;
     protected StopConfig stopConfig;
     protected List<CatalogTable> catalogTables;
 
@@ -107,6 +109,10 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         this.stopConfig = getStopConfig(readonlyConfig);
         this.stopMode = stopConfig.getStopMode();
         this.incrementalParallelism = readonlyConfig.get(SourceOptions.INCREMENTAL_PARALLELISM);
+        this.snapshotFetchParallelism =
+                readonlyConfig.get(SourceOptions.SNAPSHOT_FETCH_PARALLELISM);
+        this.incrementalDecodeParallelism =
+                readonlyConfig.get(SourceOptions.INCREMENTAL_DECODE_PARALLELISM);
         this.configFactory = createSourceConfigFactory(readonlyConfig);
         this.dataSourceDialect = createDataSourceDialect(readonlyConfig);
         this.deserializationSchema = createDebeziumDeserializationSchema(readonlyConfig);
@@ -175,7 +181,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                                 readerContext.getIndexOfSubtask(),
                                 dataSourceDialect,
                                 sourceConfig,
-                                schemaChangeResolver);
+                                schemaChangeResolver,
+                                snapshotFetchParallelism);
         return new IncrementalSourceReader<>(
                 dataSourceDialect,
                 elementsQueue,
@@ -184,12 +191,14 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                 new SourceReaderOptions(readonlyConfig),
                 readerContext,
                 sourceConfig,
-                deserializationSchema);
+                deserializationSchema,
+                snapshotFetchParallelism);
     }
 
     protected RecordEmitter<SourceRecords, T, SourceSplitStateBase> createRecordEmitter(
             SourceConfig sourceConfig, SourceReader.Context context) {
-        return new IncrementalSourceRecordEmitter<>(deserializationSchema, offsetFactory, context);
+        return new IncrementalSourceRecordEmitter<>(
+                deserializationSchema, offsetFactory, context, incrementalDecodeParallelism);
     }
 
     @Override
@@ -77,6 +77,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
 
     private final AtomicBoolean needSendSplitRequest = new AtomicBoolean(false);
 
+    private final int snapshotFetchParallelism;
+
     public IncrementalSourceReader(
             DataSourceDialect<C> dataSourceDialect,
             BlockingQueue<RecordsWithSplitIds<SourceRecords>> elementsQueue,
@@ -85,7 +87,8 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
             SourceReaderOptions options,
             SourceReader.Context context,
             C sourceConfig,
-            DebeziumDeserializationSchema<T> debeziumDeserializationSchema) {
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            int snapshotFetchParallelism) {
         super(
                 elementsQueue,
                 new SingleThreadFetcherManager<>(elementsQueue, splitReaderSupplier::get),
@@ -97,6 +100,7 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         this.finishedUnackedSplits = new HashMap<>();
         this.subtaskId = context.getIndexOfSubtask();
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
+        this.snapshotFetchParallelism = snapshotFetchParallelism;
     }
 
     @Override
@@ -154,6 +158,12 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         // add all un-finished splits (including incremental split) to SourceReaderBase
         if (!unfinishedSplits.isEmpty()) {
             super.addSplits(unfinishedSplits);
+            // keep requesting snapshot splits until the split reader can read
+            // snapshotFetchParallelism splits concurrently
+            if (unfinishedSplits.stream().allMatch(SourceSplitBase::isSnapshotSplit)
+                    && getNumberOfCurrentlyAssignedSplits() < snapshotFetchParallelism) {
+                needSendSplitRequest.set(true);
+            }
         } else {
             // If the split received is 'isSnapshotReadFinished', we will not run this split, hence
             // we need to send the split request.
@@ -260,6 +270,21 @@ public class IncrementalSourceReader<T, C extends SourceConfig>
         return splitState.toSourceSplit();
     }
 
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            if (recordEmitter instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) recordEmitter).close();
+                } catch (Exception e) {
+                    log.warn("Close record emitter error", e);
+                }
+            }
+        }
+    }
+
     private boolean isIncrementalSplitPhase(List<SourceSplitBase> stateSplits) {
         return stateSplits.size() == 1 && stateSplits.get(0).isIncrementalSplit();
     }
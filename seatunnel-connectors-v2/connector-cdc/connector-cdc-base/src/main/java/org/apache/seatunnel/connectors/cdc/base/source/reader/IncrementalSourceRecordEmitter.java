@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.event.MessageDelayedEvent;
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
+import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.cdc.base.source.event.CompletedSnapshotPhaseEvent;
 import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
 import org.apache.seatunnel.connectors.cdc.base.source.offset.OffsetFactory;
@@ -35,13 +36,21 @@ import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordEmit
 
 import org.apache.kafka.connect.source.SourceRecord;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent.isHighWatermarkEvent;
 import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent.isLowWatermarkEvent;
 import static org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent.isSchemaChangeAfterWatermarkEvent;
@@ -60,10 +69,12 @@ import static org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils.i
  */
 @Slf4j
 public class IncrementalSourceRecordEmitter<T>
-        implements RecordEmitter<SourceRecords, T, SourceSplitStateBase> {
+        implements RecordEmitter<SourceRecords, T, SourceSplitStateBase>, AutoCloseable {
 
     private static final String CDC_RECORD_FETCH_DELAY = "CDCRecordFetchDelay";
     private static final String CDC_RECORD_EMIT_DELAY = "CDCRecordEmitDelay";
+    // smaller batches are not worth to be handed over to the decode workers
+    private static final int PARALLEL_DECODE_MIN_BATCH_SIZE = 128;
 
     protected final DebeziumDeserializationSchema<T> debeziumDeserializationSchema;
     protected final OutputCollector<T> outputCollector;
@@ -76,11 +87,26 @@ public class IncrementalSourceRecordEmitter<T>
     protected final EventListener eventListener;
     protected final MessageDelayedEventLimiter delayedEventLimiter =
             new MessageDelayedEventLimiter(Duration.ofSeconds(1), 0.5d);
+    // the data change records of a batch are deserialized by up to decodeParallelism workers
+    private final int decodeParallelism;
+    private final ExecutorService decodeExecutorService;
 
     public IncrementalSourceRecordEmitter(
             DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
             OffsetFactory offsetFactory,
             SourceReader.Context context) {
+        this(debeziumDeserializationSchema, offsetFactory, context, 1);
+    }
+
+    public IncrementalSourceRecordEmitter(
+            DebeziumDeserializationSchema<T> debeziumDeserializationSchema,
+            OffsetFactory offsetFactory,
+            SourceReader.Context context,
+            int decodeParallelism) {
+        checkArgument(
+                decodeParallelism > 0,
+                "The incremental decode parallelism must be greater than 0, but is %s",
+                decodeParallelism);
         this.debeziumDeserializationSchema = debeziumDeserializationSchema;
         this.outputCollector = new OutputCollector<>();
         this.offsetFactory = offsetFactory;
@@ -88,21 +114,96 @@ public class IncrementalSourceRecordEmitter<T>
         this.recordFetchDelay = context.getMetricsContext().counter(CDC_RECORD_FETCH_DELAY);
         this.recordEmitDelay = context.getMetricsContext().counter(CDC_RECORD_EMIT_DELAY);
         this.eventListener = context.getEventListener();
+        this.decodeParallelism = decodeParallelism;
+        if (decodeParallelism > 1
+                && debeziumDeserializationSchema.isConcurrentDeserializeSupported()) {
+            this.decodeExecutorService =
+                    Executors.newFixedThreadPool(
+                            decodeParallelism,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat(
+                                            "debezium-decoder-"
+                                                    + context.getIndexOfSubtask()
+                                                    + "-%d")
+                                    .setDaemon(true)
+                                    .build());
+        } else {
+            this.decodeExecutorService = null;
+        }
     }
 
     @Override
     public void emitRecord(
             SourceRecords sourceRecords, Collector<T> collector, SourceSplitStateBase splitState)
             throws Exception {
-        final Iterator<SourceRecord> elementIterator = sourceRecords.iterator();
-        while (elementIterator.hasNext()) {
-            SourceRecord next = elementIterator.next();
+        final List<SourceRecord> elements = sourceRecords.getSourceRecordList();
+        final List<T>[] deserializedElements = deserializeConcurrently(elements);
+        for (int i = 0; i < elements.size(); i++) {
+            SourceRecord next = elements.get(i);
             reportMetrics(next);
-            processElement(next, collector, splitState);
+            if (deserializedElements != null && deserializedElements[i] != null) {
+                updateStartupOffset(next, splitState);
+                for (T row : deserializedElements[i]) {
+                    collector.collect(row);
+                }
+            } else {
+                processElement(next, collector, splitState);
+            }
             markEnterPureIncrementPhase(next, splitState);
         }
     }
 
+    /**
+     * Deserializes the data change records of the batch by the decode workers, indexed by the
+     * position of the record in the batch. Returns null if the batch is emitted one by one.
+     *
+     * <p>The workers only read the immutable records and the row converters of the deserialization
+     * schema, which are replaced by schema change records only, so the batches containing a schema
+     * change record are not deserialized concurrently. The split state, the offsets and the
+     * collector are only touched by the emitter thread in the batch order.
+     */
+    @SuppressWarnings("unchecked")
+    List<T>[] deserializeConcurrently(List<SourceRecord> elements) throws InterruptedException {
+        if (decodeExecutorService == null || elements.size() < PARALLEL_DECODE_MIN_BATCH_SIZE) {
+            return null;
+        }
+        for (SourceRecord element : elements) {
+            if (isSchemaChangeEvent(element)) {
+                return null;
+            }
+        }
+
+        List<T>[] deserializedElements = new List[elements.size()];
+        int chunkSize = (elements.size() + decodeParallelism - 1) / decodeParallelism;
+        List<Callable<Void>> decodeTasks = new ArrayList<>(decodeParallelism);
+        for (int start = 0; start < elements.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, elements.size());
+            decodeTasks.add(
+                    () -> {
+                        for (int i = from; i < to; i++) {
+                            SourceRecord element = elements.get(i);
+                            if (!isWatermarkEvent(element) && isDataChangeRecord(element)) {
+                                ListCollector<T> rows = new ListCollector<>();
+                                debeziumDeserializationSchema.deserialize(element, rows);
+                                deserializedElements[i] = rows.rows;
+                            }
+                        }
+                        return null;
+                    });
+        }
+        for (Future<Void> future : decodeExecutorService.invokeAll(decodeTasks)) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new SeaTunnelException(
+                        "Deserialize records error due to " + e.getCause().getMessage(),
+                        e.getCause());
+            }
+        }
+        return deserializedElements;
+    }
+
     protected void reportMetrics(SourceRecord element) {
         long now = System.currentTimeMillis();
         // record the latest process time
@@ -143,16 +244,20 @@ public class IncrementalSourceRecordEmitter<T>
         } else if (isSchemaChangeEvent(element) && splitState.isIncrementalSplitState()) {
             emitElement(element, output);
         } else if (isDataChangeRecord(element)) {
-            if (splitState.isIncrementalSplitState()) {
-                Offset position = getOffsetPosition(element);
-                splitState.asIncrementalSplitState().setStartupOffset(position);
-            }
+            updateStartupOffset(element, splitState);
             emitElement(element, output);
         } else {
             emitElement(element, output);
         }
     }
 
+    private void updateStartupOffset(SourceRecord element, SourceSplitStateBase splitState) {
+        if (splitState.isIncrementalSplitState()) {
+            Offset position = getOffsetPosition(element);
+            splitState.asIncrementalSplitState().setStartupOffset(position);
+        }
+    }
+
     private void markEnterPureIncrementPhase(
             SourceRecord element, SourceSplitStateBase splitState) {
         if (splitState.isIncrementalSplitState()) {
@@ -198,6 +303,27 @@ public class IncrementalSourceRecordEmitter<T>
         debeziumDeserializationSchema.deserialize(element, outputCollector);
     }
 
+    @Override
+    public void close() {
+        if (decodeExecutorService != null) {
+            decodeExecutorService.shutdownNow();
+        }
+    }
+
+    private static class ListCollector<T> implements Collector<T> {
+        private final List<T> rows = new ArrayList<>(2);
+
+        @Override
+        public void collect(T record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
     private class OutputCollector<T> implements Collector<T> {
         private Collector<T> output;
 
@@ -37,12 +37,22 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 @Slf4j
 public class IncrementalSourceSplitReader<C extends SourceConfig>
         implements SplitReader<SourceRecords, SourceSplitBase> {
+    private static final long IDLE_SCAN_FETCHER_WAIT_MS = 100L;
+
     private final Queue<SourceSplitBase> splits;
     private final int subtaskId;
 
@@ -53,16 +63,41 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
     private final C sourceConfig;
     private final SchemaChangeResolver schemaChangeResolver;
 
+    // the snapshot splits are read by up to snapshotFetchParallelism scan fetchers concurrently,
+    // every scan fetcher owns its own task context (connection, queue and watermark tracking).
+    private final int snapshotFetchParallelism;
+    private final Map<String, IncrementalSourceScanFetcher> runningScanFetchers;
+    private final Deque<IncrementalSourceScanFetcher> idleScanFetchers;
+    private final Deque<String> scanFetchOrder;
+    private int createdScanFetchers;
+
     public IncrementalSourceSplitReader(
             int subtaskId,
             DataSourceDialect<C> dataSourceDialect,
             C sourceConfig,
             SchemaChangeResolver schemaChangeResolver) {
+        this(subtaskId, dataSourceDialect, sourceConfig, schemaChangeResolver, 1);
+    }
+
+    public IncrementalSourceSplitReader(
+            int subtaskId,
+            DataSourceDialect<C> dataSourceDialect,
+            C sourceConfig,
+            SchemaChangeResolver schemaChangeResolver,
+            int snapshotFetchParallelism) {
+        checkArgument(
+                snapshotFetchParallelism > 0,
+                "The snapshot fetch parallelism must be greater than 0, but is %s",
+                snapshotFetchParallelism);
         this.subtaskId = subtaskId;
         this.splits = new ArrayDeque<>();
         this.dataSourceDialect = dataSourceDialect;
         this.sourceConfig = sourceConfig;
         this.schemaChangeResolver = schemaChangeResolver;
+        this.snapshotFetchParallelism = snapshotFetchParallelism;
+        this.runningScanFetchers = new HashMap<>();
+        this.idleScanFetchers = new ArrayDeque<>();
+        this.scanFetchOrder = new ArrayDeque<>();
     }
 
     @Override
@@ -70,6 +105,9 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
         checkSplitOrStartNext();
         checkNeedStopBinlogReader();
+        if (currentFetcher == null) {
+            return fetchSnapshotSplits();
+        }
         Iterator<SourceRecords> dataIt = null;
         try {
             dataIt = currentFetcher.pollSplitRecords();
@@ -78,7 +116,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             throw new IOException(e);
         }
         return dataIt == null
-                ? finishedSnapshotSplit()
+                ? finishedSplit(currentSplitId)
                 : ChangeEventRecords.forRecords(currentSplitId, dataIt);
     }
 
@@ -100,6 +138,7 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
 
     @Override
     public void close() throws Exception {
+        closeScanFetchers();
         if (currentFetcher != null) {
             log.info("Close current fetcher {}", currentFetcher.getClass().getCanonicalName());
             currentFetcher.close();
@@ -117,45 +156,124 @@ public class IncrementalSourceSplitReader<C extends SourceConfig>
             return;
         }
 
+        while (runningScanFetchers.size() < snapshotFetchParallelism
+                && !splits.isEmpty()
+                && splits.peek().isSnapshotSplit()) {
+            final IncrementalSourceScanFetcher scanFetcher = nextIdleScanFetcher(splits.peek());
+            if (scanFetcher == null) {
+                // the idle fetcher is still finishing its previous split
+                break;
+            }
+            final SourceSplitBase nextSplit = splits.poll();
+            scanFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
+            runningScanFetchers.put(nextSplit.splitId(), scanFetcher);
+            scanFetchOrder.add(nextSplit.splitId());
+        }
+
         if (canAssignNextSplit()) {
             final SourceSplitBase nextSplit = splits.poll();
             if (nextSplit == null) {
                 throw new IOException("Cannot fetch from another split - no split remaining.");
             }
-            currentSplitId = nextSplit.splitId();
-
-            if (nextSplit.isSnapshotSplit()) {
-                if (currentFetcher == null) {
-                    final FetchTask.Context taskContext =
-                            dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                    currentFetcher = new IncrementalSourceScanFetcher(taskContext, subtaskId);
-                }
-            } else {
-                // point from snapshot split to incremental split
-                if (currentFetcher != null) {
-                    log.info(
-                            "It's turn to read incremental split, close current snapshot fetcher.");
-                    currentFetcher.close();
-                }
-                final FetchTask.Context taskContext =
-                        dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
-                currentFetcher =
-                        new IncrementalSourceStreamFetcher(
-                                taskContext, subtaskId, schemaChangeResolver);
-                log.info("Stream fetcher is created.");
+            // point from snapshot split to incremental split
+            if (!idleScanFetchers.isEmpty()) {
+                log.info("It's turn to read incremental split, close current snapshot fetchers.");
+                closeScanFetchers();
             }
+            currentSplitId = nextSplit.splitId();
+            final FetchTask.Context taskContext =
+                    dataSourceDialect.createFetchTaskContext(nextSplit, sourceConfig);
+            currentFetcher =
+                    new IncrementalSourceStreamFetcher(
+                            taskContext, subtaskId, schemaChangeResolver);
+            log.info("Stream fetcher is created.");
             currentFetcher.submitTask(dataSourceDialect.createFetchTask(nextSplit));
         }
     }
 
     public boolean canAssignNextSplit() {
-        return currentFetcher == null || currentFetcher.isFinished();
+        return currentFetcher == null
+                && runningScanFetchers.isEmpty()
+                && (splits.isEmpty() || !splits.peek().isSnapshotSplit());
+    }
+
+    private IncrementalSourceScanFetcher nextIdleScanFetcher(SourceSplitBase snapshotSplit) {
+        for (Iterator<IncrementalSourceScanFetcher> it = idleScanFetchers.iterator();
+                it.hasNext(); ) {
+            IncrementalSourceScanFetcher scanFetcher = it.next();
+            if (scanFetcher.isFinished()) {
+                it.remove();
+                return scanFetcher;
+            }
+        }
+        if (runningScanFetchers.size() + idleScanFetchers.size() >= snapshotFetchParallelism) {
+            return null;
+        }
+        final FetchTask.Context taskContext =
+                dataSourceDialect.createFetchTaskContext(snapshotSplit, sourceConfig);
+        return new IncrementalSourceScanFetcher(taskContext, subtaskId, createdScanFetchers++);
     }
 
-    private ChangeEventRecords finishedSnapshotSplit() {
-        final ChangeEventRecords finishedRecords =
-                ChangeEventRecords.forFinishedSplit(currentSplitId);
-        currentSplitId = null;
+    /**
+     * Polls the running scan fetchers in round-robin order. The records of one snapshot split are
+     * always returned by the same fetcher, so the per-split order of the watermark and data events
+     * is preserved while different splits are interleaved.
+     */
+    private RecordsWithSplitIds<SourceRecords> fetchSnapshotSplits() throws IOException {
+        final String splitId = scanFetchOrder.poll();
+        if (splitId == null) {
+            waitForIdleScanFetcher();
+            return new ChangeEventRecords(null, null, Collections.emptySet());
+        }
+        final IncrementalSourceScanFetcher scanFetcher = runningScanFetchers.get(splitId);
+        Iterator<SourceRecords> dataIt = null;
+        try {
+            dataIt = scanFetcher.pollSplitRecords();
+        } catch (InterruptedException | SeaTunnelException e) {
+            log.warn("fetch data failed.", e);
+            throw new IOException(e);
+        }
+        if (dataIt == null) {
+            runningScanFetchers.remove(splitId);
+            idleScanFetchers.add(scanFetcher);
+            return finishedSplit(splitId);
+        }
+        scanFetchOrder.add(splitId);
+        return ChangeEventRecords.forRecords(splitId, dataIt);
+    }
+
+    /**
+     * No scan fetcher is running while the next snapshot split waits for an idle fetcher to finish
+     * its previous split, so wait for the read task of the idle fetcher instead of polling nothing
+     * in a busy loop.
+     */
+    private void waitForIdleScanFetcher() throws IOException {
+        if (splits.isEmpty() || !splits.peek().isSnapshotSplit() || idleScanFetchers.isEmpty()) {
+            return;
+        }
+        try {
+            idleScanFetchers
+                    .peek()
+                    .awaitReadTask(IDLE_SCAN_FETCHER_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private void closeScanFetchers() {
+        runningScanFetchers.values().forEach(IncrementalSourceScanFetcher::close);
+        idleScanFetchers.forEach(IncrementalSourceScanFetcher::close);
+        runningScanFetchers.clear();
+        idleScanFetchers.clear();
+        scanFetchOrder.clear();
+    }
+
+    private ChangeEventRecords finishedSplit(String splitId) {
+        final ChangeEventRecords finishedRecords = ChangeEventRecords.forFinishedSplit(splitId);
+        if (Objects.equals(splitId, currentSplitId)) {
+            currentSplitId = null;
+        }
         return finishedRecords;
     }
 }
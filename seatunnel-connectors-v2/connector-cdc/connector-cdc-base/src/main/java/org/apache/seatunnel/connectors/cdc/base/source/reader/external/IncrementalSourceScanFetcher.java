@@ -35,10 +35,13 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -63,14 +66,20 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     // task to read snapshot for current split
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
+    private Future<?> snapshotSplitReadFuture;
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
     public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
+        this(taskContext, subtaskId, 0);
+    }
+
+    public IncrementalSourceScanFetcher(
+            FetchTask.Context taskContext, int subtaskId, int fetcherIndex) {
         this.taskContext = taskContext;
         ThreadFactory threadFactory =
                 new ThreadFactoryBuilder()
-                        .setNameFormat("debezium-snapshot-reader-" + subtaskId)
+                        .setNameFormat("debezium-snapshot-reader-" + subtaskId + "-" + fetcherIndex)
                         .build();
         this.executorService = Executors.newSingleThreadExecutor(threadFactory);
         this.hasNextElement = new AtomicBoolean(false);
@@ -85,23 +94,39 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         this.queue = taskContext.getQueue();
         this.hasNextElement.set(true);
         this.reachEnd.set(false);
-        executorService.submit(
-                () -> {
-                    try {
-                        log.info(
-                                "Start snapshot read task for snapshot split: {} exactly-once: {}",
-                                currentSnapshotSplit,
-                                taskContext.isExactlyOnce());
-                        snapshotSplitReadTask.execute(taskContext);
-                    } catch (Exception e) {
-                        log.error(
-                                String.format(
-                                        "Execute snapshot read task for snapshot split %s fail",
-                                        currentSnapshotSplit),
-                                e);
-                        readException = e;
-                    }
-                });
+        this.snapshotSplitReadFuture =
+                executorService.submit(
+                        () -> {
+                            try {
+                                log.info(
+                                        "Start snapshot read task for snapshot split: {} exactly-once: {}",
+                                        currentSnapshotSplit,
+                                        taskContext.isExactlyOnce());
+                                snapshotSplitReadTask.execute(taskContext);
+                            } catch (Exception e) {
+                                log.error(
+                                        String.format(
+                                                "Execute snapshot read task for snapshot split %s fail",
+                                                currentSnapshotSplit),
+                                        e);
+                                readException = e;
+                            }
+                        });
+    }
+
+    /**
+     * Wait until the read task of the current split is finished, or the timeout elapses. The
+     * failure of the task is thrown by {@link #pollSplitRecords()}.
+     */
+    public void awaitReadTask(long timeout, TimeUnit unit) throws InterruptedException {
+        if (snapshotSplitReadFuture == null) {
+            return;
+        }
+        try {
+            snapshotSplitReadFuture.get(timeout, unit);
+        } catch (ExecutionException | TimeoutException e) {
+            // the task is failed or still running, which is checked by the caller
+        }
     }
 
     @Override
@@ -43,4 +43,12 @@ public interface DebeziumDeserializationSchema<T> extends Serializable {
     default SchemaChangeResolver getSchemaChangeResolver() {
         return null;
     }
+
+    /**
+     * Whether the data change records can be deserialized by several threads concurrently. The
+     * caller never deserializes a schema change record at the same time.
+     */
+    default boolean isConcurrentDeserializeSupported() {
+        return false;
+    }
 }
@@ -41,6 +41,7 @@ import io.debezium.time.Timestamp;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -56,6 +57,7 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
     protected final DebeziumDeserializationConverter[] physicalConverters;
     protected final MetadataConverter[] metadataConverters;
     protected final String[] fieldNames;
+    private final SchemaFields schemaFields;
 
     public SeaTunnelRowDebeziumDeserializationConverters(
             SeaTunnelRowType physicalDataType,
@@ -72,20 +74,21 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
                                                 type, serverTimeZone, userDefinedConverterFactory))
                         .toArray(DebeziumDeserializationConverter[]::new);
         this.fieldNames = physicalDataType.getFieldNames();
+        this.schemaFields = new SchemaFields(fieldNames);
     }
 
     public SeaTunnelRow convert(SourceRecord record, Struct struct, Schema schema)
             throws Exception {
         int arity = physicalConverters.length + metadataConverters.length;
         SeaTunnelRow row = new SeaTunnelRow(arity);
+        Field[] fields = schemaFields.resolve(schema);
         // physical column
         for (int i = 0; i < physicalConverters.length; i++) {
-            String fieldName = fieldNames[i];
-            Field field = schema.field(fieldName);
+            Field field = fields[i];
             if (field == null) {
                 row.setField(i, null);
             } else {
-                Object fieldValue = struct.get(fieldName);
+                Object fieldValue = schemaFields.get(struct, schema, field);
                 Schema fieldSchema = field.schema();
                 Object convertedField =
                         SeaTunnelRowDebeziumDeserializationConverters.convertField(
@@ -447,12 +450,25 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
         return new DebeziumDeserializationConverter() {
             private static final long serialVersionUID = 1L;
 
+            // the scale is parsed from the schema parameters once per schema, the schema and its
+            // scale are published together as the records can be converted concurrently
+            private transient volatile SchemaScale schemaScale;
+
             @Override
             public Object convert(Object dbzObj, Schema schema) throws Exception {
                 BigDecimal bigDecimal;
                 if (dbzObj instanceof byte[]) {
                     // decimal.handling.mode=precise
-                    bigDecimal = Decimal.toLogical(schema, (byte[]) dbzObj);
+                    SchemaScale resolved = schemaScale;
+                    if (resolved == null || resolved.schema != schema) {
+                        resolved =
+                                new SchemaScale(
+                                        schema,
+                                        Integer.parseInt(
+                                                schema.parameters().get(Decimal.SCALE_FIELD)));
+                        schemaScale = resolved;
+                    }
+                    bigDecimal = new BigDecimal(new BigInteger((byte[]) dbzObj), resolved.scale);
                 } else if (dbzObj instanceof String) {
                     // decimal.handling.mode=string
                     bigDecimal = new BigDecimal((String) dbzObj);
@@ -483,6 +499,7 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
                                                 type, serverTimeZone, userDefinedConverterFactory))
                         .toArray(DebeziumDeserializationConverter[]::new);
         final String[] fieldNames = rowType.getFieldNames();
+        final SchemaFields schemaFields = new SchemaFields(fieldNames);
 
         return new DebeziumDeserializationConverter() {
             private static final long serialVersionUID = 1L;
@@ -492,13 +509,13 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
                 Struct struct = (Struct) dbzObj;
                 int arity = fieldNames.length;
                 SeaTunnelRow row = new SeaTunnelRow(arity);
+                Field[] fields = schemaFields.resolve(schema);
                 for (int i = 0; i < arity; i++) {
-                    String fieldName = fieldNames[i];
-                    Object fieldValue = struct.get(fieldName);
-                    Field field = schema.field(fieldName);
+                    Field field = fields[i];
                     if (field == null) {
                         row.setField(i, null);
                     } else {
+                        Object fieldValue = schemaFields.get(struct, schema, field);
                         Schema fieldSchema = field.schema();
                         Object convertedField =
                                 SeaTunnelRowDebeziumDeserializationConverters.convertField(
@@ -552,4 +569,62 @@ public class SeaTunnelRowDebeziumDeserializationConverters implements Serializab
             }
         };
     }
+
+    /**
+     * Resolves the fields of a debezium schema by name. The schema of a table is only replaced on
+     * schema change, so the fields are looked up once per schema and the values are then read by
+     * field index instead of by name for every record.
+     */
+    private static class SchemaFields implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] fieldNames;
+        // the schema and its fields are published together as the records can be converted
+        // concurrently
+        private transient volatile ResolvedFields resolved;
+
+        SchemaFields(String[] fieldNames) {
+            this.fieldNames = fieldNames;
+        }
+
+        Field[] resolve(Schema schema) {
+            ResolvedFields current = resolved;
+            if (current == null || current.schema != schema) {
+                Field[] fields = new Field[fieldNames.length];
+                for (int i = 0; i < fieldNames.length; i++) {
+                    fields[i] = schema.field(fieldNames[i]);
+                }
+                current = new ResolvedFields(schema, fields);
+                resolved = current;
+            }
+            return current.fields;
+        }
+
+        Object get(Struct struct, Schema schema, Field field) {
+            if (struct.schema() == schema) {
+                return struct.get(field);
+            }
+            return struct.get(field.name());
+        }
+    }
+
+    private static class ResolvedFields {
+        private final Schema schema;
+        private final Field[] fields;
+
+        ResolvedFields(Schema schema, Field[] fields) {
+            this.schema = schema;
+            this.fields = fields;
+        }
+    }
+
+    private static class SchemaScale {
+        private final Schema schema;
+        private final int scale;
+
+        SchemaScale(Schema schema, int scale) {
+            this.schema = schema;
+            this.scale = scale;
+        }
+    }
 }
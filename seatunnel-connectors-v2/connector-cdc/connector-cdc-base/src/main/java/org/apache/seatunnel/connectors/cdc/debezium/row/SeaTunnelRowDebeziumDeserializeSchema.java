@@ -228,6 +228,12 @@ public final class SeaTunnelRowDebeziumDeserializeSchema
         return resultTypeInfo;
     }
 
+    @Override
+    public boolean isConcurrentDeserializeSupported() {
+        // the row converters are only replaced by schema change records and restore
+        return true;
+    }
+
     @Override
     public SchemaChangeResolver getSchemaChangeResolver() {
         return schemaChangeResolver;
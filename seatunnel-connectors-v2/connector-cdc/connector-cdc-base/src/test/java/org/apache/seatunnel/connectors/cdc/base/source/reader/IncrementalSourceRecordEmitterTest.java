@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.OffsetFactory;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.state.SourceSplitStateBase;
+import org.apache.seatunnel.connectors.cdc.base.utils.SourceRecordUtils;
+import org.apache.seatunnel.connectors.cdc.debezium.row.SeaTunnelRowDebeziumDeserializeSchema;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.data.Envelope;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public class IncrementalSourceRecordEmitterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "amount", "name"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE, new DecimalType(10, 2), BasicType.STRING_TYPE
+                    });
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .optional()
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("amount", Decimal.builder(2).optional().build())
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+    private static final Schema SOURCE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field("db", Schema.STRING_SCHEMA)
+                    .field("table", Schema.STRING_SCHEMA)
+                    .build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .field(Envelope.FieldName.OPERATION, Schema.STRING_SCHEMA)
+                    .field(Envelope.FieldName.SOURCE, SOURCE_SCHEMA)
+                    .field(Envelope.FieldName.BEFORE, ROW_SCHEMA)
+                    .field(Envelope.FieldName.AFTER, ROW_SCHEMA)
+                    .build();
+
+    @Test
+    public void testParallelDeserializeKeepsRecordOrder() throws Exception {
+        List<SourceRecord> records = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            records.add(createDataEvent(i));
+        }
+
+        List<SeaTunnelRow> serialRows = emit(records, 1);
+        List<SeaTunnelRow> parallelRows = emit(records, 4);
+
+        Assertions.assertEquals(1000 + 1000 / 3 + 1, serialRows.size());
+        Assertions.assertEquals(serialRows, parallelRows);
+        Assertions.assertEquals(
+                new BigDecimal("-9.99"), parallelRows.get(parallelRows.size() - 1).getField(1));
+    }
+
+    @Test
+    public void testSchemaChangeBatchIsDeserializedSerially() throws Exception {
+        List<SourceRecord> records = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            records.add(createDataEvent(i));
+        }
+        IncrementalSourceRecordEmitter<SeaTunnelRow> emitter = createEmitter(4);
+        try {
+            Assertions.assertNotNull(emitter.deserializeConcurrently(records));
+
+            Schema keySchema =
+                    SchemaBuilder.struct()
+                            .name(SourceRecordUtils.SCHEMA_CHANGE_EVENT_KEY_NAME)
+                            .build();
+            records.add(
+                    500,
+                    new SourceRecord(
+                            Collections.emptyMap(),
+                            Collections.emptyMap(),
+                            null,
+                            keySchema,
+                            new Struct(keySchema),
+                            null,
+                            null));
+            Assertions.assertNull(emitter.deserializeConcurrently(records));
+            Assertions.assertNull(emitter.deserializeConcurrently(records.subList(0, 100)));
+        } finally {
+            emitter.close();
+        }
+    }
+
+    private static List<SeaTunnelRow> emit(List<SourceRecord> records, int decodeParallelism)
+            throws Exception {
+        IncrementalSourceRecordEmitter<SeaTunnelRow> emitter = createEmitter(decodeParallelism);
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        try {
+            emitter.emitRecord(
+                    new SourceRecords(records),
+                    new Collector<SeaTunnelRow>() {
+                        @Override
+                        public void collect(SeaTunnelRow record) {
+                            rows.add(record);
+                        }
+
+                        @Override
+                        public Object getCheckpointLock() {
+                            return this;
+                        }
+                    },
+                    mock(SourceSplitStateBase.class));
+        } finally {
+            emitter.close();
+        }
+        return rows;
+    }
+
+    private static IncrementalSourceRecordEmitter<SeaTunnelRow> createEmitter(
+            int decodeParallelism) {
+        SeaTunnelRowDebeziumDeserializeSchema deserializeSchema =
+                SeaTunnelRowDebeziumDeserializeSchema.builder()
+                        .setPhysicalRowType(ROW_TYPE)
+                        .setResultTypeInfo(ROW_TYPE)
+                        .build();
+        return new IncrementalSourceRecordEmitter<>(
+                deserializeSchema,
+                mock(OffsetFactory.class),
+                mock(SourceReader.Context.class, RETURNS_DEEP_STUBS),
+                decodeParallelism);
+    }
+
+    private static SourceRecord createDataEvent(long id) {
+        Struct row =
+                new Struct(ROW_SCHEMA)
+                        .put("id", id)
+                        .put("amount", BigDecimal.valueOf(id % 2 == 0 ? id : -id, 2))
+                        .put("name", "name-" + id);
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put(
+                                Envelope.FieldName.SOURCE,
+                                new Struct(SOURCE_SCHEMA).put("db", "db").put("table", "table"));
+        if (id % 3 == 0) {
+            value.put(Envelope.FieldName.OPERATION, "u")
+                    .put(Envelope.FieldName.BEFORE, row)
+                    .put(Envelope.FieldName.AFTER, row);
+        } else {
+            value.put(Envelope.FieldName.OPERATION, "c").put(Envelope.FieldName.AFTER, row);
+        }
+        return new SourceRecord(
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                null,
+                null,
+                null,
+                VALUE_SCHEMA,
+                value);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader;
+
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.FetchTask;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitsAddition;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+import io.debezium.util.LoggingContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceSplitReaderTest {
+
+    private static final int RECORDS_PER_SPLIT = 3;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParallelSnapshotSplitsKeepPerSplitOrder() throws Exception {
+        DataSourceDialect<SourceConfig> dialect = mock(DataSourceDialect.class);
+        when(dialect.createFetchTaskContext(any(), any()))
+                .thenAnswer(invocation -> createTaskContext());
+        when(dialect.createFetchTask(any()))
+                .thenAnswer(
+                        invocation ->
+                                new TestSnapshotFetchTask(
+                                        ((SourceSplitBase) invocation.getArgument(0))
+                                                .asSnapshotSplit(),
+                                        0L));
+
+        IncrementalSourceSplitReader<SourceConfig> splitReader =
+                new IncrementalSourceSplitReader<>(0, dialect, mock(SourceConfig.class), null, 2);
+        List<SourceSplitBase> splits = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            splits.add(
+                    new SnapshotSplit(
+                            "split-" + i, new TableId("db", null, "t"), null, null, null));
+        }
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+
+        Map<String, List<SourceRecord>> recordsBySplit = new HashMap<>();
+        Set<String> finishedSplits = new HashSet<>();
+        while (finishedSplits.size() < splits.size()) {
+            RecordsWithSplitIds<SourceRecords> records = splitReader.fetch();
+            String splitId;
+            while ((splitId = records.nextSplit()) != null) {
+                SourceRecords sourceRecords;
+                while ((sourceRecords = records.nextRecordFromSplit()) != null) {
+                    recordsBySplit
+                            .computeIfAbsent(splitId, k -> new ArrayList<>())
+                            .addAll(sourceRecords.getSourceRecordList());
+                }
+            }
+            finishedSplits.addAll(records.finishedSplits());
+        }
+        splitReader.close();
+
+        // at most two fetchers (and connections) are created for three splits
+        verify(dialect, times(2)).createFetchTaskContext(any(), any());
+        Assertions.assertEquals(3, recordsBySplit.size());
+        for (Map.Entry<String, List<SourceRecord>> entry : recordsBySplit.entrySet()) {
+            List<SourceRecord> records = entry.getValue();
+            Assertions.assertEquals(RECORDS_PER_SPLIT + 2, records.size());
+            Assertions.assertTrue(WatermarkEvent.isLowWatermarkEvent(records.get(0)));
+            for (int i = 0; i < RECORDS_PER_SPLIT; i++) {
+                Assertions.assertEquals(entry.getKey() + "-" + i, records.get(i + 1).value());
+            }
+            Assertions.assertTrue(
+                    WatermarkEvent.isHighWatermarkEvent(records.get(records.size() - 1)));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testWaitForIdleScanFetcherWithoutBusyLoop() throws Exception {
+        long finishDelayMs = 500L;
+        DataSourceDialect<SourceConfig> dialect = mock(DataSourceDialect.class);
+        when(dialect.createFetchTaskContext(any(), any()))
+                .thenAnswer(invocation -> createTaskContext());
+        // the read task is still running for a while after its high watermark is polled
+        when(dialect.createFetchTask(any()))
+                .thenAnswer(
+                        invocation ->
+                                new TestSnapshotFetchTask(
+                                        ((SourceSplitBase) invocation.getArgument(0))
+                                                .asSnapshotSplit(),
+                                        finishDelayMs));
+
+        IncrementalSourceSplitReader<SourceConfig> splitReader =
+                new IncrementalSourceSplitReader<>(0, dialect, mock(SourceConfig.class), null, 1);
+        List<SourceSplitBase> splits = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            splits.add(
+                    new SnapshotSplit(
+                            "split-" + i, new TableId("db", null, "t"), null, null, null));
+        }
+        splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+
+        int emptyFetches = 0;
+        Set<String> finishedSplits = new HashSet<>();
+        while (finishedSplits.size() < splits.size()) {
+            RecordsWithSplitIds<SourceRecords> records = splitReader.fetch();
+            if (records.nextSplit() == null && records.finishedSplits().isEmpty()) {
+                emptyFetches++;
+            }
+            finishedSplits.addAll(records.finishedSplits());
+        }
+        splitReader.close();
+
+        // the reader waits for the idle fetcher instead of returning empty records in a loop
+        Assertions.assertTrue(
+                emptyFetches <= 2 * finishDelayMs / 100,
+                "Too many empty fetches: " + emptyFetches);
+    }
+
+    private static FetchTask.Context createTaskContext() {
+        ChangeEventQueue<DataChangeEvent> queue =
+                new ChangeEventQueue.Builder<DataChangeEvent>()
+                        .pollInterval(Duration.ofMillis(10))
+                        .maxBatchSize(2)
+                        .maxQueueSize(16)
+                        .loggingContextSupplier(
+                                () -> LoggingContext.forConnector("test", "test", "test"))
+                        .build();
+        FetchTask.Context context = mock(FetchTask.Context.class);
+        when(context.getQueue()).thenReturn(queue);
+        when(context.isExactlyOnce()).thenReturn(false);
+        return context;
+    }
+
+    private static class TestSnapshotFetchTask implements FetchTask<SourceSplitBase> {
+
+        private final SnapshotSplit split;
+        private final long finishDelayMs;
+        private volatile boolean running = true;
+
+        TestSnapshotFetchTask(SnapshotSplit split, long finishDelayMs) {
+            this.split = split;
+            this.finishDelayMs = finishDelayMs;
+        }
+
+        @Override
+        public void execute(Context context) throws Exception {
+            ChangeEventQueue<DataChangeEvent> queue = context.getQueue();
+            Map<String, ?> partition = Collections.singletonMap("server", "test");
+            queue.enqueue(
+                    new DataChangeEvent(
+                            WatermarkEvent.create(
+                                    partition,
+                                    "test",
+                                    split.splitId(),
+                                    WatermarkKind.LOW,
+                                    new TestOffset())));
+            for (int i = 0; i < RECORDS_PER_SPLIT; i++) {
+                queue.enqueue(
+                        new DataChangeEvent(
+                                new SourceRecord(
+                                        partition,
+                                        Collections.emptyMap(),
+                                        "test",
+                                        Schema.STRING_SCHEMA,
+                                        split.splitId() + "-" + i)));
+            }
+            queue.enqueue(
+                    new DataChangeEvent(
+                            WatermarkEvent.create(
+                                    partition,
+                                    "test",
+                                    split.splitId(),
+                                    WatermarkKind.HIGH,
+                                    new TestOffset())));
+            Thread.sleep(finishDelayMs);
+            running = false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return running;
+        }
+
+        @Override
+        public void shutdown() {
+            running = false;
+        }
+
+        @Override
+        public SourceSplitBase getSplit() {
+            return split;
+        }
+    }
+
+    private static class TestOffset extends Offset {
+
+        TestOffset() {
+            this.offset = Collections.emptyMap();
+        }
+
+        @Override
+        public int compareTo(Offset o) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.debezium.row;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.cdc.debezium.DebeziumDeserializationConverterFactory;
+import org.apache.seatunnel.connectors.cdc.debezium.MetadataConverter;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.time.MicroTimestamp;
+import io.debezium.time.Timestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public class SeaTunnelRowDebeziumDeserializationConvertersTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "updated_at", "missing"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        BasicType.STRING_TYPE
+                    });
+
+    @Test
+    public void testConvertMySqlRowShape() throws Exception {
+        // mysql: DATETIME as io.debezium.time.Timestamp, fields in another order than the row type
+        Schema schema =
+                SchemaBuilder.struct()
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("updated_at", Timestamp.builder().optional().build())
+                        .field("price", Decimal.builder(2).optional().build())
+                        .build();
+        SeaTunnelRowDebeziumDeserializationConverters converters = createConverters();
+
+        for (long id = 1; id <= 3; id++) {
+            Struct struct =
+                    new Struct(schema)
+                            .put("id", id)
+                            .put("name", "name-" + id)
+                            .put("updated_at", 1_700_000_000_000L + id)
+                            .put("price", new BigDecimal("12.3" + id));
+            SeaTunnelRow row = converters.convert(null, struct, schema);
+
+            Assertions.assertEquals(id, row.getField(0));
+            Assertions.assertEquals("name-" + id, row.getField(1));
+            Assertions.assertEquals(new BigDecimal("12.3" + id), row.getField(2));
+            Assertions.assertEquals(
+                    SeaTunnelRowDebeziumDeserializationConverters.toLocalDateTime(
+                            1_700_000_000_000L + id, 0),
+                    row.getField(3));
+            Assertions.assertNull(row.getField(4));
+        }
+    }
+
+    @Test
+    public void testConvertPostgresRowShapeAfterSchemaChange() throws Exception {
+        // postgres: TIMESTAMP as io.debezium.time.MicroTimestamp
+        Schema schema =
+                SchemaBuilder.struct()
+                        .field("id", Schema.INT64_SCHEMA)
+                        .field("price", Decimal.builder(2).optional().build())
+                        .field("updated_at", MicroTimestamp.builder().optional().build())
+                        .build();
+        SeaTunnelRowDebeziumDeserializationConverters converters = createConverters();
+
+        Struct struct =
+                new Struct(schema)
+                        .put("id", 1L)
+                        .put("price", new BigDecimal("1.50"))
+                        .put("updated_at", 1_000_001L);
+        SeaTunnelRow row = converters.convert(null, struct, schema);
+        Assertions.assertEquals(1L, row.getField(0));
+        Assertions.assertNull(row.getField(1));
+        Assertions.assertEquals(new BigDecimal("1.50"), row.getField(2));
+        Assertions.assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0, 1, 1000), row.getField(3));
+
+        // a new schema with another column order and decimal scale must be resolved again
+        Schema changedSchema =
+                SchemaBuilder.struct()
+                        .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                        .field("price", Decimal.builder(3).optional().build())
+                        .field("id", Schema.INT64_SCHEMA)
+                        .build();
+        Struct changedStruct =
+                new Struct(changedSchema)
+                        .put("id", 2L)
+                        .put("name", "name-2")
+                        .put("price", new BigDecimal("2.125"));
+        SeaTunnelRow changedRow = converters.convert(null, changedStruct, changedSchema);
+        Assertions.assertEquals(2L, changedRow.getField(0));
+        Assertions.assertEquals("name-2", changedRow.getField(1));
+        Assertions.assertEquals(new BigDecimal("2.125"), changedRow.getField(2));
+        Assertions.assertNull(changedRow.getField(3));
+    }
+
+    private static SeaTunnelRowDebeziumDeserializationConverters createConverters() {
+        return new SeaTunnelRowDebeziumDeserializationConverters(
+                ROW_TYPE,
+                new MetadataConverter[0],
+                ZoneId.of("UTC"),
+                DebeziumDeserializationConverterFactory.DEFAULT);
+    }
+}
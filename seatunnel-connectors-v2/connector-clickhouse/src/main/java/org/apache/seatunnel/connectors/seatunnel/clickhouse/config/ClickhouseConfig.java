@@ -34,6 +34,24 @@ public class ClickhouseConfig {
                     .defaultValue(20000)
                     .withDescription("Bulk size of clickhouse jdbc");
 
+    /** The way of inserting the rows into clickhouse */
+    public static final Option<ClickhouseInsertMode> INSERT_MODE =
+            Options.key("insert_mode")
+                    .enumType(ClickhouseInsertMode.class)
+                    .defaultValue(ClickhouseInsertMode.JDBC)
+                    .withDescription(
+                            "The way of inserting the rows, 'jdbc' inserts by the batch statements of clickhouse-jdbc, "
+                                    + "'row_binary' streams the rows in RowBinary format into a compressed HTTP insert request. "
+                                    + "The 'row_binary' mode is only used when primary_key is not set");
+
+    /** The max number of the concurrent insert requests of each shard */
+    public static final Option<Integer> MAX_CONCURRENT_INSERTS =
+            Options.key("max_concurrent_inserts")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of the concurrent insert requests of each shard, only used by the 'row_binary' insert mode");
+
     public static final Option<String> SQL =
             Options.key("sql")
                     .stringType()
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.config;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+public enum ClickhouseInsertMode {
+    /** Insert the rows by the batch statements of clickhouse-jdbc. */
+    JDBC("jdbc"),
+    /** Insert the rows by the compressed RowBinary body of the HTTP interface. */
+    ROW_BINARY("row_binary"),
+    ;
+    private final String name;
+
+    ClickhouseInsertMode(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static ClickhouseInsertMode from(String name) {
+        for (ClickhouseInsertMode clickhouseInsertMode : ClickhouseInsertMode.values()) {
+            if (clickhouseInsertMode.getName().equalsIgnoreCase(name)) {
+                return clickhouseInsertMode;
+            }
+        }
+        throw new ClickhouseConnectorException(
+                CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                "Unknown ClickhouseInsertMode: " + name);
+    }
+}
@@ -41,4 +41,7 @@ public class ReaderOption implements Serializable {
     @Setter private SeaTunnelRowType seaTunnelRowType;
     private Properties properties;
     private int bulkSize;
+    private ClickhouseInsertMode insertMode;
+    private int maxConcurrentInserts;
+    private String serverTimeZone;
 }
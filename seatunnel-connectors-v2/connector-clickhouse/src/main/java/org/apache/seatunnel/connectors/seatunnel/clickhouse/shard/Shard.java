@@ -84,6 +84,14 @@ public class Shard implements Serializable {
                 + node.getDatabase().get();
     }
 
+    public String getHttpUrl() {
+        return "http://" + node.getAddress().getHostName() + ":" + node.getAddress().getPort();
+    }
+
+    public String getDatabase() {
+        return node.getDatabase().get();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,536 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.serialization.ByteSink;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Encode {@link SeaTunnelRow} into the RowBinary format of clickhouse.
+ *
+ * <p>The encoders of the columns are resolved by the column types of the table once, so a row is
+ * written field by field into the buffer without converting the values into the JDBC parameters. A
+ * null value of a column which is not Nullable is written as the default value of the type, like
+ * the server does with {@code input_format_null_as_default}.
+ */
+public class ClickhouseRowBinaryEncoder {
+
+    private static final Pattern ENUM_ELEMENT =
+            Pattern.compile("'((?:[^'\\\\]|\\\\.)*)'\\s*=\\s*(-?\\d+)");
+    private static final long[] POWERS_OF_TEN = new long[10];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final String[] columns;
+    private final int[] fieldIndexes;
+    private final FieldEncoder[] fieldEncoders;
+    private final ZoneId serverTimeZone;
+
+    public ClickhouseRowBinaryEncoder(
+            SeaTunnelRowType rowType, Map<String, String> tableSchema, ZoneId serverTimeZone) {
+        this.serverTimeZone = serverTimeZone;
+        List<String> projection = new ArrayList<>();
+        for (String fieldName : rowType.getFieldNames()) {
+            if (tableSchema.containsKey(fieldName)) {
+                projection.add(fieldName);
+            }
+        }
+        this.columns = projection.toArray(new String[0]);
+        this.fieldIndexes = new int[columns.length];
+        this.fieldEncoders = new FieldEncoder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fieldIndexes[i] = rowType.indexOf(columns[i]);
+            fieldEncoders[i] = createEncoder(tableSchema.get(columns[i]));
+        }
+    }
+
+    /** Returns the columns written by the encoder, in the order of the fields of a row. */
+    public String[] getColumns() {
+        return columns;
+    }
+
+    public void encode(SeaTunnelRow row, ByteSink sink) {
+        for (int i = 0; i < fieldEncoders.length; i++) {
+            fieldEncoders[i].encode(sink, row.getField(fieldIndexes[i]));
+        }
+    }
+
+    private FieldEncoder createEncoder(String type) {
+        type = type.trim();
+        if (type.startsWith("Nullable(")) {
+            FieldEncoder encoder = createEncoder(typeArguments(type).get(0));
+            return new FieldEncoder(encoder.valueEncoder, encoder.defaultSize, true);
+        }
+        if (type.startsWith("LowCardinality(")) {
+            // the values of LowCardinality are written as the values of the nested type
+            return createEncoder(typeArguments(type).get(0));
+        }
+        String typeName = type.contains("(") ? type.substring(0, type.indexOf('(')) : type;
+        switch (typeName) {
+            case "Bool":
+            case "Int8":
+            case "UInt8":
+                return new FieldEncoder((sink, value) -> sink.write((int) toLong(value)), 1);
+            case "Int16":
+            case "UInt16":
+                return new FieldEncoder((sink, value) -> writeShort(sink, toLong(value)), 2);
+            case "Int32":
+            case "UInt32":
+                return new FieldEncoder((sink, value) -> writeInt(sink, toLong(value)), 4);
+            case "Int64":
+            case "UInt64":
+                return new FieldEncoder((sink, value) -> writeLong(sink, toLong(value)), 8);
+            case "Int128":
+            case "UInt128":
+                return new FieldEncoder(
+                        (sink, value) -> writeBigInteger(sink, toBigInteger(value), 16), 16);
+            case "Int256":
+            case "UInt256":
+                return new FieldEncoder(
+                        (sink, value) -> writeBigInteger(sink, toBigInteger(value), 32), 32);
+            case "Float32":
+                return new FieldEncoder(
+                        (sink, value) ->
+                                writeInt(sink, Float.floatToIntBits(((Number) value).floatValue())),
+                        4);
+            case "Float64":
+                return new FieldEncoder(
+                        (sink, value) ->
+                                writeLong(
+                                        sink,
+                                        Double.doubleToLongBits(((Number) value).doubleValue())),
+                        8);
+            case "String":
+                return new FieldEncoder(ClickhouseRowBinaryEncoder::writeString, 1);
+            case "FixedString":
+                int length = Integer.parseInt(typeArguments(type).get(0));
+                return new FieldEncoder(
+                        (sink, value) -> writeFixedString(sink, value, length), length);
+            case "UUID":
+                return new FieldEncoder(
+                        (sink, value) -> {
+                            UUID uuid =
+                                    value instanceof UUID
+                                            ? (UUID) value
+                                            : UUID.fromString(value.toString());
+                            writeLong(sink, uuid.getMostSignificantBits());
+                            writeLong(sink, uuid.getLeastSignificantBits());
+                        },
+                        16);
+            case "Date":
+                return new FieldEncoder(
+                        (sink, value) -> writeShort(sink, toLocalDate(value).toEpochDay()), 2);
+            case "Date32":
+                return new FieldEncoder(
+                        (sink, value) -> writeInt(sink, toLocalDate(value).toEpochDay()), 4);
+            case "DateTime":
+                {
+                    List<String> arguments = typeArguments(type);
+                    ZoneId zoneId =
+                            arguments.isEmpty() ? serverTimeZone : toZoneId(arguments.get(0));
+                    return new FieldEncoder(
+                            (sink, value) ->
+                                    writeInt(sink, toInstant(value, zoneId).getEpochSecond()),
+                            4);
+                }
+            case "DateTime64":
+                {
+                    List<String> arguments = typeArguments(type);
+                    int precision = Integer.parseInt(arguments.get(0));
+                    ZoneId zoneId =
+                            arguments.size() < 2 ? serverTimeZone : toZoneId(arguments.get(1));
+                    return new FieldEncoder(
+                            (sink, value) ->
+                                    writeLong(sink, toTicks(toInstant(value, zoneId), precision)),
+                            8);
+                }
+            case "Decimal":
+            case "Decimal32":
+            case "Decimal64":
+            case "Decimal128":
+            case "Decimal256":
+                return createDecimalEncoder(typeName, typeArguments(type));
+            case "Enum8":
+            case "Enum16":
+                return createEnumEncoder(type, "Enum8".equals(typeName) ? 1 : 2);
+            case "Array":
+                {
+                    FieldEncoder elementEncoder = createEncoder(typeArguments(type).get(0));
+                    return new FieldEncoder(
+                            (sink, value) -> {
+                                Object[] elements = (Object[]) value;
+                                writeVarInt(sink, elements.length);
+                                for (Object element : elements) {
+                                    elementEncoder.encode(sink, element);
+                                }
+                            },
+                            1);
+                }
+            case "Map":
+                {
+                    List<String> arguments = typeArguments(type);
+                    FieldEncoder keyEncoder = createEncoder(arguments.get(0));
+                    FieldEncoder valueEncoder = createEncoder(arguments.get(1));
+                    return new FieldEncoder(
+                            (sink, value) -> {
+                                Map<?, ?> map = (Map<?, ?>) value;
+                                writeVarInt(sink, map.size());
+                                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                                    keyEncoder.encode(sink, entry.getKey());
+                                    valueEncoder.encode(sink, entry.getValue());
+                                }
+                            },
+                            1);
+                }
+            default:
+                throw new ClickhouseConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "RowBinary insert does not support the data type: "
+                                + type
+                                + ", please use the 'jdbc' insert mode");
+        }
+    }
+
+    private FieldEncoder createDecimalEncoder(String typeName, List<String> arguments) {
+        int precision;
+        int scale;
+        if ("Decimal".equals(typeName)) {
+            precision = Integer.parseInt(arguments.get(0));
+            scale = arguments.size() < 2 ? 0 : Integer.parseInt(arguments.get(1));
+        } else {
+            precision = Integer.parseInt(typeName.substring("Decimal".length()));
+            scale = Integer.parseInt(arguments.get(0));
+        }
+        // the decimal is written as the unscaled integer of the width of the precision
+        int width = precision <= 9 ? 4 : precision <= 18 ? 8 : precision <= 38 ? 16 : 32;
+        return new FieldEncoder(
+                (sink, value) -> {
+                    BigDecimal decimal =
+                            value instanceof BigDecimal
+                                    ? (BigDecimal) value
+                                    : new BigDecimal(value.toString());
+                    BigInteger unscaled =
+                            decimal.setScale(scale, RoundingMode.HALF_UP).unscaledValue();
+                    if (width == 4) {
+                        writeInt(sink, unscaled.intValue());
+                    } else if (width == 8) {
+                        writeLong(sink, unscaled.longValue());
+                    } else {
+                        writeBigInteger(sink, unscaled, width);
+                    }
+                },
+                width);
+    }
+
+    private FieldEncoder createEnumEncoder(String type, int width) {
+        Map<String, Long> values = new HashMap<>();
+        Matcher matcher = ENUM_ELEMENT.matcher(type);
+        while (matcher.find()) {
+            values.put(unquote(matcher.group(1)), Long.parseLong(matcher.group(2)));
+        }
+        return new FieldEncoder(
+                (sink, value) -> {
+                    long number;
+                    if (value instanceof Number) {
+                        number = ((Number) value).longValue();
+                    } else {
+                        Long enumValue = values.get(value.toString());
+                        if (enumValue == null) {
+                            throw new ClickhouseConnectorException(
+                                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                    "Unknown value '" + value + "' of " + type);
+                        }
+                        number = enumValue;
+                    }
+                    if (width == 1) {
+                        sink.write((int) number);
+                    } else {
+                        writeShort(sink, number);
+                    }
+                },
+                width);
+    }
+
+    /** Split the top level arguments of a type, e.g. {@code Map(String, Array(Int32))}. */
+    private static List<String> typeArguments(String type) {
+        List<String> arguments = new ArrayList<>();
+        int start = type.indexOf('(');
+        if (start < 0) {
+            return arguments;
+        }
+        int depth = 0;
+        boolean quoted = false;
+        int begin = start + 1;
+        for (int i = begin; i < type.length(); i++) {
+            char c = type.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '\'') {
+                    quoted = false;
+                }
+            } else if (c == '\'') {
+                quoted = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                if (depth == 0) {
+                    arguments.add(type.substring(begin, i).trim());
+                    break;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                arguments.add(type.substring(begin, i).trim());
+                begin = i + 1;
+            }
+        }
+        return arguments;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("'") && value.endsWith("'")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value.replace("\\'", "'").replace("\\\\", "\\");
+    }
+
+    private static ZoneId toZoneId(String argument) {
+        return ZoneId.of(unquote(argument));
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        String text = value.toString();
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+            return Boolean.parseBoolean(text) ? 1 : 0;
+        }
+        // the unsigned 64 bits integers are larger than the max long
+        return new BigInteger(text).longValue();
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        if (value instanceof BigInteger) {
+            return (BigInteger) value;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toBigInteger();
+        }
+        return new BigInteger(value.toString());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate();
+        }
+        return Date.valueOf(value.toString()).toLocalDate();
+    }
+
+    private static Instant toInstant(Object value, ZoneId zoneId) {
+        LocalDateTime dateTime;
+        if (value instanceof LocalDateTime) {
+            dateTime = (LocalDateTime) value;
+        } else if (value instanceof Timestamp) {
+            dateTime = ((Timestamp) value).toLocalDateTime();
+        } else if (value instanceof LocalDate) {
+            dateTime = ((LocalDate) value).atStartOfDay();
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        } else if (value instanceof Instant) {
+            return (Instant) value;
+        } else {
+            dateTime = Timestamp.valueOf(value.toString()).toLocalDateTime();
+        }
+        return dateTime.atZone(zoneId).toInstant();
+    }
+
+    private static long toTicks(Instant instant, int precision) {
+        return instant.getEpochSecond() * POWERS_OF_TEN[precision]
+                + instant.getNano() / POWERS_OF_TEN[9 - precision];
+    }
+
+    private static void writeShort(ByteSink sink, long value) {
+        sink.write((int) value);
+        sink.write((int) (value >>> 8));
+    }
+
+    private static void writeInt(ByteSink sink, long value) {
+        for (int i = 0; i < 4; i++) {
+            sink.write((int) (value >>> (i << 3)));
+        }
+    }
+
+    private static void writeLong(ByteSink sink, long value) {
+        for (int i = 0; i < 8; i++) {
+            sink.write((int) (value >>> (i << 3)));
+        }
+    }
+
+    /** Write the two's complement of the integer in little endian, extended to the width. */
+    private static void writeBigInteger(ByteSink sink, BigInteger value, int width) {
+        byte[] bytes = value.toByteArray();
+        byte sign = (byte) (value.signum() < 0 ? -1 : 0);
+        for (int i = 0; i < width; i++) {
+            int index = bytes.length - 1 - i;
+            sink.write(index >= 0 ? bytes[index] : sign);
+        }
+    }
+
+    private static void writeVarInt(ByteSink sink, long value) {
+        while ((value & ~0x7FL) != 0) {
+            sink.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        sink.write((int) value);
+    }
+
+    private static int varIntSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void writeString(ByteSink sink, Object value) {
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            writeVarInt(sink, bytes.length);
+            sink.write(bytes, 0, bytes.length);
+            return;
+        }
+        // the string is encoded in place behind the length, which takes one byte for the short
+        // strings, the bytes are moved only if the length takes more bytes
+        int start = sink.size();
+        sink.write(0);
+        sink.write(value.toString(), StandardCharsets.UTF_8);
+        int length = sink.size() - start - 1;
+        int lengthSize = varIntSize(length);
+        for (int i = 1; i < lengthSize; i++) {
+            sink.write(0);
+        }
+        byte[] buffer = sink.getBuffer();
+        if (lengthSize > 1) {
+            System.arraycopy(buffer, start + 1, buffer, start + lengthSize, length);
+        }
+        for (int i = 0; i < lengthSize - 1; i++) {
+            buffer[start + i] = (byte) ((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        buffer[start + lengthSize - 1] = (byte) length;
+    }
+
+    private static void writeFixedString(ByteSink sink, Object value, int length) {
+        byte[] bytes =
+                value instanceof byte[]
+                        ? (byte[]) value
+                        : value.toString().getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > length) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "Too large value for FixedString(" + length + "): " + value);
+        }
+        sink.write(bytes, 0, bytes.length);
+        for (int i = bytes.length; i < length; i++) {
+            sink.write(0);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueEncoder {
+        void encode(ByteSink sink, Object value);
+    }
+
+    /**
+     * Encode the values of a column. A null value of a Nullable column is written as the null
+     * marker, otherwise it is written as the zero bytes of the default value of the type.
+     */
+    private static class FieldEncoder {
+        private final ValueEncoder valueEncoder;
+        private final int defaultSize;
+        private final boolean nullable;
+
+        private FieldEncoder(ValueEncoder valueEncoder, int defaultSize) {
+            this(valueEncoder, defaultSize, false);
+        }
+
+        private FieldEncoder(ValueEncoder valueEncoder, int defaultSize, boolean nullable) {
+            this.valueEncoder = valueEncoder;
+            this.defaultSize = defaultSize;
+            this.nullable = nullable;
+        }
+
+        private void encode(ByteSink sink, Object value) {
+            if (value == null) {
+                if (nullable) {
+                    sink.write(1);
+                    return;
+                }
+                for (int i = 0; i < defaultSize; i++) {
+                    sink.write(0);
+                }
+                return;
+            }
+            if (nullable) {
+                sink.write(0);
+            }
+            valueEncoder.encode(sink, value);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.serialization.ByteSink;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.InFlightRequests;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Insert the rows of a shard by the HTTP interface of clickhouse. The rows are encoded in RowBinary
+ * format into reusable buffers, and a full buffer is sent by a gzip compressed {@code INSERT ...
+ * FORMAT RowBinary} request without blocking the writer, at most {@code maxConcurrentInserts}
+ * requests of the shard are in flight. {@link #flush()} sends the buffered rows and waits for all
+ * the in-flight requests, so it is called on checkpoint.
+ *
+ * <p>The settings of {@code clickhouse.config} are sent as the query parameters of the requests, as
+ * the jdbc insert does, and {@code socket_timeout} is the read timeout of the requests.
+ */
+@Slf4j
+public class ClickhouseRowBinaryInserter implements Closeable {
+    private static final int CONNECT_TIMEOUT_MS = 30 * 1000;
+    /** The default socket timeout of clickhouse jdbc. */
+    private static final int DEFAULT_SOCKET_TIMEOUT_MS = 30 * 1000;
+
+    private static final String SOCKET_TIMEOUT = "socket_timeout";
+    // the properties of the client, which are not the settings of the server
+    private static final Set<String> CLIENT_PROPERTIES =
+            new HashSet<>(Arrays.asList("user", "password", SOCKET_TIMEOUT));
+    private static final int COMPRESS_BUFFER_SIZE = 64 * 1024;
+
+    private final URL insertUrl;
+    private final String username;
+    private final String password;
+    private final int socketTimeoutMs;
+    private final ClickhouseRowBinaryEncoder encoder;
+    private final int bulkSize;
+    private final InFlightRequests inFlightInserts;
+
+    private ByteSink currentBuffer;
+    private int currentRows;
+
+    /**
+     * @param insertUrl the url of the HTTP interface with the insert query, e.g. {@code
+     *     http://host:8123/?database=db&query=INSERT INTO ... FORMAT RowBinary}, see {@link
+     *     #buildInsertUrl}
+     * @param socketTimeoutMs the read timeout of the requests, see {@link #getSocketTimeout}
+     */
+    public ClickhouseRowBinaryInserter(
+            URL insertUrl,
+            String username,
+            String password,
+            int socketTimeoutMs,
+            ClickhouseRowBinaryEncoder encoder,
+            int bulkSize,
+            int maxConcurrentInserts) {
+        this.insertUrl = insertUrl;
+        this.username = username;
+        this.password = password;
+        this.socketTimeoutMs = socketTimeoutMs;
+        this.encoder = encoder;
+        this.bulkSize = Math.max(bulkSize, 1);
+        this.inFlightInserts = new InFlightRequests("clickhouse-insert", maxConcurrentInserts);
+        this.currentBuffer = inFlightInserts.newBuffer();
+    }
+
+    /** Build the url of the insert query, with the settings of the properties. */
+    public static URL buildInsertUrl(
+            String httpUrl, String database, String insertSql, Properties properties)
+            throws MalformedURLException, UnsupportedEncodingException {
+        StringBuilder url =
+                new StringBuilder(httpUrl)
+                        .append("/?database=")
+                        .append(URLEncoder.encode(database, "UTF-8"))
+                        .append("&query=")
+                        .append(URLEncoder.encode(insertSql, "UTF-8"));
+        if (properties != null) {
+            for (String key : properties.stringPropertyNames()) {
+                if (!CLIENT_PROPERTIES.contains(key)) {
+                    url.append('&')
+                            .append(URLEncoder.encode(key, "UTF-8"))
+                            .append('=')
+                            .append(URLEncoder.encode(properties.getProperty(key), "UTF-8"));
+                }
+            }
+        }
+        return new URL(url.toString());
+    }
+
+    /** The {@code socket_timeout} of the properties, or the default one of clickhouse jdbc. */
+    public static int getSocketTimeout(Properties properties) {
+        String socketTimeout = properties == null ? null : properties.getProperty(SOCKET_TIMEOUT);
+        return socketTimeout == null
+                ? DEFAULT_SOCKET_TIMEOUT_MS
+                : Integer.parseInt(socketTimeout.trim());
+    }
+
+    /** Add a row, the batch is sent when it is full. */
+    public void add(SeaTunnelRow row) {
+        checkFailure();
+        encoder.encode(row, currentBuffer);
+        if (++currentRows >= bulkSize) {
+            sendCurrentBuffer();
+        }
+    }
+
+    /** Send the buffered rows, and wait for all the in-flight requests. */
+    public void flush() {
+        checkFailure();
+        sendCurrentBuffer();
+        try {
+            inFlightInserts.awaitAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Interrupted while waiting for the insert requests",
+                    e);
+        }
+        checkFailure();
+    }
+
+    private void sendCurrentBuffer() {
+        if (currentRows == 0) {
+            return;
+        }
+        ByteSink buffer = currentBuffer;
+        int rows = currentRows;
+        currentBuffer = inFlightInserts.newBuffer();
+        currentRows = 0;
+        try {
+            inFlightInserts.send(buffer, () -> insert(buffer, rows));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Interrupted while waiting for the insert requests",
+                    e);
+        }
+    }
+
+    private void insert(ByteSink buffer, int rows) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) insertUrl.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        // a stalled server fails the request instead of blocking the flush forever
+        connection.setReadTimeout(socketTimeoutMs);
+        connection.setChunkedStreamingMode(COMPRESS_BUFFER_SIZE);
+        connection.setRequestProperty("Content-Type", "application/octet-stream");
+        connection.setRequestProperty("Content-Encoding", "gzip");
+        if (username != null) {
+            connection.setRequestProperty("X-ClickHouse-User", username);
+            connection.setRequestProperty("X-ClickHouse-Key", password);
+        }
+        try (OutputStream out =
+                new GZIPOutputStream(connection.getOutputStream(), COMPRESS_BUFFER_SIZE)) {
+            buffer.writeTo(out);
+        }
+        int code = connection.getResponseCode();
+        if (code != HttpURLConnection.HTTP_OK) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    String.format(
+                            "Clickhouse insert of %d rows failed, code: %d, error: %s",
+                            rows, code, readBody(connection.getErrorStream())));
+        }
+        // read the response to the end, so that the connection is kept alive for the next request
+        readBody(connection.getInputStream());
+        log.debug("Inserted {} rows into {}", rows, insertUrl.getHost());
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] bytes = new byte[4096];
+        try (InputStream input = in) {
+            int n;
+            while ((n = input.read(bytes)) != -1) {
+                out.write(bytes, 0, n);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8).trim();
+    }
+
+    private void checkFailure() {
+        Throwable t = inFlightInserts.getFailure();
+        if (t != null) {
+            throw new ClickhouseConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Clickhouse execute insert request error",
+                    t);
+        }
+    }
+
+    @Override
+    public void close() {
+        inFlightInserts.close();
+    }
+}
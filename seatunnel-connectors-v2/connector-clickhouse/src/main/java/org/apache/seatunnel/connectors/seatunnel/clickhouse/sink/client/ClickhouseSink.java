@@ -32,6 +32,7 @@ import org.apache.seatunnel.common.config.CheckConfigUtil;
 import org.apache.seatunnel.common.config.CheckResult;
 import org.apache.seatunnel.common.constants.PluginType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseInsertMode;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
@@ -58,6 +59,8 @@ import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.Clickh
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.CLICKHOUSE_CONFIG;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.DATABASE;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.HOST;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.INSERT_MODE;
+import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.MAX_CONCURRENT_INSERTS;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PASSWORD;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.PRIMARY_KEY;
 import static org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseConfig.SERVER_TIME_ZONE;
@@ -99,6 +102,8 @@ public class ClickhouseSink
         Map<String, Object> defaultConfig =
                 ImmutableMap.<String, Object>builder()
                         .put(BULK_SIZE.key(), BULK_SIZE.defaultValue())
+                        .put(INSERT_MODE.key(), INSERT_MODE.defaultValue().getName())
+                        .put(MAX_CONCURRENT_INSERTS.key(), MAX_CONCURRENT_INSERTS.defaultValue())
                         .put(SPLIT_MODE.key(), SPLIT_MODE.defaultValue())
                         .put(SERVER_TIME_ZONE.key(), SERVER_TIME_ZONE.defaultValue())
                         .build();
@@ -217,6 +222,9 @@ public class ClickhouseSink
                         .tableEngine(table.getEngine())
                         .tableSchema(tableSchema)
                         .bulkSize(config.getInt(BULK_SIZE.key()))
+                        .insertMode(ClickhouseInsertMode.from(config.getString(INSERT_MODE.key())))
+                        .maxConcurrentInserts(config.getInt(MAX_CONCURRENT_INSERTS.key()))
+                        .serverTimeZone(config.getString(SERVER_TIME_ZONE.key()))
                         .primaryKeys(primaryKeys)
                         .supportUpsert(supportUpsert)
                         .allowExperimentalLightweightDelete(allowExperimentalLightweightDelete)
@@ -21,11 +21,13 @@ import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.config.Common;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ClickhouseInsertMode;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.config.ReaderOption;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.shard.Shard;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.JdbcBatchStatementExecutorBuilder;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client.executor.SqlUtils;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.CKCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.state.ClickhouseSinkState;
 import org.apache.seatunnel.connectors.seatunnel.clickhouse.tool.IntHolder;
@@ -37,9 +39,14 @@ import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.ZoneId;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +61,9 @@ public class ClickhouseSinkWriter
     private final ShardRouter shardRouter;
     private final transient ClickhouseProxy proxy;
     private final Map<Shard, ClickhouseBatchStatement> statementMap;
+    private final Map<Shard, ClickhouseRowBinaryInserter> inserterMap;
+    // the index of the shard key in the row, -1 if there is no shard key
+    private final int shardKeyIndex;
 
     ClickhouseSinkWriter(ReaderOption option, Context context) {
         this.option = option;
@@ -61,21 +71,29 @@ public class ClickhouseSinkWriter
 
         this.proxy = new ClickhouseProxy(option.getShardMetadata().getDefaultShard().getNode());
         this.shardRouter = new ShardRouter(proxy, option.getShardMetadata());
-        this.statementMap = initStatementMap();
+        String shardKey = option.getShardMetadata().getShardKey();
+        this.shardKeyIndex =
+                StringUtils.isNotEmpty(shardKey)
+                        ? option.getSeaTunnelRowType().indexOf(shardKey)
+                        : -1;
+        if (isRowBinaryInsert()) {
+            this.statementMap = Collections.emptyMap();
+            this.inserterMap = initInserterMap();
+        } else {
+            this.statementMap = initStatementMap();
+            this.inserterMap = Collections.emptyMap();
+        }
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
-
-        Object shardKey = null;
-        if (StringUtils.isNotEmpty(this.option.getShardMetadata().getShardKey())) {
-            int i =
-                    this.option
-                            .getSeaTunnelRowType()
-                            .indexOf(this.option.getShardMetadata().getShardKey());
-            shardKey = element.getField(i);
+        Object shardKey = shardKeyIndex < 0 ? null : element.getField(shardKeyIndex);
+        Shard shard = shardRouter.getShard(shardKey);
+        if (!inserterMap.isEmpty()) {
+            inserterMap.get(shard).add(element);
+            return;
         }
-        ClickhouseBatchStatement statement = statementMap.get(shardRouter.getShard(shardKey));
+        ClickhouseBatchStatement statement = statementMap.get(shard);
         JdbcBatchStatementExecutor clickHouseStatement = statement.getJdbcBatchStatementExecutor();
         IntHolder sizeHolder = statement.getIntHolder();
         // add into batch
@@ -98,6 +116,9 @@ public class ClickhouseSinkWriter
                 intHolder.setValue(0);
             }
         }
+        for (ClickhouseRowBinaryInserter inserter : inserterMap.values()) {
+            inserter.flush();
+        }
         return Optional.empty();
     }
 
@@ -107,7 +128,27 @@ public class ClickhouseSinkWriter
     @Override
     public void close() throws IOException {
         this.proxy.close();
-        flush();
+        try {
+            flush();
+            for (ClickhouseRowBinaryInserter inserter : inserterMap.values()) {
+                inserter.flush();
+            }
+        } finally {
+            inserterMap.values().forEach(ClickhouseRowBinaryInserter::close);
+        }
+    }
+
+    /** The RowBinary insert writes all the events as inserts, so it is used without primary key. */
+    private boolean isRowBinaryInsert() {
+        if (option.getInsertMode() != ClickhouseInsertMode.ROW_BINARY) {
+            return false;
+        }
+        if (option.getPrimaryKeys() != null && option.getPrimaryKeys().length > 0) {
+            log.warn(
+                    "The row_binary insert mode does not support primary_key, use the jdbc insert mode");
+            return false;
+        }
+        return true;
     }
 
     private void addIntoBatch(SeaTunnelRow row, JdbcBatchStatementExecutor clickHouseStatement) {
@@ -152,6 +193,51 @@ public class ClickhouseSinkWriter
         }
     }
 
+    private Map<Shard, ClickhouseRowBinaryInserter> initInserterMap() {
+        ZoneId serverTimeZone =
+                option.getServerTimeZone() == null
+                        ? ZoneId.systemDefault()
+                        : ZoneId.of(option.getServerTimeZone());
+        ClickhouseRowBinaryEncoder encoder =
+                new ClickhouseRowBinaryEncoder(
+                        option.getSeaTunnelRowType(), option.getTableSchema(), serverTimeZone);
+        String insertSql =
+                SqlUtils.getInsertIntoStatement(
+                        shardRouter.getShardTable(), encoder.getColumns(), "RowBinary");
+        Map<Shard, ClickhouseRowBinaryInserter> result = new HashMap<>(Common.COLLECTION_SIZE);
+        shardRouter
+                .getShards()
+                .forEach(
+                        (weight, s) -> {
+                            try {
+                                // the same settings as the jdbc insert
+                                URL insertUrl =
+                                        ClickhouseRowBinaryInserter.buildInsertUrl(
+                                                s.getHttpUrl(),
+                                                s.getDatabase(),
+                                                insertSql,
+                                                option.getProperties());
+                                result.put(
+                                        s,
+                                        new ClickhouseRowBinaryInserter(
+                                                insertUrl,
+                                                option.getShardMetadata().getUsername(),
+                                                option.getShardMetadata().getPassword(),
+                                                ClickhouseRowBinaryInserter.getSocketTimeout(
+                                                        option.getProperties()),
+                                                encoder,
+                                                option.getBulkSize(),
+                                                option.getMaxConcurrentInserts()));
+                            } catch (MalformedURLException | UnsupportedEncodingException e) {
+                                throw new ClickhouseConnectorException(
+                                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                                        "Invalid clickhouse insert url of shard " + s.getHttpUrl(),
+                                        e);
+                            }
+                        });
+        return result;
+    }
+
     private Map<Shard, ClickhouseBatchStatement> initStatementMap() {
         Map<Shard, ClickhouseBatchStatement> result = new HashMap<>(Common.COLLECTION_SIZE);
         shardRouter
@@ -39,6 +39,15 @@ public class SqlUtils {
         return String.format("INSERT INTO %s (%s) VALUES (%s)", tableName, columns, placeholders);
     }
 
+    public static String getInsertIntoStatement(
+            String tableName, String[] fieldNames, String inputFormat) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(SqlUtils::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return String.format("INSERT INTO %s (%s) FORMAT %s", tableName, columns, inputFormat);
+    }
+
     public static String getDeleteStatement(
             String tableName,
             String[] conditionFields,
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.serialization.ByteSink;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class ClickhouseRowBinaryEncoderTest {
+
+    @Test
+    public void testEncodeRow() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "id",
+                            "name",
+                            "ignored",
+                            "score",
+                            "tags",
+                            "attrs",
+                            "birthday",
+                            "created",
+                            "updated",
+                            "nick",
+                            "uuid",
+                            "level"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.INT_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.STRING_TYPE,
+                            new DecimalType(10, 2),
+                            ArrayType.STRING_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.STRING_TYPE
+                        });
+        Map<String, String> tableSchema = new LinkedHashMap<>();
+        tableSchema.put("id", "Int32");
+        tableSchema.put("name", "LowCardinality(String)");
+        tableSchema.put("score", "Decimal(10, 2)");
+        tableSchema.put("tags", "Array(String)");
+        tableSchema.put("attrs", "Map(String, Nullable(Int32))");
+        tableSchema.put("birthday", "Date");
+        tableSchema.put("created", "DateTime64(3, 'UTC')");
+        tableSchema.put("updated", "DateTime");
+        tableSchema.put("nick", "Nullable(String)");
+        tableSchema.put("uuid", "UUID");
+        tableSchema.put("level", "Enum8('low' = 1, 'high' = 2)");
+        ClickhouseRowBinaryEncoder encoder =
+                new ClickhouseRowBinaryEncoder(rowType, tableSchema, ZoneOffset.ofHours(8));
+        Assertions.assertArrayEquals(
+                new String[] {
+                    "id",
+                    "name",
+                    "score",
+                    "tags",
+                    "attrs",
+                    "birthday",
+                    "created",
+                    "updated",
+                    "nick",
+                    "uuid",
+                    "level"
+                },
+                encoder.getColumns());
+
+        Map<String, Integer> attrs = new LinkedHashMap<>();
+        attrs.put("a", 1);
+        attrs.put("b", null);
+        UUID uuid = UUID.randomUUID();
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            7,
+                            "seatunnel",
+                            "ignored",
+                            new BigDecimal("12.345"),
+                            new String[] {"x", "yz"},
+                            attrs,
+                            LocalDate.of(2023, 1, 2),
+                            LocalDateTime.of(2023, 1, 2, 3, 4, 5, 678_000_000),
+                            LocalDateTime.of(1970, 1, 1, 8, 0, 1),
+                            null,
+                            uuid.toString(),
+                            "high"
+                        });
+        ByteSink sink = new ByteSink();
+        encoder.encode(row, sink);
+
+        ByteBuffer expected = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+        expected.putInt(7);
+        putString(expected, "seatunnel");
+        // 12.345 is rounded to the scale 2
+        expected.putLong(1235);
+        expected.put((byte) 2);
+        putString(expected, "x");
+        putString(expected, "yz");
+        expected.put((byte) 2);
+        putString(expected, "a");
+        expected.put((byte) 0).putInt(1);
+        putString(expected, "b");
+        expected.put((byte) 1);
+        expected.putShort((short) LocalDate.of(2023, 1, 2).toEpochDay());
+        expected.putLong(
+                LocalDateTime.of(2023, 1, 2, 3, 4, 5).toEpochSecond(ZoneOffset.UTC) * 1000 + 678);
+        // the DateTime without time zone is in the server time zone
+        expected.putInt(1);
+        expected.put((byte) 1);
+        expected.putLong(uuid.getMostSignificantBits());
+        expected.putLong(uuid.getLeastSignificantBits());
+        expected.put((byte) 2);
+        Assertions.assertArrayEquals(toArray(expected), sink.toByteArray());
+    }
+
+    @Test
+    public void testEncodeNullAsDefault() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"i", "s", "f", "d", "big"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.STRING_TYPE,
+                            new DecimalType(40, 2),
+                            BasicType.STRING_TYPE
+                        });
+        Map<String, String> tableSchema = new LinkedHashMap<>();
+        tableSchema.put("i", "UInt64");
+        tableSchema.put("s", "String");
+        tableSchema.put("f", "FixedString(3)");
+        tableSchema.put("d", "Decimal(40, 2)");
+        tableSchema.put("big", "Int128");
+        ClickhouseRowBinaryEncoder encoder =
+                new ClickhouseRowBinaryEncoder(rowType, tableSchema, ZoneId.of("UTC"));
+
+        ByteSink sink = new ByteSink();
+        encoder.encode(new SeaTunnelRow(new Object[5]), sink);
+        Assertions.assertArrayEquals(new byte[8 + 1 + 3 + 32 + 16], sink.toByteArray());
+
+        sink.reset();
+        encoder.encode(
+                new SeaTunnelRow(
+                        new Object[] {
+                            "18446744073709551615", "", "ab", new BigDecimal("-0.01"), "-2"
+                        }),
+                sink);
+        ByteBuffer expected = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+        expected.putLong(-1L);
+        expected.put((byte) 0);
+        expected.put(new byte[] {'a', 'b', 0});
+        expected.putLong(-1L).putLong(-1L).putLong(-1L).putLong(-1L);
+        expected.putLong(-2L).putLong(-1L);
+        Assertions.assertArrayEquals(toArray(expected), sink.toByteArray());
+    }
+
+    @Test
+    public void testEncodeLongString() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"s", "i"},
+                        new SeaTunnelDataType[] {BasicType.STRING_TYPE, BasicType.SHORT_TYPE});
+        Map<String, String> tableSchema = new LinkedHashMap<>();
+        tableSchema.put("s", "String");
+        tableSchema.put("i", "Int16");
+        ClickhouseRowBinaryEncoder encoder =
+                new ClickhouseRowBinaryEncoder(rowType, tableSchema, ZoneId.of("UTC"));
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("中文");
+        }
+        String value = builder.toString();
+        ByteSink sink = new ByteSink(16);
+        encoder.encode(new SeaTunnelRow(new Object[] {value, (short) -3}), sink);
+
+        ByteBuffer expected = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        putString(expected, value);
+        expected.putShort((short) -3);
+        Assertions.assertArrayEquals(toArray(expected), sink.toByteArray());
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"p"}, new SeaTunnelDataType[] {BasicType.STRING_TYPE});
+        Assertions.assertThrows(
+                ClickhouseConnectorException.class,
+                () ->
+                        new ClickhouseRowBinaryEncoder(
+                                rowType, Collections.singletonMap("p", "Point"), ZoneId.of("UTC")));
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            buffer.put((byte) ((length & 0x7F) | 0x80));
+            length >>>= 7;
+        }
+        buffer.put((byte) length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
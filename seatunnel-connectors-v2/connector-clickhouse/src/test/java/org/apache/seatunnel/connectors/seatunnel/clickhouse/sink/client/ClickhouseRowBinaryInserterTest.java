@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.clickhouse.sink.client;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.clickhouse.exception.ClickhouseConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+public class ClickhouseRowBinaryInserterTest {
+
+    private final List<byte[]> bodies = new CopyOnWriteArrayList<>();
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private final List<String> settings = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ClickhouseRowBinaryEncoder encoder;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handleInsert);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE});
+        encoder =
+                new ClickhouseRowBinaryEncoder(
+                        rowType, Collections.singletonMap("id", "Int32"), ZoneId.of("UTC"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testInsertBatches() throws IOException {
+        try (ClickhouseRowBinaryInserter inserter =
+                new ClickhouseRowBinaryInserter(
+                        insertUrl(), "default", "", 10000, encoder, 4, 2)) {
+            for (int i = 0; i < 10; i++) {
+                inserter.add(new SeaTunnelRow(new Object[] {i}));
+            }
+            inserter.flush();
+        }
+        // 2 full batches and the rest flushed
+        Assertions.assertEquals(3, bodies.size());
+        Assertions.assertEquals(
+                40, bodies.stream().mapToInt(body -> body.length).sum(), "4 bytes per row");
+        Assertions.assertTrue(
+                queries.stream().allMatch(q -> q.endsWith("FORMAT RowBinary")), queries.toString());
+    }
+
+    @Test
+    public void testInsertFailure() throws IOException {
+        try (ClickhouseRowBinaryInserter inserter =
+                new ClickhouseRowBinaryInserter(insertUrl(), null, null, 10000, encoder, 10, 1)) {
+            inserter.add(new SeaTunnelRow(new Object[] {-1}));
+            ClickhouseConnectorException exception =
+                    Assertions.assertThrows(ClickhouseConnectorException.class, inserter::flush);
+            Assertions.assertTrue(
+                    exception.getCause().getMessage().contains("Code: 53"),
+                    exception.getCause().getMessage());
+            // the failure is reported by the following writes as well
+            Assertions.assertThrows(
+                    ClickhouseConnectorException.class,
+                    () -> inserter.add(new SeaTunnelRow(new Object[] {1})));
+        }
+    }
+
+    @Test
+    public void testInsertWithSettings() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("max_insert_block_size", "1000");
+        properties.setProperty("user", "default");
+        properties.setProperty("password", "secret");
+        properties.setProperty("socket_timeout", "5000");
+        URL insertUrl =
+                ClickhouseRowBinaryInserter.buildInsertUrl(
+                        "http://localhost:" + server.getAddress().getPort(),
+                        "default",
+                        "INSERT INTO t (\"id\") FORMAT RowBinary",
+                        properties);
+        Assertions.assertEquals(5000, ClickhouseRowBinaryInserter.getSocketTimeout(properties));
+        Assertions.assertEquals(
+                30000, ClickhouseRowBinaryInserter.getSocketTimeout(new Properties()));
+        try (ClickhouseRowBinaryInserter inserter =
+                new ClickhouseRowBinaryInserter(
+                        insertUrl,
+                        "default",
+                        "secret",
+                        ClickhouseRowBinaryInserter.getSocketTimeout(properties),
+                        encoder,
+                        10,
+                        1)) {
+            inserter.add(new SeaTunnelRow(new Object[] {1}));
+            inserter.flush();
+        }
+        // the server settings are sent, the credentials and the client options are not
+        Assertions.assertEquals(1, settings.size());
+        Assertions.assertTrue(settings.get(0).contains("max_insert_block_size=1000"));
+        Assertions.assertFalse(settings.get(0).contains("password"));
+        Assertions.assertFalse(settings.get(0).contains("socket_timeout"));
+        Assertions.assertTrue(settings.get(0).startsWith("database=default&query=INSERT"));
+    }
+
+    @Test
+    public void testInsertReadTimeout() throws IOException {
+        server.createContext(
+                "/stalled",
+                exchange -> {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    exchange.close();
+                });
+        URL insertUrl =
+                new URL(
+                        "http://localhost:"
+                                + server.getAddress().getPort()
+                                + "/stalled/?database=default&query=INSERT");
+        try (ClickhouseRowBinaryInserter inserter =
+                new ClickhouseRowBinaryInserter(insertUrl, null, null, 200, encoder, 10, 1)) {
+            inserter.add(new SeaTunnelRow(new Object[] {1}));
+            long start = System.currentTimeMillis();
+            ClickhouseConnectorException exception =
+                    Assertions.assertThrows(ClickhouseConnectorException.class, inserter::flush);
+            Assertions.assertInstanceOf(SocketTimeoutException.class, exception.getCause());
+            Assertions.assertTrue(System.currentTimeMillis() - start < 5000);
+        }
+    }
+
+    private URL insertUrl() throws IOException {
+        return new URL(
+                "http://localhost:"
+                        + server.getAddress().getPort()
+                        + "/?database=default&query=INSERT%20INTO%20t%20%28%22id%22%29%20FORMAT%20RowBinary");
+    }
+
+    /** The rows with negative ids fail like a type mismatch of clickhouse. */
+    private void handleInsert(HttpExchange exchange) throws IOException {
+        Assertions.assertEquals("gzip", exchange.getRequestHeaders().getFirst("Content-Encoding"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream in = new GZIPInputStream(exchange.getRequestBody())) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+        byte[] body = out.toByteArray();
+        String query = exchange.getRequestURI().getQuery();
+        int code = 200;
+        byte[] response = new byte[0];
+        if (body.length >= 4 && body[3] < 0) {
+            code = 500;
+            response = "Code: 53. DB::Exception: Type mismatch".getBytes(StandardCharsets.UTF_8);
+        } else {
+            bodies.add(body);
+            queries.add(query.substring(query.indexOf("query=") + "query=".length()));
+            settings.add(query);
+        }
+        exchange.sendResponseHeaders(code, response.length == 0 ? -1 : response.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(response);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.sink;
+
+import org.apache.seatunnel.api.serialization.ByteSink;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The requests of a sink writer which are sent in the background. At most {@code
+ * maxInFlightRequests} requests are in flight, {@link #send} blocks only when all of them are
+ * busy. The bodies of the requests are written into {@link ByteSink} buffers, which are reset and
+ * handed out by {@link #newBuffer()} again when their requests are finished.
+ *
+ * <p>The first failure of the requests is kept, the writer checks it by {@link #getFailure()} and
+ * throws it as the exception of the connector.
+ */
+public class InFlightRequests implements Closeable {
+
+    /** A request which sends a buffer. */
+    @FunctionalInterface
+    public interface Request {
+        void send() throws Exception;
+    }
+
+    private final String threadNamePrefix;
+    private final int maxInFlightRequests;
+    private final Semaphore permits;
+    private final Queue<ByteSink> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private ExecutorService executor;
+    private boolean sharedExecutor;
+
+    public InFlightRequests(String threadNamePrefix, int maxInFlightRequests) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.maxInFlightRequests = Math.max(maxInFlightRequests, 1);
+        this.permits = new Semaphore(this.maxInFlightRequests);
+    }
+
+    /** Create the executor of the requests, whose threads are named by the prefix. */
+    public static ExecutorService createExecutor(String threadNamePrefix, int threads) {
+        return Executors.newFixedThreadPool(
+                threads,
+                new ThreadFactoryBuilder()
+                        .setNameFormat(threadNamePrefix + "-%d")
+                        .setDaemon(true)
+                        .build());
+    }
+
+    /**
+     * Send the requests by an executor shared with other writers instead of creating one, the
+     * shared executor is not shut down by {@link #close()}.
+     */
+    public synchronized void setSharedExecutor(ExecutorService executor) {
+        if (this.executor != null && !sharedExecutor) {
+            this.executor.shutdown();
+        }
+        this.executor = executor;
+        this.sharedExecutor = true;
+    }
+
+    /** Returns a free buffer for the next request. */
+    public ByteSink newBuffer() {
+        ByteSink buffer = freeBuffers.poll();
+        return buffer == null ? new ByteSink() : buffer;
+    }
+
+    /**
+     * Send the request in the background, the buffer is reused by the next requests once the
+     * request is finished.
+     *
+     * @throws InterruptedException if interrupted while waiting for a free request
+     */
+    public void send(ByteSink buffer, Request request) throws InterruptedException {
+        permits.acquire();
+        try {
+            getExecutor()
+                    .execute(
+                            () -> {
+                                try {
+                                    request.send();
+                                } catch (Throwable t) {
+                                    failure.compareAndSet(null, t);
+                                } finally {
+                                    buffer.reset();
+                                    freeBuffers.offer(buffer);
+                                    permits.release();
+                                }
+                            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for all the in-flight requests to be finished.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitAll() throws InterruptedException {
+        permits.acquire(maxInFlightRequests);
+        permits.release(maxInFlightRequests);
+    }
+
+    /** Returns the first failure of the requests, null if none of them failed. */
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = createExecutor(threadNamePrefix, maxInFlightRequests);
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null && !sharedExecutor) {
+            executor.shutdownNow();
+        }
+    }
+}
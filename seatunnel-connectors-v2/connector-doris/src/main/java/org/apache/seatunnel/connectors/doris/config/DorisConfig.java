@@ -19,7 +19,10 @@ package org.apache.seatunnel.connectors.doris.config;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.connectors.doris.exception.DorisConnectorException;
+import org.apache.seatunnel.connectors.doris.sink.writer.LoadConstants;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -95,6 +98,7 @@ public class DorisConfig implements Serializable {
     private Integer bufferSize;
     private Integer bufferCount;
     private Properties streamLoadProps;
+    private boolean groupCommit;
     private boolean needsUnsupportedTypeCasting;
 
     // create table option
@@ -139,6 +143,13 @@ public class DorisConfig implements Serializable {
         dorisConfig.setBufferCount(config.get(SINK_BUFFER_COUNT));
         dorisConfig.setEnableDelete(config.get(SINK_ENABLE_DELETE));
         dorisConfig.setNeedsUnsupportedTypeCasting(config.get(NEEDS_UNSUPPORTED_TYPE_CASTING));
+        dorisConfig.setGroupCommit(isGroupCommit(dorisConfig.getStreamLoadProps()));
+        if (dorisConfig.isGroupCommit() && dorisConfig.getEnable2PC()) {
+            throw new DorisConnectorException(
+                    SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                    "The group commit of stream load can not be used with sink.enable-2pc, "
+                            + "because the loads are committed by doris without the labels");
+        }
 
         // create table option
         dorisConfig.setCreateTableTemplate(config.get(SAVE_MODE_CREATE_TEMPLATE));
@@ -146,6 +157,12 @@ public class DorisConfig implements Serializable {
         return dorisConfig;
     }
 
+    private static boolean isGroupCommit(Properties streamLoadProps) {
+        String groupCommit = streamLoadProps.getProperty(LoadConstants.GROUP_COMMIT_KEY);
+        return groupCommit != null
+                && !LoadConstants.GROUP_COMMIT_OFF_MODE.equalsIgnoreCase(groupCommit);
+    }
+
     private static Properties parseStreamLoadProperties(ReadonlyConfig config) {
         Properties streamLoadProps = new Properties();
         if (config.getOptional(DORIS_SINK_CONFIG_PREFIX).isPresent()) {
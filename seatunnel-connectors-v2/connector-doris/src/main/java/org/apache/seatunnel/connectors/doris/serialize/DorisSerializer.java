@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.doris.serialize;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 
 public interface DorisSerializer extends Serializable {
@@ -28,5 +29,20 @@ public interface DorisSerializer extends Serializable {
 
     byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException;
 
+    /**
+     * Serializes the row into the output, which is a reusable buffer of the sink writer.
+     *
+     * @return false if the row is skipped and nothing is written, as {@link
+     *     #serialize(SeaTunnelRow)} returns null
+     */
+    default boolean serialize(SeaTunnelRow seaTunnelRow, OutputStream out) throws IOException {
+        byte[] serialized = serialize(seaTunnelRow);
+        if (serialized == null) {
+            return false;
+        }
+        out.write(serialized);
+        return true;
+    }
+
     void close() throws IOException;
 }
@@ -30,6 +30,7 @@ import org.apache.seatunnel.format.json.JsonSerializationSchema;
 import org.apache.seatunnel.format.text.TextSerializationSchema;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -107,15 +108,18 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
     @Override
     public void open() throws IOException {}
 
-    @Override
-    public byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException {
-
+    private SeaTunnelRow appendDeleteSign(SeaTunnelRow seaTunnelRow) {
         if (enableDelete) {
-
             List<Object> newFields = new ArrayList<>(Arrays.asList(seaTunnelRow.getFields()));
             newFields.add(parseDeleteSign(seaTunnelRow.getRowKind()));
-            seaTunnelRow = new SeaTunnelRow(newFields.toArray());
+            return new SeaTunnelRow(newFields.toArray());
         }
+        return seaTunnelRow;
+    }
+
+    @Override
+    public byte[] serialize(SeaTunnelRow seaTunnelRow) throws IOException {
+        seaTunnelRow = appendDeleteSign(seaTunnelRow);
 
         if (JSON.equals(type)) {
             return buildJsonString(seaTunnelRow);
@@ -126,6 +130,15 @@ public class SeaTunnelRowSerializer implements DorisSerializer {
         }
     }
 
+    @Override
+    public boolean serialize(SeaTunnelRow seaTunnelRow, OutputStream out) throws IOException {
+        if (!JSON.equals(type) && !CSV.equals(type)) {
+            throw new IllegalArgumentException("The type " + type + " is not supported!");
+        }
+        serialize.serialize(appendDeleteSign(seaTunnelRow), out);
+        return true;
+    }
+
     @Override
     public void close() throws IOException {}
 }
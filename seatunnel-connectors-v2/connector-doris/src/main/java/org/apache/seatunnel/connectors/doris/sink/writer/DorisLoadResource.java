@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.sink.writer;
+
+import org.apache.seatunnel.connectors.doris.util.HttpUtil;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * The http client and the threads used by the stream loads. In the multi-table sink they are shared
+ * by the writers of all the tables, so the connections are reused. The tables are still loaded by
+ * their own stream loads, and a running load holds a thread and a connection until it is stopped,
+ * so the busy threads and connections still grow with the number of the tables being written.
+ */
+@Slf4j
+@Getter
+@AllArgsConstructor
+public class DorisLoadResource {
+    private final CloseableHttpClient httpClient;
+    // each running stream load occupies a thread until the load is stopped
+    private final ExecutorService loadExecutor;
+    private final ScheduledExecutorService checkExecutor;
+
+    /**
+     * Create the resource of the given number of the writers, each writer has at most one running
+     * stream load, so it holds at most one connection at a time.
+     */
+    public static DorisLoadResource create(int writerCount) {
+        return new DorisLoadResource(
+                new HttpUtil().getHttpClient(Math.max(writerCount, 2)),
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("stream-load-upload-%d")
+                                .setDaemon(true)
+                                .build()),
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("stream-load-check")
+                                .setDaemon(true)
+                                .build()));
+    }
+
+    public void close() throws IOException {
+        checkExecutor.shutdownNow();
+        loadExecutor.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            throw new IOException("Closing httpClient failed.", e);
+        }
+    }
+}
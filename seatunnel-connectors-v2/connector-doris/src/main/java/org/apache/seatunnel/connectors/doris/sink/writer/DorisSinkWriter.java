@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.doris.sink.writer;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
+import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -29,12 +31,11 @@ import org.apache.seatunnel.connectors.doris.rest.RestService;
 import org.apache.seatunnel.connectors.doris.rest.models.RespContent;
 import org.apache.seatunnel.connectors.doris.serialize.DorisSerializer;
 import org.apache.seatunnel.connectors.doris.serialize.SeaTunnelRowSerializer;
+import org.apache.seatunnel.connectors.doris.sink.DorisMultiTableResourceManager;
 import org.apache.seatunnel.connectors.doris.sink.LoadStatus;
 import org.apache.seatunnel.connectors.doris.sink.committer.DorisCommitInfo;
-import org.apache.seatunnel.connectors.doris.util.HttpUtil;
 import org.apache.seatunnel.connectors.doris.util.UnsupportedTypeConverterUtils;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -42,10 +43,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -53,7 +52,7 @@ import static com.google.common.base.Preconditions.checkState;
 @Slf4j
 public class DorisSinkWriter
         implements SinkWriter<SeaTunnelRow, DorisCommitInfo, DorisSinkState>,
-                SupportMultiTableSinkWriter<Void> {
+                SupportMultiTableSinkWriter<DorisLoadResource> {
     private static final int INITIAL_DELAY = 200;
     private static final List<String> DORIS_SUCCESS_STATUS =
             new ArrayList<>(Arrays.asList(LoadStatus.SUCCESS, LoadStatus.PUBLISH_TIMEOUT));
@@ -64,8 +63,12 @@ public class DorisSinkWriter
     private final LabelGenerator labelGenerator;
     private final int intervalTime;
     private final DorisSerializer serializer;
+    private final ByteSink serializeBuffer = new ByteSink();
     private final CatalogTable catalogTable;
-    private final ScheduledExecutorService scheduledExecutorService;
+    // the stream load is initialized on demand, after the shared resource is set
+    private DorisLoadResource loadResource;
+    private boolean sharedLoadResource;
+    private ScheduledFuture<?> checkFuture;
     private volatile Exception loadException = null;
 
     public DorisSinkWriter(
@@ -88,15 +91,17 @@ public class DorisSinkWriter
                         + "_"
                         + context.getIndexOfSubtask();
         this.labelGenerator = new LabelGenerator(labelPrefix, dorisConfig.getEnable2PC());
-        this.scheduledExecutorService =
-                new ScheduledThreadPoolExecutor(
-                        1, new ThreadFactoryBuilder().setNameFormat("stream-load-check").build());
         this.serializer = createSerializer(dorisConfig, catalogTable.getSeaTunnelRowType());
         this.intervalTime = dorisConfig.getCheckInterval();
-        this.initializeLoad();
     }
 
     private void initializeLoad() {
+        if (dorisStreamLoad != null) {
+            return;
+        }
+        if (loadResource == null) {
+            loadResource = DorisLoadResource.create(1);
+        }
         String backend = RestService.randomEndpoint(dorisConfig.getFrontends(), log);
         try {
             this.dorisStreamLoad =
@@ -105,7 +110,8 @@ public class DorisSinkWriter
                             catalogTable.getTablePath(),
                             dorisConfig,
                             labelGenerator,
-                            new HttpUtil().getHttpClient());
+                            loadResource.getHttpClient(),
+                            loadResource.getLoadExecutor());
             if (dorisConfig.getEnable2PC()) {
                 dorisStreamLoad.abortPreCommit(labelPrefix, lastCheckpointId + 1);
             }
@@ -115,22 +121,47 @@ public class DorisSinkWriter
         startLoad(labelGenerator.generateLabel(lastCheckpointId + 1));
         // when uploading data in streaming mode, we need to regularly detect whether there are
         // exceptions.
-        scheduledExecutorService.scheduleWithFixedDelay(
-                this::checkDone, INITIAL_DELAY, intervalTime, TimeUnit.MILLISECONDS);
+        checkFuture =
+                loadResource
+                        .getCheckExecutor()
+                        .scheduleWithFixedDelay(
+                                this::checkDone,
+                                INITIAL_DELAY,
+                                intervalTime,
+                                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public MultiTableResourceManager<DorisLoadResource> initMultiTableResourceManager(
+            int tableSize, int queueSize) {
+        return new DorisMultiTableResourceManager(DorisLoadResource.create(tableSize));
+    }
+
+    @Override
+    public void setMultiTableResourceManager(
+            MultiTableResourceManager<DorisLoadResource> multiTableResourceManager,
+            int queueIndex) {
+        checkState(dorisStreamLoad == null);
+        this.loadResource = multiTableResourceManager.getSharedResource().get();
+        this.sharedLoadResource = true;
     }
 
     @Override
     public void write(SeaTunnelRow element) throws IOException {
         checkLoadException();
-        byte[] serialize =
+        initializeLoad();
+        // the row is serialized into the reusable buffer, and copied into the stream load
+        serializeBuffer.reset();
+        boolean serialized =
                 serializer.serialize(
                         dorisConfig.isNeedsUnsupportedTypeCasting()
                                 ? UnsupportedTypeConverterUtils.convertRow(element)
-                                : element);
-        if (Objects.isNull(serialize)) {
+                                : element,
+                        serializeBuffer);
+        if (!serialized) {
             return;
         }
-        dorisStreamLoad.writeRecord(serialize);
+        dorisStreamLoad.writeRecord(serializeBuffer.getBuffer(), 0, serializeBuffer.size());
         if (!dorisConfig.getEnable2PC()
                 && dorisStreamLoad.getRecordCount() >= dorisConfig.getBatchSize()) {
             flush();
@@ -140,6 +171,7 @@ public class DorisSinkWriter
 
     @Override
     public Optional<DorisCommitInfo> prepareCommit() throws IOException {
+        initializeLoad();
         RespContent respContent = flush();
         if (!dorisConfig.getEnable2PC() || respContent == null) {
             return Optional.empty();
@@ -166,6 +198,7 @@ public class DorisSinkWriter
 
     @Override
     public List<DorisSinkState> snapshotState(long checkpointId) {
+        initializeLoad();
         checkState(dorisStreamLoad != null);
         startLoad(labelGenerator.generateLabel(checkpointId + 1));
         this.lastCheckpointId = checkpointId;
@@ -179,6 +212,7 @@ public class DorisSinkWriter
     @Override
     public void abortPrepare() {
         if (dorisConfig.getEnable2PC()) {
+            initializeLoad();
             try {
                 dorisStreamLoad.abortPreCommit(labelPrefix, lastCheckpointId + 1);
             } catch (Exception e) {
@@ -208,14 +242,18 @@ public class DorisSinkWriter
 
     @Override
     public void close() throws IOException {
+        if (dorisStreamLoad == null) {
+            return;
+        }
         if (!dorisConfig.getEnable2PC()) {
             flush();
         }
-        if (scheduledExecutorService != null) {
-            scheduledExecutorService.shutdownNow();
+        if (checkFuture != null) {
+            checkFuture.cancel(false);
         }
-        if (dorisStreamLoad != null) {
-            dorisStreamLoad.close();
+        dorisStreamLoad.close();
+        if (!sharedLoadResource) {
+            loadResource.close();
         }
     }
 
@@ -36,7 +36,6 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,9 +46,6 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -76,6 +72,7 @@ public class DorisStreamLoad implements Serializable {
     private final String table;
     private final boolean enable2PC;
     private final boolean enableDelete;
+    private final boolean groupCommit;
     private final Properties streamLoadProp;
     private final RecordStream recordStream;
     @Getter private Future<CloseableHttpResponse> pendingLoadFuture;
@@ -91,7 +88,8 @@ public class DorisStreamLoad implements Serializable {
             TablePath tablePath,
             DorisConfig dorisConfig,
             LabelGenerator labelGenerator,
-            CloseableHttpClient httpClient) {
+            CloseableHttpClient httpClient,
+            ExecutorService executorService) {
         this.hostPort = hostPort;
         this.db = tablePath.getDatabaseName();
         this.table = tablePath.getTableName();
@@ -103,15 +101,9 @@ public class DorisStreamLoad implements Serializable {
         this.enable2PC = dorisConfig.getEnable2PC();
         this.streamLoadProp = dorisConfig.getStreamLoadProps();
         this.enableDelete = dorisConfig.getEnableDelete();
+        this.groupCommit = dorisConfig.isGroupCommit();
         this.httpClient = httpClient;
-        this.executorService =
-                new ThreadPoolExecutor(
-                        1,
-                        1,
-                        0L,
-                        TimeUnit.MILLISECONDS,
-                        new LinkedBlockingQueue<>(),
-                        new ThreadFactoryBuilder().setNameFormat("stream-load-upload").build());
+        this.executorService = executorService;
         this.recordStream =
                 new RecordStream(dorisConfig.getBufferSize(), dorisConfig.getBufferCount());
         lineDelimiter =
@@ -177,6 +169,10 @@ public class DorisStreamLoad implements Serializable {
     }
 
     public void writeRecord(byte[] record) throws IOException {
+        writeRecord(record, 0, record.length);
+    }
+
+    public void writeRecord(byte[] record, int offset, int length) throws IOException {
         if (loadBatchFirstRecord) {
             loadBatchFirstRecord = false;
             recordStream.startInput();
@@ -184,7 +180,7 @@ public class DorisStreamLoad implements Serializable {
         } else {
             recordStream.write(lineDelimiter);
         }
-        recordStream.write(record);
+        recordStream.write(record, offset, length);
         recordCount++;
     }
 
@@ -251,9 +247,13 @@ public class DorisStreamLoad implements Serializable {
                     .baseAuth(user, passwd)
                     .addCommonHeader()
                     .addHiddenColumns(enableDelete)
-                    .setLabel(label)
                     .setEntity(entity)
                     .addProperties(streamLoadProp);
+            // the loads of group commit are merged into the transactions of the same table by
+            // doris, which can not be labeled by the client.
+            if (!groupCommit) {
+                putBuilder.setLabel(label);
+            }
             if (enable2PC) {
                 putBuilder.enable2PC();
             }
@@ -301,16 +301,16 @@ public class DorisStreamLoad implements Serializable {
         }
     }
 
-    public void close() throws IOException {
-        if (null != httpClient) {
-            try {
-                httpClient.close();
-            } catch (IOException e) {
-                throw new IOException("Closing httpClient failed.", e);
-            }
-        }
-        if (null != executorService) {
-            executorService.shutdownNow();
+    /**
+     * Cancel the running stream load. The http client and the executor may be shared by the other
+     * stream loads, they are closed by the owner.
+     */
+    public void close() {
+        loading = false;
+        if (pendingLoadFuture != null) {
+            recordStream.setErrorMessageByStreamLoad("stream load is closed");
+            pendingLoadFuture.cancel(true);
+            pendingLoadFuture = null;
         }
     }
 }
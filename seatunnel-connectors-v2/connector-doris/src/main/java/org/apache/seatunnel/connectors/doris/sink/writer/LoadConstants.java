@@ -29,4 +29,6 @@ public class LoadConstants {
     public static final String CSV = "csv";
     public static final String NULL_VALUE = "\\N";
     public static final String DORIS_DELETE_SIGN = "__DORIS_DELETE_SIGN__";
+    public static final String GROUP_COMMIT_KEY = "group_commit";
+    public static final String GROUP_COMMIT_OFF_MODE = "off_mode";
 }
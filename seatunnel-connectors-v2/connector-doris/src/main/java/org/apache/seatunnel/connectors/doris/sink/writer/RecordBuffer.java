@@ -98,14 +98,22 @@ public class RecordBuffer {
     }
 
     public void write(byte[] buf) throws InterruptedException {
-        int wPos = 0;
+        write(buf, 0, buf.length);
+    }
+
+    public void write(byte[] buf, int offset, int length) throws InterruptedException {
+        if (length == 0) {
+            return;
+        }
+        int wPos = offset;
+        int end = offset + length;
         do {
             while (currentWriteBuffer == null) {
                 checkErrorMessageByStreamLoad();
                 currentWriteBuffer = writeQueue.poll(100, TimeUnit.MILLISECONDS);
             }
             int available = currentWriteBuffer.remaining();
-            int nWrite = Math.min(available, buf.length - wPos);
+            int nWrite = Math.min(available, end - wPos);
             currentWriteBuffer.put(buf, wPos, nWrite);
             wPos += nWrite;
             if (currentWriteBuffer.remaining() == 0) {
@@ -113,7 +121,7 @@ public class RecordBuffer {
                 readQueue.put(currentWriteBuffer);
                 currentWriteBuffer = null;
             }
-        } while (wPos != buf.length);
+        } while (wPos != end);
     }
 
     public int read(byte[] buf) throws InterruptedException {
@@ -51,8 +51,12 @@ public class RecordStream extends InputStream {
     }
 
     public void write(byte[] buff) throws IOException {
+        write(buff, 0, buff.length);
+    }
+
+    public void write(byte[] buff, int offset, int length) throws IOException {
         try {
-            recordBuffer.write(buff);
+            recordBuffer.write(buff, offset, length);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
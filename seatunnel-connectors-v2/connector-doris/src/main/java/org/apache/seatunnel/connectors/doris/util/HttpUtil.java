@@ -39,4 +39,12 @@ public class HttpUtil {
     public CloseableHttpClient getHttpClient() {
         return httpClientBuilder.build();
     }
+
+    /** Build a http client whose connections are kept alive and shared by the stream loads. */
+    public CloseableHttpClient getHttpClient(int maxConnections) {
+        return httpClientBuilder
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .build();
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.serialize;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class DorisSerializerTest {
+
+    @Test
+    public void testSkipRowSerializedToNull() throws IOException {
+        DorisSerializer serializer =
+                new DorisSerializer() {
+                    @Override
+                    public void open() {}
+
+                    @Override
+                    public byte[] serialize(SeaTunnelRow seaTunnelRow) {
+                        Object field = seaTunnelRow.getField(0);
+                        return field == null
+                                ? null
+                                : field.toString().getBytes(StandardCharsets.UTF_8);
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assertions.assertFalse(serializer.serialize(new SeaTunnelRow(new Object[] {null}), out));
+        Assertions.assertEquals(0, out.size());
+        Assertions.assertTrue(serializer.serialize(new SeaTunnelRow(new Object[] {"a"}), out));
+        Assertions.assertEquals("a", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
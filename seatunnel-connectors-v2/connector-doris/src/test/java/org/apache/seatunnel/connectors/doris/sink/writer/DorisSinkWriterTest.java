@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.doris.sink.writer;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.sink.DefaultSinkWriterContext;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+import org.apache.seatunnel.connectors.doris.config.DorisConfig;
+import org.apache.seatunnel.connectors.doris.sink.DorisMultiTableResourceManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+public class DorisSinkWriterTest {
+
+    /** The path, the label header and the body of the stream load requests. */
+    private final List<String[]> loads = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api", this::handleStreamLoad);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testGroupCommitWithSharedLoadResource() throws IOException {
+        Map<String, String> streamLoadProps = new HashMap<>();
+        streamLoadProps.put("format", "csv");
+        streamLoadProps.put("group_commit", "async_mode");
+        DorisConfig dorisConfig = DorisConfig.of(ReadonlyConfig.fromMap(config(streamLoadProps)));
+        Assertions.assertTrue(dorisConfig.isGroupCommit());
+
+        DorisSinkWriter writer1 = createWriter(dorisConfig, "t1");
+        DorisSinkWriter writer2 = createWriter(dorisConfig, "t2");
+        DorisMultiTableResourceManager resourceManager =
+                (DorisMultiTableResourceManager) writer1.initMultiTableResourceManager(2, 1);
+        writer1.setMultiTableResourceManager(resourceManager, 0);
+        writer2.setMultiTableResourceManager(resourceManager, 0);
+        DorisLoadResource loadResource = resourceManager.getSharedResource().get();
+
+        writer1.write(new SeaTunnelRow(new Object[] {"a"}));
+        writer2.write(new SeaTunnelRow(new Object[] {"b"}));
+        writer1.write(new SeaTunnelRow(new Object[] {"c"}));
+        Assertions.assertFalse(writer1.prepareCommit().isPresent());
+        Assertions.assertFalse(writer2.prepareCommit().isPresent());
+        writer1.snapshotState(1);
+        writer2.snapshotState(1);
+        writer1.close();
+        writer2.close();
+        // the shared resource is closed by the resource manager
+        Assertions.assertFalse(loadResource.getLoadExecutor().isShutdown());
+        resourceManager.close();
+        Assertions.assertTrue(loadResource.getLoadExecutor().isShutdown());
+
+        Assertions.assertEquals(2, loads.size());
+        Map<String, String> bodies = new HashMap<>();
+        for (String[] load : loads) {
+            // the loads of group commit are not labeled
+            Assertions.assertNull(load[1]);
+            bodies.put(load[0], load[2]);
+        }
+        Assertions.assertEquals("a\nc", bodies.get("/api/test/t1/_stream_load"));
+        Assertions.assertEquals("b", bodies.get("/api/test/t2/_stream_load"));
+    }
+
+    @Test
+    public void testLabeledLoadWithoutGroupCommit() throws IOException {
+        Map<String, String> streamLoadProps = new HashMap<>();
+        streamLoadProps.put("format", "csv");
+        streamLoadProps.put("group_commit", "off_mode");
+        DorisConfig dorisConfig = DorisConfig.of(ReadonlyConfig.fromMap(config(streamLoadProps)));
+        Assertions.assertFalse(dorisConfig.isGroupCommit());
+
+        DorisSinkWriter writer = createWriter(dorisConfig, "t1");
+        writer.write(new SeaTunnelRow(new Object[] {"a"}));
+        writer.prepareCommit();
+        writer.close();
+        Assertions.assertEquals(1, loads.size());
+        Assertions.assertTrue(loads.get(0)[1].startsWith("test_test_t1_1_0_"), loads.get(0)[1]);
+    }
+
+    @Test
+    public void testGroupCommitWith2PC() {
+        Map<String, String> streamLoadProps = new HashMap<>();
+        streamLoadProps.put("format", "csv");
+        streamLoadProps.put("group_commit", "sync_mode");
+        Map<String, Object> config = config(streamLoadProps);
+        config.put("sink.enable-2pc", true);
+        Assertions.assertThrows(
+                SeaTunnelRuntimeException.class,
+                () -> DorisConfig.of(ReadonlyConfig.fromMap(config)));
+    }
+
+    private Map<String, Object> config(Map<String, String> streamLoadProps) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("fenodes", "localhost:" + server.getAddress().getPort());
+        config.put("username", "root");
+        config.put("password", "");
+        config.put("sink.label-prefix", "test");
+        config.put("doris.config", streamLoadProps);
+        return config;
+    }
+
+    private DorisSinkWriter createWriter(DorisConfig dorisConfig, String table) {
+        CatalogTable catalogTable =
+                CatalogTable.of(
+                        TableIdentifier.of("doris", "test", table),
+                        TableSchema.builder()
+                                .column(
+                                        PhysicalColumn.of(
+                                                "name",
+                                                BasicType.STRING_TYPE,
+                                                (Long) null,
+                                                true,
+                                                null,
+                                                ""))
+                                .build(),
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        "");
+        return new DorisSinkWriter(
+                new DefaultSinkWriterContext(0),
+                Collections.emptyList(),
+                catalogTable,
+                dorisConfig,
+                "1");
+    }
+
+    private void handleStreamLoad(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream in = exchange.getRequestBody()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+        loads.add(
+                new String[] {
+                    exchange.getRequestURI().getPath(),
+                    exchange.getRequestHeaders().getFirst("label"),
+                    new String(out.toByteArray(), StandardCharsets.UTF_8)
+                });
+        byte[] bytes = "{\"Status\":\"Success\",\"TxnId\":1}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream response = exchange.getResponseBody()) {
+            response.write(bytes);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.EsClusterC
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ElasticsearchClusterInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.IndexDocsCount;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.PointInTimeResult;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.ScrollResult;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
@@ -44,6 +45,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -51,6 +54,7 @@ import org.apache.http.util.EntityUtils;
 
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -59,13 +63,16 @@ import lombok.extern.slf4j.Slf4j;
 import javax.net.ssl.SSLContext;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsType.AGGREGATE_METRIC_DOUBLE;
@@ -206,6 +213,18 @@ public class EsRestClient {
     public BulkResponse bulk(String requestBody) {
         Request request = new Request("POST", "/_bulk");
         request.setJsonEntity(requestBody);
+        return bulk(request, () -> requestBody);
+    }
+
+    /** Send the bulk request whose body is the first {@code length} bytes of the buffer. */
+    public BulkResponse bulk(byte[] requestBody, int length) {
+        Request request = new Request("POST", "/_bulk");
+        request.setEntity(
+                new ByteArrayEntity(requestBody, 0, length, ContentType.APPLICATION_JSON));
+        return bulk(request, () -> new String(requestBody, 0, length, StandardCharsets.UTF_8));
+    }
+
+    private BulkResponse bulk(Request request, Supplier<String> requestBody) {
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
@@ -225,12 +244,12 @@ public class EsRestClient {
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                         String.format(
                                 "bulk es response status code=%d,request boy=%s",
-                                response.getStatusLine().getStatusCode(), requestBody));
+                                response.getStatusLine().getStatusCode(), requestBody.get()));
             }
         } catch (IOException e) {
             throw new ElasticsearchConnectorException(
                     ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
-                    String.format("bulk es error,request boy=%s", requestBody),
+                    String.format("bulk es error,request boy=%s", requestBody.get()),
                     e);
         }
     }
@@ -280,11 +299,35 @@ public class EsRestClient {
             Map<String, Object> query,
             String scrollTime,
             int scrollSize) {
+        return searchByScroll(index, source, query, scrollTime, scrollSize, 0, 0);
+    }
+
+    /**
+     * first time to request search documents of a slice by scroll call
+     * /${index}/_search?scroll=${scroll}
+     *
+     * @param sliceId the slice to read
+     * @param maxSlices the number of the slices, the index is not sliced if it is less than 2
+     */
+    public ScrollResult searchByScroll(
+            String index,
+            List<String> source,
+            Map<String, Object> query,
+            String scrollTime,
+            int scrollSize,
+            int sliceId,
+            int maxSlices) {
         Map<String, Object> param = new HashMap<>();
         param.put("query", query);
         param.put("_source", source);
         param.put("sort", new String[] {"_doc"});
         param.put("size", scrollSize);
+        if (maxSlices > 1) {
+            Map<String, Object> slice = new HashMap<>();
+            slice.put("id", sliceId);
+            slice.put("max", maxSlices);
+            param.put("slice", slice);
+        }
         String endpoint = "/" + index + "/_search?scroll=" + scrollTime;
         return getDocsFromScrollRequest(endpoint, JsonUtils.toJsonString(param));
     }
@@ -303,15 +346,158 @@ public class EsRestClient {
     }
 
     private ScrollResult getDocsFromScrollRequest(String endpoint, String requestBody) {
+        ObjectNode responseJson =
+                search(endpoint, requestBody, ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR);
+        ScrollResult scrollResult = new ScrollResult();
+        scrollResult.setScrollId(responseJson.get("_scroll_id").asText());
+        scrollResult.setDocs(getDocsFromHits(responseJson.get("hits").get("hits")));
+        return scrollResult;
+    }
+
+    /**
+     * open a point in time of the index call /${index}/_pit?keep_alive=${keepAlive}
+     *
+     * @return the id of the point in time
+     */
+    public String openPointInTime(String index, String keepAlive) {
+        String endpoint = "/" + index + "/_pit?keep_alive=" + keepAlive;
         Request request = new Request("POST", endpoint);
-        request.setJsonEntity(requestBody);
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
                 throw new ElasticsearchConnectorException(
-                        ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR,
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
                         "POST " + endpoint + " response null");
             }
+            if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                String entity = EntityUtils.toString(response.getEntity());
+                return JsonUtils.parseObject(entity).get("id").asText();
+            } else {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                        String.format(
+                                "POST %s response status code=%d",
+                                endpoint, response.getStatusLine().getStatusCode()));
+            }
+        } catch (IOException e) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                    "POST " + endpoint + " error",
+                    e);
+        }
+    }
+
+    /** close the point in time call DELETE /_pit, the errors are ignored. */
+    public void closePointInTime(String pitId) {
+        Request request = new Request("DELETE", "/_pit");
+        request.setJsonEntity(JsonUtils.toJsonString(Collections.singletonMap("id", pitId)));
+        try {
+            restClient.performRequest(request);
+        } catch (IOException e) {
+            log.warn("close elasticsearch point in time error", e);
+        }
+    }
+
+    /**
+     * search the documents of a slice in the point in time after the sort values of the last
+     * document call /_search, the documents are sorted by _shard_doc.
+     *
+     * @param pitId the id of the point in time
+     * @param keepAlive the time to extend the point in time
+     * @param sliceId the slice to read
+     * @param maxSlices the number of the slices, the index is not sliced if it is less than 2
+     * @param searchAfter the sort values of the last document, null for the first page
+     */
+    public PointInTimeResult searchWithPointInTime(
+            String pitId,
+            String keepAlive,
+            List<String> source,
+            Map<String, Object> query,
+            int size,
+            int sliceId,
+            int maxSlices,
+            Object[] searchAfter) {
+        Map<String, Object> pit = new HashMap<>();
+        pit.put("id", pitId);
+        pit.put("keep_alive", keepAlive);
+        Map<String, Object> param = new HashMap<>();
+        param.put("pit", pit);
+        param.put("query", query);
+        param.put("_source", source);
+        param.put("sort", Collections.singletonList(Collections.singletonMap("_shard_doc", "asc")));
+        param.put("size", size);
+        param.put("track_total_hits", false);
+        if (maxSlices > 1) {
+            // slice by _id, the slices do not depend on the point in time, so a slice can be
+            // read again by a new point in time
+            Map<String, Object> slice = new HashMap<>();
+            slice.put("field", "_id");
+            slice.put("id", sliceId);
+            slice.put("max", maxSlices);
+            param.put("slice", slice);
+        }
+        if (searchAfter != null) {
+            param.put("search_after", searchAfter);
+        }
+        ObjectNode responseJson;
+        try {
+            responseJson =
+                    search(
+                            "/_search",
+                            JsonUtils.toJsonString(param),
+                            ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR);
+        } catch (ElasticsearchConnectorException e) {
+            // the search of an expired or closed point in time responds 404
+            if (e.getCause() instanceof ResponseException
+                    && ((ResponseException) e.getCause())
+                                    .getResponse()
+                                    .getStatusLine()
+                                    .getStatusCode()
+                            == HttpStatus.SC_NOT_FOUND) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_NOT_FOUND,
+                        "The point in time " + pitId + " is expired or not found",
+                        e.getCause());
+            }
+            throw e;
+        }
+        JsonNode hitsNode = responseJson.get("hits").get("hits");
+        PointInTimeResult result = new PointInTimeResult();
+        result.setPitId(
+                Optional.ofNullable(responseJson.get("pit_id"))
+                        .map(JsonNode::asText)
+                        .orElse(pitId));
+        result.setDocs(getDocsFromHits(hitsNode));
+        if (hitsNode.size() > 0) {
+            JsonNode sortNode = hitsNode.get(hitsNode.size() - 1).get("sort");
+            Object[] sortValues = new Object[sortNode.size()];
+            for (int i = 0; i < sortValues.length; i++) {
+                JsonNode value = sortNode.get(i);
+                if (value.isIntegralNumber()) {
+                    sortValues[i] = value.longValue();
+                } else if (value.isNumber()) {
+                    sortValues[i] = value.doubleValue();
+                } else if (value.isNull()) {
+                    sortValues[i] = null;
+                } else {
+                    sortValues[i] = value.asText();
+                }
+            }
+            result.setSearchAfter(sortValues);
+        }
+        return result;
+    }
+
+    private ObjectNode search(
+            String endpoint, String requestBody, ElasticsearchConnectorErrorCode errorCode) {
+        Request request = new Request("POST", endpoint);
+        request.setJsonEntity(requestBody);
+        try {
+            Response response = restClient.performRequest(request);
+            if (response == null) {
+                throw new ElasticsearchConnectorException(
+                        errorCode, "POST " + endpoint + " response null");
+            }
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
                 String entity = EntityUtils.toString(response.getEntity());
                 ObjectNode responseJson = JsonUtils.parseObject(entity);
@@ -325,31 +511,24 @@ public class EsRestClient {
                                 "POST %s,total shards(%d)!= successful shards(%d)",
                                 endpoint, totalShards, successful));
 
-                return getDocsFromScrollResponse(responseJson);
+                return responseJson;
             } else {
                 throw new ElasticsearchConnectorException(
-                        ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR,
+                        errorCode,
                         String.format(
                                 "POST %s response status code=%d,request boy=%s",
                                 endpoint, response.getStatusLine().getStatusCode(), requestBody));
             }
         } catch (IOException e) {
             throw new ElasticsearchConnectorException(
-                    ElasticsearchConnectorErrorCode.SCROLL_REQUEST_ERROR,
+                    errorCode,
                     String.format("POST %s error,request boy=%s", endpoint, requestBody),
                     e);
         }
     }
 
-    private ScrollResult getDocsFromScrollResponse(ObjectNode responseJson) {
-        ScrollResult scrollResult = new ScrollResult();
-        String scrollId = responseJson.get("_scroll_id").asText();
-        scrollResult.setScrollId(scrollId);
-
-        JsonNode hitsNode = responseJson.get("hits").get("hits");
+    private List<Map<String, Object>> getDocsFromHits(JsonNode hitsNode) {
         List<Map<String, Object>> docs = new ArrayList<>(hitsNode.size());
-        scrollResult.setDocs(docs);
-
         for (JsonNode jsonNode : hitsNode) {
             Map<String, Object> doc = new HashMap<>();
             doc.put("_index", jsonNode.get("_index").textValue());
@@ -367,11 +546,13 @@ public class EsRestClient {
             }
             docs.add(doc);
         }
-        return scrollResult;
+        return docs;
     }
 
     public List<IndexDocsCount> getIndexDocsCount(String index) {
-        String endpoint = String.format("/_cat/indices/%s?h=index,docsCount&format=json", index);
+        String endpoint =
+                String.format(
+                        "/_cat/indices/%s?h=index,docsCount,shardsPrimary&format=json", index);
         Request request = new Request("GET", endpoint);
         try {
             Response response = restClient.performRequest(request);
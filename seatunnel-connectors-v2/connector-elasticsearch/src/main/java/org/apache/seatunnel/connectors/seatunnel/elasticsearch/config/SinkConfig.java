@@ -70,6 +70,22 @@ public class SinkConfig {
                     .defaultValue(3)
                     .withDescription("one bulk request max try count");
 
+    public static final Option<Long> MAX_BATCH_BYTES =
+            Options.key("max_batch_bytes")
+                    .longType()
+                    .defaultValue(5 * 1024 * 1024L)
+                    .withDescription("batch bulk request body max size in bytes");
+
+    public static final Option<Integer> MAX_CONCURRENT_REQUESTS =
+            Options.key("max_concurrent_requests")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "max number of the in-flight bulk requests of one writer, "
+                                    + "the concurrent requests may reorder the writes of "
+                                    + "the same document id, so it can not be greater than 1 "
+                                    + "when the primary_keys is configured");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
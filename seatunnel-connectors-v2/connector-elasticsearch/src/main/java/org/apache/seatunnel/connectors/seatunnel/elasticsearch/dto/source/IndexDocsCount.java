@@ -22,6 +22,8 @@ public class IndexDocsCount {
     private String index;
     /** index docs count */
     private Long docsCount;
+    /** index primary shards count */
+    private Integer shardsPrimary;
 
     public String getIndex() {
         return index;
@@ -38,4 +40,12 @@ public class IndexDocsCount {
     public void setDocsCount(Long docsCount) {
         this.docsCount = docsCount;
     }
+
+    public Integer getShardsPrimary() {
+        return shardsPrimary;
+    }
+
+    public void setShardsPrimary(Integer shardsPrimary) {
+        this.shardsPrimary = shardsPrimary;
+    }
 }
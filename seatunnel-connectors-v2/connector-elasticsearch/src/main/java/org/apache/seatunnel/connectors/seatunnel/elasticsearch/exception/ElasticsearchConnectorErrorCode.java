@@ -29,7 +29,9 @@ public enum ElasticsearchConnectorErrorCode implements SeaTunnelErrorCode {
     DROP_INDEX_FAILED("ELASTICSEARCH-06", "Drop elasticsearch index failed"),
     CREATE_INDEX_FAILED("ELASTICSEARCH-07", "Create elasticsearch index failed"),
     ES_FIELD_TYPE_NOT_SUPPORT("ELASTICSEARCH-08", "Not support the elasticsearch field type"),
-    CLEAR_INDEX_DATA_FAILED("ELASTICSEARCH-09", "Clear elasticsearch index data failed");
+    CLEAR_INDEX_DATA_FAILED("ELASTICSEARCH-09", "Clear elasticsearch index data failed"),
+    POINT_IN_TIME_REQUEST_ERROR("ELASTICSEARCH-10", "Fail to point in time request"),
+    POINT_IN_TIME_NOT_FOUND("ELASTICSEARCH-11", "The point in time is expired or not found");
     ;
 
     private final String code;
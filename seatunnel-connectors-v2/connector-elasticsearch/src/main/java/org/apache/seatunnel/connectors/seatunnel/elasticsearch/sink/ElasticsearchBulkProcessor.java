@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.serialization.ByteSink;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.InFlightRequests;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch the bulk items by the number of the items and the size of the request body, and send the
+ * batches by concurrent bulk requests. The items are appended into reusable buffers without joining
+ * the strings.
+ *
+ * <p>The response of a bulk request is checked item by item, an item fails if it has an error, e.g.
+ * a delete of a missing document is not failed by its 404 status. Only the items rejected by 429,
+ * failed by 5xx or without a result are retried with an exponential backoff, the other failed items
+ * fail the writer. The later items of the same document id as a retried item are retried with it
+ * in the original order, so an older write never overrides a newer one. A failed request is retried
+ * as a whole.
+ *
+ * <p>The concurrent requests may be finished out of order, so the writes of the same document id
+ * may be reordered if there are more than one in-flight request. {@link #flush()} sends the
+ * buffered items and waits for all the in-flight requests, so it is called on checkpoint.
+ */
+@Slf4j
+public class ElasticsearchBulkProcessor implements Closeable {
+    private static final long INITIAL_BACKOFF_MS = 200L;
+    private static final long MAX_BACKOFF_MS = 10 * 1000L;
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private final EsRestClient esRestClient;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final int maxTryCount;
+    private final InFlightRequests inFlightRequests;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BulkBatch currentBatch;
+
+    public ElasticsearchBulkProcessor(
+            EsRestClient esRestClient,
+            int maxBatchSize,
+            long maxBatchBytes,
+            int maxConcurrentRequests,
+            int maxRetryCount) {
+        this.esRestClient = esRestClient;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.maxBatchBytes = Math.max(maxBatchBytes, 1L);
+        this.maxTryCount = Math.max(maxRetryCount, 1);
+        this.inFlightRequests = new InFlightRequests("elasticsearch-bulk", maxConcurrentRequests);
+        this.currentBatch = new BulkBatch(inFlightRequests.newBuffer());
+    }
+
+    /**
+     * Add a bulk item, which is the action line and the optional source line.
+     *
+     * <p>The batch is sent when it is full, it blocks if there are too many in-flight requests.
+     */
+    public void add(String item) {
+        checkFailure();
+        currentBatch.add(item);
+        if (currentBatch.size() >= maxBatchSize || currentBatch.bytes() >= maxBatchBytes) {
+            sendCurrentBatch();
+        }
+    }
+
+    /** Send the buffered items, and wait for all the in-flight requests. */
+    public void flush() {
+        checkFailure();
+        sendCurrentBatch();
+        try {
+            inFlightRequests.awaitAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for the bulk requests",
+                    e);
+        }
+        checkFailure();
+    }
+
+    private void sendCurrentBatch() {
+        if (currentBatch.size() == 0) {
+            return;
+        }
+        BulkBatch batch = currentBatch;
+        currentBatch = new BulkBatch(inFlightRequests.newBuffer());
+        try {
+            inFlightRequests.send(batch.buffer, () -> sendWithRetry(batch));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for the bulk requests",
+                    e);
+        }
+    }
+
+    private void sendWithRetry(BulkBatch batch) throws IOException, InterruptedException {
+        // the indexes of the items which are not written yet
+        int[] pending = new int[batch.size()];
+        Arrays.setAll(pending, i -> i);
+        ByteSink body = batch.buffer;
+        for (int tryCount = 1; ; tryCount++) {
+            BulkResponse bulkResponse;
+            try {
+                bulkResponse = esRestClient.bulk(body.getBuffer(), body.size());
+            } catch (RuntimeException e) {
+                if (tryCount >= maxTryCount) {
+                    throw e;
+                }
+                log.warn(
+                        "Bulk request of {} items failed, retry {}/{}",
+                        pending.length,
+                        tryCount,
+                        maxTryCount - 1,
+                        e);
+                backoff(tryCount);
+                continue;
+            }
+            if (!bulkResponse.isErrors()) {
+                return;
+            }
+            int[] retryable = getRetryableItems(bulkResponse, batch, pending);
+            if (retryable.length == 0) {
+                return;
+            }
+            if (tryCount >= maxTryCount) {
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                        String.format(
+                                "%d bulk items are still rejected after %d tries",
+                                retryable.length, tryCount));
+            }
+            log.warn(
+                    "{} of {} bulk items are rejected, retry {}/{}",
+                    retryable.length,
+                    pending.length,
+                    tryCount,
+                    maxTryCount - 1);
+            pending = retryable;
+            body = batch.slice(pending);
+            backoff(tryCount);
+        }
+    }
+
+    /**
+     * Returns the items to retry, which are rejected by 429, failed by 5xx or have no result in the
+     * response, and the succeeded items after them of the same documents. An item fails by its
+     * error, the status only tells whether the error is retryable.
+     *
+     * @throws ElasticsearchConnectorException if any item failed by other errors
+     */
+    private int[] getRetryableItems(BulkResponse bulkResponse, BulkBatch batch, int[] pending)
+            throws IOException {
+        JsonNode items = objectMapper.readTree(bulkResponse.getResponse()).get("items");
+        if (items == null || items.size() != pending.length) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "bulk es error: " + bulkResponse.getResponse());
+        }
+        int[] retryable = new int[pending.length];
+        int retryableCount = 0;
+        // the documents of the retried items
+        Set<String> retriedDocuments = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+        int errorCount = 0;
+        for (int i = 0; i < pending.length; i++) {
+            // the result of an item is keyed by its action, e.g. index, create or delete
+            Iterator<JsonNode> results = items.get(i).elements();
+            JsonNode result = results.hasNext() ? results.next() : null;
+            if (result == null || !(result.has("status") || result.has("error"))) {
+                // the outcome of the item is unknown, so send it again
+                log.warn("Bulk item has no result in the response: {}", items.get(i));
+                retryable[retryableCount++] = pending[i];
+                addDocument(retriedDocuments, batch, pending[i]);
+                continue;
+            }
+            if (!result.has("error")) {
+                // e.g. the delete of a missing document returns 404 without an error, it is sent
+                // again after the retried write of the same document
+                if (!retriedDocuments.isEmpty()
+                        && retriedDocuments.contains(batch.getDocument(pending[i]))) {
+                    retryable[retryableCount++] = pending[i];
+                }
+                continue;
+            }
+            int status = result.path("status").asInt();
+            if (status == 429 || status >= 500) {
+                retryable[retryableCount++] = pending[i];
+                addDocument(retriedDocuments, batch, pending[i]);
+            } else {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(String.valueOf(result));
+                }
+                errorCount++;
+            }
+        }
+        if (errorCount > 0) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    String.format("bulk es error: %d items failed, %s", errorCount, errors));
+        }
+        return Arrays.copyOf(retryable, retryableCount);
+    }
+
+    private void addDocument(Set<String> documents, BulkBatch batch, int item) throws IOException {
+        String document = batch.getDocument(item);
+        if (document != null) {
+            documents.add(document);
+        }
+    }
+
+    private static void backoff(int tryCount) throws InterruptedException {
+        long backoff = INITIAL_BACKOFF_MS << Math.min(tryCount - 1, 16);
+        TimeUnit.MILLISECONDS.sleep(Math.min(backoff, MAX_BACKOFF_MS));
+    }
+
+    private void checkFailure() {
+        Throwable t = inFlightRequests.getFailure();
+        if (t != null) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "ElasticSearch execute bulk request error",
+                    t);
+        }
+    }
+
+    @Override
+    public void close() {
+        inFlightRequests.close();
+    }
+
+    /** The items of a bulk request, each item ends with a line break. */
+    private static class BulkBatch {
+        private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+        private final ByteSink buffer;
+        private int[] offsets = new int[16];
+        private int size;
+
+        private BulkBatch(ByteSink buffer) {
+            this.buffer = buffer;
+        }
+
+        private void add(String item) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            offsets[size++] = buffer.size();
+            buffer.write(item, StandardCharsets.UTF_8);
+            buffer.write('\n');
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int bytes() {
+            return buffer.size();
+        }
+
+        /**
+         * Returns the index and the id of the document of the item, null if the id is generated by
+         * elasticsearch.
+         */
+        private String getDocument(int item) throws IOException {
+            int start = offsets[item];
+            int end = start;
+            while (buffer.getBuffer()[end] != '\n') {
+                end++;
+            }
+            // the action line, e.g. {"index":{"_index":"test","_id":"1"}}
+            Iterator<JsonNode> actions =
+                    OBJECT_MAPPER.readTree(buffer.getBuffer(), start, end - start).elements();
+            JsonNode action = actions.hasNext() ? actions.next() : null;
+            if (action == null || !action.hasNonNull("_id")) {
+                return null;
+            }
+            return action.path("_index").asText() + "/" + action.get("_id").asText();
+        }
+
+        /** Copy the items into a new request body. */
+        private ByteSink slice(int[] items) {
+            ByteSink body = new ByteSink();
+            for (int item : items) {
+                int end = item + 1 < size ? offsets[item + 1] : buffer.size();
+                body.write(buffer.getBuffer(), offsets[item], end - offsets[item]);
+            }
+            return body;
+        }
+    }
+}
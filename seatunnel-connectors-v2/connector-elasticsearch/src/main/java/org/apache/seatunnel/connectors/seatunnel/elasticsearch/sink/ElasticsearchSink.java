@@ -31,7 +31,9 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.factory.CatalogFactory;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchAggregatedCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSinkState;
@@ -40,7 +42,9 @@ import java.util.Optional;
 
 import static org.apache.seatunnel.api.table.factory.FactoryUtil.discoverFactory;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_CONCURRENT_REQUESTS;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_RETRY_COUNT;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.PRIMARY_KEYS;
 
 public class ElasticsearchSink
         implements SeaTunnelSink<
@@ -63,6 +67,15 @@ public class ElasticsearchSink
         this.catalogTable = catalogTable;
         maxBatchSize = config.get(MAX_BATCH_SIZE);
         maxRetryCount = config.get(MAX_RETRY_COUNT);
+        if (config.get(MAX_CONCURRENT_REQUESTS) > 1
+                && config.getOptional(PRIMARY_KEYS).isPresent()) {
+            // the concurrent requests may reorder the writes of the same document id
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format(
+                            "The option %s can not be greater than 1 when the option %s is configured",
+                            MAX_CONCURRENT_REQUESTS.key(), PRIMARY_KEYS.key()));
+        }
     }
 
     @Override
@@ -23,8 +23,12 @@ import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ElasticsearchClusterInfo;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.PointInTimeResult;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.ScrollResult;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SourceIndexInfo;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.DefaultSeaTunnelRowDeserializer;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.ElasticsearchRecord;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.source.SeaTunnelRowDeserializer;
@@ -38,6 +42,18 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Elasticsearch 8 and later are read by point in time and search_after, a page of the current split
+ * is read in each {@link #pollNext(Collector)}, so the checkpoint can be taken in the middle of a
+ * split. The point in time and the sort values of the last emitted document are checkpointed in the
+ * split, so a restored split resumes from the last document. The sort values are only valid in
+ * their point in time, so the read fails if the point in time expires after some documents of the
+ * split were emitted, instead of emitting them again.
+ *
+ * <p>The other clusters are read by scroll, which can not be resumed after restore, so a split is
+ * read as a whole in one {@link #pollNext(Collector)}, and it is checkpointed only before it is
+ * read.
+ */
 @Slf4j
 public class ElasticsearchSourceReader
         implements SourceReader<SeaTunnelRow, ElasticsearchSourceSplit> {
@@ -55,6 +71,11 @@ public class ElasticsearchSourceReader
 
     private final long pollNextWaitTime = 1000L;
 
+    private boolean usePointInTime;
+
+    /** The split being read by point in time, it is checkpointed with its position. */
+    private ElasticsearchSourceSplit currentSplit;
+
     public ElasticsearchSourceReader(
             SourceReader.Context context, ReadonlyConfig config, SeaTunnelRowType rowTypeInfo) {
         this.context = context;
@@ -65,32 +86,36 @@ public class ElasticsearchSourceReader
     @Override
     public void open() {
         esRestClient = EsRestClient.createInstance(this.config);
+        // the point in time with slice and _shard_doc sort is supported since elasticsearch 8
+        ElasticsearchClusterInfo clusterInfo = esRestClient.getClusterInfo();
+        usePointInTime =
+                !clusterInfo.isOpensearch()
+                        && clusterInfo.getElasticsearchVersion().getVersion() >= 8;
     }
 
     @Override
     public void close() throws IOException {
+        // the point in time of the current split is kept until it expires, so the split can be
+        // resumed after the failover
         esRestClient.close();
     }
 
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            ElasticsearchSourceSplit split = splits.poll();
-            if (split != null) {
-                SourceIndexInfo sourceIndexInfo = split.getSourceIndexInfo();
-                ScrollResult scrollResult =
-                        esRestClient.searchByScroll(
-                                sourceIndexInfo.getIndex(),
-                                sourceIndexInfo.getSource(),
-                                sourceIndexInfo.getQuery(),
-                                sourceIndexInfo.getScrollTime(),
-                                sourceIndexInfo.getScrollSize());
-                outputFromScrollResult(scrollResult, sourceIndexInfo.getSource(), output);
-                while (scrollResult.getDocs() != null && scrollResult.getDocs().size() > 0) {
-                    scrollResult =
-                            esRestClient.searchWithScrollId(
-                                    scrollResult.getScrollId(), sourceIndexInfo.getScrollTime());
-                    outputFromScrollResult(scrollResult, sourceIndexInfo.getSource(), output);
+            if (!usePointInTime) {
+                ElasticsearchSourceSplit split = splits.poll();
+                if (split != null) {
+                    readByScroll(split, output);
+                    return;
+                }
+            } else if (currentSplit == null) {
+                currentSplit = splits.poll();
+            }
+            if (currentSplit != null) {
+                if (!pollNextPointInTimePage(currentSplit, output)) {
+                    esRestClient.closePointInTime(currentSplit.getPitId());
+                    currentSplit = null;
                 }
             } else if (noMoreSplit) {
                 // signal to the source that we have reached the end of the data.
@@ -102,9 +127,87 @@ public class ElasticsearchSourceReader
         }
     }
 
-    private void outputFromScrollResult(
-            ScrollResult scrollResult, List<String> source, Collector<SeaTunnelRow> output) {
-        for (Map<String, Object> doc : scrollResult.getDocs()) {
+    private void readByScroll(ElasticsearchSourceSplit split, Collector<SeaTunnelRow> output) {
+        SourceIndexInfo sourceIndexInfo = split.getSourceIndexInfo();
+        ScrollResult scrollResult =
+                esRestClient.searchByScroll(
+                        sourceIndexInfo.getIndex(),
+                        sourceIndexInfo.getSource(),
+                        sourceIndexInfo.getQuery(),
+                        sourceIndexInfo.getScrollTime(),
+                        sourceIndexInfo.getScrollSize(),
+                        split.getSliceId(),
+                        split.getMaxSlices());
+        outputFromDocs(scrollResult.getDocs(), sourceIndexInfo.getSource(), output);
+        while (scrollResult.getDocs() != null && scrollResult.getDocs().size() > 0) {
+            scrollResult =
+                    esRestClient.searchWithScrollId(
+                            scrollResult.getScrollId(), sourceIndexInfo.getScrollTime());
+            outputFromDocs(scrollResult.getDocs(), sourceIndexInfo.getSource(), output);
+        }
+    }
+
+    private boolean pollNextPointInTimePage(
+            ElasticsearchSourceSplit split, Collector<SeaTunnelRow> output) {
+        SourceIndexInfo sourceIndexInfo = split.getSourceIndexInfo();
+        if (split.getPitId() == null) {
+            split.setPitId(
+                    esRestClient.openPointInTime(
+                            sourceIndexInfo.getIndex(), sourceIndexInfo.getScrollTime()));
+        }
+        PointInTimeResult result;
+        try {
+            result = searchWithPointInTime(split);
+        } catch (ElasticsearchConnectorException e) {
+            if (e.getSeaTunnelErrorCode()
+                    != ElasticsearchConnectorErrorCode.POINT_IN_TIME_NOT_FOUND) {
+                throw e;
+            }
+            if (split.getSearchAfter() != null) {
+                // reading the split again by a new point in time emits the documents before
+                // the sort values twice
+                throw new ElasticsearchConnectorException(
+                        ElasticsearchConnectorErrorCode.POINT_IN_TIME_NOT_FOUND,
+                        String.format(
+                                "The point in time of split %s is expired after some documents "
+                                        + "of it were read, increase scroll_time to keep the "
+                                        + "point in time alive longer than the checkpoint "
+                                        + "interval and the restore of the job",
+                                split.splitId()),
+                        e);
+            }
+            // no document of the split has been emitted, so it is read by a new point in time
+            log.info("The point in time of split {} is expired, open it again", split.splitId());
+            split.setPitId(
+                    esRestClient.openPointInTime(
+                            sourceIndexInfo.getIndex(), sourceIndexInfo.getScrollTime()));
+            result = searchWithPointInTime(split);
+        }
+        split.setPitId(result.getPitId());
+        if (result.getDocs() == null || result.getDocs().isEmpty()) {
+            return false;
+        }
+        outputFromDocs(result.getDocs(), sourceIndexInfo.getSource(), output);
+        split.setSearchAfter(result.getSearchAfter());
+        return true;
+    }
+
+    private PointInTimeResult searchWithPointInTime(ElasticsearchSourceSplit split) {
+        SourceIndexInfo sourceIndexInfo = split.getSourceIndexInfo();
+        return esRestClient.searchWithPointInTime(
+                split.getPitId(),
+                sourceIndexInfo.getScrollTime(),
+                sourceIndexInfo.getSource(),
+                sourceIndexInfo.getQuery(),
+                sourceIndexInfo.getScrollSize(),
+                split.getSliceId(),
+                split.getMaxSlices(),
+                split.getSearchAfter());
+    }
+
+    private void outputFromDocs(
+            List<Map<String, Object>> docs, List<String> source, Collector<SeaTunnelRow> output) {
+        for (Map<String, Object> doc : docs) {
             SeaTunnelRow seaTunnelRow =
                     deserializer.deserialize(new ElasticsearchRecord(doc, source));
             output.collect(seaTunnelRow);
@@ -113,7 +216,12 @@ public class ElasticsearchSourceReader
 
     @Override
     public List<ElasticsearchSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<ElasticsearchSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(currentSplit);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
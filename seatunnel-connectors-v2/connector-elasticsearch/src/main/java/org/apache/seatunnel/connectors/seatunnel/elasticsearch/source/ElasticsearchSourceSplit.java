@@ -20,12 +20,11 @@ package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SourceIndexInfo;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 
 @ToString
-@AllArgsConstructor
 public class ElasticsearchSourceSplit implements SourceSplit {
 
     private static final long serialVersionUID = -1L;
@@ -34,6 +33,28 @@ public class ElasticsearchSourceSplit implements SourceSplit {
 
     @Getter private SourceIndexInfo sourceIndexInfo;
 
+    /** The slice of the index read by this split, the index is not sliced if max slices < 2. */
+    @Getter private int sliceId;
+
+    @Getter private int maxSlices;
+
+    /** The point in time and the sort values of the last read document, to resume the split. */
+    @Getter @Setter private String pitId;
+
+    @Getter @Setter private Object[] searchAfter;
+
+    public ElasticsearchSourceSplit(String splitId, SourceIndexInfo sourceIndexInfo) {
+        this(splitId, sourceIndexInfo, 0, 0);
+    }
+
+    public ElasticsearchSourceSplit(
+            String splitId, SourceIndexInfo sourceIndexInfo, int sliceId, int maxSlices) {
+        this.splitId = splitId;
+        this.sourceIndexInfo = sourceIndexInfo;
+        this.sliceId = sliceId;
+        this.maxSlices = maxSlices;
+    }
+
     @Override
     public String splitId() {
         return splitId;
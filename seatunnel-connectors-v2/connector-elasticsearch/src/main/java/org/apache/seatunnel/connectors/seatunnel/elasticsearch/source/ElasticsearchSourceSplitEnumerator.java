@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.ElasticsearchClusterInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.IndexDocsCount;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SourceIndexInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
@@ -57,6 +58,8 @@ public class ElasticsearchSourceSplitEnumerator
 
     private volatile boolean shouldEnumerate;
 
+    private boolean supportSlice;
+
     public ElasticsearchSourceSplitEnumerator(
             SourceSplitEnumerator.Context<ElasticsearchSourceSplit> context,
             ReadonlyConfig config,
@@ -83,6 +86,11 @@ public class ElasticsearchSourceSplitEnumerator
     @Override
     public void open() {
         esRestClient = EsRestClient.createInstance(config);
+        // the sliced search is supported since elasticsearch 5
+        ElasticsearchClusterInfo clusterInfo = esRestClient.getClusterInfo();
+        supportSlice =
+                clusterInfo.isOpensearch()
+                        || clusterInfo.getElasticsearchVersion().getVersion() >= 5;
     }
 
     @Override
@@ -107,14 +115,17 @@ public class ElasticsearchSourceSplitEnumerator
     private void addPendingSplit(Collection<ElasticsearchSourceSplit> splits) {
         int readerCount = context.currentParallelism();
         for (ElasticsearchSourceSplit split : splits) {
-            int ownerReader = getSplitOwner(split.splitId(), readerCount);
+            int ownerReader = getSplitOwner(split, readerCount);
             log.info("Assigning {} to {} reader.", split, ownerReader);
             pendingSplit.computeIfAbsent(ownerReader, r -> new ArrayList<>()).add(split);
         }
     }
 
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+    private static int getSplitOwner(ElasticsearchSourceSplit split, int numReaders) {
+        // the slices of an index are assigned to the successive readers
+        int indexOwner =
+                (split.getSourceIndexInfo().getIndex().hashCode() & Integer.MAX_VALUE) % numReaders;
+        return (indexOwner + split.getSliceId()) % numReaders;
     }
 
     private void assignSplit(Collection<Integer> readers) {
@@ -151,19 +162,41 @@ public class ElasticsearchSourceSplitEnumerator
                         .sorted(Comparator.comparingLong(IndexDocsCount::getDocsCount))
                         .collect(Collectors.toList());
         for (IndexDocsCount indexDocsCount : indexDocsCounts) {
-            splits.add(
-                    new ElasticsearchSourceSplit(
-                            String.valueOf(indexDocsCount.getIndex().hashCode()),
-                            new SourceIndexInfo(
-                                    indexDocsCount.getIndex(),
-                                    source,
-                                    query,
-                                    scrollTime,
-                                    scrollSize)));
+            SourceIndexInfo sourceIndexInfo =
+                    new SourceIndexInfo(
+                            indexDocsCount.getIndex(), source, query, scrollTime, scrollSize);
+            int maxSlices = getMaxSlices(indexDocsCount);
+            if (maxSlices < 2) {
+                splits.add(
+                        new ElasticsearchSourceSplit(
+                                String.valueOf(indexDocsCount.getIndex().hashCode()),
+                                sourceIndexInfo));
+                continue;
+            }
+            for (int sliceId = 0; sliceId < maxSlices; sliceId++) {
+                splits.add(
+                        new ElasticsearchSourceSplit(
+                                indexDocsCount.getIndex().hashCode() + "-" + sliceId,
+                                sourceIndexInfo,
+                                sliceId,
+                                maxSlices));
+            }
         }
         return splits;
     }
 
+    /**
+     * The number of the slices of an index is not more than its primary shards, since the slices
+     * more than the shards are costly for elasticsearch, and not more than the parallelism.
+     */
+    private int getMaxSlices(IndexDocsCount indexDocsCount) {
+        if (!supportSlice || indexDocsCount.getShardsPrimary() == null) {
+            return 1;
+        }
+        return Math.max(
+                1, Math.min(indexDocsCount.getShardsPrimary(), context.currentParallelism()));
+    }
+
     @Override
     public void close() throws IOException {
         esRestClient.close();
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ElasticsearchBulkProcessorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** The number of the requests of each document id received by the mock endpoint. */
+    private final Map<String, AtomicInteger> received = new ConcurrentHashMap<>();
+
+    private final AtomicInteger bulkRequests = new AtomicInteger();
+
+    /** The document ids in the order received by the mock endpoint. */
+    private final List<String> receivedIds = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private EsRestClient esRestClient;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/_bulk", this::handleBulk);
+        server.start();
+        Map<String, Object> config = new HashMap<>();
+        config.put(
+                "hosts",
+                Collections.singletonList("http://localhost:" + server.getAddress().getPort()));
+        esRestClient = EsRestClient.createInstance(ReadonlyConfig.fromMap(config));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        esRestClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testRetryRejectedItems() {
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 4, 1024 * 1024, 2, 3)) {
+            for (int i = 0; i < 10; i++) {
+                processor.add(deleteItem(String.valueOf(i)));
+            }
+            processor.flush();
+        }
+        Assertions.assertEquals(10, received.size());
+        for (int i = 0; i < 10; i++) {
+            // only the items rejected by the first request are sent again
+            int expected = i % 3 == 0 ? 2 : 1;
+            Assertions.assertEquals(expected, received.get(String.valueOf(i)).get(), "id " + i);
+        }
+        // 3 batches and the retries of the batches with the rejected items
+        Assertions.assertEquals(6, bulkRequests.get());
+    }
+
+    @Test
+    public void testRetryLaterItemsOfRejectedDocuments() {
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 10, 1024 * 1024, 1, 3)) {
+            processor.add(deleteItem("3"));
+            processor.add(deleteItem("1"));
+            processor.add(deleteItem("3"));
+            processor.flush();
+        }
+        // the second write of 3 succeeded after the first one was rejected, so both of them are
+        // sent again in order, and the item of another document is not
+        Assertions.assertEquals(Arrays.asList("3", "1", "3", "3", "3"), receivedIds);
+        Assertions.assertEquals(2, bulkRequests.get());
+    }
+
+    @Test
+    public void testSplitBatchByBytes() {
+        String item = deleteItem("1");
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 100, item.length() * 2L, 1, 1)) {
+            for (int i = 1; i <= 4; i++) {
+                processor.add(deleteItem(String.valueOf(i * 3 + 1)));
+            }
+            processor.flush();
+        }
+        Assertions.assertEquals(4, received.size());
+        Assertions.assertEquals(2, bulkRequests.get());
+    }
+
+    @Test
+    public void testFailOnNonRetryableItems() {
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 10, 1024 * 1024, 1, 3)) {
+            processor.add(deleteItem("1"));
+            processor.add(deleteItem("bad"));
+            ElasticsearchConnectorException exception =
+                    Assertions.assertThrows(
+                            ElasticsearchConnectorException.class, processor::flush);
+            Assertions.assertTrue(
+                    exception.getCause().getMessage().contains("mapper_parsing_exception"),
+                    exception.getCause().getMessage());
+            // the failure is reported by the following writes as well
+            Assertions.assertThrows(
+                    ElasticsearchConnectorException.class, () -> processor.add(deleteItem("2")));
+        }
+        // the failed request is not retried
+        Assertions.assertEquals(1, bulkRequests.get());
+    }
+
+    @Test
+    public void testDeleteMissingDocument() {
+        try (ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(esRestClient, 10, 1024 * 1024, 1, 3)) {
+            processor.add(deleteItem("1"));
+            processor.add(deleteItem("missing"));
+            // the 404 of the delete has no error, it does not fail the writer
+            processor.flush();
+        }
+        Assertions.assertEquals(1, received.get("missing").get());
+        Assertions.assertEquals(1, bulkRequests.get());
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream in = exchange.getRequestBody()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String deleteItem(String id) {
+        return "{\"delete\":{\"_index\":\"test\",\"_id\":\"" + id + "\"}}";
+    }
+
+    /**
+     * The first request of the numeric ids divisible by 3 is rejected by 429, the id "bad" fails by
+     * 400, the id "missing" is not found, and the other items succeed.
+     */
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        bulkRequests.incrementAndGet();
+        String body = readBody(exchange);
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode items = response.putArray("items");
+        boolean errors = false;
+        for (String line : body.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String id = objectMapper.readTree(line).get("delete").get("_id").asText();
+            int count = received.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+            receivedIds.add(id);
+            ObjectNode result = items.addObject().putObject("delete");
+            result.put("_id", id);
+            if ("missing".equals(id)) {
+                result.put("status", 404);
+                result.put("result", "not_found");
+            } else if ("bad".equals(id)) {
+                result.put("status", 400);
+                result.putObject("error").put("type", "mapper_parsing_exception");
+                errors = true;
+            } else if (count == 1 && Integer.parseInt(id) % 3 == 0) {
+                result.put("status", 429);
+                result.putObject("error").put("type", "es_rejected_execution_exception");
+                errors = true;
+            } else {
+                result.put("status", 200);
+            }
+        }
+        response.put("took", 1);
+        response.put("errors", errors);
+        byte[] bytes = objectMapper.writeValueAsBytes((JsonNode) response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.source.SourceIndexInfo;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class ElasticsearchSlicedSourceTest {
+
+    private static final int DOCS_COUNT = 8;
+    private static final String EXPIRED_PIT_ID = "expired";
+    private static final String BROKEN_PIT_ID = "broken";
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"_id", "name"},
+                    new SeaTunnelDataType[] {BasicType.STRING_TYPE, BasicType.STRING_TYPE});
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicInteger openedPointInTimes = new AtomicInteger();
+
+    private HttpServer server;
+    private ReadonlyConfig config;
+    private String version = "8.10.0";
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        Map<String, Object> map = new HashMap<>();
+        map.put(
+                "hosts",
+                Collections.singletonList("http://localhost:" + server.getAddress().getPort()));
+        map.put("index", "test");
+        config = ReadonlyConfig.fromMap(map);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testSliceIndexByShards() throws Exception {
+        TestEnumeratorContext context = new TestEnumeratorContext(2);
+        ElasticsearchSourceSplitEnumerator enumerator =
+                new ElasticsearchSourceSplitEnumerator(
+                        context, config, Arrays.asList("_id", "name"));
+        enumerator.open();
+        enumerator.run();
+        enumerator.close();
+        // the index has 3 primary shards, the slices are limited by the parallelism
+        Assertions.assertEquals(2, context.assignedSplits.size());
+        Set<Integer> sliceIds = new HashSet<>();
+        for (List<ElasticsearchSourceSplit> splits : context.assignedSplits.values()) {
+            Assertions.assertEquals(1, splits.size());
+            Assertions.assertEquals(2, splits.get(0).getMaxSlices());
+            sliceIds.add(splits.get(0).getSliceId());
+        }
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0, 1)), sliceIds);
+    }
+
+    @Test
+    public void testResumeSliceFromCheckpoint() throws Exception {
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        List<ElasticsearchSourceSplit> state;
+        ElasticsearchSourceReader reader = createReader();
+        reader.open();
+        reader.addSplits(Collections.singletonList(createSplit()));
+        reader.pollNext(new TestCollector(rows));
+        state = SerializationUtils.clone(new ArrayList<>(reader.snapshotState(1L)));
+        reader.close();
+        Assertions.assertEquals(Arrays.asList("1", "3"), ids(rows));
+
+        // the restored reader continues after the last emitted document of the slice
+        Assertions.assertEquals(1, state.size());
+        rows.clear();
+        readAll(state, rows);
+        Assertions.assertEquals(Arrays.asList("5", "7"), ids(rows));
+        Assertions.assertEquals(1, openedPointInTimes.get());
+    }
+
+    @Test
+    public void testFailIfPointInTimeExpiredAfterRead() throws Exception {
+        ElasticsearchSourceSplit split = createSplit();
+        split.setPitId(EXPIRED_PIT_ID);
+        split.setSearchAfter(new Object[] {3L});
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        ElasticsearchConnectorException exception =
+                Assertions.assertThrows(
+                        ElasticsearchConnectorException.class,
+                        () -> readAll(Collections.singletonList(split), rows));
+        // the documents before the sort values are not read again
+        Assertions.assertEquals(
+                ElasticsearchConnectorErrorCode.POINT_IN_TIME_NOT_FOUND,
+                exception.getSeaTunnelErrorCode());
+        Assertions.assertTrue(exception.getMessage().contains("scroll_time"));
+        Assertions.assertTrue(rows.isEmpty());
+        Assertions.assertEquals(0, openedPointInTimes.get());
+    }
+
+    @Test
+    public void testReopenPointInTimeExpiredBeforeRead() throws Exception {
+        ElasticsearchSourceSplit split = createSplit();
+        split.setPitId(EXPIRED_PIT_ID);
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        readAll(Collections.singletonList(split), rows);
+        Assertions.assertEquals(Arrays.asList("1", "3", "5", "7"), ids(rows));
+        Assertions.assertEquals(1, openedPointInTimes.get());
+    }
+
+    @Test
+    public void testFailIfPointInTimeRequestFails() throws Exception {
+        ElasticsearchSourceSplit split = createSplit();
+        split.setPitId(BROKEN_PIT_ID);
+        split.setSearchAfter(new Object[] {3L});
+        ElasticsearchConnectorException exception =
+                Assertions.assertThrows(
+                        ElasticsearchConnectorException.class,
+                        () -> readAll(Collections.singletonList(split), new ArrayList<>()));
+        // only the expired point in time is opened again
+        Assertions.assertEquals(
+                ElasticsearchConnectorErrorCode.POINT_IN_TIME_REQUEST_ERROR,
+                exception.getSeaTunnelErrorCode());
+        Assertions.assertEquals(0, openedPointInTimes.get());
+    }
+
+    @Test
+    public void testReadSliceByScrollInOnePoll() throws Exception {
+        version = "7.10.0";
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        ElasticsearchSourceReader reader = createReader();
+        reader.open();
+        reader.addSplits(Collections.singletonList(createSplit()));
+        reader.pollNext(new TestCollector(rows));
+        // the scroll can not be resumed, so the split is read as a whole and not checkpointed
+        Assertions.assertEquals(Arrays.asList("1", "3", "5", "7"), ids(rows));
+        Assertions.assertTrue(reader.snapshotState(1L).isEmpty());
+        reader.close();
+        Assertions.assertEquals(0, openedPointInTimes.get());
+    }
+
+    private void readAll(List<ElasticsearchSourceSplit> splits, List<SeaTunnelRow> rows)
+            throws Exception {
+        TestReaderContext context = new TestReaderContext();
+        ElasticsearchSourceReader reader = new ElasticsearchSourceReader(context, config, ROW_TYPE);
+        reader.open();
+        reader.addSplits(splits);
+        reader.handleNoMoreSplits();
+        TestCollector collector = new TestCollector(rows);
+        while (!context.noMoreElement) {
+            reader.pollNext(collector);
+        }
+        reader.close();
+    }
+
+    private ElasticsearchSourceReader createReader() {
+        return new ElasticsearchSourceReader(new TestReaderContext(), config, ROW_TYPE);
+    }
+
+    private static ElasticsearchSourceSplit createSplit() {
+        SourceIndexInfo sourceIndexInfo =
+                new SourceIndexInfo(
+                        "test",
+                        Arrays.asList("_id", "name"),
+                        Collections.singletonMap("match_all", new HashMap<>()),
+                        "1m",
+                        2);
+        return new ElasticsearchSourceSplit("test-1", sourceIndexInfo, 1, 2);
+    }
+
+    private static List<String> ids(List<SeaTunnelRow> rows) {
+        return rows.stream().map(row -> (String) row.getField(0)).collect(Collectors.toList());
+    }
+
+    /**
+     * A cluster of elasticsearch 8 by default with an index of 3 primary shards, the document i is
+     * at the position i, and it is in the slice i % max. The scroll id is the slice id, the number
+     * of slices, the page size and the position of the last returned document.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        JsonNode body = readBody(exchange);
+        if ("GET".equals(method) && "/".equals(path)) {
+            ObjectNode response = objectMapper.createObjectNode();
+            response.putObject("version").put("number", version);
+            sendResponse(exchange, 200, response);
+        } else if ("GET".equals(method) && path.startsWith("/_cat/indices/")) {
+            ArrayNode response = objectMapper.createArrayNode();
+            response.addObject()
+                    .put("index", "test")
+                    .put("docsCount", String.valueOf(DOCS_COUNT))
+                    .put("shardsPrimary", "3");
+            sendResponse(exchange, 200, response);
+        } else if ("POST".equals(method) && "/test/_pit".equals(path)) {
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("id", "pit-" + openedPointInTimes.incrementAndGet());
+            sendResponse(exchange, 200, response);
+        } else if ("DELETE".equals(method) && "/_pit".equals(path)) {
+            sendResponse(exchange, 200, objectMapper.createObjectNode());
+        } else if ("POST".equals(method) && "/_search".equals(path)) {
+            String pitId = body.get("pit").get("id").asText();
+            if (EXPIRED_PIT_ID.equals(pitId)) {
+                sendResponse(exchange, 404, objectMapper.createObjectNode());
+                return;
+            }
+            if (BROKEN_PIT_ID.equals(pitId)) {
+                sendResponse(exchange, 500, objectMapper.createObjectNode());
+                return;
+            }
+            sendResponse(exchange, 200, search(pitId, body));
+        } else if ("POST".equals(method) && "/test/_search".equals(path)) {
+            sendResponse(exchange, 200, scroll(body));
+        } else if ("POST".equals(method) && "/_search/scroll".equals(path)) {
+            String[] scrollId = body.get("scroll_id").asText().split(":");
+            ObjectNode scrollBody = objectMapper.createObjectNode();
+            scrollBody.putObject("slice").put("id", scrollId[0]).put("max", scrollId[1]);
+            scrollBody.put("size", Integer.parseInt(scrollId[2]));
+            scrollBody.putArray("search_after").add(Long.parseLong(scrollId[3]));
+            sendResponse(exchange, 200, scroll(scrollBody));
+        } else {
+            sendResponse(exchange, 400, objectMapper.createObjectNode());
+        }
+    }
+
+    private ObjectNode search(String pitId, JsonNode body) {
+        int size = body.get("size").asInt();
+        int sliceId = body.has("slice") ? body.get("slice").get("id").asInt() : 0;
+        int maxSlices = body.has("slice") ? body.get("slice").get("max").asInt() : 1;
+        long searchAfter = body.has("search_after") ? body.get("search_after").get(0).asLong() : -1;
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("pit_id", pitId);
+        response.putObject("_shards").put("total", 3).put("successful", 3);
+        ArrayNode hits = response.putObject("hits").putArray("hits");
+        for (int i = (int) searchAfter + 1; i < DOCS_COUNT && hits.size() < size; i++) {
+            if (i % maxSlices != sliceId) {
+                continue;
+            }
+            ObjectNode hit = hits.addObject();
+            hit.put("_index", "test");
+            hit.put("_id", String.valueOf(i));
+            hit.putObject("_source").put("name", "doc-" + i);
+            hit.putArray("sort").add(i);
+        }
+        return response;
+    }
+
+    private ObjectNode scroll(JsonNode body) {
+        ObjectNode response = search(null, body);
+        JsonNode hits = response.get("hits").get("hits");
+        long last =
+                hits.size() > 0
+                        ? hits.get(hits.size() - 1).get("sort").get(0).asLong()
+                        : DOCS_COUNT;
+        response.put(
+                "_scroll_id",
+                String.join(
+                        ":",
+                        body.get("slice").get("id").asText(),
+                        body.get("slice").get("max").asText(),
+                        body.get("size").asText(),
+                        String.valueOf(last)));
+        return response;
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream in = exchange.getRequestBody()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+        if (out.size() == 0) {
+            return objectMapper.createObjectNode();
+        }
+        return objectMapper.readTree(new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private void sendResponse(HttpExchange exchange, int status, JsonNode response)
+            throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows;
+
+        private TestCollector(List<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestReaderContext implements SourceReader.Context {
+        private boolean noMoreElement;
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+
+    private static class TestEnumeratorContext
+            implements SourceSplitEnumerator.Context<ElasticsearchSourceSplit> {
+        private final int parallelism;
+        private final Map<Integer, List<ElasticsearchSourceSplit>> assignedSplits = new HashMap<>();
+
+        private TestEnumeratorContext(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            Set<Integer> readers = new HashSet<>();
+            for (int i = 0; i < parallelism; i++) {
+                readers.add(i);
+            }
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<ElasticsearchSourceSplit> splits) {
+            assignedSplits.computeIfAbsent(subtaskId, k -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {}
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
@@ -41,6 +41,10 @@ public class BaseFileSinkConfig implements DelimiterConfig, Serializable {
     protected String fieldDelimiter = BaseSinkConfig.FIELD_DELIMITER.defaultValue();
     protected String rowDelimiter = BaseSinkConfig.ROW_DELIMITER.defaultValue();
     protected int batchSize = BaseSinkConfig.BATCH_SIZE.defaultValue();
+    protected long maxFileSize;
+    protected boolean enableFileCompaction = BaseSinkConfig.ENABLE_FILE_COMPACTION.defaultValue();
+    protected long compactionTargetFileSize =
+            BaseSinkConfig.COMPACTION_TARGET_FILE_SIZE.defaultValue();
     protected String path;
     protected String fileNameExpression = BaseSinkConfig.FILE_NAME_EXPRESSION.defaultValue();
     protected FileFormat fileFormat = FileFormat.TEXT;
@@ -57,6 +61,17 @@ public class BaseFileSinkConfig implements DelimiterConfig, Serializable {
         if (config.hasPath(BaseSinkConfig.BATCH_SIZE.key())) {
             this.batchSize = config.getInt(BaseSinkConfig.BATCH_SIZE.key());
         }
+        if (config.hasPath(BaseSinkConfig.MAX_FILE_SIZE.key())) {
+            this.maxFileSize = config.getLong(BaseSinkConfig.MAX_FILE_SIZE.key());
+        }
+        if (config.hasPath(BaseSinkConfig.ENABLE_FILE_COMPACTION.key())) {
+            this.enableFileCompaction =
+                    config.getBoolean(BaseSinkConfig.ENABLE_FILE_COMPACTION.key());
+        }
+        if (config.hasPath(BaseSinkConfig.COMPACTION_TARGET_FILE_SIZE.key())) {
+            this.compactionTargetFileSize =
+                    config.getLong(BaseSinkConfig.COMPACTION_TARGET_FILE_SIZE.key());
+        }
         if (config.hasPath(BaseSinkConfig.FIELD_DELIMITER.key())
                 && StringUtils.isNotEmpty(config.getString(BaseSinkConfig.FIELD_DELIMITER.key()))) {
             this.fieldDelimiter = config.getString(BaseSinkConfig.FIELD_DELIMITER.key());
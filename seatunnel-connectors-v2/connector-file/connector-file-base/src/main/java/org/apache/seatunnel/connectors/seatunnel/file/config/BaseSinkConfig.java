@@ -217,6 +217,27 @@ public class BaseSinkConfig extends KerberosConfig {
                     .defaultValue(DEFAULT_BATCH_SIZE)
                     .withDescription("The batch size of each split file");
 
+    public static final Option<Long> MAX_FILE_SIZE =
+            Options.key("max_file_size")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The max bytes of each split file, a new file will be created once the being written file exceeds it, only valid for text, csv, json, orc and parquet files.");
+
+    public static final Option<Boolean> ENABLE_FILE_COMPACTION =
+            Options.key("enable_file_compaction")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Merge the small files of a checkpoint in the same directory before they are committed, only valid for text, csv, json, orc and parquet files.");
+
+    public static final Option<Long> COMPACTION_TARGET_FILE_SIZE =
+            Options.key("compaction_target_file_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The target bytes of the merged files, the files larger than it are not merged.");
+
     public static final Option<String> HDFS_SITE_PATH =
             Options.key("hdfs_site_path")
                     .stringType()
@@ -282,6 +303,20 @@ public class BaseSinkConfig extends KerberosConfig {
                     .withDescription(
                             "Support writing Parquet INT96 from a 12-byte field, only valid for parquet files.");
 
+    public static final Option<List<String>> PARQUET_DISABLE_DICTIONARY_COLUMNS =
+            Options.key("parquet_disable_dictionary_columns")
+                    .listType(String.class)
+                    .defaultValue(Collections.emptyList())
+                    .withDescription(
+                            "The columns written without dictionary encoding, e.g. the high cardinality columns, only valid for parquet files.");
+
+    public static final Option<List<String>> PARQUET_BLOOM_FILTER_COLUMNS =
+            Options.key("parquet_bloom_filter_columns")
+                    .listType(String.class)
+                    .defaultValue(Collections.emptyList())
+                    .withDescription(
+                            "The columns written with bloom filter, only valid for parquet files.");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
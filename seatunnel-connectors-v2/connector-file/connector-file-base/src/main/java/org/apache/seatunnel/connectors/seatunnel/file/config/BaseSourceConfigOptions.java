@@ -119,6 +119,54 @@ public class BaseSourceConfigOptions {
                     .defaultValue(0L)
                     .withDescription("The number of rows to skip");
 
+    public static final Option<Boolean> ENABLE_FILE_SPLIT =
+            Options.key("enable_file_split")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to split the uncompressed text, csv and json files into byte ranges, "
+                                    + "and the parquet and orc files by row groups and stripes, "
+                                    + "which can be read by different readers");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription("The byte size of each split when enable_file_split is true");
+
+    public static final Option<Long> FILE_DISCOVERY_INTERVAL =
+            Options.key("file_discovery_interval")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The interval in milliseconds to discover the new files of the path. "
+                                    + "The source reads the path continuously if it is positive, "
+                                    + "otherwise the files are read once");
+
+    public static final Option<Integer> FILE_DISCOVERY_PARALLELISM =
+            Options.key("file_discovery_parallelism")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The number of the directories listed in parallel when discovering the new files");
+
+    public static final Option<Long> FILE_DISCOVERY_LATENESS =
+            Options.key("file_discovery_lateness")
+                    .longType()
+                    .defaultValue(60 * 1000L)
+                    .withDescription(
+                            "The new files are discovered by their modification time, a new file which is older "
+                                    + "than the newest read file by more than this milliseconds is skipped");
+
+    public static final Option<List<Map<String, String>>> READ_FILTERS =
+            Options.key("read_filters")
+                    .type(new TypeReference<List<Map<String, String>>>() {})
+                    .noDefaultValue()
+                    .withDescription(
+                            "The column predicates, e.g. {column = \"id\", operator = \">=\", value = \"100\"}. "
+                                    + "The parquet row groups and orc stripes whose statistics can not match "
+                                    + "all of them are skipped");
+
     public static final Option<List<String>> READ_PARTITIONS =
             Options.key("read_partitions")
                     .listType()
@@ -37,7 +37,10 @@ public enum CompressFormat implements Serializable {
     // only parquet support
     GZIP(".gz", CompressionKind.NONE, CompressionCodecName.GZIP),
     BROTLI(".br", CompressionKind.NONE, CompressionCodecName.BROTLI),
-    ZSTD(".zstd", CompressionKind.NONE, CompressionCodecName.ZSTD);
+    ZSTD(".zstd", CompressionKind.NONE, CompressionCodecName.ZSTD),
+
+    // only text json csv read support
+    BZIP2(".bz2", CompressionKind.NONE, CompressionCodecName.UNCOMPRESSED);
 
     private final String compressCodec;
     private final CompressionKind orcCompression;
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.config;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/** The config of discovering the new files of the path continuously. */
+@Getter
+@AllArgsConstructor
+public class FileDiscoveryConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final FileDiscoveryConfig DISABLED =
+            new FileDiscoveryConfig(
+                    null,
+                    BaseSourceConfigOptions.FILE_DISCOVERY_INTERVAL.defaultValue(),
+                    BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.defaultValue(),
+                    BaseSourceConfigOptions.FILE_DISCOVERY_LATENESS.defaultValue());
+
+    /** The root path whose files are discovered. */
+    private final String path;
+
+    /** The interval in milliseconds of the discovery, the files are read once if not positive. */
+    private final long discoveryInterval;
+
+    private final int discoveryParallelism;
+
+    private final long discoveryLateness;
+
+    /** Whether the source discovers the new files continuously. */
+    public boolean isContinuous() {
+        return discoveryInterval > 0;
+    }
+
+    public static FileDiscoveryConfig of(Config pluginConfig) {
+        long discoveryInterval = BaseSourceConfigOptions.FILE_DISCOVERY_INTERVAL.defaultValue();
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_DISCOVERY_INTERVAL.key())) {
+            discoveryInterval =
+                    pluginConfig.getLong(BaseSourceConfigOptions.FILE_DISCOVERY_INTERVAL.key());
+        }
+        if (discoveryInterval <= 0) {
+            return DISABLED;
+        }
+        if (!pluginConfig.hasPath(BaseSourceConfigOptions.FILE_PATH.key())) {
+            throw new FileConnectorException(
+                    SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                    String.format(
+                            "The option [%s] is required when [%s] is positive",
+                            BaseSourceConfigOptions.FILE_PATH.key(),
+                            BaseSourceConfigOptions.FILE_DISCOVERY_INTERVAL.key()));
+        }
+        int discoveryParallelism =
+                BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.defaultValue();
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.key())) {
+            discoveryParallelism =
+                    pluginConfig.getInt(BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.key());
+        }
+        if (discoveryParallelism <= 0) {
+            throw new FileConnectorException(
+                    SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                    String.format(
+                            "The option [%s] must be positive",
+                            BaseSourceConfigOptions.FILE_DISCOVERY_PARALLELISM.key()));
+        }
+        long discoveryLateness = BaseSourceConfigOptions.FILE_DISCOVERY_LATENESS.defaultValue();
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_DISCOVERY_LATENESS.key())) {
+            discoveryLateness =
+                    pluginConfig.getLong(BaseSourceConfigOptions.FILE_DISCOVERY_LATENESS.key());
+        }
+        return new FileDiscoveryConfig(
+                pluginConfig.getString(BaseSourceConfigOptions.FILE_PATH.key()),
+                discoveryInterval,
+                discoveryParallelism,
+                Math.max(discoveryLateness, 0L));
+    }
+}
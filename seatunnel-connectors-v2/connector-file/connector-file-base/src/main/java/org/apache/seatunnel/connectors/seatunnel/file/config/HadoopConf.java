@@ -17,9 +17,12 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.config;
 
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
+
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.CommonConfigurationKeys;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
 import lombok.Data;
@@ -58,6 +61,16 @@ public class HadoopConf implements Serializable {
         return SCHEMA;
     }
 
+    /**
+     * Create the uploader to write the files of the sink by multipart upload.
+     *
+     * @param fileSystem the file system of this conf
+     * @return null if the files are written to the transaction directory and renamed by the commit
+     */
+    public MultipartUploader createMultipartUploader(FileSystem fileSystem) {
+        return null;
+    }
+
     public void setExtraOptionsForConfiguration(Configuration configuration) {
         if (!extraOptions.isEmpty()) {
             removeUnwantedOverwritingProps(extraOptions);
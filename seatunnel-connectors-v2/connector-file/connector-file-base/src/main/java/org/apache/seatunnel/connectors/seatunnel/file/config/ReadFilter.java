@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.config;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A column predicate of `read_filters`. The predicates are only used to skip the parquet row groups
+ * and orc stripes whose statistics can not match all of them, the rows are not filtered one by one.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReadFilter implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final String COLUMN = "column";
+    private static final String OPERATOR = "operator";
+    private static final String VALUE = "value";
+
+    private final String column;
+    private final Operator operator;
+    private final String value;
+
+    public static List<ReadFilter> parse(List<? extends Config> configs) {
+        List<ReadFilter> filters = new ArrayList<>();
+        for (Config config : configs) {
+            if (!config.hasPath(COLUMN) || !config.hasPath(OPERATOR) || !config.hasPath(VALUE)) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "The read filter [%s] must contain the [%s], [%s] and [%s] fields",
+                                config.root().render(), COLUMN, OPERATOR, VALUE));
+            }
+            filters.add(
+                    new ReadFilter(
+                            config.getString(COLUMN),
+                            Operator.of(config.getString(OPERATOR)),
+                            config.getString(VALUE)));
+        }
+        return filters;
+    }
+
+    public enum Operator {
+        EQ("="),
+        NOT_EQ("!="),
+        LT("<"),
+        LT_EQ("<="),
+        GT(">"),
+        GT_EQ(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public static Operator of(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol.trim())) {
+                    return operator;
+                }
+            }
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format(
+                            "The read filter operator [%s] is not supported, "
+                                    + "only =, !=, <, <=, > and >= are supported",
+                            symbol));
+        }
+    }
+}
@@ -51,6 +51,10 @@ public class HadoopFileSystemProxy implements Serializable, Closeable {
 
     private transient FileSystem fileSystem;
 
+    private transient MultipartUploader multipartUploader;
+
+    private transient boolean multipartUploaderCreated;
+
     private final HadoopConf hadoopConf;
 
     public HadoopFileSystemProxy(@NonNull HadoopConf hadoopConf) {
@@ -173,6 +177,20 @@ public class HadoopFileSystemProxy implements Serializable, Closeable {
         return fileSystem;
     }
 
+    /**
+     * Get the uploader to write the files by multipart upload.
+     *
+     * @return null if the file system does not support it
+     * @see HadoopConf#createMultipartUploader(FileSystem)
+     */
+    public MultipartUploader getMultipartUploader() {
+        if (!multipartUploaderCreated) {
+            multipartUploader = hadoopConf.createMultipartUploader(getFileSystem());
+            multipartUploaderCreated = true;
+        }
+        return multipartUploader;
+    }
+
     @SneakyThrows
     public <T> T doWithHadoopAuth(HadoopLoginFactory.LoginFunction<T> loginFunction) {
         if (configuration == null) {
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.hadoop;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Upload the files of an object store by multipart upload. The file sink writes the parts to the
+ * target path directly while the file is being written, and the file becomes visible only when the
+ * upload is completed by the commit, so the files are not renamed from the transaction directory.
+ *
+ * <p>The implementations must be thread safe, the parts of a file are uploaded in parallel.
+ */
+public interface MultipartUploader {
+
+    /** The size of the parts, only the last part of a file can be smaller. */
+    long getPartSize();
+
+    /** The max number of the parts which are being uploaded in parallel by a writer. */
+    int getUploadThreads();
+
+    /**
+     * Start the multipart upload of the file.
+     *
+     * @return the upload id
+     */
+    String initiate(String filePath) throws IOException;
+
+    /**
+     * Upload a part of the file.
+     *
+     * @param partNumber the number of the part, starts with 1
+     * @return the etag of the part
+     */
+    String uploadPart(String filePath, String uploadId, int partNumber, byte[] data, int length)
+            throws IOException;
+
+    /** Complete the upload with the etags of all the parts in order, the file becomes visible. */
+    void complete(String filePath, String uploadId, List<String> partETags, long length)
+            throws IOException;
+
+    /** Abort the upload and discard the uploaded parts. */
+    void abort(String filePath, String uploadId) throws IOException;
+
+    /**
+     * List the uploads of the files under the directory which are neither completed nor aborted.
+     *
+     * @return the file paths of the uploads by the upload ids
+     */
+    Map<String, String> listUploads(String dirPath) throws IOException;
+}
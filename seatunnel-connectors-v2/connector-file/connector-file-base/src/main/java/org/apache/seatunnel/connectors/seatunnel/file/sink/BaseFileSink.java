@@ -71,7 +71,7 @@ public abstract class BaseFileSink
     @Override
     public Optional<SinkAggregatedCommitter<FileCommitInfo, FileAggregatedCommitInfo>>
             createAggregatedCommitter() {
-        return Optional.of(new FileSinkAggregatedCommitter(hadoopConf));
+        return Optional.of(new FileSinkAggregatedCommitter(hadoopConf, fileSinkConfig));
     }
 
     @Override
@@ -38,8 +38,10 @@ import org.apache.hadoop.fs.Path;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -71,13 +73,25 @@ public class BaseFileSinkWriter
                 List<String> transactions =
                         findTransactionList(jobId, uuidPrefix, hadoopFileSystemProxy);
                 FileSinkAggregatedCommitter fileSinkAggregatedCommitter =
-                        new FileSinkAggregatedCommitter(hadoopConf);
+                        new FileSinkAggregatedCommitter(
+                                hadoopConf, writeStrategy.getFileSinkConfig());
                 fileSinkAggregatedCommitter.init();
                 LinkedHashMap<String, FileSinkState> fileStatesMap = new LinkedHashMap<>();
                 fileSinkStates.forEach(
                         fileSinkState ->
                                 fileStatesMap.put(fileSinkState.getTransactionId(), fileSinkState));
-                for (String transaction : transactions) {
+                // the transaction directory does not exist if all the files are uploaded by
+                // multipart upload, so the transactions of the states are committed too
+                Set<String> commitTransactions = new LinkedHashSet<>(transactions);
+                fileSinkStates.stream()
+                        .filter(
+                                fileSinkState ->
+                                        fileSinkState.getMultipartUploads() != null
+                                                && !fileSinkState.getMultipartUploads().isEmpty())
+                        .forEach(
+                                fileSinkState ->
+                                        commitTransactions.add(fileSinkState.getTransactionId()));
+                for (String transaction : commitTransactions) {
                     if (fileStatesMap.containsKey(transaction)) {
                         // need commit
                         FileSinkState fileSinkState = fileStatesMap.get(transaction);
@@ -87,7 +101,8 @@ public class BaseFileSinkWriter
                                                 new FileCommitInfo(
                                                         fileSinkState.getNeedMoveFiles(),
                                                         fileSinkState.getPartitionDirAndValuesMap(),
-                                                        fileSinkState.getTransactionDir())));
+                                                        fileSinkState.getTransactionDir(),
+                                                        fileSinkState.getMultipartUploads())));
                         fileSinkAggregatedCommitter.commit(
                                 Collections.singletonList(fileCommitInfo));
                     } else {
@@ -95,6 +110,9 @@ public class BaseFileSinkWriter
                         writeStrategy.abortPrepare(transaction);
                     }
                 }
+                // the uploads of the files written after the last checkpoint are in no state
+                fileSinkAggregatedCommitter.abortIncompleteUploads(
+                        AbstractWriteStrategy.getTransactionIdPrefix(jobId, uuidPrefix));
             } catch (IOException e) {
                 String errorMsg =
                         String.format("Try to process these fileStates %s failed", fileSinkStates);
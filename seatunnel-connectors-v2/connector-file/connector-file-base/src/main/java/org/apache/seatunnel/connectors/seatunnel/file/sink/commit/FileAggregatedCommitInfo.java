@@ -44,4 +44,31 @@ public class FileAggregatedCommitInfo implements Serializable {
      * <p>V is the list of partition column's values.
      */
     private final LinkedHashMap<String, List<String>> partitionDirAndValuesMap;
+
+    /**
+     * Storage the multipart uploads in map.
+     *
+     * <p>K is the file path in the transaction directory, the same as the key of transactionMap's
+     * value.
+     *
+     * <p>V is the upload of the target file, which is completed instead of renaming the file.
+     */
+    private final LinkedHashMap<String, MultipartUploadInfo> multipartUploads;
+
+    /**
+     * Storage the files merged by the compaction in map, they are recorded before they are moved,
+     * so they can be deleted when the commit is aborted.
+     *
+     * <p>K is the merged file in the transaction directory.
+     *
+     * <p>V is the target file path of the merged file.
+     */
+    private final LinkedHashMap<String, String> compactedFiles;
+
+    public FileAggregatedCommitInfo(
+            LinkedHashMap<String, LinkedHashMap<String, String>> transactionMap,
+            LinkedHashMap<String, List<String>> partitionDirAndValuesMap,
+            LinkedHashMap<String, MultipartUploadInfo> multipartUploads) {
+        this(transactionMap, partitionDirAndValuesMap, multipartUploads, new LinkedHashMap<>());
+    }
 }
@@ -47,4 +47,13 @@ public class FileCommitInfo implements Serializable {
 
     /** Storage the transaction directory */
     private final String transactionDir;
+
+    /**
+     * Storage the multipart uploads in map.
+     *
+     * <p>K is the file path in the transaction directory, the same as the key of needMoveFiles.
+     *
+     * <p>V is the upload of the target file, which is completed instead of renaming the file.
+     */
+    private final LinkedHashMap<String, MultipartUploadInfo> multipartUploads;
 }
@@ -20,22 +20,53 @@ package org.apache.seatunnel.connectors.seatunnel.file.sink.commit;
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.AbstractWriteStrategy;
 
+import org.apache.hadoop.fs.Path;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Slf4j
 public class FileSinkAggregatedCommitter
         implements SinkAggregatedCommitter<FileCommitInfo, FileAggregatedCommitInfo> {
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
+    /** Merge the small files before moving them, null if the compaction is disabled. */
+    private final FileSinkCompactor compactor;
+    /** The target path to find the incomplete multipart uploads, null if it is unknown. */
+    private final String targetPath;
+
+    private transient ExecutorService completeExecutor;
 
     public FileSinkAggregatedCommitter(HadoopConf hadoopConf) {
+        this(hadoopConf, null);
+    }
+
+    public FileSinkAggregatedCommitter(HadoopConf hadoopConf, FileSinkConfig fileSinkConfig) {
         this.hadoopFileSystemProxy = new HadoopFileSystemProxy(hadoopConf);
+        if (fileSinkConfig != null
+                && fileSinkConfig.isEnableFileCompaction()
+                && FileSinkCompactor.isSupported(fileSinkConfig)) {
+            this.compactor = new FileSinkCompactor(fileSinkConfig, hadoopFileSystemProxy);
+        } else {
+            this.compactor = null;
+        }
+        this.targetPath = fileSinkConfig == null ? null : fileSinkConfig.getPath();
     }
 
     @Override
@@ -45,17 +76,7 @@ public class FileSinkAggregatedCommitter
         aggregatedCommitInfos.forEach(
                 aggregatedCommitInfo -> {
                     try {
-                        for (Map.Entry<String, LinkedHashMap<String, String>> entry :
-                                aggregatedCommitInfo.getTransactionMap().entrySet()) {
-                            for (Map.Entry<String, String> mvFileEntry :
-                                    entry.getValue().entrySet()) {
-                                // first rename temp file
-                                hadoopFileSystemProxy.renameFile(
-                                        mvFileEntry.getKey(), mvFileEntry.getValue(), true);
-                            }
-                            // second delete transaction directory
-                            hadoopFileSystemProxy.deleteFile(entry.getKey());
-                        }
+                        commit(aggregatedCommitInfo);
                     } catch (Throwable e) {
                         log.error(
                                 "commit aggregatedCommitInfo error, aggregatedCommitInfo = {} ",
@@ -67,6 +88,49 @@ public class FileSinkAggregatedCommitter
         return errorAggregatedCommitInfoList;
     }
 
+    /**
+     * Move the files of all the transactions of a checkpoint, the small files of all the subtasks
+     * are compacted together by the target directories before they are moved.
+     */
+    private void commit(FileAggregatedCommitInfo aggregatedCommitInfo) throws Exception {
+        Map<String, MultipartUploadInfo> multipartUploads =
+                getMultipartUploads(aggregatedCommitInfo);
+        LinkedHashMap<String, String> needMoveFiles = new LinkedHashMap<>();
+        aggregatedCommitInfo.getTransactionMap().values().forEach(needMoveFiles::putAll);
+        if (compactor != null) {
+            LinkedHashMap<String, String> compactedMoveFiles =
+                    compactor.compact(needMoveFiles, multipartUploads);
+            // the merged files are not in the transaction map, record them for the abort
+            for (Map.Entry<String, String> entry : compactedMoveFiles.entrySet()) {
+                if (!needMoveFiles.containsKey(entry.getKey())) {
+                    aggregatedCommitInfo.getCompactedFiles().put(entry.getKey(), entry.getValue());
+                }
+            }
+            needMoveFiles = compactedMoveFiles;
+        }
+        List<MultipartUploadInfo> uploads = new ArrayList<>();
+        for (Map.Entry<String, String> mvFileEntry : needMoveFiles.entrySet()) {
+            MultipartUploadInfo upload = multipartUploads.get(mvFileEntry.getKey());
+            if (upload != null) {
+                uploads.add(upload);
+                continue;
+            }
+            // first rename temp file
+            hadoopFileSystemProxy.renameFile(mvFileEntry.getKey(), mvFileEntry.getValue(), true);
+        }
+        // the uploaded files are committed by completing the uploads
+        completeUploads(uploads);
+        // second delete transaction directories, the last transactions are deleted first, so the
+        // small files left by a failed deletion are the prefix of a merged group, and the retried
+        // commit groups them as before and skips the merged group
+        List<String> transactionDirs =
+                new ArrayList<>(aggregatedCommitInfo.getTransactionMap().keySet());
+        Collections.reverse(transactionDirs);
+        for (String transactionDir : transactionDirs) {
+            hadoopFileSystemProxy.deleteFile(transactionDir);
+        }
+    }
+
     /**
      * The logic about how to combine commit message.
      *
@@ -81,6 +145,7 @@ public class FileSinkAggregatedCommitter
         LinkedHashMap<String, LinkedHashMap<String, String>> aggregateCommitInfo =
                 new LinkedHashMap<>();
         LinkedHashMap<String, List<String>> partitionDirAndValuesMap = new LinkedHashMap<>();
+        LinkedHashMap<String, MultipartUploadInfo> multipartUploads = new LinkedHashMap<>();
         commitInfos.forEach(
                 commitInfo -> {
                     LinkedHashMap<String, String> needMoveFileMap =
@@ -91,8 +156,12 @@ public class FileSinkAggregatedCommitter
                             && !commitInfo.getPartitionDirAndValuesMap().isEmpty()) {
                         partitionDirAndValuesMap.putAll(commitInfo.getPartitionDirAndValuesMap());
                     }
+                    if (commitInfo.getMultipartUploads() != null) {
+                        multipartUploads.putAll(commitInfo.getMultipartUploads());
+                    }
                 });
-        return new FileAggregatedCommitInfo(aggregateCommitInfo, partitionDirAndValuesMap);
+        return new FileAggregatedCommitInfo(
+                aggregateCommitInfo, partitionDirAndValuesMap, multipartUploads);
     }
 
     /**
@@ -108,14 +177,33 @@ public class FileSinkAggregatedCommitter
         if (aggregatedCommitInfos == null || aggregatedCommitInfos.size() == 0) {
             return;
         }
+        Set<String> jobIds = new LinkedHashSet<>();
         aggregatedCommitInfos.forEach(
                 aggregatedCommitInfo -> {
                     try {
+                        Map<String, MultipartUploadInfo> multipartUploads =
+                                getMultipartUploads(aggregatedCommitInfo);
+                        // the merged small files are left in the transaction directories, so
+                        // only the merged files are deleted
+                        if (aggregatedCommitInfo.getCompactedFiles() != null) {
+                            for (String targetFile :
+                                    aggregatedCommitInfo.getCompactedFiles().values()) {
+                                if (hadoopFileSystemProxy.fileExist(targetFile)) {
+                                    hadoopFileSystemProxy.deleteFile(targetFile);
+                                }
+                            }
+                        }
                         for (Map.Entry<String, LinkedHashMap<String, String>> entry :
                                 aggregatedCommitInfo.getTransactionMap().entrySet()) {
                             // rollback the file
                             for (Map.Entry<String, String> mvFileEntry :
                                     entry.getValue().entrySet()) {
+                                MultipartUploadInfo upload =
+                                        multipartUploads.get(mvFileEntry.getKey());
+                                if (upload != null) {
+                                    abortUpload(upload);
+                                    continue;
+                                }
                                 if (hadoopFileSystemProxy.fileExist(mvFileEntry.getValue())
                                         && !hadoopFileSystemProxy.fileExist(mvFileEntry.getKey())) {
                                     hadoopFileSystemProxy.renameFile(
@@ -124,11 +212,112 @@ public class FileSinkAggregatedCommitter
                             }
                             // delete the transaction dir
                             hadoopFileSystemProxy.deleteFile(entry.getKey());
+                            // the transaction dir is tmp_path/seatunnel/job_id/uuid/transaction_id
+                            jobIds.add(new Path(entry.getKey()).getParent().getParent().getName());
                         }
                     } catch (Exception e) {
                         log.error("abort aggregatedCommitInfo error ", e);
                     }
                 });
+        // the uploads of the files written after the last checkpoint are in no commit info
+        for (String jobId : jobIds) {
+            try {
+                abortIncompleteUploads(AbstractWriteStrategy.getTransactionIdPrefix(jobId, null));
+            } catch (IOException e) {
+                log.error("abort incomplete multipart uploads of job [{}] error ", jobId, e);
+            }
+        }
+    }
+
+    /**
+     * Abort the multipart uploads under the target path which are neither completed nor aborted,
+     * and whose file names contain the transaction id prefix. A writer which fails before its
+     * files are recorded by a checkpoint leaves the uploads of them, they are found by the file
+     * names, so the files whose names do not contain the transaction id are not found.
+     *
+     * @param transactionIdPrefix the prefix of the transaction ids of a writer or a job
+     */
+    public void abortIncompleteUploads(String transactionIdPrefix) throws IOException {
+        MultipartUploader uploader = hadoopFileSystemProxy.getMultipartUploader();
+        if (uploader == null || targetPath == null) {
+            return;
+        }
+        for (Map.Entry<String, String> upload : uploader.listUploads(targetPath).entrySet()) {
+            if (new Path(upload.getValue()).getName().contains(transactionIdPrefix)) {
+                log.info("abort incomplete multipart upload of file :[{}]", upload.getValue());
+                uploader.abort(upload.getValue(), upload.getKey());
+            }
+        }
+    }
+
+    private static Map<String, MultipartUploadInfo> getMultipartUploads(
+            FileAggregatedCommitInfo aggregatedCommitInfo) {
+        return aggregatedCommitInfo.getMultipartUploads() == null
+                ? Collections.emptyMap()
+                : aggregatedCommitInfo.getMultipartUploads();
+    }
+
+    /** Complete the uploads in parallel, the uploads completed by the last commit are skipped. */
+    private void completeUploads(List<MultipartUploadInfo> uploads) throws Exception {
+        if (uploads.isEmpty()) {
+            return;
+        }
+        MultipartUploader uploader = hadoopFileSystemProxy.getMultipartUploader();
+        if (completeExecutor == null) {
+            completeExecutor =
+                    Executors.newFixedThreadPool(
+                            uploader.getUploadThreads(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("file-sink-commit-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
+        List<Future<?>> futures = new ArrayList<>(uploads.size());
+        for (MultipartUploadInfo upload : uploads) {
+            futures.add(completeExecutor.submit(() -> completeUpload(uploader, upload)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw (Exception) e.getCause();
+            }
+        }
+    }
+
+    private Void completeUpload(MultipartUploader uploader, MultipartUploadInfo upload)
+            throws IOException {
+        try {
+            uploader.complete(
+                    upload.getFilePath(),
+                    upload.getUploadId(),
+                    upload.getPartETags(),
+                    upload.getLength());
+            log.info("complete multipart upload of file :[{}] finish", upload.getFilePath());
+        } catch (IOException e) {
+            if (!hadoopFileSystemProxy.fileExist(upload.getFilePath())) {
+                throw e;
+            }
+            log.warn(
+                    "complete multipart upload of file :[{}] already finished in the last commit, skip",
+                    upload.getFilePath());
+        }
+        return null;
+    }
+
+    private void abortUpload(MultipartUploadInfo upload) throws IOException {
+        if (hadoopFileSystemProxy.fileExist(upload.getFilePath())) {
+            // the upload has been completed
+            hadoopFileSystemProxy.deleteFile(upload.getFilePath());
+            return;
+        }
+        try {
+            hadoopFileSystemProxy
+                    .getMultipartUploader()
+                    .abort(upload.getFilePath(), upload.getUploadId());
+        } catch (IOException e) {
+            log.warn("abort multipart upload of file :[{}] failed", upload.getFilePath(), e);
+        }
     }
 
     /**
@@ -138,6 +327,9 @@ public class FileSinkAggregatedCommitter
      */
     @Override
     public void close() throws IOException {
+        if (completeExecutor != null) {
+            completeExecutor.shutdownNow();
+        }
         hadoopFileSystemProxy.close();
     }
 }
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.sink.commit;
+
+import org.apache.seatunnel.common.utils.EncodingUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IOUtils;
+import org.apache.orc.OrcFile;
+import org.apache.orc.OrcProto;
+import org.apache.orc.Reader;
+import org.apache.orc.StripeInformation;
+import org.apache.orc.Writer;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Merge the small files of a checkpoint, which are written by all the subtasks, into the files of
+ * the target size before they are moved to the target directory. The files of the same target
+ * directory are merged in the order they are written, parquet and orc files are merged by copying
+ * the row groups and stripes, text, csv and json files are concatenated.
+ *
+ * <p>The merged files are written to the transaction directory of their first files and the merged
+ * small files are left there, so the merge can be done again when the commit is retried, and the
+ * small files are deleted with the transaction directories.
+ */
+@Slf4j
+public class FileSinkCompactor implements Serializable {
+    private static final String COMPACTED_FILE_SUFFIX = ".compacted";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final FileSinkConfig fileSinkConfig;
+    private final HadoopFileSystemProxy hadoopFileSystemProxy;
+    private final long targetFileSize;
+
+    public FileSinkCompactor(
+            FileSinkConfig fileSinkConfig, HadoopFileSystemProxy hadoopFileSystemProxy) {
+        this.fileSinkConfig = fileSinkConfig;
+        this.hadoopFileSystemProxy = hadoopFileSystemProxy;
+        this.targetFileSize = fileSinkConfig.getCompactionTargetFileSize();
+    }
+
+    /** Whether the files of the format can be merged. */
+    public static boolean isSupported(FileSinkConfig fileSinkConfig) {
+        switch (fileSinkConfig.getFileFormat()) {
+            case PARQUET:
+            case ORC:
+                return true;
+            case TEXT:
+            case CSV:
+                // the headers can not be concatenated
+                return fileSinkConfig.getCompressFormat() == CompressFormat.NONE
+                        && !fileSinkConfig.getEnableHeaderWriter();
+            case JSON:
+                return fileSinkConfig.getCompressFormat() == CompressFormat.NONE;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Merge the small files of a checkpoint.
+     *
+     * @param needMoveFiles the files in the transaction directories and their target locations
+     * @param multipartUploads the uploaded files, which are not merged
+     * @return the files to be moved after merging
+     */
+    public LinkedHashMap<String, String> compact(
+            LinkedHashMap<String, String> needMoveFiles,
+            Map<String, MultipartUploadInfo> multipartUploads)
+            throws IOException {
+        Map<String, List<String>> smallFiles = new LinkedHashMap<>();
+        Map<String, Long> fileSizes = new HashMap<>();
+        for (Map.Entry<String, String> entry : needMoveFiles.entrySet()) {
+            String filePath = entry.getKey();
+            // the files have been moved by the last commit if they do not exist
+            if (multipartUploads.containsKey(filePath)
+                    || !hadoopFileSystemProxy.fileExist(filePath)) {
+                continue;
+            }
+            long fileSize = hadoopFileSystemProxy.getFileStatus(filePath).getLen();
+            if (fileSize < targetFileSize) {
+                fileSizes.put(filePath, fileSize);
+                smallFiles
+                        .computeIfAbsent(
+                                new Path(entry.getValue()).getParent().toString(),
+                                k -> new ArrayList<>())
+                        .add(filePath);
+            }
+        }
+        // the merged files are keyed by their first file
+        Map<String, List<String>> mergedFiles = new HashMap<>();
+        for (List<String> files : smallFiles.values()) {
+            List<String> group = new ArrayList<>();
+            long groupSize = 0;
+            for (String filePath : files) {
+                long fileSize = fileSizes.get(filePath);
+                if (!group.isEmpty() && groupSize + fileSize > targetFileSize) {
+                    addMergedFiles(mergedFiles, group);
+                    group = new ArrayList<>();
+                    groupSize = 0;
+                }
+                group.add(filePath);
+                groupSize += fileSize;
+            }
+            addMergedFiles(mergedFiles, group);
+        }
+        if (mergedFiles.isEmpty()) {
+            return needMoveFiles;
+        }
+        Set<String> skippedFiles =
+                mergedFiles.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+        LinkedHashMap<String, String> compactedMoveFiles = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : needMoveFiles.entrySet()) {
+            List<String> files = mergedFiles.get(entry.getKey());
+            if (files != null) {
+                String compactedFile = entry.getKey() + COMPACTED_FILE_SUFFIX;
+                if (mergeFiles(files, compactedFile, entry.getValue())) {
+                    compactedMoveFiles.put(compactedFile, entry.getValue());
+                } else {
+                    files.forEach(file -> compactedMoveFiles.put(file, needMoveFiles.get(file)));
+                }
+            } else if (!skippedFiles.contains(entry.getKey())) {
+                compactedMoveFiles.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return compactedMoveFiles;
+    }
+
+    private static void addMergedFiles(Map<String, List<String>> mergedFiles, List<String> group) {
+        if (group.size() > 1) {
+            mergedFiles.put(group.get(0), group);
+        }
+    }
+
+    /**
+     * Merge the files to the compacted file.
+     *
+     * @return false if the files can not be merged, they are moved without merging
+     */
+    private boolean mergeFiles(List<String> files, String compactedFile, String targetFile)
+            throws IOException {
+        if (!hadoopFileSystemProxy.fileExist(compactedFile)
+                && hadoopFileSystemProxy.fileExist(targetFile)) {
+            log.info("merge files to [{}] already finished in the last commit, skip", targetFile);
+            return true;
+        }
+        try {
+            switch (fileSinkConfig.getFileFormat()) {
+                case PARQUET:
+                    mergeParquetFiles(files, compactedFile);
+                    break;
+                case ORC:
+                    mergeOrcFiles(files, compactedFile);
+                    break;
+                default:
+                    concatFiles(files, compactedFile);
+                    break;
+            }
+        } catch (Exception e) {
+            log.warn("merge files {} failed, move them without merging", files, e);
+            if (hadoopFileSystemProxy.fileExist(compactedFile)) {
+                hadoopFileSystemProxy.deleteFile(compactedFile);
+            }
+            return false;
+        }
+        log.info("merge {} files to [{}] finish", files.size(), compactedFile);
+        return true;
+    }
+
+    private void concatFiles(List<String> files, String compactedFile) throws IOException {
+        byte[] rowDelimiter =
+                fileSinkConfig
+                        .getRowDelimiter()
+                        .getBytes(EncodingUtils.tryParseCharset(fileSinkConfig.getEncoding()));
+        try (FSDataOutputStream outputStream =
+                hadoopFileSystemProxy.getOutputStream(compactedFile)) {
+            for (int i = 0; i < files.size(); i++) {
+                // the rows of a file are separated by the delimiter without a trailing one
+                if (i > 0) {
+                    outputStream.write(rowDelimiter);
+                }
+                try (FSDataInputStream inputStream =
+                        hadoopFileSystemProxy.getInputStream(files.get(i))) {
+                    IOUtils.copyBytes(inputStream, outputStream, COPY_BUFFER_SIZE, false);
+                }
+            }
+        }
+    }
+
+    private void mergeParquetFiles(List<String> files, String compactedFile) {
+        hadoopFileSystemProxy.doWithHadoopAuth(
+                (configuration, userGroupInformation) -> {
+                    FileMetaData fileMetaData;
+                    try (ParquetFileReader reader =
+                            ParquetFileReader.open(
+                                    HadoopInputFile.fromPath(
+                                            new Path(files.get(0)), configuration))) {
+                        fileMetaData = reader.getFooter().getFileMetaData();
+                    }
+                    ClosableOutputFile outputFile =
+                            new ClosableOutputFile(
+                                    HadoopOutputFile.fromPath(
+                                            new Path(compactedFile), configuration));
+                    ParquetFileWriter writer =
+                            new ParquetFileWriter(
+                                    outputFile,
+                                    fileMetaData.getSchema(),
+                                    ParquetFileWriter.Mode.OVERWRITE,
+                                    ParquetWriter.DEFAULT_BLOCK_SIZE,
+                                    ParquetWriter.MAX_PADDING_SIZE_DEFAULT);
+                    boolean ended = false;
+                    try {
+                        writer.start();
+                        // the row groups are copied without decoding
+                        for (String file : files) {
+                            writer.appendFile(
+                                    HadoopInputFile.fromPath(new Path(file), configuration));
+                        }
+                        writer.end(fileMetaData.getKeyValueMetaData());
+                        ended = true;
+                    } finally {
+                        // the stream is closed by end(), the writer can not be closed otherwise
+                        if (!ended) {
+                            outputFile.close();
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private void mergeOrcFiles(List<String> files, String compactedFile) {
+        FileSystem fileSystem = hadoopFileSystemProxy.getFileSystem();
+        hadoopFileSystemProxy.doWithHadoopAuth(
+                (configuration, userGroupInformation) -> {
+                    Writer writer = null;
+                    try {
+                        for (String file : files) {
+                            Reader reader =
+                                    OrcFile.createReader(
+                                            new Path(file),
+                                            OrcFile.readerOptions(configuration)
+                                                    .filesystem(fileSystem));
+                            if (writer == null) {
+                                writer =
+                                        createOrcWriter(
+                                                reader, compactedFile, configuration, fileSystem);
+                            } else if (!writer.getSchema().equals(reader.getSchema())) {
+                                throw new IOException(
+                                        "The schema of orc file [" + file + "] is different");
+                            }
+                            appendOrcStripes(reader, file, writer, fileSystem);
+                        }
+                    } finally {
+                        if (writer != null) {
+                            writer.close();
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    /** Create the writer with the options of the first file, so the stripes can be copied. */
+    private static Writer createOrcWriter(
+            Reader reader, String compactedFile, Configuration configuration, FileSystem fileSystem)
+            throws IOException {
+        OrcFile.WriterOptions options =
+                OrcFile.writerOptions(configuration)
+                        .fileSystem(fileSystem)
+                        .overwrite(true)
+                        .setSchema(reader.getSchema())
+                        .compress(reader.getCompressionKind())
+                        .version(reader.getFileVersion())
+                        .rowIndexStride(reader.getRowIndexStride())
+                        .blockPadding(false);
+        // the compression size is not recorded in the uncompressed files
+        if (reader.getCompressionSize() > 0) {
+            options.bufferSize(reader.getCompressionSize());
+        }
+        Writer writer = OrcFile.createWriter(new Path(compactedFile), options);
+        for (String key : reader.getMetadataKeys()) {
+            writer.addUserMetadata(key, reader.getMetadataValue(key));
+        }
+        return writer;
+    }
+
+    /** Copy the stripes without decoding. */
+    private static void appendOrcStripes(
+            Reader reader, String file, Writer writer, FileSystem fileSystem) throws IOException {
+        List<StripeInformation> stripes = reader.getStripes();
+        List<OrcProto.StripeStatistics> stripeStatistics = reader.getOrcProtoStripeStatistics();
+        try (FSDataInputStream inputStream = fileSystem.open(new Path(file))) {
+            for (int i = 0; i < stripes.size(); i++) {
+                StripeInformation stripe = stripes.get(i);
+                byte[] buffer = new byte[(int) stripe.getLength()];
+                inputStream.readFully(stripe.getOffset(), buffer, 0, buffer.length);
+                writer.appendStripe(buffer, 0, buffer.length, stripe, stripeStatistics.get(i));
+            }
+        }
+    }
+
+    /** Keep the stream created by the parquet writer, to close it when the writer fails. */
+    private static class ClosableOutputFile implements OutputFile, Closeable {
+        private final OutputFile outputFile;
+        private PositionOutputStream outputStream;
+
+        private ClosableOutputFile(OutputFile outputFile) {
+            this.outputFile = outputFile;
+        }
+
+        @Override
+        public PositionOutputStream create(long blockSizeHint) throws IOException {
+            outputStream = outputFile.create(blockSizeHint);
+            return outputStream;
+        }
+
+        @Override
+        public PositionOutputStream createOrOverwrite(long blockSizeHint) throws IOException {
+            outputStream = outputFile.createOrOverwrite(blockSizeHint);
+            return outputStream;
+        }
+
+        @Override
+        public boolean supportsBlockSize() {
+            return outputFile.supportsBlockSize();
+        }
+
+        @Override
+        public long defaultBlockSize() {
+            return outputFile.defaultBlockSize();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (outputStream != null) {
+                outputStream.close();
+            }
+        }
+    }
+}
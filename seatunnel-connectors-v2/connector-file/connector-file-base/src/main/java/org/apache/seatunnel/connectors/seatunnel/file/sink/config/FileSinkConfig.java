@@ -86,6 +86,12 @@ public class FileSinkConfig extends BaseFileSinkConfig implements PartitionConfi
     private List<String> parquetAvroWriteFixedAsInt96 =
             BaseSinkConfig.PARQUET_AVRO_WRITE_FIXED_AS_INT96.defaultValue();
 
+    private List<String> parquetDisableDictionaryColumns =
+            BaseSinkConfig.PARQUET_DISABLE_DICTIONARY_COLUMNS.defaultValue();
+
+    private List<String> parquetBloomFilterColumns =
+            BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS.defaultValue();
+
     public FileSinkConfig(@NonNull Config config, @NonNull SeaTunnelRowType seaTunnelRowTypeInfo) {
         super(config);
         checkArgument(
@@ -237,6 +243,15 @@ public class FileSinkConfig extends BaseFileSinkConfig implements PartitionConfi
                         config.getStringList(
                                 BaseSinkConfig.PARQUET_AVRO_WRITE_FIXED_AS_INT96.key());
             }
+            if (config.hasPath(BaseSinkConfig.PARQUET_DISABLE_DICTIONARY_COLUMNS.key())) {
+                this.parquetDisableDictionaryColumns =
+                        config.getStringList(
+                                BaseSinkConfig.PARQUET_DISABLE_DICTIONARY_COLUMNS.key());
+            }
+            if (config.hasPath(BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS.key())) {
+                this.parquetBloomFilterColumns =
+                        config.getStringList(BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS.key());
+            }
         }
     }
 }
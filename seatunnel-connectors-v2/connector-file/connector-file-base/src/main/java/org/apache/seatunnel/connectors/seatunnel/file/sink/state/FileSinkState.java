@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.sink.state;
 
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.MultipartUploadInfo;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -33,4 +35,5 @@ public class FileSinkState implements Serializable {
     private final LinkedHashMap<String, String> needMoveFiles;
     private final LinkedHashMap<String, List<String>> partitionDirAndValuesMap;
     private final String transactionDir;
+    private final LinkedHashMap<String, MultipartUploadInfo> multipartUploads;
 }
@@ -29,18 +29,27 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.MultipartUploadInfo;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.state.FileSinkState;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.FilterFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.permission.FsPermission;
+import org.apache.hadoop.util.Progressable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.NonNull;
 
 import java.io.File;
@@ -54,6 +63,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -73,6 +85,15 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
     protected String transactionDirectory;
     protected LinkedHashMap<String, String> needMoveFiles;
     protected LinkedHashMap<String, String> beingWrittenFile = new LinkedHashMap<>();
+    protected LinkedHashMap<String, MultipartUploadInfo> multipartUploads;
+    /** The multipart uploads of the files which are being written or uploaded. */
+    private final LinkedHashMap<String, MultipartUploadOutputStream> uploadingFiles =
+            new LinkedHashMap<>();
+    /** The output streams of the files being written, which count the bytes written to them. */
+    private final Map<String, FSDataOutputStream> beingWrittenStreams = new HashMap<>();
+
+    private ExecutorService uploadExecutor;
+    private Semaphore uploadPermits;
     private LinkedHashMap<String, List<String>> partitionDirAndValuesMap;
     protected SeaTunnelRowType seaTunnelRowType;
 
@@ -118,6 +139,134 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
         log.debug("new file part: {}", partId);
     }
 
+    /**
+     * Create the output stream of the file in the transaction directory. If the file system
+     * supports multipart upload, the file is uploaded to the target location directly, and the
+     * upload is completed by the commit instead of renaming the file.
+     *
+     * @param filePath the file path in the transaction directory
+     */
+    protected FSDataOutputStream createOutputStream(String filePath) throws IOException {
+        MultipartUploader uploader = hadoopFileSystemProxy.getMultipartUploader();
+        if (uploader == null) {
+            FSDataOutputStream outputStream = hadoopFileSystemProxy.getOutputStream(filePath);
+            beingWrittenStreams.put(filePath, outputStream);
+            return outputStream;
+        }
+        if (uploadExecutor == null) {
+            uploadExecutor =
+                    Executors.newFixedThreadPool(
+                            uploader.getUploadThreads(),
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("file-sink-upload-" + subTaskIndex + "-%d")
+                                    .setDaemon(true)
+                                    .build());
+            uploadPermits = new Semaphore(uploader.getUploadThreads());
+        }
+        MultipartUploadOutputStream outputStream =
+                new MultipartUploadOutputStream(
+                        uploader, getTargetLocation(filePath), uploadExecutor, uploadPermits);
+        uploadingFiles.put(filePath, outputStream);
+        FSDataOutputStream fsDataOutputStream = new FSDataOutputStream(outputStream, null);
+        beingWrittenStreams.put(filePath, fsDataOutputStream);
+        return fsDataOutputStream;
+    }
+
+    /**
+     * Whether the file being written reaches the max file size, the size is the bytes which have
+     * been written to the output stream, so the data buffered by the writers is not included.
+     *
+     * @param filePath the file path in the transaction directory
+     */
+    protected boolean isFileSizeExceeded(String filePath) {
+        long maxFileSize = fileSinkConfig.getMaxFileSize();
+        if (maxFileSize <= 0) {
+            return false;
+        }
+        FSDataOutputStream outputStream = beingWrittenStreams.get(filePath);
+        return outputStream != null && outputStream.getPos() >= maxFileSize;
+    }
+
+    /**
+     * Start a new file part once the file being written has been closed because of its size, the
+     * files of the other partitions are rolled as well.
+     *
+     * @param filePath the closed file path in the transaction directory
+     */
+    protected void rollFile(String filePath) {
+        beingWrittenStreams.remove(filePath);
+        newFilePart();
+        currentBatchSize = 0;
+    }
+
+    /**
+     * Get the file system to create the file in the transaction directory by, which is used by the
+     * writers creating the file by themselves.
+     *
+     * @see #createOutputStream(String)
+     */
+    protected FileSystem getFileSystem(String filePath) {
+        FileSystem fileSystem = hadoopFileSystemProxy.getFileSystem();
+        return new FilterFileSystem(fileSystem) {
+            @Override
+            public FSDataOutputStream create(
+                    Path f,
+                    FsPermission permission,
+                    boolean overwrite,
+                    int bufferSize,
+                    short replication,
+                    long blockSize,
+                    Progressable progress)
+                    throws IOException {
+                if (hadoopFileSystemProxy.getMultipartUploader() != null) {
+                    return createOutputStream(filePath);
+                }
+                FSDataOutputStream outputStream =
+                        super.create(
+                                f,
+                                permission,
+                                overwrite,
+                                bufferSize,
+                                replication,
+                                blockSize,
+                                progress);
+                beingWrittenStreams.put(filePath, outputStream);
+                return outputStream;
+            }
+        };
+    }
+
+    /** Wait for the uploads of the closed files, the uploads are completed by the commit. */
+    private void awaitUploads() {
+        try {
+            for (Map.Entry<String, MultipartUploadOutputStream> entry : uploadingFiles.entrySet()) {
+                multipartUploads.put(entry.getKey(), entry.getValue().awaitUpload());
+            }
+        } catch (IOException e) {
+            abortUploads();
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                    "Upload files of transaction " + transactionId + " failed",
+                    e);
+        }
+        uploadingFiles.clear();
+    }
+
+    private void abortUpload(MultipartUploadInfo upload) {
+        try {
+            hadoopFileSystemProxy
+                    .getMultipartUploader()
+                    .abort(upload.getFilePath(), upload.getUploadId());
+        } catch (IOException e) {
+            log.warn("Abort the multipart upload of file [{}] failed", upload.getFilePath(), e);
+        }
+    }
+
+    private void abortUploads() {
+        uploadingFiles.values().forEach(MultipartUploadOutputStream::abort);
+        uploadingFiles.clear();
+    }
+
     protected SeaTunnelRowType buildSchemaWithRowType(
             SeaTunnelRowType seaTunnelRowType, List<Integer> sinkColumnsIndex) {
         SeaTunnelDataType<?>[] fieldTypes = seaTunnelRowType.getFieldTypes();
@@ -245,6 +394,7 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
     @Override
     public Optional<FileCommitInfo> prepareCommit() {
         this.finishAndCloseFile();
+        this.awaitUploads();
         LinkedHashMap<String, String> commitMap = new LinkedHashMap<>(this.needMoveFiles);
         LinkedHashMap<String, List<String>> copyMap =
                 this.partitionDirAndValuesMap.entrySet().stream()
@@ -254,12 +404,19 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
                                         e -> new ArrayList<>(e.getValue()),
                                         (e1, e2) -> e1,
                                         LinkedHashMap::new));
-        return Optional.of(new FileCommitInfo(commitMap, copyMap, transactionDirectory));
+        return Optional.of(
+                new FileCommitInfo(
+                        commitMap,
+                        copyMap,
+                        transactionDirectory,
+                        new LinkedHashMap<>(this.multipartUploads)));
     }
 
     /** abort prepare commit operation */
     @Override
     public void abortPrepare() {
+        // the uploads which are waiting for the commit
+        multipartUploads.values().forEach(this::abortUpload);
         abortPrepare(transactionId);
     }
 
@@ -269,6 +426,7 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
      * @param transactionId transaction id
      */
     public void abortPrepare(String transactionId) {
+        abortUploads();
         try {
             hadoopFileSystemProxy.deleteFile(getTransactionDir(transactionId));
         } catch (IOException e) {
@@ -293,20 +451,29 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
         this.transactionDirectory = getTransactionDir(this.transactionId);
         this.needMoveFiles = new LinkedHashMap<>();
         this.partitionDirAndValuesMap = new LinkedHashMap<>();
+        this.multipartUploads = new LinkedHashMap<>();
+        this.beingWrittenStreams.clear();
     }
 
     private String getTransactionId(Long checkpointId) {
-        return "T"
-                + BaseSinkConfig.TRANSACTION_ID_SPLIT
-                + jobId
-                + BaseSinkConfig.TRANSACTION_ID_SPLIT
-                + uuidPrefix
-                + BaseSinkConfig.TRANSACTION_ID_SPLIT
+        return getTransactionIdPrefix(jobId, uuidPrefix)
                 + subTaskIndex
                 + BaseSinkConfig.TRANSACTION_ID_SPLIT
                 + checkpointId;
     }
 
+    /**
+     * The prefix of the transaction ids of a writer, or of all the writers of the job if the uuid
+     * prefix is null.
+     */
+    public static String getTransactionIdPrefix(String jobId, String uuidPrefix) {
+        String prefix = "T" + BaseSinkConfig.TRANSACTION_ID_SPLIT + jobId;
+        if (uuidPrefix != null) {
+            prefix += BaseSinkConfig.TRANSACTION_ID_SPLIT + uuidPrefix;
+        }
+        return prefix + BaseSinkConfig.TRANSACTION_ID_SPLIT;
+    }
+
     /**
      * when a checkpoint was triggered, snapshot the state of connector
      *
@@ -331,7 +498,8 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
                                 this.checkpointId,
                                 new LinkedHashMap<>(this.needMoveFiles),
                                 commitMap,
-                                this.getTransactionDir(transactionId)));
+                                this.getTransactionDir(transactionId),
+                                new LinkedHashMap<>(this.multipartUploads)));
         this.beingWrittenFile.clear();
         this.beginTransaction(checkpointId + 1);
         return fileState;
@@ -404,6 +572,10 @@ public abstract class AbstractWriteStrategy implements WriteStrategy {
 
     @Override
     public void close() throws IOException {
+        abortUploads();
+        if (uploadExecutor != null) {
+            uploadExecutor.shutdownNow();
+        }
         try {
             if (hadoopFileSystemProxy != null) {
                 hadoopFileSystemProxy.close();
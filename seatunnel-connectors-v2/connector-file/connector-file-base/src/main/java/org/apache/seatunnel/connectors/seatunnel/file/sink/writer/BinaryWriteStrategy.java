@@ -92,7 +92,7 @@ public class BinaryWriteStrategy extends AbstractWriteStrategy {
         FSDataOutputStream fsDataOutputStream = beingWrittenOutputStream.get(filePath);
         if (fsDataOutputStream == null) {
             try {
-                fsDataOutputStream = hadoopFileSystemProxy.getOutputStream(filePath);
+                fsDataOutputStream = createOutputStream(filePath);
                 beingWrittenOutputStream.put(filePath, fsDataOutputStream);
                 partIndexMap.put(filePath, -1L);
             } catch (IOException e) {
@@ -51,8 +51,7 @@ public class ExcelWriteStrategy extends AbstractWriteStrategy {
                 (k, v) -> {
                     try {
                         hadoopFileSystemProxy.createFile(k);
-                        FSDataOutputStream fileOutputStream =
-                                hadoopFileSystemProxy.getOutputStream(k);
+                        FSDataOutputStream fileOutputStream = createOutputStream(k);
                         v.flushAndCloseExcel(fileOutputStream);
                         fileOutputStream.close();
                     } catch (IOException e) {
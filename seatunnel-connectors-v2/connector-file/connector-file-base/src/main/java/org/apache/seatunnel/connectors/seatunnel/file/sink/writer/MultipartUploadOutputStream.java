@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.sink.writer;
+
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.MultipartUploadInfo;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Write a file by multipart upload. The data is buffered into parts, and every full part is
+ * uploaded in the background while the following data is being written. The permits bound the
+ * number of the parts being uploaded, so the writing is blocked when the upload can not catch up.
+ *
+ * <p>Closing the stream only submits the last part, {@link #awaitUpload()} waits for all the parts
+ * and returns the upload to be completed by the commit.
+ */
+@Slf4j
+public class MultipartUploadOutputStream extends OutputStream {
+    private static final int MAX_PART_SIZE = Integer.MAX_VALUE - 8;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final MultipartUploader uploader;
+    private final String filePath;
+    private final ExecutorService executor;
+    private final Semaphore uploadPermits;
+    private final int partSize;
+    private final List<Future<String>> parts = new ArrayList<>();
+    private PartBuffer buffer;
+    private String uploadId;
+    private long length;
+    private boolean closed;
+    private volatile Throwable failure;
+
+    public MultipartUploadOutputStream(
+            MultipartUploader uploader,
+            String filePath,
+            ExecutorService executor,
+            Semaphore uploadPermits) {
+        this.uploader = uploader;
+        this.filePath = filePath;
+        this.executor = executor;
+        this.uploadPermits = uploadPermits;
+        this.partSize = (int) Math.min(uploader.getPartSize(), MAX_PART_SIZE);
+        this.buffer = new PartBuffer(Math.min(partSize, INITIAL_BUFFER_SIZE));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkOpen();
+        buffer.write(b);
+        length++;
+        if (buffer.size() >= partSize) {
+            uploadBuffer();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        checkOpen();
+        while (len > 0) {
+            int size = Math.min(len, partSize - buffer.size());
+            buffer.write(b, off, size);
+            off += size;
+            len -= size;
+            length += size;
+            if (buffer.size() >= partSize) {
+                uploadBuffer();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // the file has one part at least, even if it is empty
+        if (buffer.size() > 0 || parts.isEmpty()) {
+            uploadBuffer();
+        }
+        buffer = null;
+    }
+
+    /**
+     * Wait for all the parts to be uploaded, the upload is aborted if any part failed.
+     *
+     * @return the upload to be completed
+     */
+    public MultipartUploadInfo awaitUpload() throws IOException {
+        close();
+        List<String> partETags = new ArrayList<>(parts.size());
+        try {
+            for (Future<String> part : parts) {
+                partETags.add(part.get());
+            }
+        } catch (ExecutionException e) {
+            abort();
+            throw new IOException(
+                    "Upload the parts of file [" + filePath + "] failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("Interrupted while uploading file " + filePath);
+        }
+        return new MultipartUploadInfo(filePath, uploadId, partETags, length);
+    }
+
+    /** Cancel the parts being uploaded and abort the upload. */
+    public void abort() {
+        closed = true;
+        buffer = null;
+        parts.forEach(part -> part.cancel(true));
+        if (uploadId != null) {
+            try {
+                uploader.abort(filePath, uploadId);
+            } catch (IOException e) {
+                log.warn("Abort the multipart upload of file [{}] failed", filePath, e);
+            }
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException("The stream of file [" + filePath + "] is closed");
+        }
+        if (failure != null) {
+            throw new IOException("Upload the parts of file [" + filePath + "] failed", failure);
+        }
+    }
+
+    private void uploadBuffer() throws IOException {
+        if (uploadId == null) {
+            uploadId = uploader.initiate(filePath);
+        }
+        String currentUploadId = uploadId;
+        int partNumber = parts.size() + 1;
+        PartBuffer part = buffer;
+        buffer = new PartBuffer(Math.min(partSize, INITIAL_BUFFER_SIZE));
+        try {
+            uploadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading file " + filePath);
+        }
+        try {
+            parts.add(
+                    executor.submit(
+                            () -> {
+                                try {
+                                    return uploader.uploadPart(
+                                            filePath,
+                                            currentUploadId,
+                                            partNumber,
+                                            part.getBuffer(),
+                                            part.size());
+                                } catch (Throwable e) {
+                                    failure = e;
+                                    throw e;
+                                } finally {
+                                    uploadPermits.release();
+                                }
+                            }));
+        } catch (RejectedExecutionException e) {
+            uploadPermits.release();
+            throw new IOException("Upload the parts of file [" + filePath + "] failed", e);
+        }
+    }
+
+    private static class PartBuffer extends ByteArrayOutputStream {
+        private PartBuffer(int size) {
+            super(size);
+        }
+
+        private byte[] getBuffer() {
+            return buf;
+        }
+    }
+}
@@ -88,27 +88,33 @@ public class OrcWriteStrategy extends AbstractWriteStrategy {
         } catch (IOException e) {
             throw CommonError.fileOperationFailed("OrcFile", "write", filePath, e);
         }
+        // the orc writer writes the file by stripes, so the file size grows at stripe boundaries
+        if (isFileSizeExceeded(filePath)) {
+            closeWriter(filePath, beingWrittenWriter.remove(filePath));
+            rollFile(filePath);
+        }
     }
 
     @Override
     public void finishAndCloseFile() {
-        this.beingWrittenWriter.forEach(
-                (k, v) -> {
-                    try {
-                        v.close();
-                    } catch (IOException e) {
-                        String errorMsg =
-                                String.format(
-                                        "Close file [%s] orc writer failed, error msg: [%s]",
-                                        k, e.getMessage());
-                        throw new FileConnectorException(
-                                CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, errorMsg, e);
-                    }
-                    needMoveFiles.put(k, getTargetLocation(k));
-                });
+        this.beingWrittenWriter.forEach(this::closeWriter);
         this.beingWrittenWriter.clear();
     }
 
+    private void closeWriter(String filePath, Writer writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format(
+                            "Close file [%s] orc writer failed, error msg: [%s]",
+                            filePath, e.getMessage());
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, errorMsg, e);
+        }
+        needMoveFiles.put(filePath, getTargetLocation(filePath));
+    }
+
     private Writer getOrCreateWriter(@NonNull String filePath) {
         Writer writer = this.beingWrittenWriter.get(filePath);
         if (writer == null) {
@@ -121,8 +127,13 @@ public class OrcWriteStrategy extends AbstractWriteStrategy {
                                 .compress(compressFormat.getOrcCompression())
                                 // use orc version 0.12
                                 .version(OrcFile.Version.V_0_12)
-                                .fileSystem(hadoopFileSystemProxy.getFileSystem())
+                                .fileSystem(getFileSystem(filePath))
                                 .overwrite(true);
+                long maxFileSize = fileSinkConfig.getMaxFileSize();
+                if (maxFileSize > 0 && maxFileSize < options.getStripeSize()) {
+                    // flush the stripes before the file exceeds the max file size
+                    options.stripeSize(maxFileSize);
+                }
                 Writer newWriter = OrcFile.createWriter(path, options);
                 this.beingWrittenWriter.put(filePath, newWriter);
                 return newWriter;
@@ -29,23 +29,20 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.parquet.SeaTunnelRowWriteSupport;
 
-import org.apache.avro.Conversions;
 import org.apache.avro.Schema;
-import org.apache.avro.data.TimeConversions;
-import org.apache.avro.generic.GenericData;
-import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.generic.GenericRecordBuilder;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.avro.AvroSchemaConverter;
 import org.apache.parquet.avro.AvroWriteSupport;
 import org.apache.parquet.column.ParquetProperties;
-import org.apache.parquet.example.data.simple.NanoTime;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.hadoop.util.HadoopStreams;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
 import org.apache.parquet.schema.ConversionPatterns;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
@@ -57,27 +54,22 @@ import org.apache.parquet.schema.Types;
 import lombok.NonNull;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.temporal.JulianFields;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.TimeZone;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class ParquetWriteStrategy extends AbstractWriteStrategy {
-    private final LinkedHashMap<String, ParquetWriter<GenericRecord>> beingWrittenWriter;
+    /** The footer key of the avro schema, which is used by the avro based parquet readers. */
+    private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+    private final LinkedHashMap<String, ParquetWriter<SeaTunnelRow>> beingWrittenWriter;
     private AvroSchemaConverter schemaConverter;
-    private Schema schema;
+    private MessageType schema;
+    private Map<String, String> extraMetaData;
     private Set<String> writePathsAsInt96;
     public static final int[] PRECISION_TO_BYTE_COUNT = new int[38];
 
@@ -119,76 +111,76 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy {
     public void write(@NonNull SeaTunnelRow seaTunnelRow) {
         super.write(seaTunnelRow);
         String filePath = getOrCreateFilePathBeingWritten(seaTunnelRow);
-        ParquetWriter<GenericRecord> writer = getOrCreateWriter(filePath);
-        GenericRecordBuilder recordBuilder = new GenericRecordBuilder(schema);
-        for (Integer integer : sinkColumnsIndexInRow) {
-            String fieldName = seaTunnelRowType.getFieldName(integer);
-            Object field = seaTunnelRow.getField(integer);
-            recordBuilder.set(
-                    fieldName.toLowerCase(),
-                    resolveObject(fieldName, field, seaTunnelRowType.getFieldType(integer)));
-        }
-        GenericData.Record record = recordBuilder.build();
+        ParquetWriter<SeaTunnelRow> writer = getOrCreateWriter(filePath);
         try {
-            writer.write(record);
+            writer.write(seaTunnelRow);
         } catch (IOException e) {
             throw CommonError.fileOperationFailed("ParquetFile", "write", filePath, e);
         }
+        long maxFileSize = fileSinkConfig.getMaxFileSize();
+        if (maxFileSize > 0 && writer.getDataSize() >= maxFileSize) {
+            // the data size contains the buffered row group before compression, so the file is
+            // closed a little earlier than the compressed size reaches the max file size
+            closeWriter(filePath, writer);
+            this.beingWrittenWriter.remove(filePath);
+            rollFile(filePath);
+        }
     }
 
     @Override
     public void finishAndCloseFile() {
-        this.beingWrittenWriter.forEach(
-                (k, v) -> {
-                    try {
-                        v.close();
-                    } catch (IOException e) {
-                        String errorMsg =
-                                String.format(
-                                        "Close file [%s] parquet writer failed, error msg: [%s]",
-                                        k, e.getMessage());
-                        throw new FileConnectorException(
-                                CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, errorMsg, e);
-                    }
-                    needMoveFiles.put(k, getTargetLocation(k));
-                });
+        this.beingWrittenWriter.forEach(this::closeWriter);
         this.beingWrittenWriter.clear();
     }
 
-    private ParquetWriter<GenericRecord> getOrCreateWriter(@NonNull String filePath) {
+    private void closeWriter(String filePath, ParquetWriter<SeaTunnelRow> writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format(
+                            "Close file [%s] parquet writer failed, error msg: [%s]",
+                            filePath, e.getMessage());
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED, errorMsg, e);
+        }
+        needMoveFiles.put(filePath, getTargetLocation(filePath));
+    }
+
+    private ParquetWriter<SeaTunnelRow> getOrCreateWriter(@NonNull String filePath) {
         if (schema == null) {
-            schema = buildAvroSchemaWithRowType(seaTunnelRowType, sinkColumnsIndexInRow);
+            schema = buildParquetSchemaWithRowType(seaTunnelRowType, sinkColumnsIndexInRow);
         }
-        ParquetWriter<GenericRecord> writer = this.beingWrittenWriter.get(filePath);
-        GenericData dataModel = new GenericData();
-        dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
-        dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
-        dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+        ParquetWriter<SeaTunnelRow> writer = this.beingWrittenWriter.get(filePath);
         if (writer == null) {
-            Path path = new Path(filePath);
             // initialize the kerberos login
             return hadoopFileSystemProxy.doWithHadoopAuth(
                     (configuration, userGroupInformation) -> {
                         try {
-                            if (!writePathsAsInt96.isEmpty()) {
-                                configuration.set(
-                                        AvroWriteSupport.WRITE_FIXED_AS_INT96,
-                                        String.join(",", writePathsAsInt96));
-                            }
-                            HadoopOutputFile outputFile =
-                                    HadoopOutputFile.fromPath(path, getConfiguration(hadoopConf));
-                            ParquetWriter<GenericRecord> newWriter =
-                                    AvroParquetWriter.<GenericRecord>builder(outputFile)
+                            OutputFile outputFile = createOutputFile(filePath);
+                            SeaTunnelRowWriteSupport writeSupport =
+                                    new SeaTunnelRowWriteSupport(
+                                            schema,
+                                            seaTunnelRowType,
+                                            sinkColumnsIndexInRow,
+                                            extraMetaData);
+                            ParquetWriter.Builder<SeaTunnelRow, ?> builder =
+                                    SeaTunnelRowWriteSupport.builder(outputFile, writeSupport)
                                             .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
-                                            .withDataModel(dataModel)
                                             .withConf(configuration)
                                             // use parquet v1 to improve compatibility
                                             .withWriterVersion(
                                                     ParquetProperties.WriterVersion.PARQUET_1_0)
                                             .withCompressionCodec(
-                                                    compressFormat.getParquetCompression())
-                                            .withSchema(schema)
-                                            .build();
+                                                    compressFormat.getParquetCompression());
+                            for (String column :
+                                    fileSinkConfig.getParquetDisableDictionaryColumns()) {
+                                builder.withDictionaryEncoding(column.toLowerCase(), false);
+                            }
+                            for (String column : fileSinkConfig.getParquetBloomFilterColumns()) {
+                                builder.withBloomFilterEnabled(column.toLowerCase(), true);
+                            }
+                            ParquetWriter<SeaTunnelRow> newWriter = builder.build();
                             this.beingWrittenWriter.put(filePath, newWriter);
                             return newWriter;
                         } catch (IOException e) {
@@ -203,92 +195,31 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy {
         return writer;
     }
 
-    private Object resolveObject(String name, Object data, SeaTunnelDataType<?> seaTunnelDataType) {
-        if (data == null) {
-            return null;
-        }
-        switch (seaTunnelDataType.getSqlType()) {
-            case ARRAY:
-                SeaTunnelDataType<?> elementType =
-                        ((ArrayType<?, ?>) seaTunnelDataType).getElementType();
-                ArrayList<Object> records = new ArrayList<>(((Object[]) data).length);
-                for (Object object : (Object[]) data) {
-                    Object resolvedObject = resolveObject(name, object, elementType);
-                    records.add(resolvedObject);
-                }
-                return records;
-            case MAP:
-            case STRING:
-            case BOOLEAN:
-            case TINYINT:
-            case SMALLINT:
-            case INT:
-            case BIGINT:
-            case FLOAT:
-            case DOUBLE:
-            case NULL:
-            case DECIMAL:
-            case DATE:
-                return data;
-            case TIMESTAMP:
-                if (writePathsAsInt96.contains(name)) {
-                    LocalDateTime localDateTime = (LocalDateTime) data;
-                    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-                    calendar.setTime(
-                            Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant()));
-                    int julianDays =
-                            (int)
-                                    JulianFields.JULIAN_DAY.getFrom(
-                                            LocalDate.of(
-                                                    calendar.get(Calendar.YEAR),
-                                                    calendar.get(Calendar.MONTH) + 1,
-                                                    calendar.get(Calendar.DAY_OF_MONTH)));
-                    long timeOfDayNanos =
-                            TimeUnit.HOURS.toNanos(calendar.get(Calendar.HOUR_OF_DAY))
-                                    + TimeUnit.MINUTES.toNanos(calendar.get(Calendar.MINUTE))
-                                    + TimeUnit.SECONDS.toNanos(calendar.get(Calendar.SECOND))
-                                    + TimeUnit.MILLISECONDS.toNanos(
-                                            calendar.get(Calendar.MILLISECOND));
-                    NanoTime nanoTime = new NanoTime(julianDays, timeOfDayNanos);
-                    return new GenericData.Fixed(
-                            schema.getField(name).schema(), nanoTime.toBinary().getBytes());
-                }
-                return ((LocalDateTime) data)
-                        .atZone(ZoneId.systemDefault())
-                        .toInstant()
-                        .toEpochMilli();
-            case BYTES:
-                if (writePathsAsInt96.contains(name)) {
-                    return new GenericData.Fixed(schema.getField(name).schema(), (byte[]) data);
-                }
-                return ByteBuffer.wrap((byte[]) data);
-            case ROW:
-                SeaTunnelRow seaTunnelRow = (SeaTunnelRow) data;
-                SeaTunnelDataType<?>[] fieldTypes =
-                        ((SeaTunnelRowType) seaTunnelDataType).getFieldTypes();
-                String[] fieldNames = ((SeaTunnelRowType) seaTunnelDataType).getFieldNames();
-                List<Integer> sinkColumnsIndex =
-                        IntStream.rangeClosed(0, fieldNames.length - 1)
-                                .boxed()
-                                .collect(Collectors.toList());
-                Schema recordSchema =
-                        buildAvroSchemaWithRowType(
-                                (SeaTunnelRowType) seaTunnelDataType, sinkColumnsIndex);
-                GenericRecordBuilder recordBuilder = new GenericRecordBuilder(recordSchema);
-                for (int i = 0; i < fieldNames.length; i++) {
-                    recordBuilder.set(
-                            fieldNames[i].toLowerCase(),
-                            resolveObject(fieldNames[i], seaTunnelRow.getField(i), fieldTypes[i]));
-                }
-                return recordBuilder.build();
-            default:
-                String errorMsg =
-                        String.format(
-                                "SeaTunnel file connector is not supported for this data type [%s]",
-                                seaTunnelDataType.getSqlType());
-                throw new FileConnectorException(
-                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE, errorMsg);
+    private OutputFile createOutputFile(String filePath) throws IOException {
+        if (hadoopFileSystemProxy.getMultipartUploader() == null) {
+            return HadoopOutputFile.fromPath(new Path(filePath), getConfiguration(hadoopConf));
         }
+        return new OutputFile() {
+            @Override
+            public PositionOutputStream create(long blockSizeHint) throws IOException {
+                return HadoopStreams.wrap(createOutputStream(filePath));
+            }
+
+            @Override
+            public PositionOutputStream createOrOverwrite(long blockSizeHint) throws IOException {
+                return create(blockSizeHint);
+            }
+
+            @Override
+            public boolean supportsBlockSize() {
+                return false;
+            }
+
+            @Override
+            public long defaultBlockSize() {
+                return 0;
+            }
+        };
     }
 
     public Type seaTunnelDataType2ParquetDataType(
@@ -408,7 +339,11 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy {
         }
     }
 
-    private Schema buildAvroSchemaWithRowType(
+    /**
+     * Build the parquet schema in the same way as it was written by avro, so the schema of the
+     * files keeps unchanged, and the avro schema is kept in the footer for the avro based readers.
+     */
+    private MessageType buildParquetSchemaWithRowType(
             SeaTunnelRowType seaTunnelRowType, List<Integer> sinkColumnsIndex) {
         ArrayList<Type> types = new ArrayList<>();
         SeaTunnelDataType<?>[] fieldTypes = seaTunnelRowType.getFieldTypes();
@@ -422,6 +357,8 @@ public class ParquetWriteStrategy extends AbstractWriteStrategy {
                 });
         MessageType seaTunnelRow =
                 Types.buildMessage().addFields(types.toArray(new Type[0])).named("SeaTunnelRecord");
-        return schemaConverter.convert(seaTunnelRow);
+        Schema avroSchema = schemaConverter.convert(seaTunnelRow);
+        extraMetaData = Collections.singletonMap(AVRO_SCHEMA_METADATA_KEY, avroSchema.toString());
+        return schemaConverter.convert(avroSchema);
     }
 }
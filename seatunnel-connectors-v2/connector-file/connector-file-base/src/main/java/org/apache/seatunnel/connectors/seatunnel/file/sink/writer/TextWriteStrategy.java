@@ -105,32 +105,38 @@ public class TextWriteStrategy extends AbstractWriteStrategy {
         } catch (IOException e) {
             throw CommonError.fileOperationFailed("TextFile", "write", filePath, e);
         }
+        if (isFileSizeExceeded(filePath)) {
+            closeOutputStream(filePath, beingWrittenOutputStream.remove(filePath));
+            isFirstWrite.remove(filePath);
+            rollFile(filePath);
+        }
     }
 
     @Override
     public void finishAndCloseFile() {
-        beingWrittenOutputStream.forEach(
-                (key, value) -> {
-                    try {
-                        value.flush();
-                    } catch (IOException e) {
-                        throw new FileConnectorException(
-                                CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
-                                String.format("Flush data to this file [%s] failed", key),
-                                e);
-                    } finally {
-                        try {
-                            value.close();
-                        } catch (IOException e) {
-                            log.error("error when close output stream {}", key, e);
-                        }
-                    }
-                    needMoveFiles.put(key, getTargetLocation(key));
-                });
+        beingWrittenOutputStream.forEach(this::closeOutputStream);
         beingWrittenOutputStream.clear();
         isFirstWrite.clear();
     }
 
+    private void closeOutputStream(String key, FSDataOutputStream value) {
+        try {
+            value.flush();
+        } catch (IOException e) {
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    String.format("Flush data to this file [%s] failed", key),
+                    e);
+        } finally {
+            try {
+                value.close();
+            } catch (IOException e) {
+                log.error("error when close output stream {}", key, e);
+            }
+        }
+        needMoveFiles.put(key, getTargetLocation(key));
+    }
+
     private FSDataOutputStream getOrCreateOutputStream(@NonNull String filePath) {
         FSDataOutputStream fsDataOutputStream = beingWrittenOutputStream.get(filePath);
         if (fsDataOutputStream == null) {
@@ -138,21 +144,19 @@ public class TextWriteStrategy extends AbstractWriteStrategy {
                 switch (compressFormat) {
                     case LZO:
                         LzopCodec lzo = new LzopCodec();
-                        OutputStream out =
-                                lzo.createOutputStream(
-                                        hadoopFileSystemProxy.getOutputStream(filePath));
+                        OutputStream out = lzo.createOutputStream(createOutputStream(filePath));
                         fsDataOutputStream = new FSDataOutputStream(out, null);
                         enableWriteHeader(fsDataOutputStream);
                         break;
                     case NONE:
-                        fsDataOutputStream = hadoopFileSystemProxy.getOutputStream(filePath);
+                        fsDataOutputStream = createOutputStream(filePath);
                         enableWriteHeader(fsDataOutputStream);
                         break;
                     default:
                         log.warn(
                                 "Text file does not support this compress type: {}",
                                 compressFormat.getCompressCodec());
-                        fsDataOutputStream = hadoopFileSystemProxy.getOutputStream(filePath);
+                        fsDataOutputStream = createOutputStream(filePath);
                         enableWriteHeader(fsDataOutputStream);
                         break;
                 }
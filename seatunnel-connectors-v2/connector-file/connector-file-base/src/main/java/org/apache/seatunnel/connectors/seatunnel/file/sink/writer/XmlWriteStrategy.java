@@ -58,8 +58,7 @@ public class XmlWriteStrategy extends AbstractWriteStrategy {
                 (k, v) -> {
                     try {
                         hadoopFileSystemProxy.createFile(k);
-                        FSDataOutputStream fileOutputStream =
-                                hadoopFileSystemProxy.getOutputStream(k);
+                        FSDataOutputStream fileOutputStream = createOutputStream(k);
                         v.flushAndCloseXmlWriter(fileOutputStream);
                         fileOutputStream.close();
                     } catch (IOException e) {
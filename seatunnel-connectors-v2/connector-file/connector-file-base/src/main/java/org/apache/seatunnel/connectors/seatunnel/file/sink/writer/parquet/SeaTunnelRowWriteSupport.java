@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.sink.writer.parquet;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.JulianFields;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write {@link SeaTunnelRow} to parquet directly. The writers of the fields are created once from
+ * the parquet schema and the row type, and every value is passed to the {@link RecordConsumer}
+ * without building an intermediate record.
+ */
+public class SeaTunnelRowWriteSupport extends WriteSupport<SeaTunnelRow> {
+
+    private final MessageType schema;
+    private final int[] fieldIndexes;
+    private final Map<String, String> extraMetaData;
+    private final FieldWriter[] fieldWriters;
+    private RecordConsumer recordConsumer;
+
+    /**
+     * @param schema the parquet schema of the file, the fields of it are in the same order as
+     *     {@code fieldIndexes}
+     * @param rowType the row type of the written rows
+     * @param fieldIndexes the index in the row of each field of the schema
+     * @param extraMetaData the key value meta data written to the footer of the file
+     */
+    public SeaTunnelRowWriteSupport(
+            MessageType schema,
+            SeaTunnelRowType rowType,
+            List<Integer> fieldIndexes,
+            Map<String, String> extraMetaData) {
+        this.schema = schema;
+        this.fieldIndexes = fieldIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.extraMetaData = extraMetaData;
+        this.fieldWriters = new FieldWriter[this.fieldIndexes.length];
+        for (int i = 0; i < this.fieldIndexes.length; i++) {
+            fieldWriters[i] =
+                    createWriter(schema.getType(i), rowType.getFieldType(this.fieldIndexes[i]));
+        }
+    }
+
+    public static ParquetWriter.Builder<SeaTunnelRow, ?> builder(
+            OutputFile file, SeaTunnelRowWriteSupport writeSupport) {
+        return new Builder(file, writeSupport);
+    }
+
+    @Override
+    public WriteContext init(Configuration configuration) {
+        return new WriteContext(schema, extraMetaData);
+    }
+
+    @Override
+    public void prepareForWrite(RecordConsumer recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    @Override
+    public void write(SeaTunnelRow row) {
+        recordConsumer.startMessage();
+        writeFields(row, fieldIndexes, schema, fieldWriters);
+        recordConsumer.endMessage();
+    }
+
+    private void writeFields(
+            SeaTunnelRow row, int[] indexes, GroupType groupType, FieldWriter[] writers) {
+        for (int i = 0; i < writers.length; i++) {
+            Object value = row.getField(indexes[i]);
+            if (value != null) {
+                String fieldName = groupType.getFieldName(i);
+                recordConsumer.startField(fieldName, i);
+                writers[i].write(value);
+                recordConsumer.endField(fieldName, i);
+            }
+        }
+    }
+
+    private FieldWriter createWriter(Type parquetType, SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case ARRAY:
+                return createArrayWriter(
+                        parquetType.asGroupType(), ((ArrayType<?, ?>) dataType).getElementType());
+            case MAP:
+                return createMapWriter(parquetType.asGroupType(), (MapType<?, ?>) dataType);
+            case ROW:
+                return createRowWriter(parquetType.asGroupType(), (SeaTunnelRowType) dataType);
+            default:
+                return createPrimitiveWriter(parquetType.asPrimitiveType(), dataType);
+        }
+    }
+
+    private FieldWriter createPrimitiveWriter(
+            PrimitiveType parquetType, SeaTunnelDataType<?> dataType) {
+        String name = parquetType.getName();
+        PrimitiveType.PrimitiveTypeName typeName = parquetType.getPrimitiveTypeName();
+        switch (dataType.getSqlType()) {
+            case STRING:
+                return value -> recordConsumer.addBinary(Binary.fromString(value.toString()));
+            case BOOLEAN:
+                return value -> recordConsumer.addBoolean((Boolean) value);
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+                return value -> recordConsumer.addInteger(((Number) value).intValue());
+            case BIGINT:
+                return value -> recordConsumer.addLong(((Number) value).longValue());
+            case FLOAT:
+                return value -> recordConsumer.addFloat(((Number) value).floatValue());
+            case DOUBLE:
+                return value -> recordConsumer.addDouble(((Number) value).doubleValue());
+            case DATE:
+                return value -> recordConsumer.addInteger((int) ((LocalDate) value).toEpochDay());
+            case TIMESTAMP:
+                if (typeName == PrimitiveType.PrimitiveTypeName.INT96) {
+                    return value ->
+                            recordConsumer.addBinary(toInt96((LocalDateTime) value).toBinary());
+                }
+                return value ->
+                        recordConsumer.addLong(
+                                ((LocalDateTime) value)
+                                        .atZone(ZoneId.systemDefault())
+                                        .toInstant()
+                                        .toEpochMilli());
+            case DECIMAL:
+                LogicalTypeAnnotation.DecimalLogicalTypeAnnotation decimalType =
+                        (LogicalTypeAnnotation.DecimalLogicalTypeAnnotation)
+                                parquetType.getLogicalTypeAnnotation();
+                int precision = decimalType.getPrecision();
+                int scale = decimalType.getScale();
+                int length = parquetType.getTypeLength();
+                return value ->
+                        recordConsumer.addBinary(
+                                toFixed(name, (BigDecimal) value, precision, scale, length));
+            case BYTES:
+                if (typeName == PrimitiveType.PrimitiveTypeName.INT96) {
+                    return value -> {
+                        byte[] bytes = (byte[]) value;
+                        if (bytes.length != 12) {
+                            throw new FileConnectorException(
+                                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                                    String.format(
+                                            "The field [%s] is written as INT96 and requires 12 bytes, but got [%s] bytes",
+                                            name, bytes.length));
+                        }
+                        recordConsumer.addBinary(Binary.fromReusedByteArray(bytes));
+                    };
+                }
+                return value ->
+                        recordConsumer.addBinary(Binary.fromReusedByteArray((byte[]) value));
+            default:
+                String errorMsg =
+                        String.format(
+                                "SeaTunnel file connector is not supported for this data type [%s]",
+                                dataType.getSqlType());
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE, errorMsg);
+        }
+    }
+
+    private FieldWriter createArrayWriter(GroupType listType, SeaTunnelDataType<?> elementType) {
+        Type repeatedType = listType.getType(0);
+        String repeatedName = repeatedType.getName();
+        // the list is written in 2-level structure by default, the repeated field is the element
+        // itself, the 3-level structure wraps every element in a repeated group
+        boolean threeLevel =
+                !repeatedType.isPrimitive()
+                        && (elementType.getSqlType() != SqlType.ROW || "list".equals(repeatedName));
+        if (threeLevel) {
+            GroupType repeatedGroup = repeatedType.asGroupType();
+            String elementName = repeatedGroup.getFieldName(0);
+            FieldWriter elementWriter = createWriter(repeatedGroup.getType(0), elementType);
+            return value -> {
+                Object[] elements = (Object[]) value;
+                recordConsumer.startGroup();
+                if (elements.length > 0) {
+                    recordConsumer.startField(repeatedName, 0);
+                    for (Object element : elements) {
+                        recordConsumer.startGroup();
+                        if (element != null) {
+                            recordConsumer.startField(elementName, 0);
+                            elementWriter.write(element);
+                            recordConsumer.endField(elementName, 0);
+                        }
+                        recordConsumer.endGroup();
+                    }
+                    recordConsumer.endField(repeatedName, 0);
+                }
+                recordConsumer.endGroup();
+            };
+        }
+        FieldWriter elementWriter = createWriter(repeatedType, elementType);
+        String fieldName = listType.getName();
+        return value -> {
+            Object[] elements = (Object[]) value;
+            recordConsumer.startGroup();
+            if (elements.length > 0) {
+                recordConsumer.startField(repeatedName, 0);
+                for (Object element : elements) {
+                    if (element == null) {
+                        throw new FileConnectorException(
+                                CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                                String.format(
+                                        "The array field [%s] contains null element, which can not be written in parquet 2-level list",
+                                        fieldName));
+                    }
+                    elementWriter.write(element);
+                }
+                recordConsumer.endField(repeatedName, 0);
+            }
+            recordConsumer.endGroup();
+        };
+    }
+
+    private FieldWriter createMapWriter(GroupType mapType, MapType<?, ?> dataType) {
+        GroupType keyValueType = mapType.getType(0).asGroupType();
+        String keyValueName = keyValueType.getName();
+        String keyName = keyValueType.getFieldName(0);
+        String valueName = keyValueType.getFieldName(1);
+        FieldWriter keyWriter = createWriter(keyValueType.getType(0), dataType.getKeyType());
+        FieldWriter valueWriter = createWriter(keyValueType.getType(1), dataType.getValueType());
+        String fieldName = mapType.getName();
+        return value -> {
+            Map<?, ?> map = (Map<?, ?>) value;
+            recordConsumer.startGroup();
+            if (!map.isEmpty()) {
+                recordConsumer.startField(keyValueName, 0);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (entry.getKey() == null) {
+                        throw new FileConnectorException(
+                                CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                                String.format("The map field [%s] contains null key", fieldName));
+                    }
+                    recordConsumer.startGroup();
+                    recordConsumer.startField(keyName, 0);
+                    keyWriter.write(entry.getKey());
+                    recordConsumer.endField(keyName, 0);
+                    if (entry.getValue() != null) {
+                        recordConsumer.startField(valueName, 1);
+                        valueWriter.write(entry.getValue());
+                        recordConsumer.endField(valueName, 1);
+                    }
+                    recordConsumer.endGroup();
+                }
+                recordConsumer.endField(keyValueName, 0);
+            }
+            recordConsumer.endGroup();
+        };
+    }
+
+    private FieldWriter createRowWriter(GroupType groupType, SeaTunnelRowType rowType) {
+        int[] indexes = new int[rowType.getTotalFields()];
+        FieldWriter[] writers = new FieldWriter[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+            writers[i] = createWriter(groupType.getType(i), rowType.getFieldType(i));
+        }
+        return value -> {
+            recordConsumer.startGroup();
+            writeFields((SeaTunnelRow) value, indexes, groupType, writers);
+            recordConsumer.endGroup();
+        };
+    }
+
+    private static NanoTime toInt96(LocalDateTime localDateTime) {
+        // INT96 keeps the julian day and the nanos of the day in UTC, the precision is millisecond
+        LocalDateTime utcDateTime =
+                LocalDateTime.ofInstant(
+                        localDateTime.atZone(ZoneId.systemDefault()).toInstant(), ZoneOffset.UTC);
+        int julianDays = (int) JulianFields.JULIAN_DAY.getFrom(utcDateTime.toLocalDate());
+        long timeOfDayNanos =
+                TimeUnit.MILLISECONDS.toNanos(
+                        TimeUnit.NANOSECONDS.toMillis(utcDateTime.toLocalTime().toNanoOfDay()));
+        return new NanoTime(julianDays, timeOfDayNanos);
+    }
+
+    private static Binary toFixed(
+            String name, BigDecimal decimal, int precision, int scale, int length) {
+        BigDecimal value = decimal;
+        if (value.scale() != scale) {
+            try {
+                value = value.setScale(scale, RoundingMode.UNNECESSARY);
+            } catch (ArithmeticException e) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                        String.format(
+                                "The decimal [%s] of field [%s] can not be written with scale [%s] without rounding",
+                                decimal, name, scale),
+                        e);
+            }
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        if (value.precision() > precision || unscaled.length > length) {
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                    String.format(
+                            "The decimal [%s] of field [%s] exceeds the precision [%s]",
+                            decimal, name, precision));
+        }
+        byte[] bytes = new byte[length];
+        int offset = length - unscaled.length;
+        Arrays.fill(bytes, 0, offset, (byte) (value.signum() < 0 ? 0xFF : 0x00));
+        System.arraycopy(unscaled, 0, bytes, offset, unscaled.length);
+        return Binary.fromConstantByteArray(bytes);
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Object value);
+    }
+
+    private static class Builder extends ParquetWriter.Builder<SeaTunnelRow, Builder> {
+        private final SeaTunnelRowWriteSupport writeSupport;
+
+        private Builder(OutputFile file, SeaTunnelRowWriteSupport writeSupport) {
+            super(file);
+            this.writeSupport = writeSupport;
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<SeaTunnelRow> getWriteSupport(Configuration conf) {
+            return writeSupport;
+        }
+    }
+}
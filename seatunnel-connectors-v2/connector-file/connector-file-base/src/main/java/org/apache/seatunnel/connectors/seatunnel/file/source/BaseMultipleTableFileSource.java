@@ -49,7 +49,16 @@ public abstract class BaseMultipleTableFileSource
 
     @Override
     public Boundedness getBoundedness() {
-        return Boundedness.BOUNDED;
+        // the source is unbounded if the new files of any table are discovered continuously
+        return baseMultipleTableFileSourceConfig.getFileSourceConfigs().stream()
+                        .anyMatch(
+                                fileSourceConfig ->
+                                        fileSourceConfig
+                                                .getReadStrategy()
+                                                .getFileDiscoveryConfig()
+                                                .isContinuous())
+                ? Boundedness.UNBOUNDED
+                : Boundedness.BOUNDED;
     }
 
     @Override
@@ -23,23 +23,42 @@ import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileDiscoveryConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ReadFilter;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.util.LineReader;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.parquet.hadoop.codec.ZstandardCodec;
 
+import io.airlift.compress.lzo.LzopCodec;
+import io.airlift.compress.snappy.SnappyCodec;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -56,20 +75,26 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected static final BigDecimal[] TYPE_ARRAY_BIG_DECIMAL = new BigDecimal[0];
     protected static final LocalDate[] TYPE_ARRAY_LOCAL_DATE = new LocalDate[0];
     protected static final LocalDateTime[] TYPE_ARRAY_LOCAL_DATETIME = new LocalDateTime[0];
+    private static final int LINE_BUFFER_SIZE = 1024 * 1024;
 
     protected HadoopConf hadoopConf;
     protected SeaTunnelRowType seaTunnelRowType;
     protected SeaTunnelRowType seaTunnelRowTypeWithPartition;
     protected Config pluginConfig;
     protected List<String> fileNames = new ArrayList<>();
+    protected Map<String, Long> fileSizes = new HashMap<>();
     protected List<String> readPartitions = new ArrayList<>();
     protected List<String> readColumns = new ArrayList<>();
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.defaultValue();
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
+    protected List<ReadFilter> readFilters = new ArrayList<>();
     protected transient boolean isKerberosAuthorization = false;
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
 
     protected Pattern pattern;
+    protected FileDiscoveryConfig fileDiscoveryConfig = FileDiscoveryConfig.DISABLED;
 
     @Override
     public void init(HadoopConf conf) {
@@ -97,30 +122,50 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                 fileNames.addAll(getFileNamesByPath(fileStatus.getPath().toString()));
                 continue;
             }
-            if (fileStatus.isFile() && filterFileByPattern(fileStatus) && fileStatus.getLen() > 0) {
-                // filter '_SUCCESS' file
-                if (!fileStatus.getPath().getName().equals("_SUCCESS")
-                        && !fileStatus.getPath().getName().startsWith(".")) {
-                    String filePath = fileStatus.getPath().toString();
-                    if (!readPartitions.isEmpty()) {
-                        for (String readPartition : readPartitions) {
-                            if (filePath.contains(readPartition)) {
-                                fileNames.add(filePath);
-                                this.fileNames.add(filePath);
-                                break;
-                            }
-                        }
-                    } else {
-                        fileNames.add(filePath);
-                        this.fileNames.add(filePath);
-                    }
-                }
+            if (isReadableFile(fileStatus)) {
+                String filePath = fileStatus.getPath().toString();
+                fileSizes.put(filePath, fileStatus.getLen());
+                fileNames.add(filePath);
+                this.fileNames.add(filePath);
             }
         }
 
         return fileNames;
     }
 
+    @Override
+    public List<FileStatus> listFileStatuses(String path) throws IOException {
+        List<FileStatus> fileStatuses = new ArrayList<>();
+        for (FileStatus fileStatus : hadoopFileSystemProxy.listStatus(path)) {
+            if (fileStatus.isDirectory() || isReadableFile(fileStatus)) {
+                fileStatuses.add(fileStatus);
+            }
+        }
+        return fileStatuses;
+    }
+
+    /** Whether the file should be read, the empty, hidden and filtered out files are skipped. */
+    protected boolean isReadableFile(FileStatus fileStatus) {
+        if (!fileStatus.isFile() || !filterFileByPattern(fileStatus) || fileStatus.getLen() <= 0) {
+            return false;
+        }
+        // filter '_SUCCESS' file
+        String fileName = fileStatus.getPath().getName();
+        if (fileName.equals("_SUCCESS") || fileName.startsWith(".")) {
+            return false;
+        }
+        if (readPartitions.isEmpty()) {
+            return true;
+        }
+        String filePath = fileStatus.getPath().toString();
+        for (String readPartition : readPartitions) {
+            if (filePath.contains(readPartition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void setPluginConfig(Config pluginConfig) {
         this.pluginConfig = pluginConfig;
@@ -133,6 +178,19 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             skipHeaderNumber =
                     pluginConfig.getLong(BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key());
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_FILTERS.key())) {
+            readFilters.addAll(
+                    ReadFilter.parse(
+                            pluginConfig.getConfigList(
+                                    BaseSourceConfigOptions.READ_FILTERS.key())));
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_PARTITIONS.key())) {
             readPartitions.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_PARTITIONS.key()));
@@ -146,6 +204,224 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        fileDiscoveryConfig = FileDiscoveryConfig.of(pluginConfig);
+    }
+
+    @Override
+    public FileDiscoveryConfig getFileDiscoveryConfig() {
+        return fileDiscoveryConfig;
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, FileStatus fileStatus)
+            throws IOException {
+        String path = fileStatus.getPath().toString();
+        // the size is only kept while creating the splits, the discovered files are not cached
+        boolean cached = fileSizes.putIfAbsent(path, fileStatus.getLen()) != null;
+        try {
+            return getFileSourceSplits(tableId, path);
+        } finally {
+            if (!cached) {
+                fileSizes.remove(path);
+            }
+        }
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        Long fileSize = fileSizes.get(path);
+        if (!enableFileSplit || !isSplittable(path)) {
+            return Collections.singletonList(
+                    new FileSourceSplit(tableId, path, fileSize == null ? 0L : fileSize));
+        }
+        if (fileSize == null) {
+            fileSize = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        }
+        if (fileSize <= fileSplitSize) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path, fileSize));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileSize; start += fileSplitSize) {
+            long length = Math.min(fileSplitSize, fileSize - start);
+            splits.add(new FileSourceSplit(tableId, path, start, length, fileSize));
+        }
+        return splits;
+    }
+
+    /**
+     * Create the splits of a file stored in blocks, e.g. parquet row groups and orc stripes. The
+     * file is read by one split if splitting is disabled, otherwise the adjacent blocks are merged
+     * into a split until it reaches the split size. No split is created if all the blocks are
+     * skipped.
+     *
+     * @param blocks the offset and length of the blocks to read, in the order of the file
+     * @param totalBlocks the number of the blocks in the file, including the skipped ones
+     */
+    protected List<FileSourceSplit> getBlockSplits(
+            String tableId, String path, List<long[]> blocks, int totalBlocks) throws IOException {
+        if (blocks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long fileSize = getFileSize(path);
+        if (!enableFileSplit) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path, fileSize));
+        }
+        List<long[]> ranges = new ArrayList<>();
+        long[] range = null;
+        for (long[] block : blocks) {
+            if (range != null
+                    && block[0] == range[0] + range[1]
+                    && range[1] + block[1] <= fileSplitSize) {
+                range[1] += block[1];
+            } else {
+                range = new long[] {block[0], block[1]};
+                ranges.add(range);
+            }
+        }
+        if (ranges.size() == 1 && blocks.size() == totalBlocks) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path, fileSize));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>(ranges.size());
+        for (long[] r : ranges) {
+            splits.add(new FileSourceSplit(tableId, path, r[0], r[1], fileSize));
+        }
+        return splits;
+    }
+
+    protected long getFileSize(String path) throws IOException {
+        Long fileSize = fileSizes.get(path);
+        return fileSize == null ? hadoopFileSystemProxy.getFileStatus(path).getLen() : fileSize;
+    }
+
+    /**
+     * Whether the file can be split into byte ranges, the strategy must support to read a range
+     * split by {@code read(FileSourceSplit, String, Collector)}.
+     */
+    protected boolean isSplittable(String path) {
+        return false;
+    }
+
+    /** Whether the lines of the encoding are separated by a single byte '\n'. */
+    protected static boolean isSingleByteLineSeparator(String encoding) {
+        byte[] lineSeparator = "\n".getBytes(Charset.forName(encoding));
+        return lineSeparator.length == 1 && lineSeparator[0] == '\n';
+    }
+
+    /**
+     * Open the input stream of the file, the content is decompressed by the codec of the compress
+     * format. Only the codecs which have a pure java implementation are used, so reading does not
+     * depend on the hadoop native libraries.
+     */
+    protected InputStream getInputStream(String path, CompressFormat compressFormat)
+            throws IOException {
+        Class<? extends CompressionCodec> codecClass;
+        switch (compressFormat) {
+            case NONE:
+                return hadoopFileSystemProxy.getInputStream(path);
+            case LZO:
+                codecClass = LzopCodec.class;
+                break;
+            case GZIP:
+                codecClass = GzipCodec.class;
+                break;
+            case BZIP2:
+                codecClass = BZip2Codec.class;
+                break;
+            case SNAPPY:
+                codecClass = SnappyCodec.class;
+                break;
+            case ZSTD:
+                codecClass = ZstandardCodec.class;
+                break;
+            default:
+                log.warn(
+                        "{} file does not support this compress type: {}",
+                        getClass().getSimpleName(),
+                        compressFormat.getCompressCodec());
+                return hadoopFileSystemProxy.getInputStream(path);
+        }
+        CompressionCodec codec =
+                ReflectionUtils.newInstance(
+                        codecClass, hadoopFileSystemProxy.getFileSystem().getConf());
+        return codec.createInputStream(hadoopFileSystemProxy.getInputStream(path));
+    }
+
+    /**
+     * Read the lines of the stream as bytes, the bytes passed to the consumer are only valid until
+     * the consumer returns, because the buffer is reused for the next line.
+     */
+    protected void readLines(InputStream inputStream, long skipLines, LineBytesConsumer consumer)
+            throws IOException {
+        try (LineReader lineReader = new LineReader(inputStream, LINE_BUFFER_SIZE)) {
+            Text line = new Text();
+            while (lineReader.readLine(line) > 0) {
+                if (skipLines > 0) {
+                    skipLines--;
+                    continue;
+                }
+                consumer.accept(line.getBytes(), line.getLength());
+            }
+        }
+    }
+
+    /**
+     * Read the lines of a range split. A split reads the lines which start in its range, so the
+     * partial line at the beginning of the range is left to the previous split, and the last line
+     * is read to its end even if it crosses the end of the range.
+     */
+    protected void readLines(
+            FileSourceSplit split, String encoding, long skipLines, Consumer<String> lineConsumer)
+            throws IOException {
+        Charset charset = Charset.forName(encoding);
+        readLines(
+                split,
+                skipLines,
+                (bytes, length) -> lineConsumer.accept(new String(bytes, 0, length, charset)));
+    }
+
+    /**
+     * Read the lines of a range split as bytes.
+     *
+     * @see #readLines(FileSourceSplit, String, long, Consumer)
+     * @see #readLines(InputStream, long, LineBytesConsumer)
+     */
+    protected void readLines(FileSourceSplit split, long skipLines, LineBytesConsumer consumer)
+            throws IOException {
+        long start = split.getStart();
+        long end = start + split.getLength();
+        try (FSDataInputStream inputStream =
+                hadoopFileSystemProxy.getInputStream(split.getFilePath())) {
+            long position = start;
+            if (start > 0) {
+                // start from the previous byte, so a line starting exactly at the range start is
+                // not skipped
+                inputStream.seek(start - 1);
+            }
+            LineReader lineReader = new LineReader(inputStream, LINE_BUFFER_SIZE);
+            Text line = new Text();
+            if (start > 0) {
+                position += lineReader.readLine(line) - 1;
+            }
+            while (position < end) {
+                int readBytes = lineReader.readLine(line);
+                if (readBytes == 0) {
+                    break;
+                }
+                position += readBytes;
+                if (skipLines > 0) {
+                    skipLines--;
+                    continue;
+                }
+                consumer.accept(line.getBytes(), line.getLength());
+            }
+        }
+    }
+
+    /** Consume a line whose content is the first {@code length} bytes of the buffer. */
+    @FunctionalInterface
+    protected interface LineBytesConsumer {
+        void accept(byte[] bytes, int length);
     }
 
     @Override
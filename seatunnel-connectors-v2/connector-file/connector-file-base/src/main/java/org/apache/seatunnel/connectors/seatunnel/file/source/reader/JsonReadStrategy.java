@@ -28,9 +28,9 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
-import io.airlift.compress.lzo.LzopCodec;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.BufferedReader;
@@ -76,44 +76,53 @@ public class JsonReadStrategy extends AbstractReadStrategy {
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
         Map<String, String> partitionsMap = parsePartitionsByPath(path);
-        InputStream inputStream;
-        switch (compressFormat) {
-            case LZO:
-                LzopCodec lzo = new LzopCodec();
-                inputStream = lzo.createInputStream(hadoopFileSystemProxy.getInputStream(path));
-                break;
-            case NONE:
-                inputStream = hadoopFileSystemProxy.getInputStream(path);
-                break;
-            default:
-                log.warn(
-                        "Text file does not support this compress type: {}",
-                        compressFormat.getCompressCodec());
-                inputStream = hadoopFileSystemProxy.getInputStream(path);
-                break;
-        }
+        InputStream inputStream = getInputStream(path, compressFormat);
         try (BufferedReader reader =
                 new BufferedReader(new InputStreamReader(inputStream, encoding))) {
-            reader.lines()
-                    .forEach(
-                            line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(
-                                                    line.getBytes(StandardCharsets.UTF_8));
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    seaTunnelRow.setTableId(tableId);
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    throw CommonError.fileOperationFailed(
-                                            "JsonFile", "read", path, e);
-                                }
-                            });
+            reader.lines().forEach(line -> collectLine(line, path, partitionsMap, tableId, output));
+        }
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (!split.isRangeSplit()) {
+            read(split.getFilePath(), tableId, output);
+            return;
+        }
+        String path = split.getFilePath();
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        readLines(
+                split,
+                encoding,
+                0,
+                line -> collectLine(line, path, partitionsMap, tableId, output));
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return compressFormat == CompressFormat.NONE && isSingleByteLineSeparator(encoding);
+    }
+
+    private void collectLine(
+            String line,
+            String path,
+            Map<String, String> partitionsMap,
+            String tableId,
+            Collector<SeaTunnelRow> output) {
+        try {
+            SeaTunnelRow seaTunnelRow =
+                    deserializationSchema.deserialize(line.getBytes(StandardCharsets.UTF_8));
+            if (isMergePartition) {
+                int index = seaTunnelRowType.getTotalFields();
+                for (String value : partitionsMap.values()) {
+                    seaTunnelRow.setField(index++, value);
+                }
+            }
+            seaTunnelRow.setTableId(tableId);
+            output.collect(seaTunnelRow);
+        } catch (IOException e) {
+            throw CommonError.fileOperationFailed("JsonFile", "read", path, e);
         }
     }
 
@@ -65,7 +65,7 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
     }
 
     @Override
-    public void pollNext(Collector<SeaTunnelRow> output) {
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
             FileSourceSplit split = sourceSplits.poll();
             if (null != split) {
@@ -78,7 +78,7 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                                     + "]");
                 }
                 try {
-                    readStrategy.read(split.getFilePath(), split.getTableId(), output);
+                    readStrategy.read(split, split.getTableId(), output);
                 } catch (Exception e) {
                     String errorMsg =
                             String.format("Read data from this file [%s] failed", split.splitId());
@@ -89,6 +89,8 @@ public class MultipleTableFileSourceReader implements SourceReader<SeaTunnelRow,
                 log.info(
                         "There is no more element for the bounded MultipleTableLocalFileSourceReader");
                 context.signalNoMoreElement();
+            } else {
+                Thread.sleep(1000L);
             }
         }
     }
@@ -31,17 +31,23 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ReadFilter;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.Text;
+import org.apache.orc.ColumnStatistics;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
+import org.apache.orc.StripeStatistics;
 import org.apache.orc.TypeDescription;
+import org.apache.orc.impl.RecordReaderImpl;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
 import org.apache.orc.storage.ql.exec.vector.DecimalColumnVector;
@@ -53,6 +59,9 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -63,6 +72,7 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -83,6 +93,13 @@ public class OrcReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -91,13 +108,7 @@ public class OrcReadStrategy extends AbstractReadStrategy {
             throw new FileConnectorException(FileConnectorErrorCode.FILE_TYPE_INVALID, errorMsg);
         }
         Map<String, String> partitionsMap = parsePartitionsByPath(path);
-        try (Reader reader =
-                hadoopFileSystemProxy.doWithHadoopAuth(
-                        (configuration, userGroupInformation) -> {
-                            OrcFile.ReaderOptions readerOptions =
-                                    OrcFile.readerOptions(configuration);
-                            return OrcFile.createReader(new Path(path), readerOptions);
-                        })) {
+        try (Reader reader = createReader(path)) {
             TypeDescription schema = TypeDescription.createStruct();
             for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
                 TypeDescription typeDescription =
@@ -105,7 +116,17 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            SearchArgument searchArgument = buildSearchArgument(reader.getSchema());
+            if (searchArgument != null) {
+                // skip the row groups which can not match the filters by the row indexes
+                options.searchArgument(
+                        searchArgument, schema.getFieldNames().toArray(new String[0]));
+            }
+            if (split.isRangeSplit()) {
+                options.range(split.getStart(), split.getLength());
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
                 int num = 0;
@@ -192,6 +213,143 @@ public class OrcReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!enableFileSplit && readFilters.isEmpty()) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        try (Reader reader = createReader(path)) {
+            List<StripeInformation> stripes = reader.getStripes();
+            SearchArgument searchArgument = buildSearchArgument(reader.getSchema());
+            List<StripeStatistics> stripeStatistics =
+                    searchArgument == null ? null : reader.getStripeStatistics();
+            boolean pruneStripes =
+                    stripeStatistics != null && stripeStatistics.size() == stripes.size();
+            List<long[]> blocks = new ArrayList<>(stripes.size());
+            for (int i = 0; i < stripes.size(); i++) {
+                if (pruneStripes
+                        && !canMatch(searchArgument, reader.getSchema(), stripeStatistics.get(i))) {
+                    continue;
+                }
+                StripeInformation stripe = stripes.get(i);
+                blocks.add(new long[] {stripe.getOffset(), stripe.getLength()});
+            }
+            return getBlockSplits(tableId, path, blocks, stripes.size());
+        }
+    }
+
+    private Reader createReader(String path) throws IOException {
+        return hadoopFileSystemProxy.doWithHadoopAuth(
+                (configuration, userGroupInformation) -> {
+                    OrcFile.ReaderOptions readerOptions = OrcFile.readerOptions(configuration);
+                    return OrcFile.createReader(new Path(path), readerOptions);
+                });
+    }
+
+    private static boolean canMatch(
+            SearchArgument searchArgument,
+            TypeDescription schema,
+            StripeStatistics stripeStatistics) {
+        List<PredicateLeaf> leaves = searchArgument.getLeaves();
+        ColumnStatistics[] columnStatistics = stripeStatistics.getColumnStatistics();
+        SearchArgument.TruthValue[] truthValues = new SearchArgument.TruthValue[leaves.size()];
+        for (int i = 0; i < leaves.size(); i++) {
+            PredicateLeaf leaf = leaves.get(i);
+            int index = schema.getFieldNames().indexOf(leaf.getColumnName());
+            int columnId = schema.getChildren().get(index).getId();
+            truthValues[i] =
+                    RecordReaderImpl.evaluatePredicate(columnStatistics[columnId], leaf, null);
+        }
+        return searchArgument.evaluate(truthValues).isNeeded();
+    }
+
+    /**
+     * Convert the read filters to an orc search argument, the filters on the columns which are not
+     * primitive or whose type is not supported are ignored.
+     */
+    private SearchArgument buildSearchArgument(TypeDescription schema) {
+        if (readFilters.isEmpty()) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        boolean hasLeaf = false;
+        for (ReadFilter filter : readFilters) {
+            int index = schema.getFieldNames().indexOf(filter.getColumn());
+            PredicateLeaf.Type leafType =
+                    index == -1 ? null : toPredicateLeafType(schema.getChildren().get(index));
+            if (leafType == null) {
+                log.warn("The read filter {} can not be pushed down to orc", filter);
+                continue;
+            }
+            Object value = toLiteral(leafType, filter.getValue());
+            String column = filter.getColumn();
+            switch (filter.getOperator()) {
+                case EQ:
+                    builder.equals(column, leafType, value);
+                    break;
+                case NOT_EQ:
+                    builder.startNot().equals(column, leafType, value).end();
+                    break;
+                case LT:
+                    builder.lessThan(column, leafType, value);
+                    break;
+                case LT_EQ:
+                    builder.lessThanEquals(column, leafType, value);
+                    break;
+                case GT:
+                    builder.startNot().lessThanEquals(column, leafType, value).end();
+                    break;
+                case GT_EQ:
+                    builder.startNot().lessThan(column, leafType, value).end();
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "Unsupported operator " + filter.getOperator());
+            }
+            hasLeaf = true;
+        }
+        return hasLeaf ? builder.end().build() : null;
+    }
+
+    private static PredicateLeaf.Type toPredicateLeafType(TypeDescription type) {
+        switch (type.getCategory()) {
+            case BOOLEAN:
+                return PredicateLeaf.Type.BOOLEAN;
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return PredicateLeaf.Type.LONG;
+            case FLOAT:
+            case DOUBLE:
+                return PredicateLeaf.Type.FLOAT;
+            case STRING:
+            case CHAR:
+            case VARCHAR:
+                return PredicateLeaf.Type.STRING;
+            case DATE:
+                return PredicateLeaf.Type.DATE;
+            default:
+                return null;
+        }
+    }
+
+    private static Object toLiteral(PredicateLeaf.Type type, String value) {
+        switch (type) {
+            case BOOLEAN:
+                return Boolean.valueOf(value);
+            case LONG:
+                return Long.valueOf(value);
+            case FLOAT:
+                return Double.valueOf(value);
+            case DATE:
+                return Date.valueOf(value);
+            default:
+                return value;
+        }
+    }
+
     @Override
     boolean checkFileType(String path) {
         try {
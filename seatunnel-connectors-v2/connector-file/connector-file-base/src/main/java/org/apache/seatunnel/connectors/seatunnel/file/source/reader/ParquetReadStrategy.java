@@ -31,20 +31,22 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.ReadFilter;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.parquet.SeaTunnelRowReadSupport;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
-import org.apache.avro.Conversions;
-import org.apache.avro.data.TimeConversions;
-import org.apache.avro.generic.GenericData;
-import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.util.Utf8;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
-import org.apache.parquet.avro.AvroParquetReader;
-import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
@@ -53,38 +55,37 @@ import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.sql.Timestamp;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 @Slf4j
 public class ParquetReadStrategy extends AbstractReadStrategy {
     private static final byte[] PARQUET_MAGIC =
             new byte[] {(byte) 'P', (byte) 'A', (byte) 'R', (byte) '1'};
-    private static final long NANOS_PER_MILLISECOND = 1000000;
-    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
-    private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
     private static final String PARQUET = "Parquet";
 
-    private int[] indexes;
+    private FilterPredicate filterPredicate;
 
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,144 +99,27 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
-        int fieldsCount = seaTunnelRowType.getTotalFields();
-        GenericData dataModel = new GenericData();
-        dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
-        dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
-        dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
-        GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
-                AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
-            while ((record = reader.read()) != null) {
-                Object[] fields;
-                if (isMergePartition) {
-                    int index = fieldsCount;
-                    fields = new Object[fieldsCount + partitionsMap.size()];
-                    for (String value : partitionsMap.values()) {
-                        fields[index++] = value;
-                    }
-                } else {
-                    fields = new Object[fieldsCount];
-                }
-                for (int i = 0; i < fieldsCount; i++) {
-                    Object data = record.get(indexes[i]);
-                    fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
-                }
-                SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+        Object[] partitionValues =
+                isMergePartition ? partitionsMap.values().toArray() : new Object[0];
+        ParquetReader.Builder<SeaTunnelRow> builder =
+                SeaTunnelRowReadSupport.builder(hadoopInputFile, seaTunnelRowType, partitionValues)
+                        .withConf(hadoopInputFile.getConfiguration());
+        if (filterPredicate != null) {
+            // the filter only skips the row groups and pages which can not match it
+            builder.withFilter(FilterCompat.get(filterPredicate)).useRecordFilter(false);
+        }
+        if (split.isRangeSplit()) {
+            builder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        SeaTunnelRow seaTunnelRow;
+        try (ParquetReader<SeaTunnelRow> reader = builder.build()) {
+            while ((seaTunnelRow = reader.read()) != null) {
                 seaTunnelRow.setTableId(tableId);
                 output.collect(seaTunnelRow);
             }
         }
     }
 
-    private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
-        if (field == null) {
-            return null;
-        }
-        switch (fieldType.getSqlType()) {
-            case ARRAY:
-                ArrayList<Object> origArray = new ArrayList<>();
-                ((GenericData.Array<?>) field)
-                        .iterator()
-                        .forEachRemaining(
-                                ele -> {
-                                    if (ele instanceof Utf8) {
-                                        origArray.add(ele.toString());
-                                    } else {
-                                        origArray.add(ele);
-                                    }
-                                });
-                SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) fieldType).getElementType();
-                switch (elementType.getSqlType()) {
-                    case STRING:
-                        return origArray.toArray(TYPE_ARRAY_STRING);
-                    case BOOLEAN:
-                        return origArray.toArray(TYPE_ARRAY_BOOLEAN);
-                    case TINYINT:
-                        return origArray.toArray(TYPE_ARRAY_BYTE);
-                    case SMALLINT:
-                        return origArray.toArray(TYPE_ARRAY_SHORT);
-                    case INT:
-                        return origArray.toArray(TYPE_ARRAY_INTEGER);
-                    case BIGINT:
-                        return origArray.toArray(TYPE_ARRAY_LONG);
-                    case FLOAT:
-                        return origArray.toArray(TYPE_ARRAY_FLOAT);
-                    case DOUBLE:
-                        return origArray.toArray(TYPE_ARRAY_DOUBLE);
-                    default:
-                        String errorMsg =
-                                String.format(
-                                        "SeaTunnel array type not support this type [%s] now",
-                                        fieldType.getSqlType());
-                        throw new FileConnectorException(
-                                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE, errorMsg);
-                }
-            case MAP:
-                HashMap<Object, Object> dataMap = new HashMap<>();
-                SeaTunnelDataType<?> keyType = ((MapType<?, ?>) fieldType).getKeyType();
-                SeaTunnelDataType<?> valueType = ((MapType<?, ?>) fieldType).getValueType();
-                HashMap<Object, Object> origDataMap = (HashMap<Object, Object>) field;
-                origDataMap.forEach(
-                        (key, value) ->
-                                dataMap.put(
-                                        resolveObject(key, keyType),
-                                        resolveObject(value, valueType)));
-                return dataMap;
-            case BOOLEAN:
-            case INT:
-            case BIGINT:
-            case FLOAT:
-            case DOUBLE:
-            case DECIMAL:
-            case DATE:
-                return field;
-            case STRING:
-                return field.toString();
-            case TINYINT:
-                return Byte.parseByte(field.toString());
-            case SMALLINT:
-                return Short.parseShort(field.toString());
-            case NULL:
-                return null;
-            case BYTES:
-                ByteBuffer buffer = (ByteBuffer) field;
-                byte[] bytes = new byte[buffer.remaining()];
-                buffer.get(bytes, 0, bytes.length);
-                return bytes;
-            case TIMESTAMP:
-                if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
-                }
-                Instant instant = Instant.ofEpochMilli((long) field);
-                return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
-            case ROW:
-                SeaTunnelRowType rowType = (SeaTunnelRowType) fieldType;
-                Object[] objects = new Object[rowType.getTotalFields()];
-                for (int i = 0; i < rowType.getTotalFields(); i++) {
-                    SeaTunnelDataType<?> dataType = rowType.getFieldType(i);
-                    objects[i] = resolveObject(((GenericRecord) field).get(i), dataType);
-                }
-                return new SeaTunnelRow(objects);
-            default:
-                // do nothing
-                // never got in there
-                throw new FileConnectorException(
-                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
-                        "SeaTunnel not support this data type now");
-        }
-    }
-
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfo(TablePath.DEFAULT, path);
@@ -244,21 +128,7 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
             throws FileConnectorException {
-        ParquetMetadata metadata;
-        try (ParquetFileReader reader =
-                hadoopFileSystemProxy.doWithHadoopAuth(
-                        ((configuration, userGroupInformation) -> {
-                            HadoopInputFile hadoopInputFile =
-                                    HadoopInputFile.fromPath(new Path(path), configuration);
-                            return ParquetFileReader.open(hadoopInputFile);
-                        }))) {
-            metadata = reader.getFooter();
-        } catch (IOException e) {
-            String errorMsg =
-                    String.format("Create parquet reader for this file [%s] failed", path);
-            throw new FileConnectorException(
-                    CommonErrorCodeDeprecated.READER_OPERATION_FAILED, errorMsg, e);
-        }
+        ParquetMetadata metadata = readFooter(path);
         FileMetaData fileMetaData = metadata.getFileMetaData();
         MessageType originalSchema = fileMetaData.getSchema();
         if (readColumns.isEmpty()) {
@@ -268,22 +138,174 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
         String[] fields = new String[readColumns.size()];
         SeaTunnelDataType<?>[] types = new SeaTunnelDataType[readColumns.size()];
-        indexes = new int[readColumns.size()];
         buildColumnsWithErrorCheck(
                 tablePath,
                 IntStream.range(0, readColumns.size()).iterator(),
                 i -> {
                     fields[i] = readColumns.get(i);
                     Type type = originalSchema.getType(fields[i]);
-                    int fieldIndex = originalSchema.getFieldIndex(fields[i]);
-                    indexes[i] = fieldIndex;
                     types[i] = parquetType2SeaTunnelType(type, fields[i]);
                 });
+        filterPredicate = buildFilterPredicate(originalSchema);
         seaTunnelRowType = new SeaTunnelRowType(fields, types);
         seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
         return getActualSeaTunnelRowTypeInfo();
     }
 
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!enableFileSplit && filterPredicate == null) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        ParquetMetadata metadata = readFooter(path);
+        List<BlockMetaData> blocks = metadata.getBlocks();
+        if (filterPredicate != null) {
+            try {
+                blocks =
+                        RowGroupFilter.filterRowGroups(
+                                FilterCompat.get(filterPredicate),
+                                blocks,
+                                metadata.getFileMetaData().getSchema());
+            } catch (IllegalArgumentException e) {
+                // the schema of this file is incompatible with the filters
+                log.warn("Can not skip the row groups of the file [{}]", path, e);
+            }
+        }
+        List<long[]> rowGroups = new ArrayList<>(blocks.size());
+        for (BlockMetaData block : blocks) {
+            rowGroups.add(new long[] {block.getStartingPos(), block.getCompressedSize()});
+        }
+        return getBlockSplits(tableId, path, rowGroups, metadata.getBlocks().size());
+    }
+
+    private ParquetMetadata readFooter(String path) {
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        ((configuration, userGroupInformation) -> {
+                            HadoopInputFile hadoopInputFile =
+                                    HadoopInputFile.fromPath(new Path(path), configuration);
+                            return ParquetFileReader.open(hadoopInputFile);
+                        }))) {
+            return reader.getFooter();
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format("Create parquet reader for this file [%s] failed", path);
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.READER_OPERATION_FAILED, errorMsg, e);
+        }
+    }
+
+    /**
+     * Convert the read filters to a parquet predicate, the filters on the columns which are not
+     * primitive or whose type is not supported are ignored.
+     */
+    private FilterPredicate buildFilterPredicate(MessageType schema) {
+        FilterPredicate predicate = null;
+        for (ReadFilter filter : readFilters) {
+            FilterPredicate columnPredicate = buildFilterPredicate(schema, filter);
+            if (columnPredicate == null) {
+                log.warn("The read filter {} can not be pushed down to parquet", filter);
+                continue;
+            }
+            predicate =
+                    predicate == null ? columnPredicate : FilterApi.and(predicate, columnPredicate);
+        }
+        return predicate;
+    }
+
+    private FilterPredicate buildFilterPredicate(MessageType schema, ReadFilter filter) {
+        String column = filter.getColumn();
+        if (!schema.containsField(column) || column.contains(".")) {
+            return null;
+        }
+        Type type = schema.getType(column);
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveType primitiveType = type.asPrimitiveType();
+        LogicalTypeAnnotation logicalType = primitiveType.getLogicalTypeAnnotation();
+        String value = filter.getValue();
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case INT32:
+                if (logicalType instanceof LogicalTypeAnnotation.DateLogicalTypeAnnotation) {
+                    return compare(
+                            FilterApi.intColumn(column),
+                            filter.getOperator(),
+                            (int) LocalDate.parse(value).toEpochDay());
+                }
+                if (isSignedInteger(logicalType)) {
+                    return compare(
+                            FilterApi.intColumn(column),
+                            filter.getOperator(),
+                            Integer.valueOf(value));
+                }
+                return null;
+            case INT64:
+                if (isSignedInteger(logicalType)) {
+                    return compare(
+                            FilterApi.longColumn(column),
+                            filter.getOperator(),
+                            Long.valueOf(value));
+                }
+                return null;
+            case FLOAT:
+                return compare(
+                        FilterApi.floatColumn(column), filter.getOperator(), Float.valueOf(value));
+            case DOUBLE:
+                return compare(
+                        FilterApi.doubleColumn(column),
+                        filter.getOperator(),
+                        Double.valueOf(value));
+            case BINARY:
+                if (logicalType instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation) {
+                    return compare(
+                            FilterApi.binaryColumn(column),
+                            filter.getOperator(),
+                            Binary.fromString(value));
+                }
+                return null;
+            case BOOLEAN:
+                Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(column);
+                if (filter.getOperator() == ReadFilter.Operator.EQ) {
+                    return FilterApi.eq(booleanColumn, Boolean.valueOf(value));
+                }
+                if (filter.getOperator() == ReadFilter.Operator.NOT_EQ) {
+                    return FilterApi.notEq(booleanColumn, Boolean.valueOf(value));
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isSignedInteger(LogicalTypeAnnotation logicalType) {
+        return logicalType == null
+                || (logicalType instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation
+                        && ((LogicalTypeAnnotation.IntLogicalTypeAnnotation) logicalType)
+                                .isSigned());
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate compare(C column, ReadFilter.Operator operator, T value) {
+        switch (operator) {
+            case EQ:
+                return FilterApi.eq(column, value);
+            case NOT_EQ:
+                return FilterApi.notEq(column, value);
+            case LT:
+                return FilterApi.lt(column, value);
+            case LT_EQ:
+                return FilterApi.ltEq(column, value);
+            case GT:
+                return FilterApi.gt(column, value);
+            case GT_EQ:
+                return FilterApi.gtEq(column, value);
+            default:
+                throw new IllegalArgumentException("Unsupported operator " + operator);
+        }
+    }
+
     private SeaTunnelDataType<?> parquetType2SeaTunnelType(Type type, String name) {
         if (type.isPrimitive()) {
             switch (type.asPrimitiveType().getPrimitiveTypeName()) {
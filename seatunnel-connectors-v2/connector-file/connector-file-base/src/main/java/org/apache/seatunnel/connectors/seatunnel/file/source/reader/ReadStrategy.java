@@ -26,12 +26,17 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileDiscoveryConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+
+import org.apache.hadoop.fs.FileStatus;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -44,6 +49,18 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /** Read the split of a file, the whole file is read if the strategy can't split files. */
+    default void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), tableId, output);
+    }
+
+    /** Get the splits of a file, the whole file is one split if the strategy can't split files. */
+    default List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
@@ -61,6 +78,23 @@ public interface ReadStrategy extends Serializable, Closeable {
 
     List<String> getFileNamesByPath(String path) throws IOException;
 
+    /**
+     * List the directories and the readable files under the path, the files which are skipped by
+     * {@link #getFileNamesByPath(String)} are excluded. The directories are not listed recursively.
+     */
+    List<FileStatus> listFileStatuses(String path) throws IOException;
+
+    /** Get the splits of a listed file, the size of the file is taken from its status. */
+    default List<FileSourceSplit> getFileSourceSplits(String tableId, FileStatus fileStatus)
+            throws IOException {
+        return getFileSourceSplits(tableId, fileStatus.getPath().toString());
+    }
+
+    /** The config of discovering the new files continuously, the files are read once by default. */
+    default FileDiscoveryConfig getFileDiscoveryConfig() {
+        return FileDiscoveryConfig.DISABLED;
+    }
+
     // todo: use ReadonlyConfig
     void setPluginConfig(Config pluginConfig);
 
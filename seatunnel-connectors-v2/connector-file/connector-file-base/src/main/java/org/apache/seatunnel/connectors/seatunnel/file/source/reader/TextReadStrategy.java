@@ -19,7 +19,6 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
-import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
@@ -33,26 +32,27 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
 import org.apache.seatunnel.format.text.splitor.DefaultTextLineSplitor;
 import org.apache.seatunnel.format.text.splitor.TextLineSplitor;
 
-import io.airlift.compress.lzo.LzopCodec;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
 public class TextReadStrategy extends AbstractReadStrategy {
-    private DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private TextDeserializationSchema deserializationSchema;
     private String fieldDelimiter = BaseSourceConfigOptions.FIELD_DELIMITER.defaultValue();
     private DateUtils.Formatter dateFormat = BaseSourceConfigOptions.DATE_FORMAT.defaultValue();
     private DateTimeUtils.Formatter datetimeFormat =
@@ -67,71 +67,91 @@ public class TextReadStrategy extends AbstractReadStrategy {
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
         Map<String, String> partitionsMap = parsePartitionsByPath(path);
-        InputStream inputStream;
-        switch (compressFormat) {
-            case LZO:
-                LzopCodec lzo = new LzopCodec();
-                inputStream = lzo.createInputStream(hadoopFileSystemProxy.getInputStream(path));
-                break;
-            case NONE:
-                inputStream = hadoopFileSystemProxy.getInputStream(path);
-                break;
-            default:
-                log.warn(
-                        "Text file does not support this compress type: {}",
-                        compressFormat.getCompressCodec());
-                inputStream = hadoopFileSystemProxy.getInputStream(path);
-                break;
+        InputStream inputStream = getInputStream(path, compressFormat);
+        if (isSingleByteLineSeparator(encoding)) {
+            readLines(
+                    inputStream,
+                    skipHeaderNumber,
+                    (bytes, length) -> collectLine(bytes, length, partitionsMap, tableId, output));
+            return;
         }
-
+        Charset charset = Charset.forName(encoding);
         try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(inputStream, encoding))) {
+                new BufferedReader(new InputStreamReader(inputStream, charset))) {
             reader.lines()
                     .skip(skipHeaderNumber)
                     .forEach(
                             line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(
-                                                    line.getBytes(StandardCharsets.UTF_8));
-                                    if (!readColumns.isEmpty()) {
-                                        // need column projection
-                                        Object[] fields;
-                                        if (isMergePartition) {
-                                            fields =
-                                                    new Object
-                                                            [readColumns.size()
-                                                                    + partitionsMap.size()];
-                                        } else {
-                                            fields = new Object[readColumns.size()];
-                                        }
-                                        for (int i = 0; i < indexes.length; i++) {
-                                            fields[i] = seaTunnelRow.getField(indexes[i]);
-                                        }
-                                        seaTunnelRow = new SeaTunnelRow(fields);
-                                    }
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    seaTunnelRow.setTableId(tableId);
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    String errorMsg =
-                                            String.format(
-                                                    "Deserialize this data [%s] failed, please check the origin data",
-                                                    line);
-                                    throw new FileConnectorException(
-                                            FileConnectorErrorCode.DATA_DESERIALIZE_FAILED,
-                                            errorMsg,
-                                            e);
-                                }
+                                byte[] bytes = line.getBytes(charset);
+                                collectLine(bytes, bytes.length, partitionsMap, tableId, output);
                             });
         }
     }
 
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (!split.isRangeSplit()) {
+            read(split.getFilePath(), tableId, output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        // only the first split of the file contains the header
+        long skipLines = split.getStart() == 0 ? skipHeaderNumber : 0;
+        readLines(
+                split,
+                skipLines,
+                (bytes, length) -> collectLine(bytes, length, partitionsMap, tableId, output));
+    }
+
+    @Override
+    protected boolean isSplittable(String path) {
+        return compressFormat == CompressFormat.NONE && isSingleByteLineSeparator(encoding);
+    }
+
+    private void collectLine(
+            byte[] bytes,
+            int length,
+            Map<String, String> partitionsMap,
+            String tableId,
+            Collector<SeaTunnelRow> output) {
+        SeaTunnelRow seaTunnelRow;
+        try {
+            seaTunnelRow = deserializationSchema.deserialize(bytes, 0, length);
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format(
+                            "Deserialize this data [%s] failed, please check the origin data",
+                            new String(bytes, 0, length, Charset.forName(encoding)));
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.DATA_DESERIALIZE_FAILED, errorMsg, e);
+        }
+        if (seaTunnelRow == null) {
+            return;
+        }
+        if (!readColumns.isEmpty()) {
+            // need column projection
+            Object[] fields;
+            if (isMergePartition) {
+                fields = new Object[readColumns.size() + partitionsMap.size()];
+            } else {
+                fields = new Object[readColumns.size()];
+            }
+            for (int i = 0; i < indexes.length; i++) {
+                fields[i] = seaTunnelRow.getField(indexes[i]);
+            }
+            seaTunnelRow = new SeaTunnelRow(fields);
+        }
+        if (isMergePartition) {
+            int index = seaTunnelRowType.getTotalFields();
+            for (String value : partitionsMap.values()) {
+                seaTunnelRow.setField(index++, value);
+            }
+        }
+        seaTunnelRow.setTableId(tableId);
+        output.collect(seaTunnelRow);
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) {
         this.seaTunnelRowType = CatalogTableUtil.buildSimpleTextSchema();
@@ -147,6 +167,7 @@ public class TextReadStrategy extends AbstractReadStrategy {
         TextDeserializationSchema.Builder builder =
                 TextDeserializationSchema.builder()
                         .delimiter(TextFormatConstant.PLACEHOLDER)
+                        .encoding(encoding)
                         .textLineSplitor(textLineSplitor);
         if (isMergePartition) {
             deserializationSchema =
@@ -164,10 +185,6 @@ public class TextReadStrategy extends AbstractReadStrategy {
         Optional<String> fieldDelimiterOptional =
                 ReadonlyConfig.fromConfig(pluginConfig)
                         .getOptional(BaseSourceConfigOptions.FIELD_DELIMITER);
-        encoding =
-                ReadonlyConfig.fromConfig(pluginConfig)
-                        .getOptional(BaseSourceConfigOptions.ENCODING)
-                        .orElse(StandardCharsets.UTF_8.name());
         if (fieldDelimiterOptional.isPresent()) {
             fieldDelimiter = fieldDelimiterOptional.get();
         } else {
@@ -184,6 +201,7 @@ public class TextReadStrategy extends AbstractReadStrategy {
         TextDeserializationSchema.Builder builder =
                 TextDeserializationSchema.builder()
                         .delimiter(fieldDelimiter)
+                        .encoding(encoding)
                         .textLineSplitor(textLineSplitor);
         if (isMergePartition) {
             deserializationSchema =
@@ -212,6 +230,10 @@ public class TextReadStrategy extends AbstractReadStrategy {
     }
 
     private void initFormatter() {
+        encoding =
+                ReadonlyConfig.fromConfig(pluginConfig)
+                        .getOptional(BaseSourceConfigOptions.ENCODING)
+                        .orElse(StandardCharsets.UTF_8.name());
         if (pluginConfig.hasPath(BaseSourceConfigOptions.DATE_FORMAT.key())) {
             dateFormat =
                     DateUtils.Formatter.parse(
@@ -0,0 +1,416 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.parquet;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The parquet converters which decode the column values into the java objects of the SeaTunnel
+ * types, the converters of nested types collect the values of their children.
+ */
+public class SeaTunnelRowConverters {
+    private static final long NANOS_PER_MILLISECOND = 1000000;
+    private static final long MILLIS_PER_DAY = TimeUnit.DAYS.toMillis(1L);
+    private static final long JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH = 2440588;
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private SeaTunnelRowConverters() {}
+
+    static Converter createConverter(
+            Type parquetType, SeaTunnelDataType<?> dataType, Consumer<Object> setter) {
+        switch (dataType.getSqlType()) {
+            case ROW:
+                return new RowConverter(
+                        parquetType.asGroupType(),
+                        (SeaTunnelRowType) dataType,
+                        EMPTY_VALUES,
+                        setter);
+            case ARRAY:
+                return new ListConverter(
+                        parquetType.asGroupType(), (ArrayType<?, ?>) dataType, setter);
+            case MAP:
+                return new MapConverter(
+                        parquetType.asGroupType(), (MapType<?, ?>) dataType, setter);
+            default:
+                return createPrimitiveConverter(parquetType.asPrimitiveType(), dataType, setter);
+        }
+    }
+
+    private static Converter createPrimitiveConverter(
+            PrimitiveType parquetType, SeaTunnelDataType<?> dataType, Consumer<Object> setter) {
+        LogicalTypeAnnotation logicalType = parquetType.getLogicalTypeAnnotation();
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addBoolean(boolean value) {
+                        setter.accept(value);
+                    }
+                };
+            case TINYINT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        setter.accept((byte) value);
+                    }
+                };
+            case SMALLINT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        setter.accept((short) value);
+                    }
+                };
+            case INT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        setter.accept(value);
+                    }
+                };
+            case BIGINT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addLong(long value) {
+                        setter.accept(value);
+                    }
+                };
+            case FLOAT:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addFloat(float value) {
+                        setter.accept(value);
+                    }
+                };
+            case DOUBLE:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addDouble(double value) {
+                        setter.accept(value);
+                    }
+                };
+            case DATE:
+                return new PrimitiveConverter() {
+                    @Override
+                    public void addInt(int value) {
+                        setter.accept(LocalDate.ofEpochDay(value));
+                    }
+                };
+            case TIMESTAMP:
+                if (parquetType.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.INT64) {
+                    return new PrimitiveConverter() {
+                        @Override
+                        public void addLong(long value) {
+                            setter.accept(
+                                    LocalDateTime.ofInstant(
+                                            Instant.ofEpochMilli(value), ZoneId.systemDefault()));
+                        }
+                    };
+                }
+                // INT96 and the fixed length byte array of 12 bytes
+                return new BinaryConverter(SeaTunnelRowConverters::toLocalDateTime, false, setter);
+            case DECIMAL:
+                int scale = ((DecimalType) dataType).getScale();
+                return new BinaryConverter(
+                        binary -> new BigDecimal(new BigInteger(binary.getBytes()), scale),
+                        true,
+                        setter);
+            case STRING:
+                if (logicalType instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    int decimalScale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) logicalType)
+                                    .getScale();
+                    return new BinaryConverter(
+                            binary ->
+                                    new BigDecimal(new BigInteger(binary.getBytes()), decimalScale)
+                                            .toString(),
+                            true,
+                            setter);
+                }
+                return new BinaryConverter(Binary::toStringUsingUTF8, true, setter);
+            case BYTES:
+                // the byte arrays are mutable, so they are not shared by the rows
+                return new BinaryConverter(Binary::getBytes, false, setter);
+            case NULL:
+                return new PrimitiveConverter() {};
+            default:
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        String.format(
+                                "SeaTunnel not support this data type [%s] now",
+                                dataType.getSqlType()));
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        long timestamp =
+                (nanoTime.getJulianDay() - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanoTime.getTimeOfDayNanos() / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
+    /**
+     * The converter of binary values. The values of a dictionary page are decoded once when the
+     * dictionary is set, and the rows share the decoded values if they are immutable.
+     */
+    private static class BinaryConverter extends PrimitiveConverter {
+        private final Function<Binary, Object> decoder;
+        private final boolean dictionarySupport;
+        private final Consumer<Object> setter;
+        private Object[] dictionaryValues;
+
+        private BinaryConverter(
+                Function<Binary, Object> decoder,
+                boolean dictionarySupport,
+                Consumer<Object> setter) {
+            this.decoder = decoder;
+            this.dictionarySupport = dictionarySupport;
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            return dictionarySupport;
+        }
+
+        @Override
+        public void setDictionary(Dictionary dictionary) {
+            dictionaryValues = new Object[dictionary.getMaxId() + 1];
+            for (int id = 0; id <= dictionary.getMaxId(); id++) {
+                dictionaryValues[id] = decoder.apply(dictionary.decodeToBinary(id));
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(int dictionaryId) {
+            setter.accept(dictionaryValues[dictionaryId]);
+        }
+
+        @Override
+        public void addBinary(Binary value) {
+            setter.accept(decoder.apply(value));
+        }
+    }
+
+    /** The converter of the records and the nested structs. */
+    static class RowConverter extends GroupConverter {
+        private final Converter[] converters;
+        private final Object[] appendValues;
+        private final int fieldCount;
+        private final Consumer<Object> setter;
+        private Object[] fields;
+
+        RowConverter(
+                GroupType parquetType,
+                SeaTunnelRowType rowType,
+                Object[] appendValues,
+                Consumer<Object> setter) {
+            this.appendValues = appendValues;
+            this.fieldCount = rowType.getTotalFields();
+            this.setter = setter;
+            this.converters = new Converter[parquetType.getFieldCount()];
+            for (int i = 0; i < converters.length; i++) {
+                Type fieldType = parquetType.getType(i);
+                int index = rowType.indexOf(fieldType.getName());
+                converters[i] =
+                        createConverter(
+                                fieldType,
+                                rowType.getFieldType(index),
+                                value -> fields[index] = value);
+            }
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return converters[fieldIndex];
+        }
+
+        @Override
+        public void start() {
+            fields = new Object[fieldCount + appendValues.length];
+            System.arraycopy(appendValues, 0, fields, fieldCount, appendValues.length);
+        }
+
+        @Override
+        public void end() {
+            setter.accept(new SeaTunnelRow(fields));
+        }
+    }
+
+    /** The converter of the three-level and the legacy two-level lists. */
+    private static class ListConverter extends GroupConverter {
+        private final Converter repeatedConverter;
+        private final Class<?> elementClass;
+        private final Consumer<Object> setter;
+        private final List<Object> values = new ArrayList<>();
+
+        private ListConverter(
+                GroupType parquetType, ArrayType<?, ?> arrayType, Consumer<Object> setter) {
+            this.setter = setter;
+            this.elementClass = arrayType.getElementType().getTypeClass();
+            Type repeatedType = parquetType.getType(0);
+            if (repeatedType.isPrimitive()) {
+                this.repeatedConverter =
+                        createConverter(repeatedType, arrayType.getElementType(), values::add);
+            } else {
+                this.repeatedConverter =
+                        new ElementConverter(
+                                repeatedType.asGroupType().getType(0),
+                                arrayType.getElementType(),
+                                values);
+            }
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return repeatedConverter;
+        }
+
+        @Override
+        public void start() {
+            values.clear();
+        }
+
+        @Override
+        public void end() {
+            setter.accept(values.toArray((Object[]) Array.newInstance(elementClass, 0)));
+        }
+    }
+
+    private static class ElementConverter extends GroupConverter {
+        private final Converter converter;
+        private final List<Object> values;
+        private Object element;
+
+        private ElementConverter(
+                Type elementType, SeaTunnelDataType<?> dataType, List<Object> values) {
+            this.values = values;
+            this.converter = createConverter(elementType, dataType, value -> element = value);
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return converter;
+        }
+
+        @Override
+        public void start() {
+            element = null;
+        }
+
+        @Override
+        public void end() {
+            values.add(element);
+        }
+    }
+
+    private static class MapConverter extends GroupConverter {
+        private final KeyValueConverter keyValueConverter;
+        private final Consumer<Object> setter;
+        private Map<Object, Object> map;
+
+        private MapConverter(
+                GroupType parquetType, MapType<?, ?> mapType, Consumer<Object> setter) {
+            this.setter = setter;
+            this.keyValueConverter =
+                    new KeyValueConverter(parquetType.getType(0).asGroupType(), mapType);
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return keyValueConverter;
+        }
+
+        @Override
+        public void start() {
+            map = new HashMap<>();
+        }
+
+        @Override
+        public void end() {
+            setter.accept(map);
+        }
+
+        private class KeyValueConverter extends GroupConverter {
+            private final Converter keyConverter;
+            private final Converter valueConverter;
+            private Object key;
+            private Object value;
+
+            private KeyValueConverter(GroupType keyValueType, MapType<?, ?> mapType) {
+                this.keyConverter =
+                        createConverter(
+                                keyValueType.getType(0), mapType.getKeyType(), k -> key = k);
+                this.valueConverter =
+                        createConverter(
+                                keyValueType.getType(1), mapType.getValueType(), v -> value = v);
+            }
+
+            @Override
+            public Converter getConverter(int fieldIndex) {
+                return fieldIndex == 0 ? keyConverter : valueConverter;
+            }
+
+            @Override
+            public void start() {
+                key = null;
+                value = null;
+            }
+
+            @Override
+            public void end() {
+                map.put(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.parquet;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.MessageType;
+
+public class SeaTunnelRowMaterializer extends RecordMaterializer<SeaTunnelRow> {
+
+    private final GroupConverter rootConverter;
+    private SeaTunnelRow currentRow;
+
+    public SeaTunnelRowMaterializer(
+            MessageType requestedSchema, SeaTunnelRowType rowType, Object[] appendValues) {
+        this.rootConverter =
+                new SeaTunnelRowConverters.RowConverter(
+                        requestedSchema,
+                        rowType,
+                        appendValues,
+                        row -> currentRow = (SeaTunnelRow) row);
+    }
+
+    @Override
+    public SeaTunnelRow getCurrentRecord() {
+        return currentRow;
+    }
+
+    @Override
+    public GroupConverter getRootConverter() {
+        return rootConverter;
+    }
+}
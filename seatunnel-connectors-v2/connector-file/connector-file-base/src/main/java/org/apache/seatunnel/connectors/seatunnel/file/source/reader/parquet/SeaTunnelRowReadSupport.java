@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader.parquet;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read the parquet records into {@link SeaTunnelRow} directly. Only the columns of the row type are
+ * requested from the file, and the values of the columns which do not exist in the file are null.
+ */
+public class SeaTunnelRowReadSupport extends ReadSupport<SeaTunnelRow> {
+
+    private final SeaTunnelRowType rowType;
+    private final Object[] appendValues;
+
+    /**
+     * @param rowType the row type of the columns to read
+     * @param appendValues the values appended to every row after the columns, e.g. the partition
+     *     values parsed from the file path
+     */
+    public SeaTunnelRowReadSupport(SeaTunnelRowType rowType, Object[] appendValues) {
+        this.rowType = rowType;
+        this.appendValues = appendValues;
+    }
+
+    public static ParquetReader.Builder<SeaTunnelRow> builder(
+            InputFile file, SeaTunnelRowType rowType, Object[] appendValues) {
+        return new Builder(file, new SeaTunnelRowReadSupport(rowType, appendValues));
+    }
+
+    @Override
+    public ReadContext init(InitContext context) {
+        MessageType fileSchema = context.getFileSchema();
+        List<Type> requestedTypes = new ArrayList<>(rowType.getTotalFields());
+        for (String fieldName : rowType.getFieldNames()) {
+            if (fileSchema.containsField(fieldName)) {
+                requestedTypes.add(fileSchema.getType(fieldName));
+            }
+        }
+        return new ReadContext(new MessageType(fileSchema.getName(), requestedTypes));
+    }
+
+    @Override
+    public RecordMaterializer<SeaTunnelRow> prepareForRead(
+            Configuration configuration,
+            Map<String, String> keyValueMetaData,
+            MessageType fileSchema,
+            ReadContext readContext) {
+        return new SeaTunnelRowMaterializer(
+                readContext.getRequestedSchema(), rowType, appendValues);
+    }
+
+    private static class Builder extends ParquetReader.Builder<SeaTunnelRow> {
+        private final SeaTunnelRowReadSupport readSupport;
+
+        private Builder(InputFile file, SeaTunnelRowReadSupport readSupport) {
+            super(file);
+            this.readSupport = readSupport;
+        }
+
+        @Override
+        protected ReadSupport<SeaTunnelRow> getReadSupport() {
+            return readSupport;
+        }
+    }
+}
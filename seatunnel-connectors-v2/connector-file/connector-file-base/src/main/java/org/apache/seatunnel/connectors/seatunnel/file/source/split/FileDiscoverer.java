@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileDiscoveryConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.ProcessedFilesIndex;
+
+import org.apache.hadoop.fs.FileStatus;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Discover the new files of the path for the continuous file source. The directory tree is listed
+ * level by level, and the directories of a level are listed in parallel. A listed file is new if it
+ * is not in the index of the processed files, the new files are processed in order of their
+ * modification time.
+ *
+ * <p>Each discovery lists the whole tree. The directories are not pruned by their modification
+ * time, which is not changed by the files added to their subdirectories and is not kept by most
+ * object stores.
+ */
+@Slf4j
+public class FileDiscoverer implements Closeable {
+    private final String tableId;
+    private final ReadStrategy readStrategy;
+    private final FileDiscoveryConfig discoveryConfig;
+    @Getter private final ProcessedFilesIndex processedFilesIndex;
+    private final ExecutorService executor;
+
+    /**
+     * @param tableId the table id of the discovered splits, it is null for the single table source
+     *     whose splits have no table id
+     * @param readStrategy the read strategy of the table, which lists the files and creates the
+     *     splits
+     * @param processedFilesIndex the index of the processed files, restored from the state
+     */
+    public FileDiscoverer(
+            String tableId, ReadStrategy readStrategy, ProcessedFilesIndex processedFilesIndex) {
+        this.tableId = tableId;
+        this.readStrategy = readStrategy;
+        this.discoveryConfig = readStrategy.getFileDiscoveryConfig();
+        this.processedFilesIndex = processedFilesIndex;
+        this.executor =
+                Executors.newFixedThreadPool(
+                        discoveryConfig.getDiscoveryParallelism(),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("file-discovery-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /**
+     * Discover the new files and create their splits, the files are added to the index of the
+     * processed files.
+     */
+    public List<FileSourceSplit> discoverSplits() throws IOException {
+        List<FileStatus> newFiles = listNewFiles();
+        newFiles.sort(
+                Comparator.comparingLong(FileStatus::getModificationTime)
+                        .thenComparing(FileStatus::getPath));
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (FileStatus fileStatus : newFiles) {
+            splits.addAll(readStrategy.getFileSourceSplits(tableId, fileStatus));
+            processedFilesIndex.add(
+                    fileStatus.getPath().toString(), fileStatus.getModificationTime());
+        }
+        processedFilesIndex.prune(discoveryConfig.getDiscoveryLateness());
+        if (!newFiles.isEmpty()) {
+            log.info(
+                    "Discovered {} new files of the path [{}], the watermark is {}",
+                    newFiles.size(),
+                    discoveryConfig.getPath(),
+                    processedFilesIndex.getWatermark());
+        }
+        return splits;
+    }
+
+    private List<FileStatus> listNewFiles() throws IOException {
+        List<FileStatus> newFiles = new ArrayList<>();
+        List<String> directories = Collections.singletonList(discoveryConfig.getPath());
+        while (!directories.isEmpty()) {
+            List<Future<List<FileStatus>>> listings = new ArrayList<>(directories.size());
+            for (String directory : directories) {
+                listings.add(executor.submit(() -> readStrategy.listFileStatuses(directory)));
+            }
+            List<String> subDirectories = new ArrayList<>();
+            for (Future<List<FileStatus>> listing : listings) {
+                for (FileStatus fileStatus : getListing(listing)) {
+                    if (fileStatus.isDirectory()) {
+                        subDirectories.add(fileStatus.getPath().toString());
+                    } else if (!processedFilesIndex.isProcessed(
+                            fileStatus.getPath().toString(),
+                            fileStatus.getModificationTime(),
+                            discoveryConfig.getDiscoveryLateness())) {
+                        newFiles.add(fileStatus);
+                    }
+                }
+            }
+            directories = subDirectories;
+        }
+        return newFiles;
+    }
+
+    private static List<FileStatus> getListing(Future<List<FileStatus>> listing)
+            throws IOException {
+        try {
+            return listing.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while listing the files");
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
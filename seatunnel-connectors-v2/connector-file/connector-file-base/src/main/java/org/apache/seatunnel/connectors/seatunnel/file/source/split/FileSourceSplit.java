@@ -26,24 +26,51 @@ public class FileSourceSplit implements SourceSplit {
 
     @Getter private final String tableId;
     @Getter private final String filePath;
+    // the byte range of the file read by this split, a length of 0 means the whole file
+    @Getter private final long start;
+    @Getter private final long length;
+    // the size of the file, 0 when unknown
+    @Getter private final long fileSize;
 
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0L);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long fileSize) {
+        this(tableId, filePath, 0L, 0L, fileSize);
+    }
+
+    public FileSourceSplit(
+            String tableId, String filePath, long start, long length, long fileSize) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+        this.fileSize = fileSize;
+    }
+
+    /** Returns whether this split only reads a byte range of the file. */
+    public boolean isRangeSplit() {
+        return length > 0;
+    }
+
+    /** Returns the number of bytes read by this split, used to balance the splits of readers. */
+    public long getSplitSize() {
+        return isRangeSplit() ? length : fileSize;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String fileSplitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isRangeSplit()) {
+            return fileSplitId + "_" + start;
         }
-        return tableId + "_" + filePath;
+        return fileSplitId;
     }
 }
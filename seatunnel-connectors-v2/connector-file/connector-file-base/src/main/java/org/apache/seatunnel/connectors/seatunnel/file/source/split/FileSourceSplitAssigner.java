@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.split;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/** Assign the file splits to the readers, balanced by the byte size of the splits. */
+public class FileSourceSplitAssigner {
+
+    private FileSourceSplitAssigner() {}
+
+    /**
+     * Assign the splits to the readers. The largest split is always given to the reader with the
+     * fewest assigned bytes, so every reader reads about the same number of bytes. Splits of
+     * unknown size count as one byte, so they are spread evenly by number.
+     */
+    public static Map<Integer, List<FileSourceSplit>> assign(
+            Collection<FileSourceSplit> splits, int parallelism) {
+        List<FileSourceSplit> sortedSplits = new ArrayList<>(splits);
+        sortedSplits.sort(
+                Comparator.comparingLong(FileSourceSplitAssigner::weight)
+                        .reversed()
+                        .thenComparing(FileSourceSplit::getFilePath)
+                        .thenComparingLong(FileSourceSplit::getStart));
+
+        Map<Integer, List<FileSourceSplit>> assignment = new HashMap<>();
+        // [assigned bytes, reader index]
+        PriorityQueue<long[]> readers =
+                new PriorityQueue<>(
+                        Comparator.<long[]>comparingLong(reader -> reader[0])
+                                .thenComparingLong(reader -> reader[1]));
+        for (int i = 0; i < parallelism; i++) {
+            readers.add(new long[] {0L, i});
+            assignment.put(i, new ArrayList<>());
+        }
+        for (FileSourceSplit split : sortedSplits) {
+            long[] reader = readers.poll();
+            assignment.get((int) reader[1]).add(split);
+            reader[0] += weight(split);
+            readers.add(reader);
+        }
+        return assignment;
+    }
+
+    private static long weight(FileSourceSplit split) {
+        return Math.max(split.getSplitSize(), 1L);
+    }
+}
@@ -18,95 +18,179 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileDiscoveryConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.ProcessedFilesIndex;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class FileSourceSplitEnumerator
         implements SourceSplitEnumerator<FileSourceSplit, FileSourceState> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSourceSplitEnumerator.class);
+    // the key of the processed files index in the state, the single table has no table id
+    private static final String DEFAULT_TABLE_ID = "";
+    // the table id of the splits, the splits of the single table have no table id either
+    private static final String SPLIT_TABLE_ID = null;
 
     private final Context<FileSourceSplit> context;
     private final Set<FileSourceSplit> pendingSplit = new HashSet<>();
     private Set<FileSourceSplit> assignedSplit;
     private final List<String> filePaths;
+    private final ReadStrategy readStrategy;
+    private final FileDiscoveryConfig discoveryConfig;
+    private ProcessedFilesIndex processedFilesIndex = new ProcessedFilesIndex();
+    private FileDiscoverer fileDiscoverer;
+    private ScheduledExecutorService executor;
 
     public FileSourceSplitEnumerator(
-            SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy) {
         this.context = context;
         this.filePaths = filePaths;
+        this.readStrategy = readStrategy;
+        this.discoveryConfig = readStrategy.getFileDiscoveryConfig();
         this.assignedSplit = new HashSet<>();
     }
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context,
             List<String> filePaths,
+            ReadStrategy readStrategy,
             FileSourceState sourceState) {
-        this(context, filePaths);
+        this(context, filePaths, readStrategy);
         this.assignedSplit = sourceState.getAssignedSplit();
+        if (discoveryConfig.isContinuous()) {
+            this.pendingSplit.addAll(sourceState.getPendingSplit());
+            ProcessedFilesIndex restoredIndex =
+                    sourceState.getProcessedFilesIndexes().get(DEFAULT_TABLE_ID);
+            if (restoredIndex != null) {
+                this.processedFilesIndex = restoredIndex;
+            }
+        }
     }
 
     @Override
     public void open() {
-        this.pendingSplit.addAll(discoverySplits());
+        if (!discoveryConfig.isContinuous()) {
+            this.pendingSplit.addAll(discoverySplits());
+            return;
+        }
+        this.fileDiscoverer = new FileDiscoverer(SPLIT_TABLE_ID, readStrategy, processedFilesIndex);
+        this.executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("file-source-dynamic-discovery")
+                                .setDaemon(true)
+                                .build());
     }
 
     @Override
     public void run() {
+        if (discoveryConfig.isContinuous()) {
+            discoverAndAssignSplits();
+            executor.scheduleWithFixedDelay(
+                    () -> {
+                        try {
+                            discoverAndAssignSplits();
+                        } catch (Exception e) {
+                            LOGGER.error("Dynamic discovery failure:", e);
+                        }
+                    },
+                    discoveryConfig.getDiscoveryInterval(),
+                    discoveryConfig.getDiscoveryInterval(),
+                    TimeUnit.MILLISECONDS);
+            return;
+        }
+        Map<Integer, List<FileSourceSplit>> assignment =
+                FileSourceSplitAssigner.assign(pendingSplit, context.currentParallelism());
         for (int i = 0; i < context.currentParallelism(); i++) {
             LOGGER.info("Assigned splits to reader [{}]", i);
-            assignSplit(i);
+            assignSplit(i, assignment.getOrDefault(i, Collections.emptyList()));
         }
     }
 
     private Set<FileSourceSplit> discoverySplits() {
         Set<FileSourceSplit> fileSourceSplits = new HashSet<>();
-        filePaths.forEach(k -> fileSourceSplits.add(new FileSourceSplit(k)));
+        for (String filePath : filePaths) {
+            try {
+                fileSourceSplits.addAll(readStrategy.getFileSourceSplits(SPLIT_TABLE_ID, filePath));
+            } catch (IOException e) {
+                throw new FileConnectorException(
+                        FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                        String.format("Get the splits of this file [%s] failed", filePath),
+                        e);
+            }
+        }
         return fileSourceSplits;
     }
 
+    private synchronized void discoverAndAssignSplits() {
+        try {
+            pendingSplit.addAll(fileDiscoverer.discoverSplits());
+        } catch (IOException e) {
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                    String.format(
+                            "Discover the new files of this path [%s] failed",
+                            discoveryConfig.getPath()),
+                    e);
+        }
+        Map<Integer, List<FileSourceSplit>> assignment =
+                FileSourceSplitAssigner.assign(pendingSplit, context.currentParallelism());
+        for (Map.Entry<Integer, List<FileSourceSplit>> entry : assignment.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                assignSplit(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     @Override
     public void close() throws IOException {
-        // do nothing
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (fileDiscoverer != null) {
+            fileDiscoverer.close();
+        }
     }
 
     @Override
-    public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
+    public synchronized void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
         if (!splits.isEmpty()) {
             pendingSplit.addAll(splits);
-            assignSplit(subtaskId);
+            assignSplit(subtaskId, splits);
         }
     }
 
-    private void assignSplit(int taskId) {
-        ArrayList<FileSourceSplit> currentTaskSplits = new ArrayList<>();
-        if (context.currentParallelism() == 1) {
-            // if parallelism == 1, we should assign all the splits to reader
-            currentTaskSplits.addAll(pendingSplit);
-        } else {
-            // if parallelism > 1, according to hashCode of split's id to determine whether to
-            // allocate the current task
-            for (FileSourceSplit fileSourceSplit : pendingSplit) {
-                int splitOwner =
-                        getSplitOwner(fileSourceSplit.splitId(), context.currentParallelism());
-                if (splitOwner == taskId) {
-                    currentTaskSplits.add(fileSourceSplit);
-                }
-            }
-        }
+    private void assignSplit(int taskId, List<FileSourceSplit> splits) {
+        List<FileSourceSplit> currentTaskSplits = new ArrayList<>(splits);
         // assign splits
         context.assignSplit(taskId, currentTaskSplits);
-        // save the state of assigned splits
-        assignedSplit.addAll(currentTaskSplits);
+        if (!discoveryConfig.isContinuous()) {
+            // save the state of assigned splits, the continuous source keeps the processed files
+            // index instead, as the assigned splits grow without bound
+            assignedSplit.addAll(currentTaskSplits);
+        }
         // remove the assigned splits from pending splits
         currentTaskSplits.forEach(split -> pendingSplit.remove(split));
         LOGGER.info(
@@ -115,15 +199,13 @@ public class FileSourceSplitEnumerator
                 currentTaskSplits.stream()
                         .map(FileSourceSplit::splitId)
                         .collect(Collectors.joining(",")));
-        context.signalNoMoreSplits(taskId);
-    }
-
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+        if (!discoveryConfig.isContinuous()) {
+            context.signalNoMoreSplits(taskId);
+        }
     }
 
     @Override
-    public int currentUnassignedSplitSize() {
+    public synchronized int currentUnassignedSplitSize() {
         return pendingSplit.size();
     }
 
@@ -133,7 +215,13 @@ public class FileSourceSplitEnumerator
     }
 
     @Override
-    public FileSourceState snapshotState(long checkpointId) {
+    public synchronized FileSourceState snapshotState(long checkpointId) {
+        if (discoveryConfig.isContinuous()) {
+            return new FileSourceState(
+                    new HashSet<>(assignedSplit),
+                    new HashSet<>(pendingSplit),
+                    Collections.singletonMap(DEFAULT_TABLE_ID, processedFilesIndex.copy()));
+        }
         return new FileSourceState(assignedSplit);
     }
 
@@ -20,18 +20,30 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileDiscoveryConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.ProcessedFilesIndex;
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,6 +54,15 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
     private final Map<String, List<String>> filePathMap;
+    private final Map<String, ReadStrategy> readStrategyMap;
+    // the splits of every reader, balanced by byte size once all files are discovered
+    private Map<Integer, List<FileSourceSplit>> splitAssignment;
+    // the processed files of the tables whose new files are discovered continuously
+    private final Map<String, ProcessedFilesIndex> processedFilesIndexes = new HashMap<>();
+    private final Map<String, FileDiscoverer> fileDiscoverers = new HashMap<>();
+    private final Set<Integer> registeredReaders = new TreeSet<>();
+    private final long discoveryInterval;
+    private ScheduledExecutorService executor;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
@@ -58,8 +79,33 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .toTablePath()
                                                         .toString(),
                                         BaseFileSourceConfig::getFilePaths));
+        this.readStrategyMap =
+                multipleTableFileSourceConfig.getFileSourceConfigs().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        localFileSourceConfig ->
+                                                localFileSourceConfig
+                                                        .getCatalogTable()
+                                                        .getTableId()
+                                                        .toTablePath()
+                                                        .toString(),
+                                        BaseFileSourceConfig::getReadStrategy));
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
+        // the new files of all the continuous tables are discovered with the shortest interval
+        this.discoveryInterval =
+                readStrategyMap.values().stream()
+                        .map(ReadStrategy::getFileDiscoveryConfig)
+                        .filter(FileDiscoveryConfig::isContinuous)
+                        .mapToLong(FileDiscoveryConfig::getDiscoveryInterval)
+                        .min()
+                        .orElse(0L);
+        readStrategyMap.forEach(
+                (tableId, readStrategy) -> {
+                    if (readStrategy.getFileDiscoveryConfig().isContinuous()) {
+                        processedFilesIndexes.put(tableId, new ProcessedFilesIndex());
+                    }
+                });
     }
 
     public MultipleTableFileSourceSplitEnumerator(
@@ -68,19 +114,33 @@ public class MultipleTableFileSourceSplitEnumerator
             FileSourceState fileSourceState) {
         this(context, multipleTableFileSourceConfig);
         this.assignedSplit.addAll(fileSourceState.getAssignedSplit());
+        if (hasContinuousTables()) {
+            // the pending splits of the bounded tables are listed again once a reader registers
+            fileSourceState.getPendingSplit().stream()
+                    .filter(split -> isContinuous(split.getTableId()))
+                    .forEach(pendingSplit::add);
+            fileSourceState
+                    .getProcessedFilesIndexes()
+                    .forEach(
+                            (tableId, processedFilesIndex) -> {
+                                if (processedFilesIndexes.containsKey(tableId)) {
+                                    processedFilesIndexes.put(tableId, processedFilesIndex);
+                                }
+                            });
+        }
     }
 
     @Override
-    public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
+    public synchronized void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
         if (CollectionUtils.isEmpty(splits)) {
             return;
         }
         pendingSplit.addAll(splits);
-        assignSplit(subtaskId);
+        assignSplit(subtaskId, splits);
     }
 
     @Override
-    public int currentUnassignedSplitSize() {
+    public synchronized int currentUnassignedSplitSize() {
         return pendingSplit.size();
     }
 
@@ -88,19 +148,45 @@ public class MultipleTableFileSourceSplitEnumerator
     public void handleSplitRequest(int subtaskId) {}
 
     @Override
-    public void registerReader(int subtaskId) {
-        for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
-            String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+    public synchronized void registerReader(int subtaskId) {
+        if (splitAssignment == null) {
+            for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
+                String tableId = filePathEntry.getKey();
+                if (fileDiscoverers.containsKey(tableId)) {
+                    pendingSplit.addAll(discoverSplits(tableId));
+                    continue;
+                }
+                ReadStrategy readStrategy = readStrategyMap.get(tableId);
+                for (String filePath : filePathEntry.getValue()) {
+                    try {
+                        pendingSplit.addAll(readStrategy.getFileSourceSplits(tableId, filePath));
+                    } catch (IOException e) {
+                        throw new FileConnectorException(
+                                FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                                String.format("Get the splits of this file [%s] failed", filePath),
+                                e);
+                    }
+                }
             }
+            splitAssignment =
+                    FileSourceSplitAssigner.assign(pendingSplit, context.currentParallelism());
         }
-        assignSplit(subtaskId);
+        registeredReaders.add(subtaskId);
+        assignSplit(subtaskId, splitAssignment.getOrDefault(subtaskId, Collections.emptyList()));
     }
 
     @Override
-    public FileSourceState snapshotState(long checkpointId) {
+    public synchronized FileSourceState snapshotState(long checkpointId) {
+        if (hasContinuousTables()) {
+            Map<String, ProcessedFilesIndex> indexes = new HashMap<>();
+            processedFilesIndexes.forEach((tableId, index) -> indexes.put(tableId, index.copy()));
+            return new FileSourceState(
+                    new HashSet<>(assignedSplit),
+                    pendingSplit.stream()
+                            .filter(split -> isContinuous(split.getTableId()))
+                            .collect(Collectors.toSet()),
+                    indexes);
+        }
         return new FileSourceState(assignedSplit);
     }
 
@@ -109,26 +195,16 @@ public class MultipleTableFileSourceSplitEnumerator
         // do nothing.
     }
 
-    private void assignSplit(int taskId) {
-        List<FileSourceSplit> currentTaskSplits = new ArrayList<>();
-        if (context.currentParallelism() == 1) {
-            // if parallelism == 1, we should assign all the splits to reader
-            currentTaskSplits.addAll(pendingSplit);
-        } else {
-            // if parallelism > 1, according to hashCode of split's id to determine whether to
-            // allocate the current task
-            for (FileSourceSplit fileSourceSplit : pendingSplit) {
-                int splitOwner =
-                        getSplitOwner(fileSourceSplit.splitId(), context.currentParallelism());
-                if (splitOwner == taskId) {
-                    currentTaskSplits.add(fileSourceSplit);
-                }
-            }
-        }
+    private void assignSplit(int taskId, List<FileSourceSplit> splits) {
+        List<FileSourceSplit> currentTaskSplits = new ArrayList<>(splits);
+        currentTaskSplits.retainAll(pendingSplit);
         // assign splits
         context.assignSplit(taskId, currentTaskSplits);
-        // save the state of assigned splits
-        assignedSplit.addAll(currentTaskSplits);
+        // save the state of assigned splits of the bounded tables, the continuous tables keep the
+        // processed files index instead, as their assigned splits grow without bound
+        currentTaskSplits.stream()
+                .filter(split -> !isContinuous(split.getTableId()))
+                .forEach(assignedSplit::add);
         // remove the assigned splits from pending splits
         currentTaskSplits.forEach(pendingSplit::remove);
         log.info(
@@ -137,16 +213,82 @@ public class MultipleTableFileSourceSplitEnumerator
                 currentTaskSplits.stream()
                         .map(FileSourceSplit::splitId)
                         .collect(Collectors.joining(",")));
-        context.signalNoMoreSplits(taskId);
+        if (!hasContinuousTables()) {
+            // a reader reads the splits of all the tables, it keeps waiting for the new files as
+            // long as one of the tables is continuous
+            context.signalNoMoreSplits(taskId);
+        }
     }
 
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
+    private boolean isContinuous(String tableId) {
+        return processedFilesIndexes.containsKey(tableId);
+    }
+
+    private boolean hasContinuousTables() {
+        return !processedFilesIndexes.isEmpty();
+    }
+
+    private List<FileSourceSplit> discoverSplits(String tableId) {
+        try {
+            return fileDiscoverers.get(tableId).discoverSplits();
+        } catch (IOException e) {
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                    String.format(
+                            "Discover the new files of this path [%s] failed",
+                            readStrategyMap.get(tableId).getFileDiscoveryConfig().getPath()),
+                    e);
+        }
+    }
+
+    private synchronized void discoverAndAssignSplits() {
+        // the splits are assigned to the registered readers once all files are discovered
+        if (splitAssignment == null || registeredReaders.isEmpty()) {
+            return;
+        }
+        for (String tableId : fileDiscoverers.keySet()) {
+            pendingSplit.addAll(discoverSplits(tableId));
+        }
+        List<Integer> readers = new ArrayList<>(registeredReaders);
+        Map<Integer, List<FileSourceSplit>> assignment =
+                FileSourceSplitAssigner.assign(pendingSplit, readers.size());
+        for (Map.Entry<Integer, List<FileSourceSplit>> entry : assignment.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                assignSplit(readers.get(entry.getKey()), entry.getValue());
+            }
+        }
     }
 
     @Override
     public void open() {
-        // do nothing
+        if (!hasContinuousTables()) {
+            return;
+        }
+        processedFilesIndexes.forEach(
+                (tableId, processedFilesIndex) ->
+                        fileDiscoverers.put(
+                                tableId,
+                                new FileDiscoverer(
+                                        tableId,
+                                        readStrategyMap.get(tableId),
+                                        processedFilesIndex)));
+        this.executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("file-source-dynamic-discovery")
+                                .setDaemon(true)
+                                .build());
+        executor.scheduleWithFixedDelay(
+                () -> {
+                    try {
+                        discoverAndAssignSplits();
+                    } catch (Exception e) {
+                        log.error("Dynamic discovery failure:", e);
+                    }
+                },
+                discoveryInterval,
+                discoveryInterval,
+                TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -156,6 +298,9 @@ public class MultipleTableFileSourceSplitEnumerator
 
     @Override
     public void close() throws IOException {
-        // do nothing
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        fileDiscoverers.values().forEach(FileDiscoverer::close);
     }
 }
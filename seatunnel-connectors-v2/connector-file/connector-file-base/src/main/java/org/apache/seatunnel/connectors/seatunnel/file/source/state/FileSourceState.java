@@ -20,17 +20,41 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.state;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 public class FileSourceState implements Serializable {
     private static final long serialVersionUID = 9208369906513934611L;
     private final Set<FileSourceSplit> assignedSplit;
+    // the discovered splits not assigned yet and the processed files of every table, they are
+    // only kept by the continuous source
+    private final Set<FileSourceSplit> pendingSplit;
+    private final Map<String, ProcessedFilesIndex> processedFilesIndexes;
 
     public FileSourceState(Set<FileSourceSplit> assignedSplit) {
+        this(assignedSplit, Collections.emptySet(), Collections.emptyMap());
+    }
+
+    public FileSourceState(
+            Set<FileSourceSplit> assignedSplit,
+            Set<FileSourceSplit> pendingSplit,
+            Map<String, ProcessedFilesIndex> processedFilesIndexes) {
         this.assignedSplit = assignedSplit;
+        this.pendingSplit = pendingSplit;
+        this.processedFilesIndexes = processedFilesIndexes;
     }
 
     public Set<FileSourceSplit> getAssignedSplit() {
         return assignedSplit;
     }
+
+    public Set<FileSourceSplit> getPendingSplit() {
+        // the state of the previous versions has no pending splits
+        return pendingSplit == null ? Collections.emptySet() : pendingSplit;
+    }
+
+    public Map<String, ProcessedFilesIndex> getProcessedFilesIndexes() {
+        return processedFilesIndexes == null ? Collections.emptyMap() : processedFilesIndexes;
+    }
 }
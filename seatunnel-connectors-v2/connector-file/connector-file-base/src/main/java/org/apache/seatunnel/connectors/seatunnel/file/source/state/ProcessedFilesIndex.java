@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.state;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The index of the files processed by a continuous file source. The watermark is the newest
+ * modification time of the processed files, the files older than the watermark by more than the
+ * lateness are treated as processed, so only the recent files are kept in the index.
+ *
+ * <p>The recent files are sorted by path and front coded in the checkpoint, the files of a
+ * directory share the long prefix of their paths.
+ */
+public class ProcessedFilesIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long watermark = Long.MIN_VALUE;
+
+    // the modification time of the recent files, sorted by path
+    private transient TreeMap<String, Long> recentFiles = new TreeMap<>();
+
+    public boolean isProcessed(String path, long modificationTime, long lateness) {
+        return modificationTime < getLowerBound(lateness) || recentFiles.containsKey(path);
+    }
+
+    public void add(String path, long modificationTime) {
+        recentFiles.put(path, modificationTime);
+        watermark = Math.max(watermark, modificationTime);
+    }
+
+    /** Remove the files which are older than the watermark by more than the lateness. */
+    public void prune(long lateness) {
+        long lowerBound = getLowerBound(lateness);
+        recentFiles.values().removeIf(modificationTime -> modificationTime < lowerBound);
+    }
+
+    public ProcessedFilesIndex copy() {
+        ProcessedFilesIndex copy = new ProcessedFilesIndex();
+        copy.watermark = watermark;
+        copy.recentFiles.putAll(recentFiles);
+        return copy;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /** The number of the recent files kept in the index. */
+    public int size() {
+        return recentFiles.size();
+    }
+
+    private long getLowerBound(long lateness) {
+        return watermark == Long.MIN_VALUE ? Long.MIN_VALUE : watermark - lateness;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(recentFiles.size());
+        String previous = "";
+        for (Map.Entry<String, Long> entry : recentFiles.entrySet()) {
+            String path = entry.getKey();
+            int prefixLength = commonPrefixLength(previous, path);
+            out.writeInt(prefixLength);
+            out.writeUTF(path.substring(prefixLength));
+            out.writeLong(entry.getValue());
+            previous = path;
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        recentFiles = new TreeMap<>();
+        int size = in.readInt();
+        String previous = "";
+        for (int i = 0; i < size; i++) {
+            int prefixLength = in.readInt();
+            String path = previous.substring(0, prefixLength) + in.readUTF();
+            recentFiles.put(path, in.readLong());
+            previous = path;
+        }
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileDiscoverer;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.MultipleTableFileSourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
+import org.apache.seatunnel.connectors.seatunnel.file.source.state.ProcessedFilesIndex;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileDiscoveryTest {
+
+    private static final long LATENESS = 60 * 1000L;
+    private static final long BASE_TIME = 1_700_000_000_000L;
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testDiscoverNewFilesByWatermark() throws Exception {
+        writeFile("a/1.txt", BASE_TIME);
+        writeFile("b/c/2.txt", BASE_TIME + 1000);
+        writeFile("b/c/d/3.txt", BASE_TIME + 2000);
+        writeFile("b/.4.txt", BASE_TIME + 3000);
+
+        ProcessedFilesIndex index = new ProcessedFilesIndex();
+        try (TextReadStrategy readStrategy = createReadStrategy();
+                FileDiscoverer discoverer = new FileDiscoverer(null, readStrategy, index)) {
+            // the files of all levels are discovered in order of modification time
+            Assertions.assertEquals(
+                    names("1.txt", "2.txt", "3.txt"), fileNames(discoverer.discoverSplits()));
+            Assertions.assertEquals(BASE_TIME + 2000, index.getWatermark());
+            Assertions.assertTrue(discoverer.discoverSplits().isEmpty());
+
+            writeFile("a/5.txt", BASE_TIME + 5000);
+            // a late file within the lateness is still discovered
+            writeFile("b/6.txt", BASE_TIME + 2000 - LATENESS + 1000);
+            // a file older than the watermark by more than the lateness is skipped
+            writeFile("b/7.txt", BASE_TIME - LATENESS - 1000);
+            Assertions.assertEquals(
+                    names("6.txt", "5.txt"), fileNames(discoverer.discoverSplits()));
+            Assertions.assertEquals(BASE_TIME + 5000, index.getWatermark());
+            Assertions.assertTrue(discoverer.discoverSplits().isEmpty());
+        }
+        // the files older than the watermark by more than the lateness are pruned
+        Assertions.assertEquals(4, index.size());
+        ProcessedFilesIndex restored = SerializationUtils.clone(index);
+        Assertions.assertEquals(index.getWatermark(), restored.getWatermark());
+        Assertions.assertEquals(index.size(), restored.size());
+        String path = "file:" + tempDir.resolve("b/c/d/3.txt");
+        Assertions.assertTrue(restored.isProcessed(path, BASE_TIME + 2000, LATENESS));
+    }
+
+    @Test
+    public void testContinuousEnumeratorRestore() throws Exception {
+        writeFile("p=1/1.txt", BASE_TIME);
+        writeFile("p=2/2.txt", BASE_TIME + 1000);
+
+        TestContext context = new TestContext(2);
+        FileSourceState state;
+        try (TextReadStrategy readStrategy = createReadStrategy()) {
+            FileSourceSplitEnumerator enumerator =
+                    new FileSourceSplitEnumerator(context, Collections.emptyList(), readStrategy);
+            enumerator.open();
+            enumerator.run();
+            enumerator.close();
+            state = SerializationUtils.clone(enumerator.snapshotState(1L));
+        }
+        Assertions.assertEquals(names("1.txt", "2.txt"), fileNames(context.assignedSplits));
+        // the continuous source never signals no more splits
+        Assertions.assertTrue(context.noMoreSplits.isEmpty());
+        Assertions.assertTrue(state.getAssignedSplit().isEmpty());
+
+        writeFile("p=3/3.txt", BASE_TIME + 2000);
+        context = new TestContext(2);
+        try (TextReadStrategy readStrategy = createReadStrategy()) {
+            FileSourceSplitEnumerator enumerator =
+                    new FileSourceSplitEnumerator(
+                            context, Collections.emptyList(), readStrategy, state);
+            enumerator.open();
+            enumerator.run();
+            enumerator.close();
+        }
+        // only the new file is read after the restore
+        Assertions.assertEquals(names("3.txt"), fileNames(context.assignedSplits));
+    }
+
+    @Test
+    public void testMultipleTableEnumeratorWithBoundedAndContinuousTables() throws Exception {
+        writeFile("bounded/1.txt", BASE_TIME);
+        writeFile("continuous/2.txt", BASE_TIME + 1000);
+        Map<String, Object> config = new HashMap<>();
+        List<Map<String, Object>> tableConfigs = new ArrayList<>();
+        tableConfigs.add(createTableConfig("bounded", null));
+        tableConfigs.add(createTableConfig("continuous", 3600000L));
+        config.put("tables_configs", tableConfigs);
+        TestMultipleTableConfig multipleTableConfig =
+                new TestMultipleTableConfig(ReadonlyConfig.fromMap(config));
+
+        TestContext context = new TestContext(1);
+        MultipleTableFileSourceSplitEnumerator enumerator =
+                new MultipleTableFileSourceSplitEnumerator(context, multipleTableConfig);
+        enumerator.open();
+        enumerator.registerReader(0);
+        FileSourceState state = SerializationUtils.clone(enumerator.snapshotState(1L));
+        enumerator.close();
+
+        Assertions.assertEquals(names("1.txt", "2.txt"), fileNames(context.assignedSplits));
+        // the reader keeps waiting for the new files of the continuous table
+        Assertions.assertTrue(context.noMoreSplits.isEmpty());
+        // only the splits of the bounded table are kept in the state
+        Assertions.assertEquals(
+                names("1.txt"), fileNames(new ArrayList<>(state.getAssignedSplit())));
+        Assertions.assertTrue(state.getPendingSplit().isEmpty());
+        Assertions.assertEquals(1, state.getProcessedFilesIndexes().size());
+
+        writeFile("continuous/3.txt", BASE_TIME + 2000);
+        context = new TestContext(1);
+        enumerator =
+                new MultipleTableFileSourceSplitEnumerator(context, multipleTableConfig, state);
+        enumerator.open();
+        enumerator.registerReader(0);
+        enumerator.close();
+        // the processed file of the continuous table is not read again
+        Assertions.assertFalse(fileNames(context.assignedSplits).contains("2.txt"));
+        Assertions.assertTrue(fileNames(context.assignedSplits).contains("3.txt"));
+    }
+
+    private Map<String, Object> createTableConfig(String table, Long discoveryInterval) {
+        Map<String, Object> column = new HashMap<>();
+        column.put("name", "line");
+        column.put("type", "string");
+        Map<String, Object> schema = new HashMap<>();
+        schema.put("table", "db." + table);
+        schema.put("columns", Collections.singletonList(column));
+        Map<String, Object> tableConfig = new HashMap<>();
+        tableConfig.put("path", tempDir.resolve(table).toString());
+        tableConfig.put("file_format_type", "text");
+        tableConfig.put("schema", schema);
+        if (discoveryInterval != null) {
+            tableConfig.put("file_discovery_interval", discoveryInterval);
+        }
+        return tableConfig;
+    }
+
+    private TextReadStrategy createReadStrategy() {
+        TextReadStrategy readStrategy = new TextReadStrategy();
+        readStrategy.setPluginConfig(
+                ConfigFactory.parseString(
+                        "file_format_type = text\n"
+                                + "path = \""
+                                + tempDir
+                                + "\"\n"
+                                + "file_discovery_interval = 3600000\n"
+                                + "file_discovery_parallelism = 2\n"
+                                + "file_discovery_lateness = "
+                                + LATENESS));
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        return readStrategy;
+    }
+
+    private void writeFile(String relativePath, long modificationTime) throws IOException {
+        File file = tempDir.resolve(relativePath).toFile();
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), relativePath.getBytes(StandardCharsets.UTF_8));
+        Assertions.assertTrue(file.setLastModified(modificationTime));
+    }
+
+    private static List<String> names(String... names) {
+        List<String> list = new ArrayList<>();
+        Collections.addAll(list, names);
+        return list;
+    }
+
+    private static List<String> fileNames(List<FileSourceSplit> splits) {
+        return splits.stream()
+                .map(split -> new org.apache.hadoop.fs.Path(split.getFilePath()).getName())
+                .collect(Collectors.toList());
+    }
+
+    private static class TestFileSourceConfig extends BaseFileSourceConfig {
+        private static final long serialVersionUID = 1L;
+
+        private TestFileSourceConfig(ReadonlyConfig readonlyConfig) {
+            super(readonlyConfig);
+        }
+
+        @Override
+        public HadoopConf getHadoopConfig() {
+            return new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        }
+
+        @Override
+        public String getPluginName() {
+            return "LocalFile";
+        }
+    }
+
+    private static class TestMultipleTableConfig extends BaseMultipleTableFileSourceConfig {
+        private static final long serialVersionUID = 1L;
+
+        private TestMultipleTableConfig(ReadonlyConfig readonlyConfig) {
+            super(readonlyConfig);
+        }
+
+        @Override
+        public BaseFileSourceConfig getBaseSourceConfig(ReadonlyConfig readonlyConfig) {
+            return new TestFileSourceConfig(readonlyConfig);
+        }
+    }
+
+    private static class TestContext implements SourceSplitEnumerator.Context<FileSourceSplit> {
+        private final int parallelism;
+        private final List<FileSourceSplit> assignedSplits = new ArrayList<>();
+        private final Set<Integer> noMoreSplits = new HashSet<>();
+
+        private TestContext(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<FileSourceSplit> splits) {
+            assignedSplits.addAll(splits);
+            assignedSplits.sort((a, b) -> fileNameOf(a).compareTo(fileNameOf(b)));
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {
+            noMoreSplits.add(subtask);
+        }
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+
+        private static String fileNameOf(FileSourceSplit split) {
+            return new org.apache.hadoop.fs.Path(split.getFilePath()).getName();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileAggregatedCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileSinkAggregatedCommitter;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.AbstractWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.JsonWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ParquetWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.TextWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.apache.commons.io.FileUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class FileSinkCompactionTest {
+
+    private static final int ROW_COUNT = 100;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testRollTextFilesBySize() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("max_file_size", 100);
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.TEXT, config);
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        FileCommitInfo commitInfo;
+        try (TextWriteStrategy writeStrategy = new TextWriteStrategy(fileSinkConfig)) {
+            commitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        Assertions.assertTrue(commitInfo.getNeedMoveFiles().size() > 1);
+        for (String file : commitInfo.getNeedMoveFiles().keySet()) {
+            // a file is rolled once it exceeds the max size, so it is smaller than two rows more
+            Assertions.assertTrue(new File(file).length() < 100 + 2 * 16);
+        }
+
+        FileSinkAggregatedCommitter committer =
+                new FileSinkAggregatedCommitter(hadoopConf, fileSinkConfig);
+        commit(committer, commitInfo);
+        committer.close();
+        Assertions.assertEquals(commitInfo.getNeedMoveFiles().size(), listTargetFiles().length);
+        Assertions.assertEquals(ROW_COUNT, readTargetLines().size());
+    }
+
+    @Test
+    public void testCompactTextFiles() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("max_file_size", 100);
+        config.put("enable_file_compaction", true);
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.TEXT, config);
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        FileCommitInfo commitInfo;
+        try (TextWriteStrategy writeStrategy = new TextWriteStrategy(fileSinkConfig)) {
+            commitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        Assertions.assertTrue(commitInfo.getNeedMoveFiles().size() > 1);
+
+        FileSinkAggregatedCommitter committer =
+                new FileSinkAggregatedCommitter(hadoopConf, fileSinkConfig);
+        commit(committer, commitInfo);
+        // commit again when recovering from the checkpoint
+        commit(committer, commitInfo);
+        committer.close();
+
+        Assertions.assertEquals(1, listTargetFiles().length);
+        List<String> lines = readTargetLines();
+        Assertions.assertEquals(ROW_COUNT, lines.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i + "\u0001name-" + i, lines.get(i));
+        }
+        Assertions.assertFalse(new File(commitInfo.getTransactionDir()).exists());
+    }
+
+    @Test
+    public void testCompactFilesOfAllSubtasks() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("max_file_size", 100);
+        config.put("enable_file_compaction", true);
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.TEXT, config);
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        List<FileCommitInfo> commitInfos = new ArrayList<>();
+        for (int subtask = 0; subtask < 2; subtask++) {
+            try (TextWriteStrategy writeStrategy = new TextWriteStrategy(fileSinkConfig)) {
+                commitInfos.add(writeRows(writeStrategy, hadoopConf, subtask));
+            }
+        }
+        // keep the files of the first subtask, as if the commit failed before deleting them
+        File firstTransactionDir = new File(commitInfos.get(0).getTransactionDir());
+        File backupDir = tempDir.resolve("backup").toFile();
+        FileUtils.copyDirectory(firstTransactionDir, backupDir);
+
+        FileSinkAggregatedCommitter committer =
+                new FileSinkAggregatedCommitter(hadoopConf, fileSinkConfig);
+        FileAggregatedCommitInfo aggregatedCommitInfo = committer.combine(commitInfos);
+        Assertions.assertTrue(
+                committer.commit(Collections.singletonList(aggregatedCommitInfo)).isEmpty());
+        // the small files of the subtasks are merged together
+        Assertions.assertEquals(1, listTargetFiles().length);
+
+        FileUtils.copyDirectory(backupDir, firstTransactionDir);
+        Assertions.assertTrue(
+                committer.commit(Collections.singletonList(aggregatedCommitInfo)).isEmpty());
+        committer.close();
+
+        Assertions.assertEquals(1, listTargetFiles().length);
+        List<String> lines = readTargetLines();
+        Assertions.assertEquals(2 * ROW_COUNT, lines.size());
+        for (int i = 0; i < 2 * ROW_COUNT; i++) {
+            Assertions.assertEquals(i + "\u0001name-" + i, lines.get(i));
+        }
+        Assertions.assertFalse(firstTransactionDir.exists());
+    }
+
+    @Test
+    public void testAbortAfterCompaction() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("max_file_size", 100);
+        config.put("enable_file_compaction", true);
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.TEXT, config);
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        FileCommitInfo commitInfo;
+        try (TextWriteStrategy writeStrategy = new TextWriteStrategy(fileSinkConfig)) {
+            commitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        // keep the small files, as if the commit failed after moving the merged file
+        File transactionDir = new File(commitInfo.getTransactionDir());
+        File backupDir = tempDir.resolve("backup").toFile();
+        FileUtils.copyDirectory(transactionDir, backupDir);
+
+        FileSinkAggregatedCommitter committer =
+                new FileSinkAggregatedCommitter(hadoopConf, fileSinkConfig);
+        FileAggregatedCommitInfo aggregatedCommitInfo =
+                committer.combine(Collections.singletonList(commitInfo));
+        Assertions.assertTrue(
+                committer.commit(Collections.singletonList(aggregatedCommitInfo)).isEmpty());
+        Assertions.assertEquals(1, listTargetFiles().length);
+        Assertions.assertEquals(1, aggregatedCommitInfo.getCompactedFiles().size());
+
+        FileUtils.copyDirectory(backupDir, transactionDir);
+        committer.abort(Collections.singletonList(aggregatedCommitInfo));
+        committer.close();
+
+        Assertions.assertEquals(0, listTargetFiles().length);
+        Assertions.assertFalse(transactionDir.exists());
+    }
+
+    @Test
+    public void testCompactFilesToTargetSize() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("batch_size", 10);
+        config.put("enable_file_compaction", true);
+        config.put("compaction_target_file_size", 1000);
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.JSON, config);
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        FileCommitInfo commitInfo;
+        try (JsonWriteStrategy writeStrategy = new JsonWriteStrategy(fileSinkConfig)) {
+            commitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        Assertions.assertEquals(10, commitInfo.getNeedMoveFiles().size());
+        long totalSize =
+                commitInfo.getNeedMoveFiles().keySet().stream()
+                        .mapToLong(file -> new File(file).length())
+                        .sum();
+
+        FileSinkAggregatedCommitter committer =
+                new FileSinkAggregatedCommitter(hadoopConf, fileSinkConfig);
+        commit(committer, commitInfo);
+        committer.close();
+
+        File[] files = listTargetFiles();
+        Assertions.assertTrue(files.length > 1 && files.length < 10);
+        for (File file : files) {
+            Assertions.assertTrue(file.length() <= 1000 + 1);
+        }
+        Assertions.assertTrue(files.length <= totalSize / 1000 + 2);
+        List<String> lines = readTargetLines();
+        Assertions.assertEquals(ROW_COUNT, lines.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals("{\"id\":" + i + ",\"name\":\"name-" + i + "\"}", lines.get(i));
+        }
+    }
+
+    @Test
+    public void testCompactParquetAndOrcFiles() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("batch_size", 10);
+        config.put("enable_file_compaction", true);
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+
+        FileSinkConfig parquetConfig = createSinkConfig(FileFormat.PARQUET, config);
+        FileCommitInfo parquetCommitInfo;
+        try (ParquetWriteStrategy writeStrategy = new ParquetWriteStrategy(parquetConfig)) {
+            parquetCommitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        Assertions.assertEquals(10, parquetCommitInfo.getNeedMoveFiles().size());
+        FileSinkAggregatedCommitter committer =
+                new FileSinkAggregatedCommitter(hadoopConf, parquetConfig);
+        commit(committer, parquetCommitInfo);
+        committer.close();
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            assertRows(readStrategy, ".parquet");
+        }
+
+        FileSinkConfig orcConfig = createSinkConfig(FileFormat.ORC, config);
+        FileCommitInfo orcCommitInfo;
+        try (OrcWriteStrategy writeStrategy = new OrcWriteStrategy(orcConfig)) {
+            orcCommitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        Assertions.assertEquals(10, orcCommitInfo.getNeedMoveFiles().size());
+        committer = new FileSinkAggregatedCommitter(hadoopConf, orcConfig);
+        commit(committer, orcCommitInfo);
+        committer.close();
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            assertRows(readStrategy, ".orc");
+        }
+    }
+
+    private FileSinkConfig createSinkConfig(FileFormat fileFormat, Map<String, Object> config) {
+        Map<String, Object> writeConfig = new HashMap<>(config);
+        writeConfig.put("tmp_path", tempDir.resolve("tmp").toString());
+        writeConfig.put("path", tempDir.resolve("target").toString());
+        writeConfig.put("file_format_type", fileFormat.name());
+        return new FileSinkConfig(ConfigFactory.parseMap(writeConfig), ROW_TYPE);
+    }
+
+    private FileCommitInfo writeRows(AbstractWriteStrategy writeStrategy, LocalConf hadoopConf) {
+        return writeRows(writeStrategy, hadoopConf, 0);
+    }
+
+    private FileCommitInfo writeRows(
+            AbstractWriteStrategy writeStrategy, LocalConf hadoopConf, int subtask) {
+        writeStrategy.setSeaTunnelRowTypeInfo(ROW_TYPE);
+        writeStrategy.init(hadoopConf, "test", UUID.randomUUID().toString(), subtask);
+        writeStrategy.beginTransaction(1L);
+        for (int i = subtask * ROW_COUNT; i < (subtask + 1) * ROW_COUNT; i++) {
+            writeStrategy.write(new SeaTunnelRow(new Object[] {i, "name-" + i}));
+        }
+        Optional<FileCommitInfo> commitInfo = writeStrategy.prepareCommit();
+        Assertions.assertTrue(commitInfo.isPresent());
+        return commitInfo.get();
+    }
+
+    private void commit(FileSinkAggregatedCommitter committer, FileCommitInfo commitInfo)
+            throws IOException {
+        FileAggregatedCommitInfo aggregatedCommitInfo =
+                committer.combine(Collections.singletonList(commitInfo));
+        Assertions.assertTrue(
+                committer.commit(Collections.singletonList(aggregatedCommitInfo)).isEmpty());
+    }
+
+    private File[] listTargetFiles() {
+        File[] files = new File(tempDir.toFile(), "target").listFiles(File::isFile);
+        Assertions.assertNotNull(files);
+        // the files are named by the transaction and the part number
+        Arrays.sort(files, (f1, f2) -> Integer.compare(partNumber(f1), partNumber(f2)));
+        return files;
+    }
+
+    private static int partNumber(File file) {
+        String name = file.getName();
+        name = name.substring(0, name.indexOf('.'));
+        return Integer.parseInt(name.substring(name.lastIndexOf('_') + 1));
+    }
+
+    private List<String> readTargetLines() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (File file : listTargetFiles()) {
+            lines.addAll(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+        }
+        return lines;
+    }
+
+    private void assertRows(AbstractReadStrategy readStrategy, String suffix) throws Exception {
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        List<String> files = new ArrayList<>();
+        for (String file : readStrategy.getFileNamesByPath(tempDir.resolve("target").toString())) {
+            if (file.endsWith(suffix)) {
+                files.add(file);
+            }
+        }
+        Assertions.assertEquals(1, files.size());
+        readStrategy.getSeaTunnelRowTypeInfo(files.get(0));
+        TestCollector collector = new TestCollector();
+        readStrategy.read(files.get(0), "", collector);
+        List<SeaTunnelRow> rows = collector.getRows();
+        Assertions.assertEquals(ROW_COUNT, rows.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i, rows.get(i).getField(0));
+            Assertions.assertEquals("name-" + i, rows.get(i).getField(1));
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.BaseFileSinkWriter;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileAggregatedCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileSinkAggregatedCommitter;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.state.FileSinkState;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.AbstractWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.ParquetWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.writer.TextWriteStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class MultipartUploadTest {
+
+    private static final int ROW_COUNT = 100;
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testCommitTextFileByMultipartUpload() throws Exception {
+        LocalMultipartConf hadoopConf = new LocalMultipartConf();
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.TEXT);
+        FileCommitInfo commitInfo;
+        try (TextWriteStrategy writeStrategy = new TextWriteStrategy(fileSinkConfig)) {
+            commitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        Assertions.assertEquals(1, commitInfo.getMultipartUploads().size());
+        // the file is neither written to the transaction directory nor visible before the commit
+        Assertions.assertFalse(new File(tempDir.toFile(), "tmp").exists());
+        Assertions.assertFalse(new File(tempDir.toFile(), "target").exists());
+        Assertions.assertTrue(
+                commitInfo.getMultipartUploads().values().iterator().next().getPartETags().size()
+                        > 1);
+
+        FileSinkAggregatedCommitter committer = new FileSinkAggregatedCommitter(hadoopConf);
+        commit(committer, commitInfo);
+        // commit again when recovering from the checkpoint
+        commit(committer, commitInfo);
+        committer.close();
+
+        File[] files = new File(tempDir.toFile(), "target").listFiles();
+        Assertions.assertNotNull(files);
+        Assertions.assertEquals(1, files.length);
+        List<String> lines = Files.readAllLines(files[0].toPath(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(ROW_COUNT, lines.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i + "\u0001name-" + i, lines.get(i));
+        }
+        Assertions.assertTrue(LocalMultipartUploader.UPLOADS.isEmpty());
+    }
+
+    @Test
+    public void testAbortMultipartUpload() throws Exception {
+        LocalMultipartConf hadoopConf = new LocalMultipartConf();
+        FileCommitInfo commitInfo;
+        try (TextWriteStrategy writeStrategy =
+                new TextWriteStrategy(createSinkConfig(FileFormat.TEXT))) {
+            commitInfo = writeRows(writeStrategy, hadoopConf);
+        }
+        String uploadId = commitInfo.getMultipartUploads().values().iterator().next().getUploadId();
+        Assertions.assertTrue(LocalMultipartUploader.UPLOADS.containsKey(uploadId));
+
+        FileSinkAggregatedCommitter committer = new FileSinkAggregatedCommitter(hadoopConf);
+        committer.abort(
+                Collections.singletonList(
+                        committer.combine(Collections.singletonList(commitInfo))));
+        committer.close();
+        Assertions.assertFalse(LocalMultipartUploader.UPLOADS.containsKey(uploadId));
+        Assertions.assertFalse(new File(tempDir.toFile(), "target").exists());
+    }
+
+    @Test
+    public void testAbortIncompleteUploadsOnRestore() throws Exception {
+        LocalMultipartConf hadoopConf = new LocalMultipartConf();
+        FileSinkConfig fileSinkConfig = createSinkConfig(FileFormat.TEXT);
+        String uuidPrefix = UUID.randomUUID().toString().replaceAll("-", "").substring(0, 10);
+        TextWriteStrategy writeStrategy = new TextWriteStrategy(fileSinkConfig);
+        writeStrategy.setSeaTunnelRowTypeInfo(ROW_TYPE);
+        writeStrategy.init(hadoopConf, "test", uuidPrefix, 0);
+        writeStrategy.beginTransaction(1L);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            writeStrategy.write(new SeaTunnelRow(new Object[] {i, "name-" + i}));
+        }
+        writeStrategy.prepareCommit();
+        List<FileSinkState> states = writeStrategy.snapshotState(1L);
+        // the writer fails after uploading the parts of the next checkpoint
+        for (int i = 0; i < ROW_COUNT; i++) {
+            writeStrategy.write(new SeaTunnelRow(new Object[] {i, "name-" + i}));
+        }
+        String checkpointedUploadId =
+                states.get(0).getMultipartUploads().values().iterator().next().getUploadId();
+        List<String> incompleteUploadIds = new ArrayList<>();
+        LocalMultipartUploader.FILE_PATHS.forEach(
+                (uploadId, filePath) -> {
+                    if (filePath.contains(uuidPrefix) && !uploadId.equals(checkpointedUploadId)) {
+                        incompleteUploadIds.add(uploadId);
+                    }
+                });
+        Assertions.assertFalse(incompleteUploadIds.isEmpty());
+        // an upload of another job under the same path is kept
+        String otherUploadId =
+                new LocalMultipartUploader(null)
+                        .initiate(tempDir.resolve("target").resolve("T_other_0_1.txt").toString());
+
+        SinkWriter.Context context = Mockito.mock(SinkWriter.Context.class);
+        try (TextWriteStrategy restoredStrategy = new TextWriteStrategy(fileSinkConfig)) {
+            restoredStrategy.setSeaTunnelRowTypeInfo(ROW_TYPE);
+            new BaseFileSinkWriter(restoredStrategy, hadoopConf, context, "test", states);
+        }
+        for (String uploadId : incompleteUploadIds) {
+            Assertions.assertFalse(LocalMultipartUploader.UPLOADS.containsKey(uploadId));
+        }
+        Assertions.assertTrue(LocalMultipartUploader.UPLOADS.containsKey(otherUploadId));
+        LocalMultipartUploader.UPLOADS.remove(otherUploadId);
+        LocalMultipartUploader.FILE_PATHS.remove(otherUploadId);
+        // the checkpointed file is committed
+        File[] files = new File(tempDir.toFile(), "target").listFiles();
+        Assertions.assertNotNull(files);
+        Assertions.assertEquals(1, files.length);
+        Assertions.assertEquals(
+                ROW_COUNT, Files.readAllLines(files[0].toPath(), StandardCharsets.UTF_8).size());
+        writeStrategy.close();
+    }
+
+    @Test
+    public void testCommitParquetAndOrcFileByMultipartUpload() throws Exception {
+        LocalMultipartConf hadoopConf = new LocalMultipartConf();
+        FileSinkAggregatedCommitter committer = new FileSinkAggregatedCommitter(hadoopConf);
+        try (ParquetWriteStrategy writeStrategy =
+                new ParquetWriteStrategy(createSinkConfig(FileFormat.PARQUET))) {
+            commit(committer, writeRows(writeStrategy, hadoopConf));
+        }
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            assertRows(readStrategy, ".parquet");
+        }
+
+        try (OrcWriteStrategy writeStrategy =
+                new OrcWriteStrategy(createSinkConfig(FileFormat.ORC))) {
+            commit(committer, writeRows(writeStrategy, hadoopConf));
+        }
+        committer.close();
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            assertRows(readStrategy, ".orc");
+        }
+        Assertions.assertFalse(new File(tempDir.toFile(), "tmp").exists());
+    }
+
+    private FileSinkConfig createSinkConfig(FileFormat fileFormat) {
+        Map<String, Object> writeConfig = new HashMap<>();
+        writeConfig.put("tmp_path", tempDir.resolve("tmp").toString());
+        writeConfig.put("path", tempDir.resolve("target").toString());
+        writeConfig.put("file_format_type", fileFormat.name());
+        return new FileSinkConfig(ConfigFactory.parseMap(writeConfig), ROW_TYPE);
+    }
+
+    private FileCommitInfo writeRows(
+            AbstractWriteStrategy writeStrategy, LocalMultipartConf hadoopConf) {
+        writeStrategy.setSeaTunnelRowTypeInfo(ROW_TYPE);
+        writeStrategy.init(hadoopConf, "test", UUID.randomUUID().toString(), 0);
+        writeStrategy.beginTransaction(1L);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            writeStrategy.write(new SeaTunnelRow(new Object[] {i, "name-" + i}));
+        }
+        Optional<FileCommitInfo> commitInfo = writeStrategy.prepareCommit();
+        Assertions.assertTrue(commitInfo.isPresent());
+        return commitInfo.get();
+    }
+
+    private void commit(FileSinkAggregatedCommitter committer, FileCommitInfo commitInfo)
+            throws IOException {
+        FileAggregatedCommitInfo aggregatedCommitInfo =
+                committer.combine(Collections.singletonList(commitInfo));
+        Assertions.assertTrue(
+                committer.commit(Collections.singletonList(aggregatedCommitInfo)).isEmpty());
+    }
+
+    private void assertRows(AbstractReadStrategy readStrategy, String suffix) throws Exception {
+        LocalConf hadoopConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        readStrategy.init(hadoopConf);
+        List<String> files = new ArrayList<>();
+        for (String file : readStrategy.getFileNamesByPath(tempDir.resolve("target").toString())) {
+            if (file.endsWith(suffix)) {
+                files.add(file);
+            }
+        }
+        Assertions.assertEquals(1, files.size());
+        readStrategy.getSeaTunnelRowTypeInfo(files.get(0));
+        TestCollector collector = new TestCollector();
+        readStrategy.read(files.get(0), "", collector);
+        List<SeaTunnelRow> rows = collector.getRows();
+        Assertions.assertEquals(ROW_COUNT, rows.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i, rows.get(i).getField(0));
+            Assertions.assertEquals("name-" + i, rows.get(i).getField(1));
+        }
+    }
+
+    /** Upload the files of the local file system by multipart upload. */
+    public static class LocalMultipartConf extends LocalConf {
+
+        public LocalMultipartConf() {
+            super(FS_DEFAULT_NAME_DEFAULT);
+        }
+
+        @Override
+        public MultipartUploader createMultipartUploader(FileSystem fileSystem) {
+            return new LocalMultipartUploader(fileSystem);
+        }
+    }
+
+    /** Keep the parts in memory, and write the file when the upload is completed. */
+    private static class LocalMultipartUploader implements MultipartUploader {
+        private static final Map<String, Map<Integer, byte[]>> UPLOADS = new ConcurrentHashMap<>();
+        private static final Map<String, String> FILE_PATHS = new ConcurrentHashMap<>();
+
+        private final FileSystem fileSystem;
+
+        private LocalMultipartUploader(FileSystem fileSystem) {
+            this.fileSystem = fileSystem;
+        }
+
+        @Override
+        public long getPartSize() {
+            return 64;
+        }
+
+        @Override
+        public int getUploadThreads() {
+            return 2;
+        }
+
+        @Override
+        public String initiate(String filePath) {
+            String uploadId = UUID.randomUUID().toString();
+            UPLOADS.put(uploadId, new ConcurrentHashMap<>());
+            FILE_PATHS.put(uploadId, filePath);
+            return uploadId;
+        }
+
+        @Override
+        public String uploadPart(
+                String filePath, String uploadId, int partNumber, byte[] data, int length) {
+            UPLOADS.get(uploadId).put(partNumber, Arrays.copyOf(data, length));
+            return uploadId + "-" + partNumber;
+        }
+
+        @Override
+        public void complete(String filePath, String uploadId, List<String> partETags, long length)
+                throws IOException {
+            Map<Integer, byte[]> parts = UPLOADS.remove(uploadId);
+            FILE_PATHS.remove(uploadId);
+            if (parts == null) {
+                throw new IOException("No such upload " + uploadId);
+            }
+            try (FSDataOutputStream out = fileSystem.create(new Path(filePath), true)) {
+                int partNumber = 1;
+                for (Map.Entry<Integer, byte[]> part : new TreeMap<>(parts).entrySet()) {
+                    Assertions.assertEquals(
+                            uploadId + "-" + partNumber, partETags.get(partNumber - 1));
+                    out.write(part.getValue());
+                    partNumber++;
+                }
+                Assertions.assertEquals(partETags.size(), partNumber - 1);
+                Assertions.assertEquals(length, out.getPos());
+            }
+        }
+
+        @Override
+        public void abort(String filePath, String uploadId) {
+            UPLOADS.remove(uploadId);
+            FILE_PATHS.remove(uploadId);
+        }
+
+        @Override
+        public Map<String, String> listUploads(String dirPath) {
+            Map<String, String> uploads = new HashMap<>();
+            FILE_PATHS.forEach(
+                    (uploadId, filePath) -> {
+                        if (filePath.startsWith(dirPath + File.separator)) {
+                            uploads.put(uploadId, filePath);
+                        }
+                    });
+            return uploads;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
@@ -52,7 +53,10 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
@@ -190,6 +194,49 @@ public class ParquetReadStrategyTest {
         AutoGenerateParquetData.deleteFile();
     }
 
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetReadMapAndNullValues() throws Exception {
+        String path = "/tmp/data_map.parquet";
+        new File(path).delete();
+        String schemaString =
+                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"},{\"name\":\"name\",\"type\":[\"null\",\"string\"]},{\"name\":\"tags\",\"type\":{\"type\":\"map\",\"values\":\"string\"}}]}";
+        Schema schema = new Schema.Parser().parse(schemaString);
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(new Path(path))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .build()) {
+            for (int i = 0; i < 100; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                // the repeated names are dictionary encoded
+                record.put("name", i % 10 == 0 ? null : "name_" + i % 3);
+                Map<String, String> tags = new HashMap<>();
+                tags.put("key", "value_" + i);
+                record.put("tags", tags);
+                writer.write(record);
+            }
+        }
+
+        ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy();
+        LocalConf localConf = new LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        parquetReadStrategy.init(localConf);
+        SeaTunnelRowType seaTunnelRowTypeInfo = parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+        Assertions.assertEquals(MapType.class, seaTunnelRowTypeInfo.getFieldType(2).getClass());
+        TestCollector testCollector = new TestCollector();
+        parquetReadStrategy.read(path, "", testCollector);
+        List<SeaTunnelRow> rows = testCollector.getRows();
+        Assertions.assertEquals(100, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            SeaTunnelRow row = rows.get(i);
+            Assertions.assertEquals(i, row.getField(0));
+            Assertions.assertEquals(i % 10 == 0 ? null : "name_" + i % 3, row.getField(1));
+            Assertions.assertEquals(Collections.singletonMap("key", "value_" + i), row.getField(2));
+        }
+        new File(path).delete();
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadUnsupportedType() throws Exception {
@@ -20,8 +20,11 @@ package org.apache.seatunnel.connectors.seatunnel.file.writer;
 import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -33,6 +36,8 @@ import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadS
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
@@ -46,6 +51,8 @@ import org.junit.jupiter.api.condition.OS;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -147,4 +154,198 @@ public class ParquetWriteStrategyTest {
         Assertions.assertEquals(1, readRows.size());
         readStrategy.close();
     }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetWriteAllTypes() throws Exception {
+        String tmpPath = "file:///tmp/seatunnel/parquet/types/test";
+        Map<String, Object> writeConfig = new HashMap<>();
+        writeConfig.put("tmp_path", tmpPath);
+        writeConfig.put("path", "file:///tmp/seatunnel/parquet/types");
+        writeConfig.put("file_format_type", FileFormat.PARQUET.name());
+        writeConfig.put("parquet_avro_write_timestamp_as_int96", "true");
+
+        SeaTunnelRowType nestedRowType =
+                new SeaTunnelRowType(
+                        new String[] {"n1", "n2"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        SeaTunnelRowType writeRowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "f_string",
+                            "f_boolean",
+                            "f_tinyint",
+                            "f_smallint",
+                            "f_int",
+                            "f_bigint",
+                            "f_float",
+                            "f_double",
+                            "f_decimal",
+                            "f_date",
+                            "f_timestamp",
+                            "f_bytes",
+                            "f_array",
+                            "f_map",
+                            "f_row"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.STRING_TYPE,
+                            BasicType.BOOLEAN_TYPE,
+                            BasicType.BYTE_TYPE,
+                            BasicType.SHORT_TYPE,
+                            BasicType.INT_TYPE,
+                            BasicType.LONG_TYPE,
+                            BasicType.FLOAT_TYPE,
+                            BasicType.DOUBLE_TYPE,
+                            new DecimalType(10, 2),
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            PrimitiveByteArrayType.INSTANCE,
+                            ArrayType.STRING_ARRAY_TYPE,
+                            new MapType<>(BasicType.STRING_TYPE, BasicType.INT_TYPE),
+                            nestedRowType
+                        });
+        FileSinkConfig writeSinkConfig =
+                new FileSinkConfig(ConfigFactory.parseMap(writeConfig), writeRowType);
+        ParquetWriteStrategy writeStrategy = new ParquetWriteStrategy(writeSinkConfig);
+        ParquetReadStrategyTest.LocalConf hadoopConf =
+                new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        writeStrategy.setSeaTunnelRowTypeInfo(writeRowType);
+        writeStrategy.init(hadoopConf, "test2", "test2", 0);
+        writeStrategy.beginTransaction(1L);
+        Map<String, Integer> map = new HashMap<>();
+        map.put("k1", 1);
+        map.put("k2", null);
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000000);
+        Object[] fields =
+                new Object[] {
+                    "test",
+                    true,
+                    (byte) 1,
+                    (short) 2,
+                    3,
+                    4L,
+                    1.5f,
+                    2.5d,
+                    new BigDecimal("-12.3"),
+                    LocalDate.of(2024, 1, 2),
+                    timestamp,
+                    new byte[] {1, 2},
+                    new String[] {"a", "b"},
+                    map,
+                    new SeaTunnelRow(new Object[] {7, null})
+                };
+        writeStrategy.write(new SeaTunnelRow(fields));
+        writeStrategy.write(new SeaTunnelRow(new Object[fields.length]));
+        writeStrategy.finishAndCloseFile();
+        writeStrategy.close();
+
+        ParquetReadStrategy readStrategy = new ParquetReadStrategy();
+        readStrategy.init(hadoopConf);
+        List<String> readFiles = readStrategy.getFileNamesByPath(tmpPath);
+        Assertions.assertEquals(1, readFiles.size());
+        readStrategy.getSeaTunnelRowTypeInfo(readFiles.get(0));
+        List<SeaTunnelRow> readRows = new ArrayList<>();
+        readStrategy.read(readFiles.get(0), "test", new ListCollector(readRows));
+        readStrategy.close();
+
+        Assertions.assertEquals(2, readRows.size());
+        SeaTunnelRow row = readRows.get(0);
+        Assertions.assertEquals("test", row.getField(0));
+        Assertions.assertEquals(true, row.getField(1));
+        // tinyint and smallint are read back as byte and short, not int
+        Assertions.assertEquals(Byte.valueOf((byte) 1), row.getField(2));
+        Assertions.assertEquals(Short.valueOf((short) 2), row.getField(3));
+        Assertions.assertEquals(3, row.getField(4));
+        Assertions.assertEquals(4L, row.getField(5));
+        Assertions.assertEquals(1.5f, row.getField(6));
+        Assertions.assertEquals(2.5d, row.getField(7));
+        Assertions.assertEquals(new BigDecimal("-12.30"), row.getField(8));
+        Assertions.assertEquals(LocalDate.of(2024, 1, 2), row.getField(9));
+        Assertions.assertEquals(timestamp, row.getField(10));
+        Assertions.assertArrayEquals(new byte[] {1, 2}, (byte[]) row.getField(11));
+        Assertions.assertArrayEquals(new String[] {"a", "b"}, (Object[]) row.getField(12));
+        Assertions.assertEquals(map, row.getField(13));
+        SeaTunnelRow nestedRow = (SeaTunnelRow) row.getField(14);
+        Assertions.assertEquals(7, nestedRow.getField(0));
+        Assertions.assertNull(nestedRow.getField(1));
+        for (Object field : readRows.get(1).getFields()) {
+            Assertions.assertNull(field);
+        }
+    }
+
+    @DisabledOnOs(OS.WINDOWS)
+    @Test
+    public void testParquetWriteColumnOptionsAndMaxFileSize() throws Exception {
+        String tmpPath = "file:///tmp/seatunnel/parquet/rolling/test";
+        Map<String, Object> writeConfig = new HashMap<>();
+        writeConfig.put("tmp_path", tmpPath);
+        writeConfig.put("path", "file:///tmp/seatunnel/parquet/rolling");
+        writeConfig.put("file_format_type", FileFormat.PARQUET.name());
+        writeConfig.put("parquet_disable_dictionary_columns", Arrays.asList("ID"));
+        writeConfig.put("parquet_bloom_filter_columns", Arrays.asList("name"));
+        writeConfig.put("max_file_size", 64 * 1024L);
+
+        SeaTunnelRowType writeRowType =
+                new SeaTunnelRowType(
+                        new String[] {"ID", "name"},
+                        new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+        FileSinkConfig writeSinkConfig =
+                new FileSinkConfig(ConfigFactory.parseMap(writeConfig), writeRowType);
+        ParquetWriteStrategy writeStrategy = new ParquetWriteStrategy(writeSinkConfig);
+        ParquetReadStrategyTest.LocalConf hadoopConf =
+                new ParquetReadStrategyTest.LocalConf(FS_DEFAULT_NAME_DEFAULT);
+        writeStrategy.setSeaTunnelRowTypeInfo(writeRowType);
+        writeStrategy.init(hadoopConf, "test3", "test3", 0);
+        writeStrategy.beginTransaction(1L);
+        int rowCount = 20000;
+        for (int i = 0; i < rowCount; i++) {
+            writeStrategy.write(new SeaTunnelRow(new Object[] {(long) i, "name_" + i % 10}));
+        }
+        writeStrategy.finishAndCloseFile();
+        writeStrategy.close();
+
+        ParquetReadStrategy readStrategy = new ParquetReadStrategy();
+        readStrategy.init(hadoopConf);
+        List<String> readFiles = readStrategy.getFileNamesByPath(tmpPath);
+        Assertions.assertTrue(readFiles.size() > 1);
+        long totalRows = 0;
+        for (String readFile : readFiles) {
+            try (ParquetFileReader reader =
+                    ParquetFileReader.open(
+                            HadoopInputFile.fromPath(
+                                    new org.apache.hadoop.fs.Path(readFile),
+                                    new Configuration()))) {
+                totalRows += reader.getRecordCount();
+                for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                    ColumnChunkMetaData idColumn = block.getColumns().get(0);
+                    ColumnChunkMetaData nameColumn = block.getColumns().get(1);
+                    Assertions.assertFalse(idColumn.hasDictionaryPage());
+                    Assertions.assertTrue(nameColumn.hasDictionaryPage());
+                    Assertions.assertTrue(idColumn.getBloomFilterOffset() < 0);
+                    Assertions.assertTrue(nameColumn.getBloomFilterOffset() >= 0);
+                }
+            }
+        }
+        Assertions.assertEquals(rowCount, totalRows);
+        readStrategy.close();
+    }
+
+    private static class ListCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows;
+
+        private ListCollector(List<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.JsonReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.parquet.hadoop.codec.ZstandardCodec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.airlift.compress.lzo.LzopCodec;
+import io.airlift.compress.snappy.SnappyCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class ReadStrategyCompressTest {
+
+    private static final int ROW_COUNT = 100;
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testReadCompressedCsv() throws Exception {
+        assertReadCsv("none", null);
+        assertReadCsv("gzip", GzipCodec.class);
+        assertReadCsv("bzip2", BZip2Codec.class);
+        assertReadCsv("zstd", ZstandardCodec.class);
+    }
+
+    @Test
+    @DisabledForJreRange(
+            min = JRE.JAVA_16,
+            disabledReason = "aircompressor needs to access the address of java.nio.Buffer")
+    public void testReadAircompressorCompressedCsv() throws Exception {
+        assertReadCsv("lzo", LzopCodec.class);
+        assertReadCsv("snappy", SnappyCodec.class);
+    }
+
+    @Test
+    public void testReadCompressedJson() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            content.append(String.format("{\"id\":%d,\"name\":\"名字-%d\"}\n", i, i));
+        }
+        Path dir = write("gzip", GzipCodec.class, content.toString());
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = json\n"
+                                + "compress_codec = gzip\n"
+                                + "schema = { fields { id = int, name = string } }");
+        try (JsonReadStrategy readStrategy = new JsonReadStrategy()) {
+            assertRows(readStrategy, pluginConfig, dir);
+        }
+    }
+
+    private void assertReadCsv(String codecName, Class<? extends CompressionCodec> codecClass)
+            throws Exception {
+        StringBuilder content = new StringBuilder("id|name\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            content.append(i).append("|名字-").append(i).append('\n');
+            if (i == ROW_COUNT / 2) {
+                // the empty lines are skipped
+                content.append('\n');
+            }
+        }
+        Path dir = write(codecName, codecClass, content.toString());
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = csv\n"
+                                + "field_delimiter = \"|\"\n"
+                                + "skip_header_row_number = 1\n"
+                                + "compress_codec = "
+                                + codecName
+                                + "\n"
+                                + "schema = { fields { id = int, name = string } }");
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            assertRows(readStrategy, pluginConfig, dir);
+        }
+    }
+
+    private void assertRows(AbstractReadStrategy readStrategy, Config pluginConfig, Path dir)
+            throws Exception {
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        String filePath = readStrategy.getFileNamesByPath(dir.toString()).get(0);
+        readStrategy.setSeaTunnelRowTypeInfo(
+                CatalogTableUtil.buildWithConfig(pluginConfig).getSeaTunnelRowType());
+
+        // the compressed files can not be split
+        List<FileSourceSplit> splits = readStrategy.getFileSourceSplits(null, filePath);
+        Assertions.assertEquals(1, splits.size());
+        TestCollector collector = new TestCollector();
+        readStrategy.read(splits.get(0), "", collector);
+        List<SeaTunnelRow> rows = collector.getRows();
+        Assertions.assertEquals(ROW_COUNT, rows.size());
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Assertions.assertEquals(i, rows.get(i).getField(0));
+            Assertions.assertEquals("名字-" + i, rows.get(i).getField(1));
+        }
+    }
+
+    private Path write(
+            String codecName, Class<? extends CompressionCodec> codecClass, String content)
+            throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve(codecName));
+        Path file = dir.resolve("test.txt");
+        try (OutputStream out = createOutputStream(codecClass, Files.newOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return dir;
+    }
+
+    private OutputStream createOutputStream(
+            Class<? extends CompressionCodec> codecClass, OutputStream out) throws IOException {
+        if (codecClass == null) {
+            return out;
+        }
+        return ReflectionUtils.newInstance(codecClass, new Configuration()).createOutputStream(out);
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplitAssigner;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest.TestCollector;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.orc.OrcFile;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class ReadStrategySplitTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testReadCsvByRangeSplits() throws Exception {
+        StringBuilder content = new StringBuilder("id,name\n");
+        for (int i = 0; i < ROW_COUNT; i++) {
+            // mix the line separators and line lengths, so the range ends fall everywhere
+            content.append(i).append(",name-").append(i % 7 == 0 ? "long-long-" + i : i);
+            content.append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        File file = tempDir.resolve("test.csv").toFile();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "file_format_type = csv\n"
+                                + "skip_header_row_number = 1\n"
+                                + "enable_file_split = true\n"
+                                + "file_split_size = 1000\n"
+                                + "schema = { fields { id = int, name = string } }");
+        try (TextReadStrategy readStrategy = new TextReadStrategy()) {
+            readStrategy.setPluginConfig(pluginConfig);
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            String filePath = readStrategy.getFileNamesByPath(tempDir.toString()).get(0);
+            readStrategy.setSeaTunnelRowTypeInfo(
+                    CatalogTableUtil.buildWithConfig(pluginConfig).getSeaTunnelRowType());
+
+            List<FileSourceSplit> splits = readStrategy.getFileSourceSplits(null, filePath);
+            Assertions.assertEquals((file.length() + 999) / 1000, splits.size());
+
+            TestCollector collector = new TestCollector();
+            for (FileSourceSplit split : splits) {
+                Assertions.assertTrue(split.isRangeSplit());
+                readStrategy.read(split, "", collector);
+            }
+            List<SeaTunnelRow> rows = collector.getRows();
+            Assertions.assertEquals(ROW_COUNT, rows.size());
+            for (int i = 0; i < ROW_COUNT; i++) {
+                Assertions.assertEquals(i, rows.get(i).getField(0));
+                Assertions.assertEquals(
+                        "name-" + (i % 7 == 0 ? "long-long-" + i : i), rows.get(i).getField(1));
+            }
+        }
+    }
+
+    @Test
+    public void testReadParquetByRowGroupSplits() throws Exception {
+        Schema schema =
+                SchemaBuilder.record("test")
+                        .fields()
+                        .requiredInt("id")
+                        .requiredString("name")
+                        .requiredString("payload")
+                        .endRecord();
+        org.apache.hadoop.fs.Path file =
+                new org.apache.hadoop.fs.Path(tempDir.resolve("test.parquet").toString());
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(file)
+                        .withSchema(schema)
+                        .withRowGroupSize(4096)
+                        .withPageSize(1024)
+                        .build()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "name-" + i);
+                record.put("payload", "payload-payload-payload-" + i);
+                writer.write(record);
+            }
+        }
+
+        Config pluginConfig =
+                ConfigFactory.parseString(
+                        "enable_file_split = true\n"
+                                + "file_split_size = 1\n"
+                                + "read_columns = [name, id]\n"
+                                + "read_filters = [{column = id, operator = \">=\", value = 900}]");
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            readStrategy.setPluginConfig(pluginConfig);
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            String filePath = readStrategy.getFileNamesByPath(tempDir.toString()).get(0);
+            readStrategy.getSeaTunnelRowTypeInfo(filePath);
+
+            List<FileSourceSplit> splits = readStrategy.getFileSourceSplits(null, filePath);
+            Assertions.assertFalse(splits.isEmpty());
+            TestCollector collector = new TestCollector();
+            for (FileSourceSplit split : splits) {
+                Assertions.assertTrue(split.isRangeSplit());
+                readStrategy.read(split, "", collector);
+            }
+            // the row groups before id 900 are skipped, the rows are not filtered one by one
+            List<SeaTunnelRow> rows = collector.getRows();
+            Assertions.assertTrue(rows.size() < ROW_COUNT);
+            int firstId = (int) rows.get(0).getField(1);
+            Assertions.assertTrue(firstId <= 900);
+            for (int i = 0; i < rows.size(); i++) {
+                Assertions.assertEquals(2, rows.get(i).getArity());
+                Assertions.assertEquals("name-" + (firstId + i), rows.get(i).getField(0));
+                Assertions.assertEquals(firstId + i, rows.get(i).getField(1));
+            }
+            Assertions.assertEquals(ROW_COUNT - 1, (int) rows.get(rows.size() - 1).getField(1));
+        }
+    }
+
+    @Test
+    public void testSkipOrcStripesByStatistics() throws Exception {
+        TypeDescription schema = TypeDescription.fromString("struct<id:int,name:string>");
+        org.apache.hadoop.fs.Path file =
+                new org.apache.hadoop.fs.Path(tempDir.resolve("test.orc").toString());
+        try (Writer writer =
+                OrcFile.createWriter(
+                        file, OrcFile.writerOptions(new Configuration()).setSchema(schema))) {
+            VectorizedRowBatch batch = schema.createRowBatch(ROW_COUNT);
+            LongColumnVector id = (LongColumnVector) batch.cols[0];
+            BytesColumnVector name = (BytesColumnVector) batch.cols[1];
+            for (int i = 0; i < ROW_COUNT; i++) {
+                id.vector[i] = i;
+                name.setVal(i, ("name-" + i).getBytes(StandardCharsets.UTF_8));
+            }
+            batch.size = ROW_COUNT;
+            writer.addRowBatch(batch);
+        }
+
+        Assertions.assertEquals(0, getOrcSplits("{column = id, operator = \">\", value = 5000}"));
+        Assertions.assertEquals(0, getOrcSplits("{column = name, operator = \"=\", value = a}"));
+        Assertions.assertEquals(1, getOrcSplits("{column = id, operator = \">=\", value = 900}"));
+        Assertions.assertEquals(
+                1, getOrcSplits("{column = missing, operator = \"=\", value = 900}"));
+    }
+
+    private int getOrcSplits(String filter) throws Exception {
+        Config pluginConfig = ConfigFactory.parseString("read_filters = [" + filter + "]");
+        try (OrcReadStrategy readStrategy = new OrcReadStrategy()) {
+            readStrategy.setPluginConfig(pluginConfig);
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            String filePath = readStrategy.getFileNamesByPath(tempDir.toString()).get(0);
+            readStrategy.getSeaTunnelRowTypeInfo(filePath);
+            List<FileSourceSplit> splits = readStrategy.getFileSourceSplits(null, filePath);
+            TestCollector collector = new TestCollector();
+            for (FileSourceSplit split : splits) {
+                readStrategy.read(split, "", collector);
+            }
+            Assertions.assertEquals(splits.size() * ROW_COUNT, collector.getRows().size());
+            return splits.size();
+        }
+    }
+
+    @Test
+    public void testAssignSplitsBySize() {
+        List<FileSourceSplit> splits = new ArrayList<>();
+        splits.add(new FileSourceSplit("t", "big", 1000L));
+        for (int i = 0; i < 10; i++) {
+            splits.add(new FileSourceSplit("t", "small-" + i, 100L));
+        }
+        Map<Integer, List<FileSourceSplit>> assignment = FileSourceSplitAssigner.assign(splits, 2);
+
+        Assertions.assertEquals(1, assignment.get(0).size());
+        Assertions.assertEquals("big", assignment.get(0).get(0).getFilePath());
+        Assertions.assertEquals(10, assignment.get(1).size());
+    }
+}
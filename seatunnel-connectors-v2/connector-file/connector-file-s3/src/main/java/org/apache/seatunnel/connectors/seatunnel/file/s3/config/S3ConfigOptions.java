@@ -71,6 +71,30 @@ public class S3ConfigOptions extends BaseSourceConfigOptions {
                     .withDescription(
                             "Before the synchronization task begins, different processing of data files that already exist in the directory");
 
+    public static final Option<Boolean> ENABLE_MULTIPART_UPLOAD =
+            Options.key("enable_multipart_upload")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Upload the files to the target path by multipart upload while writing, "
+                                    + "the files become visible when the upload is completed by the commit. "
+                                    + "Only supported by s3a. The bucket requires a lifecycle rule with "
+                                    + "AbortIncompleteMultipartUpload, the uploads of a writer failing "
+                                    + "before its first checkpoint are not aborted by the sink");
+
+    public static final Option<Long> MULTIPART_UPLOAD_PART_SIZE =
+            Options.key("multipart_upload_part_size")
+                    .longType()
+                    .defaultValue(16 * 1024 * 1024L)
+                    .withDescription("The size of the parts of the multipart upload, 5MB at least");
+
+    public static final Option<Integer> MULTIPART_UPLOAD_THREADS =
+            Options.key("multipart_upload_threads")
+                    .intType()
+                    .defaultValue(8)
+                    .withDescription(
+                            "The max number of the parts which are being uploaded in parallel by a writer");
+
     /**
      * The current key for that config option. if you need to add a new option, you can add it here
      * and refer to this:
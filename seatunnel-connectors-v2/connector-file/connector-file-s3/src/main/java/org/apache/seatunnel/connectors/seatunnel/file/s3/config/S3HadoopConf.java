@@ -17,18 +17,33 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.s3.config;
 
+import org.apache.seatunnel.api.common.SeaTunnelAPIErrorCode;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
+import org.apache.seatunnel.connectors.seatunnel.file.s3.sink.S3AMultipartUploader;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.s3a.S3AFileSystem;
+
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 public class S3HadoopConf extends HadoopConf {
+    private static final long MIN_MULTIPART_UPLOAD_PART_SIZE = 5 * 1024 * 1024L;
     private static final String HDFS_S3N_IMPL = "org.apache.hadoop.fs.s3native.NativeS3FileSystem";
     private static final String HDFS_S3A_IMPL = "org.apache.hadoop.fs.s3a.S3AFileSystem";
     protected static final String S3A_SCHEMA = "s3a";
     protected static final String DEFAULT_SCHEMA = "s3n";
     private String schema = DEFAULT_SCHEMA;
+    private boolean enableMultipartUpload = false;
+    private long multipartUploadPartSize =
+            S3ConfigOptions.MULTIPART_UPLOAD_PART_SIZE.defaultValue();
+    private int multipartUploadThreads = S3ConfigOptions.MULTIPART_UPLOAD_THREADS.defaultValue();
 
     @Override
     public String getFsHdfsImpl() {
@@ -44,6 +59,33 @@ public class S3HadoopConf extends HadoopConf {
         this.schema = schema;
     }
 
+    public void setEnableMultipartUpload(boolean enableMultipartUpload) {
+        this.enableMultipartUpload = enableMultipartUpload;
+    }
+
+    public void setMultipartUploadPartSize(long multipartUploadPartSize) {
+        this.multipartUploadPartSize = multipartUploadPartSize;
+    }
+
+    public void setMultipartUploadThreads(int multipartUploadThreads) {
+        this.multipartUploadThreads = multipartUploadThreads;
+    }
+
+    @Override
+    public MultipartUploader createMultipartUploader(FileSystem fileSystem) {
+        if (!enableMultipartUpload) {
+            return null;
+        }
+        if (!(fileSystem instanceof S3AFileSystem)) {
+            log.warn(
+                    "The multipart upload is only supported by s3a, the files of [{}] are renamed by the commit",
+                    getHdfsNameKey());
+            return null;
+        }
+        return new S3AMultipartUploader(
+                (S3AFileSystem) fileSystem, multipartUploadPartSize, multipartUploadThreads);
+    }
+
     public S3HadoopConf(String hdfsNameKey) {
         super(hdfsNameKey);
     }
@@ -68,6 +110,20 @@ public class S3HadoopConf extends HadoopConf {
         s3Options.put(
                 S3ConfigOptions.FS_S3A_ENDPOINT.key(), config.get(S3ConfigOptions.FS_S3A_ENDPOINT));
         hadoopConf.setExtraOptions(s3Options);
+        hadoopConf.setEnableMultipartUpload(config.get(S3ConfigOptions.ENABLE_MULTIPART_UPLOAD));
+        long partSize = config.get(S3ConfigOptions.MULTIPART_UPLOAD_PART_SIZE);
+        if (partSize < MIN_MULTIPART_UPLOAD_PART_SIZE) {
+            throw new FileConnectorException(
+                    SeaTunnelAPIErrorCode.CONFIG_VALIDATION_FAILED,
+                    String.format(
+                            "The option [%s] must be %d at least, but it is %d",
+                            S3ConfigOptions.MULTIPART_UPLOAD_PART_SIZE.key(),
+                            MIN_MULTIPART_UPLOAD_PART_SIZE,
+                            partSize));
+        }
+        hadoopConf.setMultipartUploadPartSize(partSize);
+        hadoopConf.setMultipartUploadThreads(
+                Math.max(1, config.get(S3ConfigOptions.MULTIPART_UPLOAD_THREADS)));
         return hadoopConf;
     }
 
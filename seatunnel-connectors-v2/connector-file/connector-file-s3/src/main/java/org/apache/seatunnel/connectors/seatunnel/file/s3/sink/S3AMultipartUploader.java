@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.s3.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.file.hadoop.MultipartUploader;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.s3a.S3AFileSystem;
+import org.apache.hadoop.fs.s3a.WriteOperationHelper;
+
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Upload the files of s3a by the multipart upload of the {@link WriteOperationHelper}. */
+public class S3AMultipartUploader implements MultipartUploader {
+    private final S3AFileSystem fileSystem;
+    private final WriteOperationHelper writeHelper;
+    private final long partSize;
+    private final int uploadThreads;
+
+    public S3AMultipartUploader(S3AFileSystem fileSystem, long partSize, int uploadThreads) {
+        this.fileSystem = fileSystem;
+        this.writeHelper = fileSystem.getWriteOperationHelper();
+        this.partSize = partSize;
+        this.uploadThreads = uploadThreads;
+    }
+
+    @Override
+    public long getPartSize() {
+        return partSize;
+    }
+
+    @Override
+    public int getUploadThreads() {
+        return uploadThreads;
+    }
+
+    @Override
+    public String initiate(String filePath) throws IOException {
+        return writeHelper.initiateMultiPartUpload(toKey(filePath));
+    }
+
+    @Override
+    public String uploadPart(
+            String filePath, String uploadId, int partNumber, byte[] data, int length)
+            throws IOException {
+        UploadPartRequest request =
+                writeHelper.newUploadPartRequest(
+                        toKey(filePath),
+                        uploadId,
+                        partNumber,
+                        length,
+                        new ByteArrayInputStream(data, 0, length),
+                        null,
+                        null);
+        return writeHelper.uploadPart(request).getETag();
+    }
+
+    @Override
+    public void complete(String filePath, String uploadId, List<String> partETags, long length)
+            throws IOException {
+        List<PartETag> etags = new ArrayList<>(partETags.size());
+        for (int i = 0; i < partETags.size(); i++) {
+            etags.add(new PartETag(i + 1, partETags.get(i)));
+        }
+        writeHelper.completeMPUwithRetries(
+                toKey(filePath), uploadId, etags, length, new AtomicInteger());
+    }
+
+    @Override
+    public void abort(String filePath, String uploadId) throws IOException {
+        writeHelper.abortMultipartCommit(toKey(filePath), uploadId);
+    }
+
+    @Override
+    public Map<String, String> listUploads(String dirPath) throws IOException {
+        String dirKey = toKey(dirPath);
+        String prefix = dirKey.isEmpty() || dirKey.endsWith("/") ? dirKey : dirKey + "/";
+        Map<String, String> uploads = new LinkedHashMap<>();
+        for (MultipartUpload upload : fileSystem.listMultipartUploads(prefix)) {
+            String relativePath = upload.getKey().substring(prefix.length());
+            uploads.put(upload.getUploadId(), new Path(dirPath, relativePath).toString());
+        }
+        return uploads;
+    }
+
+    private String toKey(String filePath) {
+        return fileSystem.pathToKey(new Path(filePath));
+    }
+}
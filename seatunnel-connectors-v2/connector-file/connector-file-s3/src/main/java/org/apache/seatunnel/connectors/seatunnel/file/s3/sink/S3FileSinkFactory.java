@@ -54,6 +54,12 @@ public class S3FileSinkFactory implements TableSinkFactory {
                         S3ConfigOptions.S3_ACCESS_KEY,
                         S3ConfigOptions.S3_SECRET_KEY)
                 .optional(S3ConfigOptions.S3_PROPERTIES)
+                .optional(S3ConfigOptions.ENABLE_MULTIPART_UPLOAD)
+                .conditional(
+                        S3ConfigOptions.ENABLE_MULTIPART_UPLOAD,
+                        true,
+                        S3ConfigOptions.MULTIPART_UPLOAD_PART_SIZE,
+                        S3ConfigOptions.MULTIPART_UPLOAD_THREADS)
                 .optional(BaseSinkConfig.FILE_FORMAT_TYPE)
                 .conditional(
                         BaseSinkConfig.FILE_FORMAT_TYPE,
@@ -80,7 +86,9 @@ public class S3FileSinkFactory implements TableSinkFactory {
                         FileFormat.PARQUET,
                         BaseSinkConfig.PARQUET_COMPRESS,
                         BaseSinkConfig.PARQUET_AVRO_WRITE_FIXED_AS_INT96,
-                        BaseSinkConfig.PARQUET_AVRO_WRITE_TIMESTAMP_AS_INT96)
+                        BaseSinkConfig.PARQUET_AVRO_WRITE_TIMESTAMP_AS_INT96,
+                        BaseSinkConfig.PARQUET_DISABLE_DICTIONARY_COLUMNS,
+                        BaseSinkConfig.PARQUET_BLOOM_FILTER_COLUMNS)
                 .conditional(
                         BaseSinkConfig.FILE_FORMAT_TYPE,
                         FileFormat.XML,
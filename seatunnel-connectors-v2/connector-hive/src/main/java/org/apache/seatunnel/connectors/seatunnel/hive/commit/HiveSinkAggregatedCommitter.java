@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileAggregatedCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.file.sink.commit.FileSinkAggregatedCommitter;
+import org.apache.seatunnel.connectors.seatunnel.file.sink.config.FileSinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.hive.sink.HiveSinkOptions;
 import org.apache.seatunnel.connectors.seatunnel.hive.utils.HiveMetaStoreProxy;
 
@@ -42,8 +43,12 @@ public class HiveSinkAggregatedCommitter extends FileSinkAggregatedCommitter {
     private final ReadonlyConfig readonlyConfig;
 
     public HiveSinkAggregatedCommitter(
-            ReadonlyConfig readonlyConfig, String dbName, String tableName, HadoopConf hadoopConf) {
-        super(hadoopConf);
+            ReadonlyConfig readonlyConfig,
+            String dbName,
+            String tableName,
+            HadoopConf hadoopConf,
+            FileSinkConfig fileSinkConfig) {
+        super(hadoopConf, fileSinkConfig);
         this.readonlyConfig = readonlyConfig;
         this.dbName = dbName;
         this.tableName = tableName;
@@ -18,7 +18,11 @@
 package org.apache.seatunnel.connectors.seatunnel.hive.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplitAssigner;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 import org.apache.seatunnel.connectors.seatunnel.hive.source.config.HiveSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.hive.source.config.MultipleTableHiveSourceConfig;
@@ -29,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +48,9 @@ public class MultipleTableHiveSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
     private final Map<String, List<String>> filePathMap;
+    private final Map<String, ReadStrategy> readStrategyMap;
+    // the splits of every reader, balanced by byte size once all files are discovered
+    private Map<Integer, List<FileSourceSplit>> splitAssignment;
 
     public MultipleTableHiveSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context,
@@ -59,6 +67,17 @@ public class MultipleTableHiveSourceSplitEnumerator
                                                         .toTablePath()
                                                         .toString(),
                                         HiveSourceConfig::getFilePaths));
+        this.readStrategyMap =
+                multipleTableLocalFileSourceConfig.getHiveSourceConfigs().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        localFileSourceConfig ->
+                                                localFileSourceConfig
+                                                        .getCatalogTable()
+                                                        .getTableId()
+                                                        .toTablePath()
+                                                        .toString(),
+                                        HiveSourceConfig::getReadStrategy));
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
     }
@@ -77,7 +96,7 @@ public class MultipleTableHiveSourceSplitEnumerator
             return;
         }
         pendingSplit.addAll(splits);
-        assignSplit(subtaskId);
+        assignSplit(subtaskId, splits);
     }
 
     @Override
@@ -90,14 +109,25 @@ public class MultipleTableHiveSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
-        for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
-            String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+        if (splitAssignment == null) {
+            for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
+                String tableId = filePathEntry.getKey();
+                ReadStrategy readStrategy = readStrategyMap.get(tableId);
+                for (String filePath : filePathEntry.getValue()) {
+                    try {
+                        pendingSplit.addAll(readStrategy.getFileSourceSplits(tableId, filePath));
+                    } catch (IOException e) {
+                        throw new FileConnectorException(
+                                FileConnectorErrorCode.FILE_LIST_GET_FAILED,
+                                String.format("Get the splits of this file [%s] failed", filePath),
+                                e);
+                    }
+                }
             }
+            splitAssignment =
+                    FileSourceSplitAssigner.assign(pendingSplit, context.currentParallelism());
         }
-        assignSplit(subtaskId);
+        assignSplit(subtaskId, splitAssignment.getOrDefault(subtaskId, Collections.emptyList()));
     }
 
     @Override
@@ -110,22 +140,9 @@ public class MultipleTableHiveSourceSplitEnumerator
         // do nothing.
     }
 
-    private void assignSplit(int taskId) {
-        List<FileSourceSplit> currentTaskSplits = new ArrayList<>();
-        if (context.currentParallelism() == 1) {
-            // if parallelism == 1, we should assign all the splits to reader
-            currentTaskSplits.addAll(pendingSplit);
-        } else {
-            // if parallelism > 1, according to hashCode of split's id to determine whether to
-            // allocate the current task
-            for (FileSourceSplit fileSourceSplit : pendingSplit) {
-                int splitOwner =
-                        getSplitOwner(fileSourceSplit.splitId(), context.currentParallelism());
-                if (splitOwner == taskId) {
-                    currentTaskSplits.add(fileSourceSplit);
-                }
-            }
-        }
+    private void assignSplit(int taskId, List<FileSourceSplit> splits) {
+        List<FileSourceSplit> currentTaskSplits = new ArrayList<>(splits);
+        currentTaskSplits.retainAll(pendingSplit);
         // assign splits
         context.assignSplit(taskId, currentTaskSplits);
         // save the state of assigned splits
@@ -141,10 +158,6 @@ public class MultipleTableHiveSourceSplitEnumerator
         context.signalNoMoreSplits(taskId);
     }
 
-    private static int getSplitOwner(String tp, int numReaders) {
-        return (tp.hashCode() & Integer.MAX_VALUE) % numReaders;
-    }
-
     @Override
     public void open() {
         // do nothing
@@ -115,6 +115,36 @@ public class SinkConfig extends CommonConfig {
                     .noDefaultValue()
                     .withDescription("Default branch for commits");
 
+    public static final Option<Integer> MAX_OPEN_PARTITION_WRITERS =
+            Options.key("iceberg.table.max-open-partition-writers")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The max number of the partitions written at the same time by a writer, 0 means no limit. "
+                                    + "The files of the least recently used partition are closed when the limit is reached, "
+                                    + "and the delta writers complete all the open files of the checkpoint in this case");
+
+    public static final Option<Integer> PARTITION_CLUSTER_ROWS =
+            Options.key("iceberg.table.partition-cluster-rows")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of the rows buffered and clustered by the partition key before writing, 0 means the rows are written without clustering");
+
+    public static final Option<Integer> COMPACTION_COMMIT_INTERVAL =
+            Options.key("iceberg.table.compaction.commit-interval")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "Rewrite the small data files and the applied delete files of the table every N commits, 0 means the compaction is disabled");
+
+    public static final Option<Integer> COMPACTION_MIN_INPUT_FILES =
+            Options.key("iceberg.table.compaction.min-input-files")
+                    .intType()
+                    .defaultValue(5)
+                    .withDescription(
+                            "The min number of the small data files of a partition to rewrite them, the data files with delete files are always rewritten");
+
     @VisibleForTesting private static final String COMMA_NO_PARENS_REGEX = ",(?![^()]*+\\))";
 
     private final ReadonlyConfig readonlyConfig;
@@ -123,6 +153,10 @@ public class SinkConfig extends CommonConfig {
     private List<String> primaryKeys;
     private List<String> partitionKeys;
     private String commitBranch;
+    private int maxOpenPartitionWriters;
+    private int partitionClusterRows;
+    private int compactionCommitInterval;
+    private int compactionMinInputFiles;
 
     private boolean upsertModeEnabled;
     private boolean tableSchemaEvolutionEnabled;
@@ -141,6 +175,10 @@ public class SinkConfig extends CommonConfig {
         this.schemaSaveMode = readonlyConfig.get(SCHEMA_SAVE_MODE);
         this.dataSaveMode = readonlyConfig.get(DATA_SAVE_MODE);
         this.commitBranch = readonlyConfig.get(TABLES_DEFAULT_COMMIT_BRANCH);
+        this.maxOpenPartitionWriters = readonlyConfig.get(MAX_OPEN_PARTITION_WRITERS);
+        this.partitionClusterRows = readonlyConfig.get(PARTITION_CLUSTER_ROWS);
+        this.compactionCommitInterval = readonlyConfig.get(COMPACTION_COMMIT_INTERVAL);
+        this.compactionMinInputFiles = readonlyConfig.get(COMPACTION_MIN_INPUT_FILES);
     }
 
     @VisibleForTesting
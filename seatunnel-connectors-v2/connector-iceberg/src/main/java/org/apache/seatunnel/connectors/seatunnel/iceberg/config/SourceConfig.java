@@ -24,6 +24,9 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.exception.IcebergConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.converter.SqlToIcebergExpressionConverter;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.IcebergStreamScanStrategy;
 
 import org.apache.iceberg.expressions.Expression;
@@ -74,6 +77,33 @@ public class SourceConfig extends CommonConfig {
                     .defaultValue(FROM_LATEST_SNAPSHOT)
                     .withDescription(" the iceberg strategy of stream scanning");
 
+    public static final Option<String> KEY_QUERY =
+            Options.key("query")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            " the query of iceberg source, the where clause is pushed down to the scan");
+
+    public static final Option<Long> KEY_SPLIT_SIZE =
+            Options.key("split_size")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            " the target size in bytes of a split, the small files are combined into a split");
+
+    public static final Option<Integer> KEY_SPLIT_LOOKBACK =
+            Options.key("split_lookback")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(" the number of the bins considered when combining the files");
+
+    public static final Option<Long> KEY_SPLIT_OPEN_FILE_COST =
+            Options.key("split_open_file_cost")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            " the estimated cost in bytes to open a file, used as the minimum weight of a file when combining");
+
     private Long startSnapshotTimestamp;
     private Long startSnapshotId;
     private Long endSnapshotId;
@@ -110,6 +140,27 @@ public class SourceConfig extends CommonConfig {
                     pluginConfig.getEnum(
                             IcebergStreamScanStrategy.class, KEY_STREAM_SCAN_STRATEGY.key());
         }
+        if (pluginConfig.hasPath(KEY_QUERY.key())) {
+            try {
+                this.filter =
+                        SqlToIcebergExpressionConverter.convert(
+                                pluginConfig.getString(KEY_QUERY.key()));
+            } catch (IllegalArgumentException e) {
+                throw new IcebergConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        "Invalid query: " + pluginConfig.getString(KEY_QUERY.key()),
+                        e);
+            }
+        }
+        if (pluginConfig.hasPath(KEY_SPLIT_SIZE.key())) {
+            this.splitSize = pluginConfig.getLong(KEY_SPLIT_SIZE.key());
+        }
+        if (pluginConfig.hasPath(KEY_SPLIT_LOOKBACK.key())) {
+            this.splitLookback = pluginConfig.getInt(KEY_SPLIT_LOOKBACK.key());
+        }
+        if (pluginConfig.hasPath(KEY_SPLIT_OPEN_FILE_COST.key())) {
+            this.splitOpenFileCost = pluginConfig.getLong(KEY_SPLIT_OPEN_FILE_COST.key());
+        }
     }
 
     public static SourceConfig loadConfig(ReadonlyConfig pluginConfig) {
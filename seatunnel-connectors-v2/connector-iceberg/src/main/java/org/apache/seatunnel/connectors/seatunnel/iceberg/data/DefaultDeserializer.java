@@ -29,8 +29,8 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ByteBuffers;
 
-import lombok.AllArgsConstructor;
 import lombok.NonNull;
 
 import java.math.BigDecimal;
@@ -44,23 +44,43 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-@AllArgsConstructor
+/**
+ * Convert the iceberg records to SeaTunnel rows, the positions and the types of the fields are
+ * resolved once, so the fields of a record are read by position.
+ */
 public class DefaultDeserializer implements Deserializer {
 
-    @NonNull private final SeaTunnelRowType seaTunnelRowType;
-    @NonNull private final Schema icebergSchema;
+    private final SeaTunnelRowType seaTunnelRowType;
+    private final int[] fieldPositions;
+    private final Type[] fieldTypes;
 
-    @Override
-    public SeaTunnelRow deserialize(@NonNull Record record) {
-        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(seaTunnelRowType.getTotalFields());
+    public DefaultDeserializer(
+            @NonNull SeaTunnelRowType seaTunnelRowType, @NonNull Schema icebergSchema) {
+        this.seaTunnelRowType = seaTunnelRowType;
+        this.fieldPositions = new int[seaTunnelRowType.getTotalFields()];
+        this.fieldTypes = new Type[seaTunnelRowType.getTotalFields()];
+        List<Types.NestedField> icebergFields = icebergSchema.columns();
         for (int i = 0; i < seaTunnelRowType.getTotalFields(); i++) {
             String seaTunnelFieldName = seaTunnelRowType.getFieldName(i);
-            SeaTunnelDataType<?> seaTunnelFieldType = seaTunnelRowType.getFieldType(i);
             Types.NestedField icebergField = icebergSchema.findField(seaTunnelFieldName);
-            Object icebergValue = record.getField(seaTunnelFieldName);
+            if (icebergField == null) {
+                throw new IcebergConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "Field %s is not found in iceberg schema", seaTunnelFieldName));
+            }
+            fieldPositions[i] = icebergFields.indexOf(icebergField);
+            fieldTypes[i] = icebergField.type();
+        }
+    }
 
+    @Override
+    public SeaTunnelRow deserialize(@NonNull Record record) {
+        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fieldPositions.length);
+        for (int i = 0; i < fieldPositions.length; i++) {
+            Object icebergValue = record.get(fieldPositions[i]);
             seaTunnelRow.setField(
-                    i, convert(icebergField.type(), icebergValue, seaTunnelFieldType));
+                    i, convert(fieldTypes[i], icebergValue, seaTunnelRowType.getFieldType(i)));
         }
         return seaTunnelRow;
     }
@@ -98,7 +118,7 @@ public class DefaultDeserializer implements Deserializer {
             case FIXED:
                 return byte[].class.cast(icebergValue);
             case BINARY:
-                return ByteBuffer.class.cast(icebergValue).array();
+                return ByteBuffers.toByteArray(ByteBuffer.class.cast(icebergValue));
             case DECIMAL:
                 return BigDecimal.class.cast(icebergValue);
             case STRUCT:
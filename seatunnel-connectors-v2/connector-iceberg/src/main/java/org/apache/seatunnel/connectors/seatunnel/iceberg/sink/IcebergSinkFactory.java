@@ -62,6 +62,10 @@ public class IcebergSinkFactory implements TableSinkFactory {
                         SinkConfig.TABLE_UPSERT_MODE_ENABLED_PROP,
                         SinkConfig.TABLE_SCHEMA_EVOLUTION_ENABLED_PROP,
                         SinkConfig.TABLES_DEFAULT_COMMIT_BRANCH,
+                        SinkConfig.MAX_OPEN_PARTITION_WRITERS,
+                        SinkConfig.PARTITION_CLUSTER_ROWS,
+                        SinkConfig.COMPACTION_COMMIT_INTERVAL,
+                        SinkConfig.COMPACTION_MIN_INPUT_FILES,
                         SinkCommonOptions.MULTI_TABLE_SINK_REPLICA)
                 .build();
     }
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.sink.SinkAggregatedCommitter;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
@@ -34,10 +36,19 @@ public class IcebergAggregatedCommitter
         implements SinkAggregatedCommitter<IcebergCommitInfo, IcebergAggregatedCommitInfo> {
 
     private final IcebergFilesCommitter filesCommitter;
+    private final IcebergFilesRewriter filesRewriter;
+    private final int compactionCommitInterval;
+    private int commitCount;
 
     public IcebergAggregatedCommitter(SinkConfig config, CatalogTable catalogTable) {
-        IcebergTableLoader tableLoader = IcebergTableLoader.create(config, catalogTable).open();
+        this(config, IcebergTableLoader.create(config, catalogTable).open());
+    }
+
+    @VisibleForTesting
+    public IcebergAggregatedCommitter(SinkConfig config, IcebergTableLoader tableLoader) {
         this.filesCommitter = IcebergFilesCommitter.of(config, tableLoader);
+        this.filesRewriter = IcebergFilesRewriter.of(config, tableLoader);
+        this.compactionCommitInterval = config.getCompactionCommitInterval();
     }
 
     @Override
@@ -46,9 +57,24 @@ public class IcebergAggregatedCommitter
         for (IcebergAggregatedCommitInfo commitInfo : aggregatedCommitInfo) {
             commitFiles(commitInfo.commitInfos);
         }
+        if (!aggregatedCommitInfo.isEmpty()) {
+            compactIfNeeded();
+        }
         return Collections.emptyList();
     }
 
+    /** Rewrite the files every N commits, the failure doesn't fail the committed files. */
+    private void compactIfNeeded() {
+        if (compactionCommitInterval <= 0 || ++commitCount % compactionCommitInterval != 0) {
+            return;
+        }
+        try {
+            filesRewriter.rewrite();
+        } catch (RuntimeException e) {
+            log.warn("Rewrite the files failed, they will be rewritten by the next compaction", e);
+        }
+    }
+
     private void commitFiles(List<IcebergCommitInfo> commitInfos) {
         for (IcebergCommitInfo icebergCommitInfo : commitInfos) {
             if (icebergCommitInfo.getResults() == null) {
@@ -31,6 +31,7 @@ import org.apache.iceberg.catalog.TableIdentifier;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
@@ -56,7 +57,36 @@ public class IcebergFilesCommitter implements Serializable {
         TableIdentifier tableIdentifier = icebergTableLoader.getTableIdentifier();
         Table table = icebergTableLoader.loadTable();
         log.info("do commit table : " + table.toString());
-        commit(tableIdentifier, table, results);
+        for (List<WriteResult> snapshotResults : splitSnapshots(results)) {
+            commit(tableIdentifier, table, snapshotResults);
+        }
+    }
+
+    /**
+     * The equality deletes don't apply to the data files committed in the same snapshot, so a
+     * result with delete files is committed in a later snapshot than the former results of the
+     * writer, whose rows may be deleted by it.
+     */
+    private static List<List<WriteResult>> splitSnapshots(List<WriteResult> results) {
+        List<List<WriteResult>> snapshots = new ArrayList<>();
+        List<WriteResult> current = new ArrayList<>();
+        for (WriteResult result : results) {
+            if (!current.isEmpty() && hasDeletes(result)) {
+                snapshots.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(result);
+        }
+        if (snapshots.isEmpty() || !current.isEmpty()) {
+            snapshots.add(current);
+        }
+        return snapshots;
+    }
+
+    private static boolean hasDeletes(WriteResult result) {
+        return result.getDeleteFiles() != null
+                && result.getDeleteFiles().stream()
+                        .anyMatch(deleteFile -> deleteFile.recordCount() > 0);
     }
 
     private void commit(TableIdentifier tableIdentifier, Table table, List<WriteResult> results) {
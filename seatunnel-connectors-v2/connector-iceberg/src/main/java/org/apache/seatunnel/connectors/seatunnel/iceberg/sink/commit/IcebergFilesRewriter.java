@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit;
+
+import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.writer.IcebergWriterFactory;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader.IcebergFileScanTaskReader;
+
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
+import org.apache.iceberg.ManifestReader;
+import org.apache.iceberg.RewriteFiles;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.TaskWriter;
+import org.apache.iceberg.util.StructLikeMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrite the small data files and the data files with delete files of a table, the rows deleted by
+ * the delete files are dropped from the new data files. The delete files which only apply to the
+ * rewritten data files are removed as well.
+ *
+ * <p>The new data files keep the sequence number of the rewritten snapshot, so the equality deletes
+ * committed after it still apply to them.
+ */
+@Slf4j
+public class IcebergFilesRewriter implements Serializable {
+    private final IcebergTableLoader icebergTableLoader;
+    private final SinkConfig config;
+    private final boolean caseSensitive;
+    private final String branch;
+    private final int minInputFiles;
+
+    private IcebergFilesRewriter(SinkConfig config, IcebergTableLoader icebergTableLoader) {
+        this.icebergTableLoader = icebergTableLoader;
+        this.config = config;
+        this.caseSensitive = config.isCaseSensitive();
+        this.branch = config.getCommitBranch();
+        this.minInputFiles = Math.max(config.getCompactionMinInputFiles(), 2);
+    }
+
+    public static IcebergFilesRewriter of(
+            SinkConfig config, IcebergTableLoader icebergTableLoader) {
+        return new IcebergFilesRewriter(config, icebergTableLoader);
+    }
+
+    public void rewrite() {
+        Table table = icebergTableLoader.loadTable();
+        table.refresh();
+        Snapshot snapshot = branch == null ? table.currentSnapshot() : table.snapshot(branch);
+        if (snapshot == null) {
+            return;
+        }
+        long smallFileSize = IcebergWriterFactory.targetFileSize(table, config) * 3 / 4;
+
+        // the number of the data files which each delete file applies to
+        Map<String, Integer> deleteFileReferences = new HashMap<>();
+        StructLikeMap<List<FileScanTask>> partitions =
+                StructLikeMap.create(table.spec().partitionType());
+        try (CloseableIterable<FileScanTask> tasks =
+                table.newScan()
+                        .useSnapshot(snapshot.snapshotId())
+                        .caseSensitive(caseSensitive)
+                        .planFiles()) {
+            for (FileScanTask task : tasks) {
+                for (DeleteFile deleteFile : task.deletes()) {
+                    deleteFileReferences.merge(deleteFile.path().toString(), 1, Integer::sum);
+                }
+                // the files of the former partition specs are left as they are
+                if (task.spec().specId() == table.spec().specId()
+                        && (task.file().fileSizeInBytes() < smallFileSize
+                                || !task.deletes().isEmpty())) {
+                    partitions
+                            .computeIfAbsent(task.file().partition(), key -> new ArrayList<>())
+                            .add(task);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<FileScanTask> rewriteTasks = new ArrayList<>();
+        for (List<FileScanTask> tasks : partitions.values()) {
+            if (tasks.size() >= minInputFiles
+                    || tasks.stream().anyMatch(task -> !task.deletes().isEmpty())) {
+                rewriteTasks.addAll(tasks);
+            }
+        }
+        for (FileScanTask task : rewriteTasks) {
+            for (DeleteFile deleteFile : task.deletes()) {
+                deleteFileReferences.merge(deleteFile.path().toString(), -1, Integer::sum);
+            }
+        }
+        // the delete files don't apply to any data file after the rewrite, including the ones
+        // which only applied to the data files committed before them in the same snapshot
+        List<DeleteFile> obsoleteDeleteFiles = new ArrayList<>();
+        for (DeleteFile deleteFile : liveDeleteFiles(table, snapshot)) {
+            if (deleteFileReferences.getOrDefault(deleteFile.path().toString(), 0) == 0) {
+                obsoleteDeleteFiles.add(deleteFile);
+            }
+        }
+        if (rewriteTasks.isEmpty() && obsoleteDeleteFiles.isEmpty()) {
+            log.info("No files to rewrite in table {}", icebergTableLoader.getTableIdentifier());
+            return;
+        }
+
+        List<DataFile> dataFiles = writeDataFiles(table, rewriteTasks);
+        RewriteFiles rewrite =
+                table.newRewrite()
+                        .validateFromSnapshot(snapshot.snapshotId())
+                        .dataSequenceNumber(snapshot.sequenceNumber());
+        if (branch != null) {
+            rewrite.toBranch(branch);
+        }
+        rewriteTasks.forEach(task -> rewrite.deleteFile(task.file()));
+        obsoleteDeleteFiles.forEach(rewrite::deleteFile);
+        dataFiles.forEach(rewrite::addFile);
+        try {
+            rewrite.commit();
+        } catch (RuntimeException e) {
+            dataFiles.forEach(dataFile -> table.io().deleteFile(dataFile.path().toString()));
+            throw e;
+        }
+        log.info(
+                "Rewrite {} data files into {} data files and remove {} delete files in table {}",
+                rewriteTasks.size(),
+                dataFiles.size(),
+                obsoleteDeleteFiles.size(),
+                icebergTableLoader.getTableIdentifier());
+    }
+
+    private static List<DeleteFile> liveDeleteFiles(Table table, Snapshot snapshot) {
+        List<DeleteFile> deleteFiles = new ArrayList<>();
+        for (ManifestFile manifest : snapshot.deleteManifests(table.io())) {
+            try (ManifestReader<DeleteFile> reader =
+                    ManifestFiles.readDeleteManifest(manifest, table.io(), table.specs())) {
+                for (DeleteFile deleteFile : reader) {
+                    deleteFiles.add(deleteFile.copyWithoutStats());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return deleteFiles;
+    }
+
+    private List<DataFile> writeDataFiles(Table table, List<FileScanTask> tasks) {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        IcebergFileScanTaskReader reader =
+                IcebergFileScanTaskReader.builder()
+                        .fileIO(table.io())
+                        .tableSchema(table.schema())
+                        .projectedSchema(table.schema())
+                        .caseSensitive(caseSensitive)
+                        .reuseContainers(false)
+                        .build();
+        // the tasks are grouped by the partition, so only one partition is written at a time
+        TaskWriter<Record> writer =
+                new IcebergWriterFactory(icebergTableLoader, config).createAppendWriter(table);
+        try {
+            for (FileScanTask task : tasks) {
+                try (CloseableIterator<Record> records = reader.open(task)) {
+                    while (records.hasNext()) {
+                        writer.write(records.next());
+                    }
+                }
+            }
+            return Arrays.asList(writer.complete().dataFiles());
+        } catch (IOException | RuntimeException e) {
+            try {
+                writer.abort();
+            } catch (IOException abortException) {
+                e.addSuppressed(abortException);
+            }
+            if (e instanceof IOException) {
+                throw new UncheckedIOException((IOException) e);
+            }
+            throw (RuntimeException) e;
+        }
+    }
+}
@@ -55,6 +55,7 @@ public class IcebergRecordWriter implements RecordWriter {
     private TaskWriter<Record> writer;
     private RowConverter recordConverter;
     private final IcebergWriterFactory writerFactory;
+    private PartitionClusterBuffer clusterBuffer;
 
     public IcebergRecordWriter(Table table, IcebergWriterFactory writerFactory, SinkConfig config) {
         this.config = config;
@@ -63,12 +64,21 @@ public class IcebergRecordWriter implements RecordWriter {
         this.recordConverter = new RowConverter(table, config);
         this.writerFactory = writerFactory;
         this.writer = createTaskWriter();
+        this.clusterBuffer = createClusterBuffer();
     }
 
     private TaskWriter<Record> createTaskWriter() {
         return writerFactory.createTaskWriter(table, config);
     }
 
+    private PartitionClusterBuffer createClusterBuffer() {
+        if (config.getPartitionClusterRows() <= 0 || table.spec().isUnpartitioned()) {
+            return null;
+        }
+        return new PartitionClusterBuffer(
+                table.spec(), table.schema(), config.getPartitionClusterRows());
+    }
+
     @Override
     public void write(SeaTunnelRow seaTunnelRow, SeaTunnelRowType rowType) {
         SchemaChangeWrapper updates = new SchemaChangeWrapper();
@@ -80,6 +90,20 @@ public class IcebergRecordWriter implements RecordWriter {
             record = recordConverter.convert(seaTunnelRow, rowType);
         }
         IcebergRecord icebergRecord = new IcebergRecord(record, seaTunnelRow.getRowKind());
+        if (clusterBuffer == null) {
+            writeRecord(icebergRecord);
+        } else if (clusterBuffer.add(icebergRecord)) {
+            writeBufferedRecords();
+        }
+    }
+
+    private void writeRecord(IcebergRecord icebergRecord) {
+        if (writer instanceof PartitionedDeltaWriter
+                && ((PartitionedDeltaWriter) writer).exceedsOpenWriters(icebergRecord)) {
+            // complete the files of all the partitions, they are committed in a separate snapshot
+            flush();
+            this.writer = createTaskWriter();
+        }
         try {
             this.writer.write(icebergRecord);
         } catch (IOException e) {
@@ -87,6 +111,15 @@ public class IcebergRecordWriter implements RecordWriter {
         }
     }
 
+    private void writeBufferedRecords() {
+        if (clusterBuffer == null || clusterBuffer.isEmpty()) {
+            return;
+        }
+        for (IcebergRecord icebergRecord : clusterBuffer.drain()) {
+            writeRecord(icebergRecord);
+        }
+    }
+
     @Override
     public void applySchemaChange(SeaTunnelRowType afterRowType, SchemaChangeEvent event) {
         log.info("Apply schema change start.");
@@ -124,6 +157,8 @@ public class IcebergRecordWriter implements RecordWriter {
 
     /** apply schema update */
     private void applySchemaUpdate(SchemaChangeWrapper updates) {
+        // the buffered rows are converted with the old schema
+        writeBufferedRecords();
         // complete the current file
         flush();
         // apply the schema updates, this will refresh the table
@@ -134,6 +169,7 @@ public class IcebergRecordWriter implements RecordWriter {
 
     @Override
     public List<WriteResult> complete() {
+        writeBufferedRecords();
         flush();
         List<WriteResult> result = Lists.newArrayList(writerResults);
         writerResults.clear();
@@ -145,6 +181,7 @@ public class IcebergRecordWriter implements RecordWriter {
     private void resetWriter() {
         this.writer = createTaskWriter();
         this.recordConverter = new RowConverter(table, config);
+        this.clusterBuffer = createClusterBuffer();
     }
 
     private void flush() {
@@ -90,18 +90,9 @@ public class IcebergWriterFactory {
     }
 
     public TaskWriter<Record> createTaskWriter(Table table, SinkConfig config) {
-        Map<String, String> tableProps = Maps.newHashMap(table.properties());
-        tableProps.putAll(config.getWriteProps());
-
-        String formatStr =
-                tableProps.getOrDefault(DEFAULT_FILE_FORMAT, DEFAULT_FILE_FORMAT_DEFAULT);
-        FileFormat format = FileFormat.valueOf(formatStr.toUpperCase());
-
-        long targetFileSize =
-                PropertyUtil.propertyAsLong(
-                        tableProps,
-                        WRITE_TARGET_FILE_SIZE_BYTES,
-                        WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+        Map<String, String> tableProps = writeProperties(table, config);
+        FileFormat format = fileFormat(tableProps);
+        long targetFileSize = targetFileSize(tableProps);
 
         Set<Integer> identifierFieldIds = table.schema().identifierFieldIds();
 
@@ -131,13 +122,7 @@ public class IcebergWriterFactory {
                             .setAll(tableProps);
         }
 
-        // (partition ID + task ID + operation ID) must be unique
-        OutputFileFactory fileFactory =
-                OutputFileFactory.builderFor(table, 1, System.currentTimeMillis())
-                        .defaultSpec(table.spec())
-                        .operationId(UUID.randomUUID().toString())
-                        .format(format)
-                        .build();
+        OutputFileFactory fileFactory = outputFileFactory(table, format);
 
         TaskWriter<Record> writer;
         if (table.spec().isUnpartitioned()) {
@@ -176,7 +161,8 @@ public class IcebergWriterFactory {
                                 fileFactory,
                                 table.io(),
                                 targetFileSize,
-                                table.schema());
+                                table.schema(),
+                                config.getMaxOpenPartitionWriters());
             } else {
                 // Delta writer
                 writer =
@@ -189,9 +175,66 @@ public class IcebergWriterFactory {
                                 targetFileSize,
                                 table.schema(),
                                 identifierFieldIds,
-                                config.isUpsertModeEnabled());
+                                config.isUpsertModeEnabled(),
+                                config.getMaxOpenPartitionWriters());
             }
         }
         return writer;
     }
+
+    /**
+     * Create a writer which only appends the data files, the rows are clustered by the partition
+     * key so that only one partition is written at the same time.
+     */
+    public TaskWriter<Record> createAppendWriter(Table table) {
+        Map<String, String> tableProps = writeProperties(table, config);
+        FileFormat format = fileFormat(tableProps);
+        long targetFileSize = targetFileSize(tableProps);
+        FileAppenderFactory<Record> appenderFactory =
+                new GenericAppenderFactory(table.schema(), table.spec()).setAll(tableProps);
+        OutputFileFactory fileFactory = outputFileFactory(table, format);
+        if (table.spec().isUnpartitioned()) {
+            return new UnpartitionedWriter<>(
+                    table.spec(), format, appenderFactory, fileFactory, table.io(), targetFileSize);
+        }
+        return new PartitionedAppendWriter(
+                table.spec(),
+                format,
+                appenderFactory,
+                fileFactory,
+                table.io(),
+                targetFileSize,
+                table.schema(),
+                1);
+    }
+
+    public static long targetFileSize(Table table, SinkConfig config) {
+        return targetFileSize(writeProperties(table, config));
+    }
+
+    private static Map<String, String> writeProperties(Table table, SinkConfig config) {
+        Map<String, String> tableProps = Maps.newHashMap(table.properties());
+        tableProps.putAll(config.getWriteProps());
+        return tableProps;
+    }
+
+    private static FileFormat fileFormat(Map<String, String> tableProps) {
+        String formatStr =
+                tableProps.getOrDefault(DEFAULT_FILE_FORMAT, DEFAULT_FILE_FORMAT_DEFAULT);
+        return FileFormat.valueOf(formatStr.toUpperCase());
+    }
+
+    private static long targetFileSize(Map<String, String> tableProps) {
+        return PropertyUtil.propertyAsLong(
+                tableProps, WRITE_TARGET_FILE_SIZE_BYTES, WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+    }
+
+    private static OutputFileFactory outputFileFactory(Table table, FileFormat format) {
+        // (partition ID + task ID + operation ID) must be unique
+        return OutputFileFactory.builderFor(table, 1, System.currentTimeMillis())
+                .defaultSpec(table.spec())
+                .operationId(UUID.randomUUID().toString())
+                .format(format)
+                .build();
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.sink.writer;
+
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.InternalRecordWrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffer the rows and cluster them by the partition key, so that the partitions are written one by
+ * one instead of switching the partition writers row by row. The order of the rows of the same
+ * partition is kept.
+ */
+class PartitionClusterBuffer {
+    private final PartitionKey partitionKey;
+    private final InternalRecordWrapper wrapper;
+    private final int maxRows;
+
+    private final Map<PartitionKey, List<IcebergRecord>> partitions = new LinkedHashMap<>();
+    private int size;
+
+    PartitionClusterBuffer(PartitionSpec spec, Schema schema, int maxRows) {
+        this.partitionKey = new PartitionKey(spec, schema);
+        this.wrapper = new InternalRecordWrapper(schema.asStruct());
+        this.maxRows = maxRows;
+    }
+
+    /** Add a row, returns true if the buffer is full. */
+    boolean add(IcebergRecord row) {
+        partitionKey.partition(wrapper.wrap(row));
+        List<IcebergRecord> rows = partitions.get(partitionKey);
+        if (rows == null) {
+            rows = new ArrayList<>();
+            partitions.put(partitionKey.copy(), rows);
+        }
+        rows.add(row);
+        return ++size >= maxRows;
+    }
+
+    /** Returns the buffered rows ordered by the partition, and clear the buffer. */
+    List<IcebergRecord> drain() {
+        List<IcebergRecord> rows = new ArrayList<>(size);
+        partitions.values().forEach(rows::addAll);
+        partitions.clear();
+        size = 0;
+        return rows;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -25,15 +25,30 @@ import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.data.InternalRecordWrapper;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.BaseTaskWriter;
 import org.apache.iceberg.io.FileAppenderFactory;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.OutputFileFactory;
-import org.apache.iceberg.io.PartitionedFanoutWriter;
 
-public class PartitionedAppendWriter extends PartitionedFanoutWriter<Record> {
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fan out the rows to a rolling file writer of each partition. At most {@code maxOpenWriters}
+ * partitions are written at the same time, the files of the least recently used partition are
+ * completed when the limit is reached, and the partition opens new files if it is written again.
+ */
+public class PartitionedAppendWriter extends BaseTaskWriter<Record> {
 
     private final PartitionKey partitionKey;
     private final InternalRecordWrapper wrapper;
+    private final int maxOpenWriters;
+
+    // in the access order, the eldest writer is the least recently used one
+    private final LinkedHashMap<PartitionKey, RollingFileWriter> writers =
+            new LinkedHashMap<>(16, 0.75f, true);
 
     public PartitionedAppendWriter(
             PartitionSpec spec,
@@ -42,15 +57,44 @@ public class PartitionedAppendWriter extends PartitionedFanoutWriter<Record> {
             OutputFileFactory fileFactory,
             FileIO io,
             long targetFileSize,
-            Schema schema) {
+            Schema schema,
+            int maxOpenWriters) {
         super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
         this.partitionKey = new PartitionKey(spec, schema);
         this.wrapper = new InternalRecordWrapper(schema.asStruct());
+        this.maxOpenWriters = maxOpenWriters > 0 ? maxOpenWriters : Integer.MAX_VALUE;
     }
 
     @Override
-    protected PartitionKey partition(Record row) {
+    public void write(Record row) throws IOException {
         partitionKey.partition(wrapper.wrap(row));
-        return partitionKey;
+        RollingFileWriter writer = writers.get(partitionKey);
+        if (writer == null) {
+            if (writers.size() >= maxOpenWriters) {
+                Iterator<Map.Entry<PartitionKey, RollingFileWriter>> eldest =
+                        writers.entrySet().iterator();
+                RollingFileWriter evicted = eldest.next().getValue();
+                eldest.remove();
+                evicted.close();
+            }
+            // NOTICE: we need to copy a new partition key here, in case of messing up the keys in
+            // writers.
+            PartitionKey copiedKey = partitionKey.copy();
+            writer = new RollingFileWriter(copiedKey);
+            writers.put(copiedKey, writer);
+        }
+        writer.write(row);
+    }
+
+    int openWriters() {
+        return writers.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (RollingFileWriter writer : writers.values()) {
+            writer.close();
+        }
+        writers.clear();
     }
 }
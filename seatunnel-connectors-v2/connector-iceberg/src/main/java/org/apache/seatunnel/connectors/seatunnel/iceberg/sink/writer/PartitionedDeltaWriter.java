@@ -37,6 +37,7 @@ import java.util.Set;
 
 public class PartitionedDeltaWriter extends BaseDeltaTaskWriter {
     private final PartitionKey partitionKey;
+    private final int maxOpenWriters;
 
     private final Map<PartitionKey, RowDataDeltaWriter> writers = Maps.newHashMap();
 
@@ -49,7 +50,8 @@ public class PartitionedDeltaWriter extends BaseDeltaTaskWriter {
             long targetFileSize,
             Schema schema,
             Set<Integer> identifierFieldIds,
-            boolean upsertMode) {
+            boolean upsertMode,
+            int maxOpenWriters) {
         super(
                 spec,
                 format,
@@ -61,6 +63,23 @@ public class PartitionedDeltaWriter extends BaseDeltaTaskWriter {
                 identifierFieldIds,
                 upsertMode);
         this.partitionKey = new PartitionKey(spec, schema);
+        this.maxOpenWriters = maxOpenWriters > 0 ? maxOpenWriters : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Whether the row belongs to a new partition while the open partition writers reach the limit.
+     *
+     * <p>A partition writer can't be closed alone, the equality deletes don't apply to the data
+     * files committed in the same snapshot, so the rows deleted after the partition is reopened
+     * would be kept. The caller completes all the writers instead, and the files are committed in
+     * an earlier snapshot than the following deletes.
+     */
+    boolean exceedsOpenWriters(IcebergRecord row) {
+        if (writers.size() < maxOpenWriters) {
+            return false;
+        }
+        partitionKey.partition(wrapper().wrap(row));
+        return !writers.containsKey(partitionKey);
     }
 
     @Override
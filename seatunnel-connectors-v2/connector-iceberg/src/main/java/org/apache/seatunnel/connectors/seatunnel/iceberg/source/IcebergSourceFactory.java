@@ -43,6 +43,10 @@ import java.io.Serializable;
 
 import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.CommonConfig.KEY_CASE_SENSITIVE;
 import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_END_SNAPSHOT_ID;
+import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_QUERY;
+import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_SPLIT_LOOKBACK;
+import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_SPLIT_OPEN_FILE_COST;
+import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_SPLIT_SIZE;
 import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_START_SNAPSHOT_ID;
 import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_START_SNAPSHOT_TIMESTAMP;
 import static org.apache.seatunnel.connectors.seatunnel.iceberg.config.SourceConfig.KEY_STREAM_SCAN_STRATEGY;
@@ -74,7 +78,11 @@ public class IcebergSourceFactory implements TableSourceFactory {
                         KEY_END_SNAPSHOT_ID,
                         KEY_USE_SNAPSHOT_ID,
                         KEY_USE_SNAPSHOT_TIMESTAMP,
-                        KEY_STREAM_SCAN_STRATEGY)
+                        KEY_STREAM_SCAN_STRATEGY,
+                        KEY_QUERY,
+                        KEY_SPLIT_SIZE,
+                        KEY_SPLIT_LOOKBACK,
+                        KEY_SPLIT_OPEN_FILE_COST)
                 .build();
     }
 
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source.converter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.AllColumns;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Convert the where clause of a query to an iceberg filter expression, which is pushed down to the
+ * scan to prune the files and row groups, the rows are filtered by the residual of each task.
+ *
+ * <p>The literals are bound to the types of the columns by iceberg, e.g. a string literal is
+ * converted to a date or a timestamp.
+ */
+public class SqlToIcebergExpressionConverter {
+
+    public static Expression convert(String query) {
+        if (StringUtils.isBlank(query)) {
+            return null;
+        }
+        Statement statement;
+        try {
+            statement = CCJSqlParserUtil.parse(query);
+        } catch (JSQLParserException e) {
+            throw new IllegalArgumentException("Error parsing SQL.", e);
+        }
+        if (!(statement instanceof Select)
+                || !(((Select) statement).getSelectBody() instanceof PlainSelect)) {
+            throw new IllegalArgumentException("Only simple SELECT statements are supported.");
+        }
+        PlainSelect plainSelect = (PlainSelect) ((Select) statement).getSelectBody();
+        if (plainSelect.getHaving() != null
+                || plainSelect.getGroupBy() != null
+                || plainSelect.getOrderByElements() != null
+                || plainSelect.getLimit() != null) {
+            throw new IllegalArgumentException(
+                    "Only SELECT statements with WHERE clause are supported. The Having, Group By, Order By, Limit clauses are currently unsupported.");
+        }
+        for (SelectItem selectItem : plainSelect.getSelectItems()) {
+            if (!(selectItem instanceof AllColumns)) {
+                throw new IllegalArgumentException(
+                        "Only SELECT * is supported, the columns are projected by the schema option.");
+            }
+        }
+        if (plainSelect.getWhere() == null) {
+            return null;
+        }
+        return convertExpression(plainSelect.getWhere());
+    }
+
+    private static Expression convertExpression(
+            net.sf.jsqlparser.expression.Expression expression) {
+        if (expression instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) expression;
+            return Expressions.and(
+                    convertExpression(andExpression.getLeftExpression()),
+                    convertExpression(andExpression.getRightExpression()));
+        } else if (expression instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) expression;
+            return Expressions.or(
+                    convertExpression(orExpression.getLeftExpression()),
+                    convertExpression(orExpression.getRightExpression()));
+        } else if (expression instanceof Parenthesis) {
+            return convertExpression(((Parenthesis) expression).getExpression());
+        } else if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            String column = getColumnName(isNullExpression.getLeftExpression());
+            return isNullExpression.isNot()
+                    ? Expressions.notNull(column)
+                    : Expressions.isNull(column);
+        } else if (expression instanceof InExpression) {
+            InExpression inExpression = (InExpression) expression;
+            String column = getColumnName(inExpression.getLeftExpression());
+            if (!(inExpression.getRightItemsList() instanceof ExpressionList)) {
+                throw new IllegalArgumentException("Unsupported IN expression: " + inExpression);
+            }
+            List<Object> values = new ArrayList<>();
+            for (net.sf.jsqlparser.expression.Expression item :
+                    ((ExpressionList) inExpression.getRightItemsList()).getExpressions()) {
+                values.add(getValue(item));
+            }
+            return inExpression.isNot()
+                    ? Expressions.notIn(column, values)
+                    : Expressions.in(column, values);
+        } else if (expression instanceof BinaryExpression) {
+            BinaryExpression binaryExpression = (BinaryExpression) expression;
+            String column = getColumnName(binaryExpression.getLeftExpression());
+            Object value = getValue(binaryExpression.getRightExpression());
+            if (expression instanceof EqualsTo) {
+                return Expressions.equal(column, value);
+            } else if (expression instanceof NotEqualsTo) {
+                return Expressions.notEqual(column, value);
+            } else if (expression instanceof GreaterThan) {
+                return Expressions.greaterThan(column, value);
+            } else if (expression instanceof GreaterThanEquals) {
+                return Expressions.greaterThanOrEqual(column, value);
+            } else if (expression instanceof MinorThan) {
+                return Expressions.lessThan(column, value);
+            } else if (expression instanceof MinorThanEquals) {
+                return Expressions.lessThanOrEqual(column, value);
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unsupported expression type: " + expression.getClass().getSimpleName());
+    }
+
+    private static String getColumnName(net.sf.jsqlparser.expression.Expression expression) {
+        if (!(expression instanceof Column)) {
+            throw new IllegalArgumentException(
+                    "The left side of a condition must be a column: " + expression);
+        }
+        return ((Column) expression).getColumnName();
+    }
+
+    private static Object getValue(net.sf.jsqlparser.expression.Expression expression) {
+        if (expression instanceof LongValue) {
+            return ((LongValue) expression).getValue();
+        } else if (expression instanceof DoubleValue) {
+            return ((DoubleValue) expression).getValue();
+        } else if (expression instanceof StringValue) {
+            return ((StringValue) expression).getValue();
+        } else if (expression instanceof SignedExpression
+                && ((SignedExpression) expression).getSign() == '-') {
+            Object value = getValue(((SignedExpression) expression).getExpression());
+            if (value instanceof Long) {
+                return -(Long) value;
+            } else if (value instanceof Double) {
+                return -(Double) value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported expression value type: " + expression);
+    }
+}
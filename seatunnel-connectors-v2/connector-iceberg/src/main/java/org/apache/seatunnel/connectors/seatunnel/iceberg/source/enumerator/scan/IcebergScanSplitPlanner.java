@@ -173,9 +173,7 @@ public class IcebergScanSplitPlanner {
         try (CloseableIterable<CombinedScanTask> tasksIterable = planTasks(table, context)) {
             List<IcebergFileScanTaskSplit> splits = new ArrayList<>();
             for (CombinedScanTask combinedScanTask : tasksIterable) {
-                for (FileScanTask fileScanTask : combinedScanTask.files()) {
-                    splits.add(new IcebergFileScanTaskSplit(fileScanTask));
-                }
+                splits.add(new IcebergFileScanTaskSplit(new ArrayList<>(combinedScanTask.files())));
             }
             return splits;
         } catch (IOException e) {
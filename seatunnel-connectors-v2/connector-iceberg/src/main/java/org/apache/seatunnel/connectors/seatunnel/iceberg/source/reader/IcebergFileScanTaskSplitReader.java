@@ -31,6 +31,8 @@ import lombok.NonNull;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
 
 @AllArgsConstructor
 public class IcebergFileScanTaskSplitReader implements Closeable {
@@ -39,18 +41,7 @@ public class IcebergFileScanTaskSplitReader implements Closeable {
     private IcebergFileScanTaskReader icebergFileScanTaskReader;
 
     public CloseableIterator<SeaTunnelRow> open(@NonNull IcebergFileScanTaskSplit split) {
-        CloseableIterator<Record> iterator = icebergFileScanTaskReader.open(split.getTask());
-
-        OffsetSeekIterator<Record> seekIterator = new OffsetSeekIterator<>(iterator);
-        seekIterator.seek(split.getRecordOffset());
-
-        return CloseableIterator.transform(
-                seekIterator,
-                record -> {
-                    SeaTunnelRow seaTunnelRow = deserializer.deserialize(record);
-                    split.setRecordOffset(split.getRecordOffset() + 1);
-                    return seaTunnelRow;
-                });
+        return new SplitIterator(split);
     }
 
     @Override
@@ -58,14 +49,27 @@ public class IcebergFileScanTaskSplitReader implements Closeable {
         icebergFileScanTaskReader.close();
     }
 
-    @AllArgsConstructor
-    private static class OffsetSeekIterator<T> implements CloseableIterator<T> {
-        private final CloseableIterator<T> iterator;
+    /** Read the tasks of a split one by one, starting from the position of the split. */
+    private class SplitIterator implements CloseableIterator<SeaTunnelRow> {
+        private final IcebergFileScanTaskSplit split;
+        private CloseableIterator<Record> current;
 
-        public void seek(long startingRecordOffset) {
+        private SplitIterator(IcebergFileScanTaskSplit split) {
+            this.split = split;
+            if (split.getTaskOffset() < split.getTasks().size()) {
+                this.current = openTask(split.getTaskOffset());
+                seek(split.getRecordOffset());
+            }
+        }
+
+        private CloseableIterator<Record> openTask(int taskOffset) {
+            return icebergFileScanTaskReader.open(split.getTasks().get(taskOffset));
+        }
+
+        private void seek(long startingRecordOffset) {
             for (long i = 0; i < startingRecordOffset; ++i) {
-                if (hasNext()) {
-                    next();
+                if (current.hasNext()) {
+                    current.next();
                 } else {
                     throw new IcebergConnectorException(
                             IcebergConnectorErrorCode.INVALID_STARTING_RECORD_OFFSET,
@@ -76,18 +80,44 @@ public class IcebergFileScanTaskSplitReader implements Closeable {
         }
 
         @Override
-        public void close() throws IOException {
-            iterator.close();
+        public boolean hasNext() {
+            while (current != null && !current.hasNext()) {
+                closeCurrent();
+                int nextTaskOffset = split.getTaskOffset() + 1;
+                split.setRecordOffset(0);
+                split.setTaskOffset(nextTaskOffset);
+                if (nextTaskOffset < split.getTasks().size()) {
+                    current = openTask(nextTaskOffset);
+                }
+            }
+            return current != null;
         }
 
         @Override
-        public boolean hasNext() {
-            return iterator.hasNext();
+        public SeaTunnelRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SeaTunnelRow seaTunnelRow = deserializer.deserialize(current.next());
+            split.setRecordOffset(split.getRecordOffset() + 1);
+            return seaTunnelRow;
+        }
+
+        private void closeCurrent() {
+            try {
+                current.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                current = null;
+            }
         }
 
         @Override
-        public T next() {
-            return iterator.next();
+        public void close() {
+            if (current != null) {
+                closeCurrent();
+            }
         }
     }
 }
@@ -30,16 +30,21 @@ import org.apache.seatunnel.connectors.seatunnel.iceberg.data.Deserializer;
 import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFileScanTaskSplit;
 
 import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.types.TypeUtil;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 
 @Slf4j
 public class IcebergSourceReader implements SourceReader<SeaTunnelRow, IcebergFileScanTaskSplit> {
@@ -71,12 +76,34 @@ public class IcebergSourceReader implements SourceReader<SeaTunnelRow, IcebergFi
         this.context = context;
         this.pendingSplits = new LinkedList<>();
         this.catalogTable = catalogTable;
-        this.deserializer = new DefaultDeserializer(seaTunnelRowType, projectedSchema);
         this.tableSchema = tableSchema;
-        this.projectedSchema = projectedSchema;
+        this.projectedSchema = readSchema(tableSchema, projectedSchema, sourceConfig);
+        this.deserializer = new DefaultDeserializer(seaTunnelRowType, this.projectedSchema);
         this.sourceConfig = sourceConfig;
     }
 
+    /**
+     * The residual filter of a task is evaluated on the records, so the filtered columns are read.
+     */
+    private static Schema readSchema(
+            Schema tableSchema, Schema projectedSchema, SourceConfig sourceConfig) {
+        if (sourceConfig.getFilter() == null) {
+            return projectedSchema;
+        }
+        Set<Integer> filteredIds =
+                Binder.boundReferences(
+                        tableSchema.asStruct(),
+                        Collections.singletonList(sourceConfig.getFilter()),
+                        sourceConfig.isCaseSensitive());
+        Set<Integer> projectedIds = TypeUtil.getProjectedIds(projectedSchema);
+        if (projectedIds.containsAll(filteredIds)) {
+            return projectedSchema;
+        }
+        Set<Integer> readIds = new HashSet<>(projectedIds);
+        readIds.addAll(filteredIds);
+        return TypeUtil.select(tableSchema, readIds);
+    }
+
     @Override
     public void open() {
         icebergTableLoader = IcebergTableLoader.create(sourceConfig, catalogTable);
@@ -26,33 +26,51 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * A split of the file scan tasks combined by the planner, the tasks are combined up to the target
+ * split size in bytes.
+ *
+ * <p>The position of the reading is the index of the task being read and the number of the records
+ * read from that task.
+ */
 @Getter
 @AllArgsConstructor
 public class IcebergFileScanTaskSplit implements SourceSplit {
 
-    private static final long serialVersionUID = -9043797960947110643L;
+    private static final long serialVersionUID = -9043797960947110644L;
 
-    private final FileScanTask task;
+    private final List<FileScanTask> tasks;
+    @Setter private volatile int taskOffset;
     @Setter private volatile long recordOffset;
 
     public IcebergFileScanTaskSplit(@NonNull FileScanTask task) {
-        this(task, 0);
+        this(Collections.singletonList(task));
+    }
+
+    public IcebergFileScanTaskSplit(@NonNull List<FileScanTask> tasks) {
+        this(tasks, 0, 0);
     }
 
     @Override
     public String splitId() {
-        return task.file().path().toString();
+        // a file may be split into several tasks, so the start of the first task is a part of id
+        FileScanTask firstTask = tasks.get(0);
+        return firstTask.file().path().toString() + "@" + firstTask.start();
     }
 
     @Override
     public String toString() {
         return "IcebergFileScanTaskSplit{"
-                + "task="
-                + toString(task)
+                + "tasks="
+                + tasks.stream().map(this::toString).collect(Collectors.toList())
+                + ", taskOffset="
+                + taskOffset
                 + ", recordOffset="
                 + recordOffset
                 + '}';
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.sink;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergCatalogLoader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.IcebergTableLoader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.CommonConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit.IcebergAggregatedCommitter;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.commit.IcebergCommitInfo;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.sink.writer.WriteResult;
+
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.data.IcebergGenerics;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.io.CloseableIterable;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class IcebergSinkCompactionTest {
+
+    @Test
+    public void testLimitOpenPartitionWriters() throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put(SinkConfig.MAX_OPEN_PARTITION_WRITERS.key(), 2);
+        SinkConfig config = sinkConfig("append", options);
+        CatalogTable catalogTable = catalogTable("append");
+        IcebergSinkWriter writer = sinkWriter(config, catalogTable);
+        for (int i = 0; i < 12; i++) {
+            writer.write(row(RowKind.INSERT, i, "v" + i, "p" + (i % 3)));
+        }
+        List<WriteResult> results = commit(config, catalogTable, writer);
+
+        // the partitions are reopened after they are evicted
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertEquals(12, results.get(0).getDataFiles().size());
+        Assertions.assertEquals(12, readTable(config, catalogTable).size());
+    }
+
+    @Test
+    public void testClusterRowsByPartition() throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put(SinkConfig.MAX_OPEN_PARTITION_WRITERS.key(), 1);
+        options.put(SinkConfig.PARTITION_CLUSTER_ROWS.key(), 100);
+        SinkConfig config = sinkConfig("cluster", options);
+        CatalogTable catalogTable = catalogTable("cluster");
+        IcebergSinkWriter writer = sinkWriter(config, catalogTable);
+        for (int i = 0; i < 12; i++) {
+            writer.write(row(RowKind.INSERT, i, "v" + i, "p" + (i % 3)));
+        }
+        List<WriteResult> results = commit(config, catalogTable, writer);
+
+        Assertions.assertEquals(3, results.get(0).getDataFiles().size());
+        Assertions.assertEquals(12, readTable(config, catalogTable).size());
+    }
+
+    @Test
+    public void testRollDeltaWriterWhenPartitionsExceedLimit() throws Exception {
+        Map<String, Object> options = upsertOptions();
+        options.put(SinkConfig.MAX_OPEN_PARTITION_WRITERS.key(), 1);
+        SinkConfig config = sinkConfig("delta", options);
+        CatalogTable catalogTable = catalogTable("delta");
+        IcebergSinkWriter writer = sinkWriter(config, catalogTable);
+        writer.write(row(RowKind.INSERT, 1, "a", "p0"));
+        writer.write(row(RowKind.INSERT, 2, "b", "p1"));
+        writer.write(row(RowKind.UPDATE_AFTER, 1, "c", "p0"));
+        writer.write(row(RowKind.DELETE, 2, "b", "p1"));
+        List<WriteResult> results = commit(config, catalogTable, writer);
+
+        Assertions.assertEquals(4, results.size());
+        Map<Integer, String> rows = readTable(config, catalogTable);
+        Assertions.assertEquals(Collections.singletonMap(1, "c"), rows);
+    }
+
+    @Test
+    public void testRewriteFilesEveryCommits() throws Exception {
+        Map<String, Object> options = upsertOptions();
+        options.put(SinkConfig.COMPACTION_COMMIT_INTERVAL.key(), 3);
+        options.put(SinkConfig.COMPACTION_MIN_INPUT_FILES.key(), 2);
+        SinkConfig config = sinkConfig("compaction", options);
+        CatalogTable catalogTable = catalogTable("compaction");
+        IcebergSinkWriter writer = sinkWriter(config, catalogTable);
+        IcebergAggregatedCommitter committer =
+                new IcebergAggregatedCommitter(config, tableLoader(config));
+
+        for (int i = 0; i < 4; i++) {
+            writer.write(row(RowKind.INSERT, i, "v" + i, "p0"));
+        }
+        writer.write(row(RowKind.INSERT, 10, "v10", "p1"));
+        commit(committer, writer);
+        writer.write(row(RowKind.UPDATE_AFTER, 1, "u1", "p0"));
+        writer.write(row(RowKind.DELETE, 2, "v2", "p0"));
+        commit(committer, writer);
+        Assertions.assertEquals(3, countFiles(config, catalogTable, false));
+        Assertions.assertTrue(countFiles(config, catalogTable, true) > 0);
+
+        writer.write(row(RowKind.INSERT, 11, "v11", "p1"));
+        commit(committer, writer);
+
+        // the small files of each partition are rewritten into a file without the deletes
+        Assertions.assertEquals(2, countFiles(config, catalogTable, false));
+        Assertions.assertEquals(0, countFiles(config, catalogTable, true));
+        Map<Integer, String> expected = new TreeMap<>();
+        expected.put(0, "v0");
+        expected.put(1, "u1");
+        expected.put(3, "v3");
+        expected.put(10, "v10");
+        expected.put(11, "v11");
+        Assertions.assertEquals(expected, readTable(config, catalogTable));
+
+        // the equality deletes after the compaction still apply to the rewritten files
+        writer.write(row(RowKind.DELETE, 0, "v0", "p0"));
+        commit(committer, writer);
+        expected.remove(0);
+        Assertions.assertEquals(expected, readTable(config, catalogTable));
+        committer.close();
+    }
+
+    private Map<String, Object> upsertOptions() {
+        Map<String, Object> options = new HashMap<>();
+        options.put(SinkConfig.TABLE_PRIMARY_KEYS.key(), "id");
+        options.put(SinkConfig.TABLE_UPSERT_MODE_ENABLED_PROP.key(), true);
+        return options;
+    }
+
+    private SinkConfig sinkConfig(String table, Map<String, Object> options) {
+        Map<String, Object> tableProps = Collections.singletonMap("write.format.default", "avro");
+
+        Map<String, Object> configs = new HashMap<>(options);
+        configs.put(CommonConfig.KEY_CATALOG_NAME.key(), "seatunnel");
+        configs.put(CommonConfig.KEY_NAMESPACE.key(), "test_db");
+        configs.put(CommonConfig.KEY_TABLE.key(), table);
+        configs.put(
+                CommonConfig.CATALOG_PROPS.key(),
+                Collections.singletonMap("catalog-impl", InMemoryCatalog.class.getName()));
+        configs.put(SinkConfig.TABLE_DEFAULT_PARTITION_KEYS.key(), "dt");
+        configs.put(SinkConfig.AUTO_CREATE_PROPS.key(), tableProps);
+        return new SinkConfig(ReadonlyConfig.fromMap(configs));
+    }
+
+    private static CatalogTable catalogTable(String table) {
+        TableSchema schema =
+                TableSchema.builder()
+                        .column(
+                                PhysicalColumn.of(
+                                        "id", BasicType.INT_TYPE, (Long) null, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name",
+                                        BasicType.STRING_TYPE,
+                                        (Long) null,
+                                        true,
+                                        null,
+                                        null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "dt", BasicType.STRING_TYPE, (Long) null, true, null, null))
+                        .build();
+        return CatalogTable.of(
+                TableIdentifier.of("seatunnel", "test_db", null, table),
+                schema,
+                new HashMap<>(),
+                Collections.singletonList("dt"),
+                null);
+    }
+
+    private static IcebergSinkWriter sinkWriter(SinkConfig config, CatalogTable catalogTable) {
+        return new IcebergSinkWriter(
+                tableLoader(config), config, catalogTable.getSeaTunnelRowType(), null);
+    }
+
+    private static IcebergTableLoader tableLoader(SinkConfig config) {
+        return new IcebergTableLoader(
+                        new InMemoryCatalogLoader(config),
+                        org.apache.iceberg.catalog.TableIdentifier.of(
+                                config.getNamespace(), config.getTable()))
+                .open();
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name, String dt) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name, dt});
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private static List<WriteResult> commit(
+            SinkConfig config, CatalogTable catalogTable, IcebergSinkWriter writer)
+            throws IOException {
+        IcebergAggregatedCommitter committer =
+                new IcebergAggregatedCommitter(config, tableLoader(config));
+        List<WriteResult> results = commit(committer, writer);
+        committer.close();
+        return results;
+    }
+
+    private static List<WriteResult> commit(
+            IcebergAggregatedCommitter committer, IcebergSinkWriter writer) throws IOException {
+        IcebergCommitInfo commitInfo = writer.prepareCommit().get();
+        committer.commit(
+                Collections.singletonList(
+                        committer.combine(Collections.singletonList(commitInfo))));
+        return commitInfo.getResults();
+    }
+
+    private static Table loadTable(SinkConfig config, CatalogTable catalogTable) {
+        Table table = tableLoader(config).loadTable();
+        table.refresh();
+        return table;
+    }
+
+    private static int countFiles(SinkConfig config, CatalogTable catalogTable, boolean deletes)
+            throws IOException {
+        int count = 0;
+        try (CloseableIterable<FileScanTask> tasks =
+                loadTable(config, catalogTable).newScan().planFiles()) {
+            for (FileScanTask task : tasks) {
+                count += deletes ? task.deletes().size() : 1;
+            }
+        }
+        return count;
+    }
+
+    private static Map<Integer, String> readTable(SinkConfig config, CatalogTable catalogTable)
+            throws IOException {
+        Map<Integer, String> rows = new TreeMap<>();
+        List<Integer> ids = new ArrayList<>();
+        try (CloseableIterable<Record> records =
+                IcebergGenerics.read(loadTable(config, catalogTable)).build()) {
+            for (Record record : records) {
+                ids.add((Integer) record.getField("id"));
+                rows.put((Integer) record.getField("id"), (String) record.getField("name"));
+            }
+        }
+        Assertions.assertEquals(rows.size(), ids.size(), "duplicated ids " + ids);
+        return rows;
+    }
+
+    /** The hadoop configuration is not loaded by the catalog, the avro files are written. */
+    private static class InMemoryCatalogLoader extends IcebergCatalogLoader {
+        private static final InMemoryCatalog CATALOG = new InMemoryCatalog();
+
+        static {
+            CATALOG.initialize("seatunnel", Collections.emptyMap());
+            CATALOG.createNamespace(Namespace.of("test_db"));
+        }
+
+        private InMemoryCatalogLoader(SinkConfig config) {
+            super(config);
+        }
+
+        @Override
+        public Catalog loadCatalog() {
+            return CATALOG;
+        }
+    }
+}
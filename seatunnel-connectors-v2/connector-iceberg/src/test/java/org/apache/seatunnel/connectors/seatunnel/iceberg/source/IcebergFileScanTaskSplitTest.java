@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.iceberg.source;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.data.DefaultDeserializer;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.converter.SqlToIcebergExpressionConverter;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.IcebergScanContext;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.enumerator.scan.IcebergScanSplitPlanner;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader.IcebergFileScanTaskReader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.reader.IcebergFileScanTaskSplitReader;
+import org.apache.seatunnel.connectors.seatunnel.iceberg.source.split.IcebergFileScanTaskSplit;
+
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.data.GenericAppenderFactory;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.types.Types;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class IcebergFileScanTaskSplitTest {
+
+    private static final Schema SCHEMA =
+            new Schema(
+                    Types.NestedField.required(1, "id", Types.IntegerType.get()),
+                    Types.NestedField.optional(2, "name", Types.StringType.get()));
+
+    private InMemoryCatalog catalog;
+    private Table table;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        catalog = new InMemoryCatalog();
+        catalog.initialize("test", Collections.emptyMap());
+        catalog.createNamespace(Namespace.of("test_db"));
+        table =
+                catalog.createTable(
+                        TableIdentifier.of("test_db", "source"),
+                        SCHEMA,
+                        PartitionSpec.unpartitioned(),
+                        Collections.singletonMap("write.format.default", "avro"));
+        // 3 files with the ids [0, 3), [3, 6) and [6, 9)
+        for (int i = 0; i < 3; i++) {
+            appendFile(i * 3, 3);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        catalog.close();
+    }
+
+    @Test
+    public void testPlanSplitsBySize() {
+        IcebergScanContext context =
+                IcebergScanContext.builder().schema(SCHEMA).caseSensitive(true).build();
+        List<IcebergFileScanTaskSplit> splits = IcebergScanSplitPlanner.planSplits(table, context);
+        // the small files are combined into a split of the default size
+        Assertions.assertEquals(1, splits.size());
+        Assertions.assertEquals(3, splits.get(0).getTasks().size());
+
+        // a file is weighted by the open file cost at least
+        long fileSize =
+                splits.get(0).getTasks().stream()
+                        .mapToLong(task -> task.length())
+                        .max()
+                        .getAsLong();
+        splits =
+                IcebergScanSplitPlanner.planSplits(
+                        table,
+                        context.toBuilder()
+                                .splitSize(fileSize)
+                                .splitOpenFileCost(fileSize)
+                                .build());
+        Assertions.assertEquals(3, splits.size());
+        Assertions.assertEquals(
+                3, splits.stream().map(IcebergFileScanTaskSplit::splitId).distinct().count());
+    }
+
+    @Test
+    public void testReadSplitFromOffset() throws IOException {
+        IcebergScanContext context =
+                IcebergScanContext.builder().schema(SCHEMA).caseSensitive(true).build();
+        IcebergFileScanTaskSplit split = IcebergScanSplitPlanner.planSplits(table, context).get(0);
+        // the fields are converted by position, in the order of the row type
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"name", "id"},
+                        new SeaTunnelDataType[] {BasicType.STRING_TYPE, BasicType.INT_TYPE});
+
+        List<Integer> allIds = read(new IcebergFileScanTaskSplit(split.getTasks()), rowType, 9);
+        Assertions.assertEquals(9, allIds.size());
+
+        List<Integer> ids = read(split, rowType, 4);
+        Assertions.assertEquals(allIds.subList(0, 4), ids);
+        Assertions.assertEquals(1, split.getTaskOffset());
+        Assertions.assertEquals(1, split.getRecordOffset());
+
+        // restore from the position of the split
+        IcebergFileScanTaskSplit restored =
+                new IcebergFileScanTaskSplit(
+                        split.getTasks(), split.getTaskOffset(), split.getRecordOffset());
+        ids = read(restored, rowType, Integer.MAX_VALUE);
+        Assertions.assertEquals(allIds.subList(4, 9), ids);
+        Assertions.assertEquals(3, restored.getTaskOffset());
+    }
+
+    @Test
+    public void testFilterRowsByQuery() throws IOException {
+        Expression filter =
+                SqlToIcebergExpressionConverter.convert(
+                        "select * from source where id >= 2 and (id < 4 or name = 'name7')");
+        IcebergScanContext context =
+                IcebergScanContext.builder()
+                        .schema(SCHEMA)
+                        .caseSensitive(true)
+                        .filter(filter)
+                        .build();
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        List<Integer> ids = new ArrayList<>();
+        for (IcebergFileScanTaskSplit split : IcebergScanSplitPlanner.planSplits(table, context)) {
+            ids.addAll(read(split, rowType, Integer.MAX_VALUE));
+        }
+        Collections.sort(ids);
+        Assertions.assertEquals(Arrays.asList(2, 3, 7), ids);
+    }
+
+    @Test
+    public void testConvertQueryToExpression() {
+        Expression expression =
+                SqlToIcebergExpressionConverter.convert(
+                        "select * from t where id in (1, 2) and name is not null or id <> -1");
+        Expression expected =
+                Expressions.or(
+                        Expressions.and(Expressions.in("id", 1L, 2L), Expressions.notNull("name")),
+                        Expressions.notEqual("id", -1L));
+        Assertions.assertEquals(expected.toString(), expression.toString());
+        Assertions.assertNull(SqlToIcebergExpressionConverter.convert("select * from t"));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> SqlToIcebergExpressionConverter.convert("select id from t"));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> SqlToIcebergExpressionConverter.convert("select * from t where id like 'a'"));
+    }
+
+    private List<Integer> read(IcebergFileScanTaskSplit split, SeaTunnelRowType rowType, int limit)
+            throws IOException {
+        IcebergFileScanTaskSplitReader splitReader =
+                new IcebergFileScanTaskSplitReader(
+                        new DefaultDeserializer(rowType, SCHEMA),
+                        IcebergFileScanTaskReader.builder()
+                                .fileIO(table.io())
+                                .tableSchema(SCHEMA)
+                                .projectedSchema(SCHEMA)
+                                .caseSensitive(true)
+                                .reuseContainers(true)
+                                .build());
+        List<Integer> ids = new ArrayList<>();
+        try (CloseableIterator<SeaTunnelRow> rows = splitReader.open(split)) {
+            while (ids.size() < limit && rows.hasNext()) {
+                SeaTunnelRow row = rows.next();
+                int id = (Integer) row.getField(rowType.indexOf("id"));
+                Assertions.assertEquals("name" + id, row.getField(rowType.indexOf("name")));
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void appendFile(int startId, int count) throws IOException {
+        OutputFile outputFile =
+                table.io().newOutputFile(table.location() + "/data/" + startId + ".avro");
+        FileAppender<org.apache.iceberg.data.Record> appender =
+                new GenericAppenderFactory(SCHEMA).newAppender(outputFile, FileFormat.AVRO);
+        try (FileAppender<org.apache.iceberg.data.Record> closeable = appender) {
+            for (int id = startId; id < startId + count; id++) {
+                GenericRecord record = GenericRecord.create(SCHEMA);
+                record.setField("id", id);
+                record.setField("name", "name" + id);
+                closeable.add(record);
+            }
+        }
+        DataFile dataFile =
+                DataFiles.builder(PartitionSpec.unpartitioned())
+                        .withInputFile(outputFile.toInputFile())
+                        .withFormat(FileFormat.AVRO)
+                        .withMetrics(appender.metrics())
+                        .build();
+        table.newAppend().appendFile(dataFile).commit();
+    }
+}
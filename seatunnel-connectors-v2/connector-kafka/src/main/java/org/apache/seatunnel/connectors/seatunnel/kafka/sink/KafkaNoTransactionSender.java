@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.sink;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSinkState;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 
@@ -48,11 +49,21 @@ public class KafkaNoTransactionSender<K, V> implements KafkaProduceSender<K, V>
         kafkaProducer.send(producerRecord);
     }
 
+    @Override
+    public void send(ProducerRecord<K, V> producerRecord, Callback callback) {
+        kafkaProducer.send(producerRecord, callback);
+    }
+
     @Override
     public void beginTransaction(String transactionId) {
         // no-op
     }
 
+    @Override
+    public void prepareTransaction(String transactionId) {
+        // no-op
+    }
+
     @Override
     public Optional<KafkaCommitInfo> prepareCommit() {
         return Optional.empty();
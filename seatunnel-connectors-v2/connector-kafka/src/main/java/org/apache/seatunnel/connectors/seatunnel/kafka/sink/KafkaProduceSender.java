@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.sink;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSinkState;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.ProducerRecord;
 
 import java.util.List;
@@ -33,8 +34,24 @@ public interface KafkaProduceSender<K, V> extends AutoCloseable {
      */
     void send(ProducerRecord<K, V> producerRecord);
 
+    /**
+     * Send data to kafka, the callback is invoked once the record is acknowledged or failed.
+     *
+     * @param producerRecord data to send
+     * @param callback callback of the send result
+     */
+    void send(ProducerRecord<K, V> producerRecord, Callback callback);
+
     void beginTransaction(String transactionId);
 
+    /**
+     * Prepare the producer of a following transaction in the background, so that {@link
+     * #beginTransaction(String)} with the same transaction id does not wait for it.
+     *
+     * @param transactionId the id of the following transaction
+     */
+    void prepareTransaction(String transactionId);
+
     /**
      * Prepare a transaction commit.
      *
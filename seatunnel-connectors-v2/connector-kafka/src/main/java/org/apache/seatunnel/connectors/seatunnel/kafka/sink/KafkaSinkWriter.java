@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.sink;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
@@ -68,6 +69,9 @@ public class KafkaSinkWriter implements SinkWriter<SeaTunnelRow, KafkaCommitInfo
     private final SeaTunnelRowSerializer<byte[], byte[]> seaTunnelRowSerializer;
 
     private static final int PREFIX_RANGE = 10000;
+    private static final String KAFKA_SINK_IN_FLIGHT_BYTES = "KafkaSinkInFlightBytes";
+
+    private final Counter inFlightBytes;
 
     public KafkaSinkWriter(
             SinkWriter.Context context,
@@ -76,6 +80,7 @@ public class KafkaSinkWriter implements SinkWriter<SeaTunnelRow, KafkaCommitInfo
             List<KafkaSinkState> kafkaStates) {
         this.context = context;
         this.seaTunnelRowType = seaTunnelRowType;
+        this.inFlightBytes = context.getMetricsContext().counter(KAFKA_SINK_IN_FLIGHT_BYTES);
         if (pluginConfig.get(ASSIGN_PARTITIONS) != null
                 && !CollectionUtils.isEmpty(pluginConfig.get(ASSIGN_PARTITIONS))) {
             MessageContentPartitioner.setAssignPartitions(pluginConfig.get(ASSIGN_PARTITIONS));
@@ -102,6 +107,8 @@ public class KafkaSinkWriter implements SinkWriter<SeaTunnelRow, KafkaCommitInfo
             }
             this.kafkaProducerSender.beginTransaction(
                     generateTransactionId(this.transactionPrefix, this.lastCheckpointId + 1));
+            this.kafkaProducerSender.prepareTransaction(
+                    generateTransactionId(this.transactionPrefix, this.lastCheckpointId + 2));
         } else {
             this.kafkaProducerSender =
                     new KafkaNoTransactionSender<>(getKafkaProperties(pluginConfig));
@@ -110,9 +117,14 @@ public class KafkaSinkWriter implements SinkWriter<SeaTunnelRow, KafkaCommitInfo
 
     @Override
     public void write(SeaTunnelRow element) {
+        // the format serializers return a new byte array for every row, and the partition is
+        // computed by the producer from its cached metadata, so neither is pooled or cached here
         ProducerRecord<byte[], byte[]> producerRecord =
                 seaTunnelRowSerializer.serializeRow(element);
-        kafkaProducerSender.send(producerRecord);
+        long recordBytes = recordBytes(producerRecord);
+        inFlightBytes.inc(recordBytes);
+        kafkaProducerSender.send(
+                producerRecord, (metadata, exception) -> inFlightBytes.dec(recordBytes));
     }
 
     @Override
@@ -121,6 +133,9 @@ public class KafkaSinkWriter implements SinkWriter<SeaTunnelRow, KafkaCommitInfo
         this.lastCheckpointId = checkpointId;
         this.kafkaProducerSender.beginTransaction(
                 generateTransactionId(this.transactionPrefix, this.lastCheckpointId + 1));
+        // the producer of the next transaction is initialized while the current one is written
+        this.kafkaProducerSender.prepareTransaction(
+                generateTransactionId(this.transactionPrefix, this.lastCheckpointId + 2));
         return states;
     }
 
@@ -212,6 +227,17 @@ public class KafkaSinkWriter implements SinkWriter<SeaTunnelRow, KafkaCommitInfo
         return KafkaSemantics.NON;
     }
 
+    private static long recordBytes(ProducerRecord<byte[], byte[]> producerRecord) {
+        long bytes = 0;
+        if (producerRecord.key() != null) {
+            bytes += producerRecord.key().length;
+        }
+        if (producerRecord.value() != null) {
+            bytes += producerRecord.value().length;
+        }
+        return bytes;
+    }
+
     protected static String generateTransactionId(String transactionPrefix, long checkpointId) {
         return transactionPrefix + "-" + checkpointId;
     }
@@ -17,9 +17,12 @@
 
 package org.apache.seatunnel.connectors.seatunnel.kafka.sink;
 
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.kafka.state.KafkaSinkState;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 
@@ -29,6 +32,11 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.seatunnel.connectors.seatunnel.kafka.sink.KafkaSinkWriter.generateTransactionId;
 
@@ -41,14 +49,29 @@ import static org.apache.seatunnel.connectors.seatunnel.kafka.sink.KafkaSinkWrit
 @Slf4j
 public class KafkaTransactionSender<K, V> implements KafkaProduceSender<K, V> {
 
+    private static final long CLOSE_TIMEOUT_SECONDS = 60L;
+
     private KafkaInternalProducer<K, V> kafkaProducer;
     private String transactionId;
     private final String transactionPrefix;
     private final Properties kafkaProperties;
 
+    // prepares the producer of the next transaction and closes the producer of the previous one,
+    // so that a checkpoint only waits for the flush of the current transaction, not for the
+    // initTransactions round trip to the transaction coordinator. The prepared producer stays idle
+    // until the next checkpoint, which costs one more network thread, its broker connections and
+    // one more transactional id per writer; the id is aborted on restore by abortTransaction,
+    // which aborts the ids after the restored checkpoint until one was never initialized.
+    private final ExecutorService transactionExecutor;
+    private String preparedTransactionId;
+    private Future<KafkaInternalProducer<K, V>> preparedProducer;
+
     public KafkaTransactionSender(String transactionPrefix, Properties kafkaProperties) {
         this.transactionPrefix = transactionPrefix;
         this.kafkaProperties = kafkaProperties;
+        this.transactionExecutor =
+                Executors.newSingleThreadExecutor(
+                        r -> new Thread(r, "Kafka Sink Transaction Preparer"));
     }
 
     @Override
@@ -56,13 +79,33 @@ public class KafkaTransactionSender<K, V> implements KafkaProduceSender<K, V> {
         kafkaProducer.send(producerRecord);
     }
 
+    @Override
+    public void send(ProducerRecord<K, V> producerRecord, Callback callback) {
+        kafkaProducer.send(producerRecord, callback);
+    }
+
     @Override
     public void beginTransaction(String transactionId) {
+        KafkaInternalProducer<K, V> previousProducer = this.kafkaProducer;
+        if (previousProducer != null) {
+            // the records of the previous transaction must be sent before it can be committed
+            previousProducer.flush();
+            transactionExecutor.submit(() -> closeProducer(previousProducer));
+        }
         this.transactionId = transactionId;
-        this.kafkaProducer = getTransactionProducer(kafkaProperties, transactionId);
+        this.kafkaProducer = takePreparedProducer(transactionId);
         kafkaProducer.beginTransaction();
     }
 
+    @Override
+    public void prepareTransaction(String transactionId) {
+        discardPreparedProducer();
+        this.preparedTransactionId = transactionId;
+        this.preparedProducer =
+                transactionExecutor.submit(
+                        () -> getTransactionProducer(kafkaProperties, transactionId));
+    }
+
     @Override
     public Optional<KafkaCommitInfo> prepareCommit() {
         KafkaCommitInfo kafkaCommitInfo =
@@ -114,15 +157,75 @@ public class KafkaTransactionSender<K, V> implements KafkaProduceSender<K, V> {
 
     @Override
     public void close() {
+        discardPreparedProducer();
         if (kafkaProducer != null) {
             kafkaProducer.flush();
             kafkaProducer.close();
         }
+        transactionExecutor.shutdown();
+        try {
+            if (!transactionExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn(
+                        "Failed to close the kafka transaction producers in {} seconds",
+                        CLOSE_TIMEOUT_SECONDS);
+                transactionExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            transactionExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private KafkaInternalProducer<K, V> takePreparedProducer(String transactionId) {
+        if (preparedProducer != null && transactionId.equals(preparedTransactionId)) {
+            Future<KafkaInternalProducer<K, V>> producer = this.preparedProducer;
+            this.preparedProducer = null;
+            this.preparedTransactionId = null;
+            try {
+                return producer.get();
+            } catch (ExecutionException e) {
+                throw new KafkaConnectorException(
+                        CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                        "Prepare kafka transaction producer " + transactionId + " error",
+                        e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KafkaConnectorException(
+                        CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED,
+                        "Prepare kafka transaction producer " + transactionId + " interrupted",
+                        e);
+            }
+        }
+        // the checkpoint id is not the predicted one, e.g. a checkpoint was skipped
+        discardPreparedProducer();
+        return getTransactionProducer(kafkaProperties, transactionId);
+    }
+
+    private void discardPreparedProducer() {
+        if (preparedProducer != null) {
+            Future<KafkaInternalProducer<K, V>> producer = this.preparedProducer;
+            transactionExecutor.submit(
+                    () -> {
+                        if (producer.isDone() && !producer.isCancelled()) {
+                            closeProducer(producer.get());
+                        }
+                        return null;
+                    });
+            this.preparedProducer = null;
+            this.preparedTransactionId = null;
+        }
+    }
+
+    private void closeProducer(KafkaInternalProducer<K, V> producer) {
+        try {
+            producer.close();
+        } catch (Exception e) {
+            log.warn("Close kafka transaction producer error", e);
+        }
     }
 
-    private KafkaInternalProducer<K, V> getTransactionProducer(
+    KafkaInternalProducer<K, V> getTransactionProducer(
             Properties properties, String transactionId) {
-        close();
         Properties transactionProperties = (Properties) properties.clone();
         transactionProperties.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, transactionId);
         KafkaInternalProducer<K, V> transactionProducer =
@@ -20,6 +20,7 @@ package org.apache.seatunnel.connectors.seatunnel.kafka.source;
 import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.kafka.exception.KafkaConnectorException;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
@@ -27,15 +28,14 @@ import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import java.util.Properties;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 
 public class KafkaConsumerThread implements Runnable {
 
-    private final KafkaConsumer<byte[], byte[]> consumer;
+    private final Consumer<byte[], byte[]> consumer;
     private static final String CLIENT_ID_PREFIX = "seatunnel";
     private final ConsumerMetadata metadata;
 
-    private final LinkedBlockingQueue<Consumer<KafkaConsumer<byte[], byte[]>>> tasks;
+    private final LinkedBlockingQueue<java.util.function.Consumer<Consumer<byte[], byte[]>>> tasks;
 
     public KafkaConsumerThread(KafkaSourceConfig kafkaSourceConfig, ConsumerMetadata metadata) {
         this.metadata = metadata;
@@ -48,12 +48,20 @@ public class KafkaConsumerThread implements Runnable {
                         !kafkaSourceConfig.isCommitOnCheckpoint());
     }
 
+    /** Run the tasks on the given consumer, e.g. a mock consumer in the tests. */
+    KafkaConsumerThread(Consumer<byte[], byte[]> consumer) {
+        this.metadata = null;
+        this.tasks = new LinkedBlockingQueue<>();
+        this.consumer = consumer;
+    }
+
     @Override
     public void run() {
         try {
             while (!Thread.currentThread().isInterrupted()) {
                 try {
-                    Consumer<KafkaConsumer<byte[], byte[]>> task = tasks.poll(1, TimeUnit.SECONDS);
+                    java.util.function.Consumer<Consumer<byte[], byte[]>> task =
+                            tasks.poll(1, TimeUnit.SECONDS);
                     if (task != null) {
                         task.accept(consumer);
                     }
@@ -73,7 +81,7 @@ public class KafkaConsumerThread implements Runnable {
         }
     }
 
-    public LinkedBlockingQueue<Consumer<KafkaConsumer<byte[], byte[]>>> getTasks() {
+    public LinkedBlockingQueue<java.util.function.Consumer<Consumer<byte[], byte[]>>> getTasks() {
         return tasks;
     }
 
@@ -33,11 +33,11 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 
-import com.google.common.collect.Sets;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -45,7 +45,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -62,8 +61,11 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
 
     private final Map<TablePath, ConsumerMetadata> tablePathMetadataMap;
     private final Set<KafkaSourceSplit> sourceSplits;
-    private final Map<Long, Map<TopicPartition, Long>> checkpointOffsetMap;
-    private final Map<TopicPartition, KafkaConsumerThread> consumerThreadMap;
+    private final Map<Long, Map<TablePath, Map<TopicPartition, Long>>> checkpointOffsetMap;
+    // one consumer per table, it is assigned all the partitions of the table read by this reader
+    private final Map<TablePath, KafkaConsumerThread> consumerThreadMap;
+    // splits added since the last poll, they need to be assigned (and seeked) on the consumer
+    private final Map<TablePath, List<KafkaSourceSplit>> unassignedSplitsMap;
     private final ExecutorService executorService;
     private final MessageFormatErrorHandleWay messageFormatErrorHandleWay;
 
@@ -81,6 +83,7 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
         this.messageFormatErrorHandleWay = messageFormatErrorHandleWay;
         this.sourceSplits = new HashSet<>();
         this.consumerThreadMap = new ConcurrentHashMap<>();
+        this.unassignedSplitsMap = new HashMap<>();
         this.checkpointOffsetMap = new ConcurrentHashMap<>();
         this.executorService =
                 Executors.newCachedThreadPool(r -> new Thread(r, "Kafka Source Data Consumer"));
@@ -105,118 +108,61 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
         }
 
         while (!pendingPartitionsQueue.isEmpty()) {
-            sourceSplits.add(pendingPartitionsQueue.poll());
+            KafkaSourceSplit sourceSplit = pendingPartitionsQueue.poll();
+            sourceSplits.add(sourceSplit);
+            unassignedSplitsMap
+                    .computeIfAbsent(sourceSplit.getTablePath(), t -> new ArrayList<>())
+                    .add(sourceSplit);
         }
-        sourceSplits.forEach(
-                sourceSplit ->
-                        consumerThreadMap.computeIfAbsent(
-                                sourceSplit.getTopicPartition(),
-                                s -> {
-                                    ConsumerMetadata currentSplitConsumerMetaData =
-                                            tablePathMetadataMap.get(sourceSplit.getTablePath());
-                                    KafkaConsumerThread thread =
-                                            new KafkaConsumerThread(
-                                                    kafkaSourceConfig,
-                                                    currentSplitConsumerMetaData);
-                                    executorService.submit(thread);
-                                    return thread;
-                                }));
-        List<KafkaSourceSplit> finishedSplits = new CopyOnWriteArrayList<>();
-        sourceSplits.forEach(
-                sourceSplit -> {
-                    CompletableFuture<Boolean> completableFuture = new CompletableFuture<>();
-                    TablePath tablePath = sourceSplit.getTablePath();
-                    DeserializationSchema<SeaTunnelRow> deserializationSchema =
-                            tablePathMetadataMap.get(tablePath).getDeserializationSchema();
-                    try {
-                        consumerThreadMap
-                                .get(sourceSplit.getTopicPartition())
-                                .getTasks()
-                                .put(
-                                        consumer -> {
-                                            try {
-                                                Set<TopicPartition> partitions =
-                                                        Sets.newHashSet(
-                                                                sourceSplit.getTopicPartition());
-                                                consumer.assign(partitions);
-                                                if (sourceSplit.getStartOffset() >= 0) {
-                                                    consumer.seek(
-                                                            sourceSplit.getTopicPartition(),
-                                                            sourceSplit.getStartOffset());
-                                                }
-                                                ConsumerRecords<byte[], byte[]> records =
-                                                        consumer.poll(
-                                                                Duration.ofMillis(POLL_TIMEOUT));
-                                                for (TopicPartition partition : partitions) {
-                                                    List<ConsumerRecord<byte[], byte[]>>
-                                                            recordList = records.records(partition);
-                                                    if (Boundedness.BOUNDED.equals(
-                                                                    context.getBoundedness())
-                                                            && recordList.isEmpty()) {
-                                                        completableFuture.complete(true);
-                                                        return;
-                                                    }
-                                                    for (ConsumerRecord<byte[], byte[]> record :
-                                                            recordList) {
-                                                        try {
-                                                            if (deserializationSchema
-                                                                    instanceof
-                                                                    CompatibleKafkaConnectDeserializationSchema) {
-                                                                ((CompatibleKafkaConnectDeserializationSchema)
-                                                                                deserializationSchema)
-                                                                        .deserialize(
-                                                                                record, output);
-                                                            } else {
-                                                                deserializationSchema.deserialize(
-                                                                        record.value(), output);
-                                                            }
-                                                        } catch (IOException e) {
-                                                            if (this.messageFormatErrorHandleWay
-                                                                    == MessageFormatErrorHandleWay
-                                                                            .SKIP) {
-                                                                log.warn(
-                                                                        "Deserialize message failed, skip this message, message: {}",
-                                                                        new String(record.value()));
-                                                                continue;
-                                                            }
-                                                            throw e;
-                                                        }
-
-                                                        if (Boundedness.BOUNDED.equals(
-                                                                        context.getBoundedness())
-                                                                && record.offset()
-                                                                        >= sourceSplit
-                                                                                .getEndOffset()) {
-                                                            completableFuture.complete(true);
-                                                            return;
-                                                        }
-                                                    }
-                                                    long lastOffset = -1;
-                                                    if (!recordList.isEmpty()) {
-                                                        lastOffset =
-                                                                recordList
-                                                                        .get(recordList.size() - 1)
-                                                                        .offset();
-                                                        sourceSplit.setStartOffset(lastOffset + 1);
-                                                    }
+        Map<TablePath, List<KafkaSourceSplit>> tableSplitsMap =
+                sourceSplits.stream()
+                        .collect(Collectors.groupingBy(KafkaSourceSplit::getTablePath));
 
-                                                    if (lastOffset >= sourceSplit.getEndOffset()) {
-                                                        sourceSplit.setEndOffset(lastOffset);
-                                                    }
-                                                }
-                                            } catch (Exception e) {
-                                                completableFuture.completeExceptionally(e);
-                                            }
-                                            completableFuture.complete(false);
-                                        });
-                        if (completableFuture.get()) {
-                            finishedSplits.add(sourceSplit);
-                        }
-                    } catch (Exception e) {
-                        throw new KafkaConnectorException(
-                                KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
+        // poll all the tables concurrently, every consumer polls all of its partitions at once
+        Map<TablePath, CompletableFuture<ConsumerRecords<byte[], byte[]>>> pollFutures =
+                new HashMap<>();
+        tableSplitsMap.forEach(
+                (tablePath, tableSplits) -> {
+                    if (tableSplits.stream().allMatch(KafkaSourceSplit::isFinish)) {
+                        return;
                     }
+                    pollFutures.put(
+                            tablePath,
+                            pollTable(
+                                    tablePath,
+                                    unassignedSplitsMap.remove(tablePath),
+                                    tableSplits.stream()
+                                            .filter(KafkaSourceSplit::isFinish)
+                                            .map(KafkaSourceSplit::getTopicPartition)
+                                            .collect(Collectors.toSet())));
                 });
+
+        List<KafkaSourceSplit> finishedSplits = new ArrayList<>();
+        for (Map.Entry<TablePath, CompletableFuture<ConsumerRecords<byte[], byte[]>>> entry :
+                pollFutures.entrySet()) {
+            ConsumerRecords<byte[], byte[]> records;
+            try {
+                records = entry.getValue().get();
+            } catch (Exception e) {
+                throw new KafkaConnectorException(KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
+            }
+            DeserializationSchema<SeaTunnelRow> deserializationSchema =
+                    tablePathMetadataMap.get(entry.getKey()).getDeserializationSchema();
+            for (KafkaSourceSplit sourceSplit : tableSplitsMap.get(entry.getKey())) {
+                if (sourceSplit.isFinish()) {
+                    continue;
+                }
+                // a table poll without any record means all of its partitions reached the end
+                if (emitSplitRecords(
+                        sourceSplit,
+                        records.records(sourceSplit.getTopicPartition()),
+                        records.isEmpty(),
+                        deserializationSchema,
+                        output)) {
+                    finishedSplits.add(sourceSplit);
+                }
+            }
+        }
         if (Boundedness.BOUNDED.equals(context.getBoundedness())) {
             for (KafkaSourceSplit split : finishedSplits) {
                 split.setFinish(true);
@@ -231,15 +177,123 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
         }
     }
 
+    private CompletableFuture<ConsumerRecords<byte[], byte[]>> pollTable(
+            TablePath tablePath,
+            List<KafkaSourceSplit> unassignedSplits,
+            Set<TopicPartition> finishedPartitions) {
+        KafkaConsumerThread consumerThread =
+                consumerThreadMap.computeIfAbsent(
+                        tablePath,
+                        t -> {
+                            KafkaConsumerThread thread =
+                                    createConsumerThread(tablePathMetadataMap.get(t));
+                            executorService.submit(thread);
+                            return thread;
+                        });
+        CompletableFuture<ConsumerRecords<byte[], byte[]>> completableFuture =
+                new CompletableFuture<>();
+        try {
+            consumerThread
+                    .getTasks()
+                    .put(
+                            consumer -> {
+                                try {
+                                    if (unassignedSplits != null) {
+                                        // only the new partitions are seeked, the positions of
+                                        // the already assigned partitions are kept by the consumer
+                                        Set<TopicPartition> partitions =
+                                                new HashSet<>(consumer.assignment());
+                                        unassignedSplits.forEach(
+                                                split -> partitions.add(split.getTopicPartition()));
+                                        consumer.assign(partitions);
+                                        for (KafkaSourceSplit split : unassignedSplits) {
+                                            if (split.getStartOffset() >= 0) {
+                                                consumer.seek(
+                                                        split.getTopicPartition(),
+                                                        split.getStartOffset());
+                                            }
+                                        }
+                                    }
+                                    if (!finishedPartitions.isEmpty()) {
+                                        // stop fetching the partitions which reached the end
+                                        consumer.pause(finishedPartitions);
+                                    }
+                                    completableFuture.complete(
+                                            consumer.poll(Duration.ofMillis(POLL_TIMEOUT)));
+                                } catch (Exception e) {
+                                    completableFuture.completeExceptionally(e);
+                                }
+                            });
+        } catch (InterruptedException e) {
+            throw new KafkaConnectorException(KafkaConnectorErrorCode.CONSUME_DATA_FAILED, e);
+        }
+        return completableFuture;
+    }
+
+    KafkaConsumerThread createConsumerThread(ConsumerMetadata metadata) {
+        return new KafkaConsumerThread(kafkaSourceConfig, metadata);
+    }
+
+    /** Emits the polled records of the split and returns whether the bounded split finished. */
+    private boolean emitSplitRecords(
+            KafkaSourceSplit sourceSplit,
+            List<ConsumerRecord<byte[], byte[]>> recordList,
+            boolean emptyPoll,
+            DeserializationSchema<SeaTunnelRow> deserializationSchema,
+            Collector<SeaTunnelRow> output)
+            throws Exception {
+        boolean bounded = Boundedness.BOUNDED.equals(context.getBoundedness());
+        if (bounded && emptyPoll) {
+            return true;
+        }
+        for (ConsumerRecord<byte[], byte[]> record : recordList) {
+            try {
+                if (deserializationSchema instanceof CompatibleKafkaConnectDeserializationSchema) {
+                    ((CompatibleKafkaConnectDeserializationSchema) deserializationSchema)
+                            .deserialize(record, output);
+                } else {
+                    deserializationSchema.deserialize(record.value(), output);
+                }
+            } catch (IOException e) {
+                if (this.messageFormatErrorHandleWay == MessageFormatErrorHandleWay.SKIP) {
+                    log.warn(
+                            "Deserialize message failed, skip this message, message: {}",
+                            new String(record.value()));
+                    continue;
+                }
+                throw e;
+            }
+
+            if (bounded && record.offset() >= sourceSplit.getEndOffset()) {
+                sourceSplit.setStartOffset(record.offset() + 1);
+                return true;
+            }
+        }
+        long lastOffset = -1;
+        if (!recordList.isEmpty()) {
+            lastOffset = recordList.get(recordList.size() - 1).offset();
+            sourceSplit.setStartOffset(lastOffset + 1);
+        }
+
+        if (lastOffset >= sourceSplit.getEndOffset()) {
+            sourceSplit.setEndOffset(lastOffset);
+        }
+        return bounded
+                && sourceSplit.getEndOffset() >= 0
+                && sourceSplit.getStartOffset() >= sourceSplit.getEndOffset();
+    }
+
     @Override
     public List<KafkaSourceSplit> snapshotState(long checkpointId) {
         checkpointOffsetMap.put(
                 checkpointId,
                 sourceSplits.stream()
                         .collect(
-                                Collectors.toMap(
-                                        KafkaSourceSplit::getTopicPartition,
-                                        KafkaSourceSplit::getStartOffset)));
+                                Collectors.groupingBy(
+                                        KafkaSourceSplit::getTablePath,
+                                        Collectors.toMap(
+                                                KafkaSourceSplit::getTopicPartition,
+                                                KafkaSourceSplit::getStartOffset))));
         return sourceSplits.stream().map(KafkaSourceSplit::copy).collect(Collectors.toList());
     }
 
@@ -270,26 +324,29 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
             checkpointOffsetMap
                     .remove(checkpointId)
                     .forEach(
-                            (topicPartition, offset) -> {
+                            (tablePath, partitionOffsets) -> {
+                                KafkaConsumerThread consumerThread =
+                                        consumerThreadMap.get(tablePath);
+                                if (consumerThread == null
+                                        || !kafkaSourceConfig.isCommitOnCheckpoint()) {
+                                    return;
+                                }
+                                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                                partitionOffsets.forEach(
+                                        (topicPartition, offset) -> {
+                                            if (offset >= 0) {
+                                                offsets.put(
+                                                        topicPartition,
+                                                        new OffsetAndMetadata(offset));
+                                            }
+                                        });
+                                if (offsets.isEmpty()) {
+                                    return;
+                                }
                                 try {
-                                    consumerThreadMap
-                                            .get(topicPartition)
+                                    consumerThread
                                             .getTasks()
-                                            .put(
-                                                    consumer -> {
-                                                        if (kafkaSourceConfig
-                                                                .isCommitOnCheckpoint()) {
-                                                            Map<TopicPartition, OffsetAndMetadata>
-                                                                    offsets = new HashMap<>();
-                                                            if (offset >= 0) {
-                                                                offsets.put(
-                                                                        topicPartition,
-                                                                        new OffsetAndMetadata(
-                                                                                offset));
-                                                                consumer.commitSync(offsets);
-                                                            }
-                                                        }
-                                                    });
+                                            .put(consumer -> consumer.commitSync(offsets));
                                 } catch (InterruptedException e) {
                                     log.error("commit offset to kafka failed", e);
                                 }
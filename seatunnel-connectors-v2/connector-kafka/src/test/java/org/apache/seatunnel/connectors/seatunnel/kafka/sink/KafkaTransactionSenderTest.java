@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.sink;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class KafkaTransactionSenderTest {
+
+    /** The transaction ids of the created producers, in the order they are created. */
+    private final List<String> createdTransactions = new CopyOnWriteArrayList<>();
+
+    private final Map<String, KafkaInternalProducer<byte[], byte[]>> producers =
+            new ConcurrentHashMap<>();
+
+    @Test
+    void testBeginPreparedTransaction() {
+        KafkaTransactionSender<byte[], byte[]> sender = createSender();
+        sender.beginTransaction("tx-1");
+        sender.prepareTransaction("tx-2");
+        sender.beginTransaction("tx-2");
+        sender.close();
+
+        // the producer of the prepared transaction is used instead of creating another one
+        Assertions.assertEquals(Arrays.asList("tx-1", "tx-2"), createdTransactions);
+        Mockito.verify(producers.get("tx-2")).beginTransaction();
+        Mockito.verify(producers.get("tx-2"), Mockito.never()).abortTransaction();
+    }
+
+    @Test
+    void testBeginMismatchedTransaction() {
+        KafkaTransactionSender<byte[], byte[]> sender = createSender();
+        sender.beginTransaction("tx-1");
+        sender.prepareTransaction("tx-2");
+        // e.g. a checkpoint was skipped, the prepared producer is discarded
+        sender.beginTransaction("tx-3");
+        sender.close();
+
+        // the prepared producer is created by another thread, so the order is not checked
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList("tx-1", "tx-2", "tx-3")),
+                new HashSet<>(createdTransactions));
+        Mockito.verify(producers.get("tx-2"), Mockito.never()).beginTransaction();
+        Mockito.verify(producers.get("tx-2")).close();
+        Mockito.verify(producers.get("tx-3")).beginTransaction();
+    }
+
+    @Test
+    void testClosePreviousProducer() {
+        KafkaTransactionSender<byte[], byte[]> sender = createSender();
+        sender.beginTransaction("tx-1");
+        sender.prepareTransaction("tx-2");
+        sender.beginTransaction("tx-2");
+
+        // the records of the previous transaction are flushed before the next one begins
+        KafkaInternalProducer<byte[], byte[]> previousProducer = producers.get("tx-1");
+        Mockito.verify(previousProducer).flush();
+        Mockito.verify(previousProducer, Mockito.timeout(10000)).close();
+        Mockito.verify(producers.get("tx-2"), Mockito.never()).close();
+
+        sender.close();
+        Mockito.verify(producers.get("tx-2")).close();
+    }
+
+    private KafkaTransactionSender<byte[], byte[]> createSender() {
+        return new KafkaTransactionSender<byte[], byte[]>("test", new Properties()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            KafkaInternalProducer<byte[], byte[]> getTransactionProducer(
+                    Properties properties, String transactionId) {
+                KafkaInternalProducer<byte[], byte[]> producer =
+                        Mockito.mock(KafkaInternalProducer.class);
+                producers.put(transactionId, producer);
+                createdTransactions.add(transactionId);
+                return producer;
+            }
+        };
+    }
+}
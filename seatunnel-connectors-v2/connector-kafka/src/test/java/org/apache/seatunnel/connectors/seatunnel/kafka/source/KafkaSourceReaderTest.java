@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.kafka.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.kafka.config.MessageFormatErrorHandleWay;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class KafkaSourceReaderTest {
+
+    private static final String TOPIC = "test_topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    private final MockConsumer<byte[], byte[]> consumer =
+            new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+    private final List<SeaTunnelRow> rows = new ArrayList<>();
+
+    private KafkaSourceReader reader;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    @Test
+    void testAddSplits() throws Exception {
+        TestReaderContext context = new TestReaderContext(Boundedness.UNBOUNDED);
+        reader = createReader(context);
+        reader.addSplits(Collections.singletonList(split(PARTITION_0, 0, -1)));
+        consumer.schedulePollTask(() -> addRecords(PARTITION_0, 0, 3));
+        reader.pollNext(new TestCollector(rows));
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals(Collections.singleton(PARTITION_0), consumer.assignment());
+
+        // the new split is added to the assignment, the assigned split is not seeked again
+        reader.addSplits(Collections.singletonList(split(PARTITION_1, 5, -1)));
+        consumer.schedulePollTask(
+                () -> {
+                    addRecords(PARTITION_0, 0, 5);
+                    addRecords(PARTITION_1, 5, 7);
+                });
+        reader.pollNext(new TestCollector(rows));
+        Assertions.assertEquals(3 + 2 + 2, rows.size());
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(PARTITION_0, PARTITION_1)), consumer.assignment());
+
+        Map<TopicPartition, Long> offsets =
+                reader.snapshotState(1).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        KafkaSourceSplit::getTopicPartition,
+                                        KafkaSourceSplit::getStartOffset));
+        Assertions.assertEquals(5L, offsets.get(PARTITION_0));
+        Assertions.assertEquals(7L, offsets.get(PARTITION_1));
+        Assertions.assertFalse(context.noMoreElement);
+    }
+
+    @Test
+    void testFinishBoundedSplits() throws Exception {
+        TestReaderContext context = new TestReaderContext(Boundedness.BOUNDED);
+        reader = createReader(context);
+        reader.addSplits(Arrays.asList(split(PARTITION_0, 0, 1), split(PARTITION_1, 0, 3)));
+        consumer.schedulePollTask(
+                () -> {
+                    addRecords(PARTITION_0, 0, 2);
+                    addRecords(PARTITION_1, 0, 2);
+                });
+        reader.pollNext(new TestCollector(rows));
+        // the split of partition 0 reached its end offset
+        Assertions.assertEquals(4, rows.size());
+        Assertions.assertFalse(context.noMoreElement);
+
+        consumer.schedulePollTask(() -> addRecords(PARTITION_1, 2, 4));
+        reader.pollNext(new TestCollector(rows));
+        // the finished partition is not fetched any more
+        Assertions.assertEquals(Collections.singleton(PARTITION_0), consumer.paused());
+        Assertions.assertEquals(6, rows.size());
+        Assertions.assertTrue(context.noMoreElement);
+        for (KafkaSourceSplit split : reader.snapshotState(1)) {
+            Assertions.assertEquals(split.getEndOffset() + 1, split.getStartOffset());
+        }
+    }
+
+    @Test
+    void testCommitOffsetsOnCheckpointComplete() throws Exception {
+        TestReaderContext context = new TestReaderContext(Boundedness.UNBOUNDED);
+        reader = createReader(context);
+        reader.addSplits(Collections.singletonList(split(PARTITION_0, 0, -1)));
+        consumer.schedulePollTask(() -> addRecords(PARTITION_0, 0, 3));
+        reader.pollNext(new TestCollector(rows));
+        reader.snapshotState(1);
+
+        consumer.schedulePollTask(() -> addRecords(PARTITION_0, 3, 5));
+        reader.pollNext(new TestCollector(rows));
+        Assertions.assertEquals(5, rows.size());
+        // the offsets of the checkpoint are committed instead of the current positions
+        reader.notifyCheckpointComplete(1);
+        Assertions.assertEquals(3L, waitForCommittedOffset(PARTITION_0));
+        // the checkpoint is committed only once
+        reader.notifyCheckpointComplete(1);
+    }
+
+    private KafkaSourceReader createReader(TestReaderContext context) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", "localhost:9092");
+        config.put("topic", TOPIC);
+        KafkaSourceConfig kafkaSourceConfig = new KafkaSourceConfig(ReadonlyConfig.fromMap(config));
+        return new KafkaSourceReader(kafkaSourceConfig, context, MessageFormatErrorHandleWay.FAIL) {
+            @Override
+            KafkaConsumerThread createConsumerThread(ConsumerMetadata metadata) {
+                return new KafkaConsumerThread(consumer);
+            }
+        };
+    }
+
+    private static KafkaSourceSplit split(
+            TopicPartition topicPartition, long startOffset, long endOffset) {
+        return new KafkaSourceSplit(TablePath.of(TOPIC), topicPartition, startOffset, endOffset);
+    }
+
+    /** Add the records of the offsets in [start, end), it is called by the consumer thread. */
+    private void addRecords(TopicPartition topicPartition, long start, long end) {
+        for (long offset = start; offset < end; offset++) {
+            consumer.addRecord(
+                    new ConsumerRecord<>(
+                            topicPartition.topic(),
+                            topicPartition.partition(),
+                            offset,
+                            null,
+                            ("value-" + offset).getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private long waitForCommittedOffset(TopicPartition topicPartition) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            OffsetAndMetadata offset =
+                    consumer.committed(Collections.singleton(topicPartition)).get(topicPartition);
+            if (offset != null) {
+                return offset.offset();
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("The offset of " + topicPartition + " is not committed");
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+        private final List<SeaTunnelRow> rows;
+
+        private TestCollector(List<SeaTunnelRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add(record);
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestReaderContext implements SourceReader.Context {
+        private final Boundedness boundedness;
+        private volatile boolean noMoreElement;
+
+        private TestReaderContext(Boundedness boundedness) {
+            this.boundedness = boundedness;
+        }
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return boundedness;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
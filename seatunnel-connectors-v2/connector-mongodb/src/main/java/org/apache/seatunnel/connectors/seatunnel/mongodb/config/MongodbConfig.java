@@ -137,6 +137,21 @@ public class MongodbConfig {
                     .withDescription(
                             "Specifies the retry time interval if writing records to database failed.");
 
+    public static final Option<Boolean> BULK_ORDERED =
+            Options.key("bulk.ordered")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "Whether the bulk writes are ordered. The unordered bulk write continues on the failed documents, "
+                                    + "the bulk write containing a key more than once is always ordered.");
+
+    public static final Option<Integer> BULK_MAX_CONCURRENT_WRITES =
+            Options.key("bulk.max-concurrent-writes")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Specifies the max number of the concurrent bulk writes, the documents are distributed by the primary key.");
+
     public static final Option<Boolean> UPSERT_ENABLE =
             Options.key("upsert-enable")
                     .booleanType()
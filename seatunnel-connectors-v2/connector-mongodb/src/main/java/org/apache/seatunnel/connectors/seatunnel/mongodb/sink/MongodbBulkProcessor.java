@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.exception.MongodbConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.internal.MongodbClientProvider;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.serde.RowDataDocumentSerializer;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED;
+
+/**
+ * Write the models by the concurrent bulk writes. The models are distributed into the lanes by the
+ * primary key, each lane has at most one in-flight bulk write, so the writes of a key are always
+ * executed in order.
+ *
+ * <p>In the upsert mode the models of a key are coalesced in the buffer of the lane, only the last
+ * upsert or delete is written. A bulk write which contains a key more than once is always ordered,
+ * even if the unordered bulk write is configured. After a failed bulk write only the failed models
+ * are retried.
+ */
+@Slf4j
+public class MongodbBulkProcessor implements Closeable {
+    private static final String BULK_WRITE_RETRIES = "MongodbSinkBulkWriteRetries";
+    private static final String COALESCED_WRITES = "MongodbSinkCoalescedWrites";
+
+    private final MongodbClientProvider collectionProvider;
+    // null if the primary key is not set
+    private final Function<BsonDocument, BsonDocument> keyExtractor;
+    private final boolean coalesce;
+    private final boolean ordered;
+    private final long maxBatchSize;
+    private final int maxRetries;
+    private final long retryIntervalMs;
+    private final Lane[] lanes;
+    private final ExecutorService executor;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final Counter bulkWriteRetries;
+    private final Counter coalescedWrites;
+
+    private int nextLane;
+
+    public MongodbBulkProcessor(
+            MongodbClientProvider collectionProvider,
+            MongodbWriterOptions options,
+            MetricsContext metricsContext) {
+        this.collectionProvider = collectionProvider;
+        this.keyExtractor = options.getPrimaryKey() == null ? null : new MongoKeyExtractor(options);
+        this.coalesce = options.isUpsertEnable() && keyExtractor != null;
+        this.ordered = options.isBulkOrdered();
+        this.maxBatchSize = options.getFlushSize();
+        this.maxRetries = options.getRetryMax();
+        this.retryIntervalMs = options.getRetryInterval();
+        this.lanes = new Lane[Math.max(options.getMaxConcurrentBulkWrites(), 1)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane();
+        }
+        this.executor =
+                Executors.newFixedThreadPool(
+                        lanes.length,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("mongodb-bulk-write-%d")
+                                .setDaemon(true)
+                                .build());
+        this.bulkWriteRetries = metricsContext.counter(BULK_WRITE_RETRIES);
+        this.coalescedWrites = metricsContext.counter(COALESCED_WRITES);
+    }
+
+    /** Add a model, the lane is sent when it is full, it blocks if the lane is still writing. */
+    public void add(WriteModel<BsonDocument> model) {
+        checkFailure();
+        BsonDocument key = getKey(model);
+        Lane lane;
+        if (key == null) {
+            lane = lanes[nextLane];
+            nextLane = (nextLane + 1) % lanes.length;
+        } else {
+            lane = lanes[Math.floorMod(key.hashCode(), lanes.length)];
+            Integer position = lane.positions.get(key);
+            if (position != null && coalesce) {
+                lane.models.set(position, model);
+                coalescedWrites.inc();
+                return;
+            }
+            if (position != null) {
+                lane.duplicateKeys = true;
+            }
+            lane.positions.put(key, lane.models.size());
+        }
+        lane.models.add(model);
+        if (maxBatchSize != -1 && lane.models.size() >= maxBatchSize) {
+            send(lane);
+        }
+    }
+
+    /** Send the buffered models of all the lanes without waiting for the bulk writes. */
+    public void sendAll() {
+        checkFailure();
+        for (Lane lane : lanes) {
+            send(lane);
+        }
+    }
+
+    /** Send the buffered models, and wait for all the in-flight bulk writes. */
+    public void flush() {
+        sendAll();
+        for (Lane lane : lanes) {
+            waitFor(lane);
+        }
+        checkFailure();
+    }
+
+    private BsonDocument getKey(WriteModel<BsonDocument> model) {
+        if (keyExtractor == null) {
+            return null;
+        }
+        Bson filter;
+        if (model instanceof InsertOneModel) {
+            filter =
+                    RowDataDocumentSerializer.generateFilter(
+                            keyExtractor.apply(
+                                    ((InsertOneModel<BsonDocument>) model).getDocument()));
+        } else if (model instanceof UpdateOneModel) {
+            filter = ((UpdateOneModel<BsonDocument>) model).getFilter();
+        } else if (model instanceof DeleteOneModel) {
+            filter = ((DeleteOneModel<BsonDocument>) model).getFilter();
+        } else {
+            return null;
+        }
+        return filter.toBsonDocument(
+                BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    private void send(Lane lane) {
+        if (lane.models.isEmpty()) {
+            return;
+        }
+        // one in-flight bulk write per lane keeps the writes of a key in order
+        waitFor(lane);
+        checkFailure();
+        List<WriteModel<BsonDocument>> batch = lane.models;
+        boolean batchOrdered = ordered || lane.duplicateKeys;
+        lane.models = new ArrayList<>();
+        lane.positions.clear();
+        lane.duplicateKeys = false;
+        lane.inFlight =
+                executor.submit(
+                        () -> {
+                            try {
+                                bulkWriteWithRetry(batch, batchOrdered);
+                            } catch (Throwable t) {
+                                failure.compareAndSet(null, t);
+                            }
+                        });
+    }
+
+    private void waitFor(Lane lane) {
+        if (lane.inFlight == null) {
+            return;
+        }
+        try {
+            lane.inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MongodbConnectorException(
+                    WRITER_OPERATION_FAILED,
+                    "Interrupted while waiting for the bulk write to MongoDB",
+                    e);
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e.getCause());
+        } finally {
+            lane.inFlight = null;
+        }
+    }
+
+    private void bulkWriteWithRetry(List<WriteModel<BsonDocument>> batch, boolean batchOrdered)
+            throws InterruptedException {
+        List<WriteModel<BsonDocument>> pending = batch;
+        for (int i = 0; ; i++) {
+            try {
+                collectionProvider
+                        .getDefaultCollection()
+                        .bulkWrite(pending, new BulkWriteOptions().ordered(batchOrdered));
+                return;
+            } catch (MongoException e) {
+                if (i >= maxRetries) {
+                    throw new MongodbConnectorException(
+                            WRITER_OPERATION_FAILED, "Bulk Write to MongoDB failed", e);
+                }
+                if (e instanceof MongoBulkWriteException) {
+                    pending = getFailedModels(pending, (MongoBulkWriteException) e, batchOrdered);
+                }
+                log.warn(
+                        "Bulk Write of {} models to MongoDB failed, retry times = {}",
+                        pending.size(),
+                        i,
+                        e);
+            }
+            bulkWriteRetries.inc();
+            TimeUnit.MILLISECONDS.sleep(retryIntervalMs * (i + 1));
+        }
+    }
+
+    /**
+     * Returns the models which are not written. The ordered bulk write stops at the first failed
+     * model, the unordered bulk write continues on the errors.
+     */
+    private static List<WriteModel<BsonDocument>> getFailedModels(
+            List<WriteModel<BsonDocument>> models,
+            MongoBulkWriteException e,
+            boolean batchOrdered) {
+        List<BulkWriteError> writeErrors = e.getWriteErrors();
+        if (writeErrors.isEmpty()) {
+            // e.g. the write concern error, all the models are retried
+            return models;
+        }
+        if (batchOrdered) {
+            return models.subList(writeErrors.get(0).getIndex(), models.size());
+        }
+        List<WriteModel<BsonDocument>> failedModels = new ArrayList<>(writeErrors.size());
+        for (BulkWriteError writeError : writeErrors) {
+            failedModels.add(models.get(writeError.getIndex()));
+        }
+        return failedModels;
+    }
+
+    private void checkFailure() {
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new MongodbConnectorException(
+                    WRITER_OPERATION_FAILED, "Bulk Write to MongoDB failed", t);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /** The buffered models of the keys in the same hash range. */
+    private static class Lane {
+        private List<WriteModel<BsonDocument>> models = new ArrayList<>();
+        // the position of the last model of each key in the buffer
+        private final Map<BsonDocument, Integer> positions = new HashMap<>();
+        private boolean duplicateKeys;
+        private Future<?> inFlight;
+    }
+}
@@ -97,6 +97,14 @@ public class MongodbSink
                 builder.withRetryInterval(pluginConfig.getLong(MongodbConfig.RETRY_INTERVAL.key()));
             }
 
+            if (pluginConfig.hasPath(MongodbConfig.BULK_ORDERED.key())) {
+                builder.withBulkOrdered(pluginConfig.getBoolean(MongodbConfig.BULK_ORDERED.key()));
+            }
+            if (pluginConfig.hasPath(MongodbConfig.BULK_MAX_CONCURRENT_WRITES.key())) {
+                builder.withMaxConcurrentBulkWrites(
+                        pluginConfig.getInt(MongodbConfig.BULK_MAX_CONCURRENT_WRITES.key()));
+            }
+
             if (pluginConfig.hasPath(MongodbConfig.TRANSACTION.key())) {
                 builder.withTransaction(pluginConfig.getBoolean(MongodbConfig.TRANSACTION.key()));
             }
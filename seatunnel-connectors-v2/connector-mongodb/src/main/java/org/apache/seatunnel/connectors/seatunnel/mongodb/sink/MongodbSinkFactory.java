@@ -48,7 +48,9 @@ public class MongodbSinkFactory implements TableSinkFactory {
                         MongodbConfig.RETRY_MAX,
                         MongodbConfig.RETRY_INTERVAL,
                         MongodbConfig.UPSERT_ENABLE,
-                        MongodbConfig.PRIMARY_KEY)
+                        MongodbConfig.PRIMARY_KEY,
+                        MongodbConfig.BULK_ORDERED,
+                        MongodbConfig.BULK_MAX_CONCURRENT_WRITES)
                 .build();
     }
 }
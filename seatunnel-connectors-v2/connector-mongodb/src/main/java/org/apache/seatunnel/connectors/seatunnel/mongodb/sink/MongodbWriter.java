@@ -20,7 +20,6 @@ package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
-import org.apache.seatunnel.connectors.seatunnel.mongodb.exception.MongodbConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.internal.MongodbClientProvider;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.internal.MongodbCollectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.mongodb.serde.DocumentSerializer;
@@ -29,8 +28,6 @@ import org.apache.seatunnel.connectors.seatunnel.mongodb.sink.state.MongodbCommi
 
 import org.bson.BsonDocument;
 
-import com.mongodb.MongoException;
-import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
@@ -39,12 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-import static org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated.WRITER_OPERATION_FAILED;
 
 @Slf4j
 public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo, DocumentBulk> {
@@ -53,13 +46,10 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
 
     private final DocumentSerializer<SeaTunnelRow> serializer;
 
-    private long bulkActions;
-
     private final List<WriteModel<BsonDocument>> bulkRequests;
 
-    private int maxRetries;
-
-    private long retryIntervalMs;
+    // null in the transaction mode
+    private final MongodbBulkProcessor bulkProcessor;
 
     private long batchIntervalMs;
 
@@ -78,18 +68,20 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
         this.context = context;
         this.serializer = serializer;
         this.bulkRequests = new ArrayList<>();
+        this.bulkProcessor =
+                transaction
+                        ? null
+                        : new MongodbBulkProcessor(
+                                collectionProvider, options, context.getMetricsContext());
     }
 
     private void initOptions(MongodbWriterOptions options) {
-        this.maxRetries = options.getRetryMax();
-        this.retryIntervalMs = options.getRetryInterval();
         this.collectionProvider =
                 MongodbCollectionProvider.builder()
                         .connectionString(options.getConnectString())
                         .database(options.getDatabase())
                         .collection(options.getCollection())
                         .build();
-        this.bulkActions = options.getFlushSize();
         this.batchIntervalMs = options.getBatchIntervalMs();
         this.transaction = options.transaction;
     }
@@ -97,9 +89,16 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
     @Override
     public void write(SeaTunnelRow o) {
         if (o.getRowKind() != RowKind.UPDATE_BEFORE) {
-            bulkRequests.add(serializer.serializeToWriteModel(o));
-            if (!transaction && (isOverMaxBatchSizeLimit() || isOverMaxBatchIntervalLimit())) {
-                doBulkWrite();
+            WriteModel<BsonDocument> writeModel = serializer.serializeToWriteModel(o);
+            if (transaction) {
+                bulkRequests.add(writeModel);
+                return;
+            }
+            // the full batches are sent by the bulk processor
+            bulkProcessor.add(writeModel);
+            if (isOverMaxBatchIntervalLimit()) {
+                lastSendTime = System.currentTimeMillis();
+                bulkProcessor.sendAll();
             }
         }
     }
@@ -150,63 +149,16 @@ public class MongodbWriter implements SinkWriter<SeaTunnelRow, MongodbCommitInfo
     public void close() {
         if (!transaction) {
             doBulkWrite();
+            bulkProcessor.close();
         }
         if (collectionProvider != null) {
             collectionProvider.close();
         }
     }
 
-    synchronized void doBulkWrite() {
-        if (bulkRequests.isEmpty()) {
-            // no records to write
-            return;
-        }
-
-        boolean success =
-                IntStream.rangeClosed(0, maxRetries)
-                        .anyMatch(
-                                i -> {
-                                    try {
-                                        lastSendTime = System.currentTimeMillis();
-                                        collectionProvider
-                                                .getDefaultCollection()
-                                                .bulkWrite(
-                                                        bulkRequests,
-                                                        new BulkWriteOptions().ordered(true));
-                                        bulkRequests.clear();
-                                        return true;
-                                    } catch (MongoException e) {
-                                        log.debug(
-                                                "Bulk Write to MongoDB failed, retry times = {}",
-                                                i,
-                                                e);
-                                        if (i >= maxRetries) {
-                                            throw new MongodbConnectorException(
-                                                    WRITER_OPERATION_FAILED,
-                                                    "Bulk Write to MongoDB failed",
-                                                    e);
-                                        }
-                                        try {
-                                            TimeUnit.MILLISECONDS.sleep(retryIntervalMs * (i + 1));
-                                        } catch (InterruptedException ex) {
-                                            Thread.currentThread().interrupt();
-                                            throw new MongodbConnectorException(
-                                                    WRITER_OPERATION_FAILED,
-                                                    "Unable to flush; interrupted while doing another attempt",
-                                                    e);
-                                        }
-                                        return false;
-                                    }
-                                });
-
-        if (!success) {
-            throw new MongodbConnectorException(
-                    WRITER_OPERATION_FAILED, "Bulk Write to MongoDB failed after max retries");
-        }
-    }
-
-    private boolean isOverMaxBatchSizeLimit() {
-        return bulkActions != -1 && bulkRequests.size() >= bulkActions;
+    private void doBulkWrite() {
+        lastSendTime = System.currentTimeMillis();
+        bulkProcessor.flush();
     }
 
     private boolean isOverMaxBatchIntervalLimit() {
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
 
+import org.apache.seatunnel.connectors.seatunnel.mongodb.config.MongodbConfig;
+
 import lombok.Getter;
 
 import java.io.Serializable;
@@ -46,6 +48,10 @@ public class MongodbWriterOptions implements Serializable {
 
     protected final boolean transaction;
 
+    protected final boolean bulkOrdered;
+
+    protected final int maxConcurrentBulkWrites;
+
     public MongodbWriterOptions(
             String connectString,
             String database,
@@ -56,7 +62,9 @@ public class MongodbWriterOptions implements Serializable {
             String[] primaryKey,
             int retryMax,
             long retryInterval,
-            boolean transaction) {
+            boolean transaction,
+            boolean bulkOrdered,
+            int maxConcurrentBulkWrites) {
         this.connectString = connectString;
         this.database = database;
         this.collection = collection;
@@ -67,6 +75,8 @@ public class MongodbWriterOptions implements Serializable {
         this.retryMax = retryMax;
         this.retryInterval = retryInterval;
         this.transaction = transaction;
+        this.bulkOrdered = bulkOrdered;
+        this.maxConcurrentBulkWrites = maxConcurrentBulkWrites;
     }
 
     public static Builder builder() {
@@ -95,6 +105,11 @@ public class MongodbWriterOptions implements Serializable {
 
         protected boolean transaction;
 
+        protected boolean bulkOrdered = MongodbConfig.BULK_ORDERED.defaultValue();
+
+        protected int maxConcurrentBulkWrites =
+                MongodbConfig.BULK_MAX_CONCURRENT_WRITES.defaultValue();
+
         public Builder withConnectString(String connectString) {
             this.connectString = connectString;
             return this;
@@ -145,6 +160,16 @@ public class MongodbWriterOptions implements Serializable {
             return this;
         }
 
+        public Builder withBulkOrdered(boolean bulkOrdered) {
+            this.bulkOrdered = bulkOrdered;
+            return this;
+        }
+
+        public Builder withMaxConcurrentBulkWrites(int maxConcurrentBulkWrites) {
+            this.maxConcurrentBulkWrites = maxConcurrentBulkWrites;
+            return this;
+        }
+
         public MongodbWriterOptions build() {
             return new MongodbWriterOptions(
                     connectString,
@@ -156,7 +181,9 @@ public class MongodbWriterOptions implements Serializable {
                     primaryKey,
                     retryMax,
                     retryInterval,
-                    transaction);
+                    transaction,
+                    bulkOrdered,
+                    maxConcurrentBulkWrites);
         }
     }
 }
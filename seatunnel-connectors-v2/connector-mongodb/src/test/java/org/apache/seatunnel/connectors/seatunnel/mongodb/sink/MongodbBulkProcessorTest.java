@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.mongodb.sink;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.exception.MongodbConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.internal.MongodbClientProvider;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.serde.RowDataDocumentSerializer;
+import org.apache.seatunnel.connectors.seatunnel.mongodb.serde.RowDataToBsonConverters;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class MongodbBulkProcessorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    /** The models and the ordered option of the bulk writes. */
+    private final List<List<WriteModel<BsonDocument>>> bulkWrites = new CopyOnWriteArrayList<>();
+
+    private final List<Boolean> orderedOptions = new CopyOnWriteArrayList<>();
+
+    private MongoCollection<BsonDocument> collection;
+    private MongodbClientProvider clientProvider;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        collection = Mockito.mock(MongoCollection.class);
+        clientProvider = Mockito.mock(MongodbClientProvider.class);
+        Mockito.when(clientProvider.getDefaultCollection()).thenReturn(collection);
+        Mockito.when(collection.bulkWrite(Mockito.anyList(), Mockito.any(BulkWriteOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            bulkWrites.add(new ArrayList<>(invocation.getArgument(0)));
+                            orderedOptions.add(
+                                    ((BulkWriteOptions) invocation.getArgument(1)).isOrdered());
+                            return null;
+                        });
+    }
+
+    @Test
+    public void testCoalesceUpserts() {
+        MongodbWriterOptions options = options(true, false, 2);
+        RowDataDocumentSerializer serializer = serializer(options);
+        try (MongodbBulkProcessor processor =
+                new MongodbBulkProcessor(
+                        clientProvider, options, new AbstractMetricsContext() {})) {
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 1, "a")));
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 2, "b")));
+            processor.add(serializer.serializeToWriteModel(row(RowKind.UPDATE_AFTER, 1, "c")));
+            processor.add(serializer.serializeToWriteModel(row(RowKind.DELETE, 2, "b")));
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 3, "d")));
+            processor.flush();
+        }
+        List<WriteModel<BsonDocument>> models = new ArrayList<>();
+        bulkWrites.forEach(models::addAll);
+        // only the last model of each key is written
+        Assertions.assertEquals(3, models.size());
+        Assertions.assertEquals(Collections.nCopies(bulkWrites.size(), false), orderedOptions);
+        int deletes = 0;
+        for (WriteModel<BsonDocument> model : models) {
+            if (model instanceof DeleteOneModel) {
+                deletes++;
+                continue;
+            }
+            BsonDocument update = (BsonDocument) ((UpdateOneModel<BsonDocument>) model).getUpdate();
+            BsonDocument set = update.getDocument("$set");
+            if (set.getInt32("id").getValue() == 1) {
+                Assertions.assertEquals("c", set.getString("name").getValue());
+            }
+        }
+        Assertions.assertEquals(1, deletes);
+    }
+
+    @Test
+    public void testOrderedBatchOfDuplicateKeys() {
+        MongodbWriterOptions options = options(false, false, 1);
+        RowDataDocumentSerializer serializer = serializer(options);
+        try (MongodbBulkProcessor processor =
+                new MongodbBulkProcessor(
+                        clientProvider, options, new AbstractMetricsContext() {})) {
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 1, "a")));
+            processor.add(serializer.serializeToWriteModel(row(RowKind.UPDATE_AFTER, 1, "b")));
+            processor.flush();
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 2, "c")));
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 3, "d")));
+            processor.flush();
+        }
+        Assertions.assertEquals(2, bulkWrites.size());
+        // the writes of a key are not coalesced without upsert, and they are written in order
+        Assertions.assertEquals(2, bulkWrites.get(0).size());
+        Assertions.assertEquals(true, orderedOptions.get(0));
+        Assertions.assertEquals(false, orderedOptions.get(1));
+    }
+
+    @Test
+    public void testRetryFailedModels() {
+        BulkWriteError writeError = new BulkWriteError(11600, "interrupted", new BsonDocument(), 1);
+        MongoBulkWriteException exception = Mockito.mock(MongoBulkWriteException.class);
+        Mockito.when(exception.getWriteErrors()).thenReturn(Collections.singletonList(writeError));
+        AtomicInteger calls = new AtomicInteger();
+        Mockito.when(collection.bulkWrite(Mockito.anyList(), Mockito.any(BulkWriteOptions.class)))
+                .thenAnswer(
+                        invocation -> {
+                            bulkWrites.add(new ArrayList<>(invocation.getArgument(0)));
+                            if (calls.getAndIncrement() == 0) {
+                                throw exception;
+                            }
+                            return null;
+                        });
+        MongodbWriterOptions options = options(true, false, 1);
+        RowDataDocumentSerializer serializer = serializer(options);
+        try (MongodbBulkProcessor processor =
+                new MongodbBulkProcessor(
+                        clientProvider, options, new AbstractMetricsContext() {})) {
+            for (int i = 0; i < 3; i++) {
+                processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, i, "a")));
+            }
+            processor.flush();
+        }
+        Assertions.assertEquals(2, bulkWrites.size());
+        // only the failed model of the unordered bulk write is retried
+        Assertions.assertEquals(1, bulkWrites.get(1).size());
+        Assertions.assertSame(bulkWrites.get(0).get(1), bulkWrites.get(1).get(0));
+    }
+
+    @Test
+    public void testFailAfterMaxRetries() {
+        Mockito.when(collection.bulkWrite(Mockito.anyList(), Mockito.any(BulkWriteOptions.class)))
+                .thenThrow(Mockito.mock(MongoBulkWriteException.class));
+        MongodbWriterOptions options = options(true, true, 1);
+        RowDataDocumentSerializer serializer = serializer(options);
+        try (MongodbBulkProcessor processor =
+                new MongodbBulkProcessor(
+                        clientProvider, options, new AbstractMetricsContext() {})) {
+            processor.add(serializer.serializeToWriteModel(row(RowKind.INSERT, 1, "a")));
+            Assertions.assertThrows(MongodbConnectorException.class, processor::flush);
+            // the failure is reported by the following writes as well
+            Assertions.assertThrows(
+                    MongodbConnectorException.class,
+                    () ->
+                            processor.add(
+                                    serializer.serializeToWriteModel(row(RowKind.INSERT, 2, "b"))));
+        }
+        Mockito.verify(collection, Mockito.times(2))
+                .bulkWrite(Mockito.anyList(), Mockito.any(BulkWriteOptions.class));
+    }
+
+    private static MongodbWriterOptions options(
+            boolean upsertEnable, boolean bulkOrdered, int maxConcurrentBulkWrites) {
+        return MongodbWriterOptions.builder()
+                .withConnectString("mongodb://localhost:27017")
+                .withDatabase("test")
+                .withCollection("test")
+                .withFlushSize(100)
+                .withBatchIntervalMs(-1L)
+                .withUpsertEnable(upsertEnable)
+                .withPrimaryKey(new String[] {"id"})
+                .withRetryMax(1)
+                .withRetryInterval(1L)
+                .withBulkOrdered(bulkOrdered)
+                .withMaxConcurrentBulkWrites(maxConcurrentBulkWrites)
+                .build();
+    }
+
+    private static RowDataDocumentSerializer serializer(MongodbWriterOptions options) {
+        Function<BsonDocument, BsonDocument> keyExtractor = new MongoKeyExtractor(options);
+        return new RowDataDocumentSerializer(
+                RowDataToBsonConverters.createConverter(ROW_TYPE), options, keyExtractor);
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setRowKind(rowKind);
+        return row;
+    }
+}
@@ -27,8 +27,10 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReaderIterator;
+import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
+import org.apache.paimon.table.source.TableRead;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,6 +52,9 @@ public class PaimonSourceReader implements SourceReader<SeaTunnelRow, PaimonSour
     private volatile boolean noMoreSplit;
     private final Predicate predicate;
     private int[] projection;
+    private TableRead tableRead;
+    private TableSchema tableSchema;
+    private int[] timestampPrecisions;
 
     public PaimonSourceReader(
             Context context,
@@ -66,7 +71,15 @@ public class PaimonSourceReader implements SourceReader<SeaTunnelRow, PaimonSour
 
     @Override
     public void open() throws Exception {
-        // do nothing
+        // the read and the precisions of the timestamp fields are shared by all the splits
+        this.tableRead =
+                table.newReadBuilder()
+                        .withProjection(projection)
+                        .withFilter(predicate)
+                        .newRead()
+                        .executeFilter();
+        this.tableSchema = ((FileStoreTable) table).schema();
+        this.timestampPrecisions = RowConverter.timestampPrecisions(seaTunnelRowType, tableSchema);
     }
 
     @Override
@@ -81,19 +94,14 @@ public class PaimonSourceReader implements SourceReader<SeaTunnelRow, PaimonSour
             if (Objects.nonNull(split)) {
                 // read logic
                 try (final RecordReader<InternalRow> reader =
-                        table.newReadBuilder()
-                                .withProjection(projection)
-                                .withFilter(predicate)
-                                .newRead()
-                                .executeFilter()
-                                .createReader(split.getSplit())) {
+                        tableRead.createReader(split.getSplit())) {
                     final RecordReaderIterator<InternalRow> rowIterator =
                             new RecordReaderIterator<>(reader);
                     while (rowIterator.hasNext()) {
                         final InternalRow row = rowIterator.next();
                         final SeaTunnelRow seaTunnelRow =
                                 RowConverter.convert(
-                                        row, seaTunnelRowType, ((FileStoreTable) table).schema());
+                                        row, seaTunnelRowType, tableSchema, timestampPrecisions);
                         output.collect(seaTunnelRow);
                     }
                 }
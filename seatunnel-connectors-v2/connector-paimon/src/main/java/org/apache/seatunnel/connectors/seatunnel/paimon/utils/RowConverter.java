@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.table.type.MapType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.connectors.seatunnel.paimon.config.PaimonConfig;
 
@@ -242,6 +243,54 @@ public class RowConverter {
      */
     public static SeaTunnelRow convert(
             InternalRow rowData, SeaTunnelRowType seaTunnelRowType, TableSchema tableSchema) {
+        return convert(
+                rowData,
+                seaTunnelRowType,
+                tableSchema,
+                timestampPrecisions(seaTunnelRowType, tableSchema));
+    }
+
+    /**
+     * Resolve the precisions of the timestamp fields from Paimon table schema, so they are not
+     * looked up for each row
+     *
+     * @param seaTunnelRowType SeaTunnel row type
+     * @param tableSchema Paimon table schema
+     * @return the precision of each field, the default precision for the fields not in the schema
+     */
+    public static int[] timestampPrecisions(
+            SeaTunnelRowType seaTunnelRowType, TableSchema tableSchema) {
+        int[] precisions = new int[seaTunnelRowType.getTotalFields()];
+        for (int i = 0; i < precisions.length; i++) {
+            String fieldName = seaTunnelRowType.getFieldName(i);
+            precisions[i] = TimestampType.DEFAULT_PRECISION;
+            if (seaTunnelRowType.getFieldType(i).getSqlType() == SqlType.TIMESTAMP) {
+                Optional<DataField> precisionOptional =
+                        tableSchema.fields().stream()
+                                .filter(dataField -> dataField.name().equals(fieldName))
+                                .findFirst();
+                if (precisionOptional.isPresent()) {
+                    precisions[i] = ((TimestampType) precisionOptional.get().type()).getPrecision();
+                }
+            }
+        }
+        return precisions;
+    }
+
+    /**
+     * Convert Paimon row {@link InternalRow} to SeaTunnelRow {@link SeaTunnelRow}
+     *
+     * @param rowData Paimon row object
+     * @param seaTunnelRowType SeaTunnel row type
+     * @param tableSchema Paimon table schema
+     * @param timestampPrecisions the precisions resolved by {@link #timestampPrecisions}
+     * @return SeaTunnel row
+     */
+    public static SeaTunnelRow convert(
+            InternalRow rowData,
+            SeaTunnelRowType seaTunnelRowType,
+            TableSchema tableSchema,
+            int[] timestampPrecisions) {
         Object[] objects = new Object[seaTunnelRowType.getTotalFields()];
         for (int i = 0; i < objects.length; i++) {
             // judge the field is or not equals null
@@ -292,15 +341,7 @@ public class RowConverter {
                     objects[i] = DateTimeUtils.toLocalDate(dateInt);
                     break;
                 case TIMESTAMP:
-                    int precision = TimestampType.DEFAULT_PRECISION;
-                    Optional<DataField> precisionOptional =
-                            tableSchema.fields().stream()
-                                    .filter(dataField -> dataField.name().equals(fieldName))
-                                    .findFirst();
-                    if (precisionOptional.isPresent()) {
-                        precision = ((TimestampType) precisionOptional.get().type()).getPrecision();
-                    }
-                    Timestamp timestamp = rowData.getTimestamp(i, precision);
+                    Timestamp timestamp = rowData.getTimestamp(i, timestampPrecisions[i]);
                     objects[i] = timestamp.toLocalDateTime();
                     break;
                 case ARRAY:
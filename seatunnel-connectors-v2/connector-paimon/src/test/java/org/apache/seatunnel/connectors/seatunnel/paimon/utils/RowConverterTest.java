@@ -256,4 +256,15 @@ public class RowConverterTest {
                 RowConverter.convert(internalRow, seaTunnelRowType, getTableSchema(10, 10));
         Assertions.assertEquals(convert, seaTunnelRow);
     }
+
+    @Test
+    public void paimonToSeaTunnelWithResolvedPrecisions() {
+        TableSchema tableSchema = getTableSchema(10, 10);
+        int[] timestampPrecisions = RowConverter.timestampPrecisions(seaTunnelRowType, tableSchema);
+        Assertions.assertEquals(6, timestampPrecisions[11]);
+        SeaTunnelRow convert =
+                RowConverter.convert(
+                        internalRow, seaTunnelRowType, tableSchema, timestampPrecisions);
+        Assertions.assertEquals(convert, seaTunnelRow);
+    }
 }
@@ -17,7 +17,7 @@
 
 package org.apache.seatunnel.connectors.seatunnel.redis.client;
 
-import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
+import org.apache.seatunnel.common.utils.JsonUtils;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -30,8 +30,12 @@ import java.util.Map;
 import java.util.Set;
 
 public class RedisClusterClient extends RedisClient {
-    public RedisClusterClient(RedisParameters redisParameters, Jedis jedis) {
+    private final RedisClusterPipeline clusterPipeline;
+
+    public RedisClusterClient(
+            RedisParameters redisParameters, Jedis jedis, RedisClusterPipeline clusterPipeline) {
         super(redisParameters, jedis);
+        this.clusterPipeline = clusterPipeline;
     }
 
     @Override
@@ -98,41 +102,46 @@ public class RedisClusterClient extends RedisClient {
 
     @Override
     public void batchWriteString(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.STRING.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        clusterPipeline.write(
+                keys, values, expireSeconds, (pipeline, key, value) -> pipeline.set(key, value));
     }
 
     @Override
     public void batchWriteList(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.LIST.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        clusterPipeline.write(
+                keys, values, expireSeconds, (pipeline, key, value) -> pipeline.lpush(key, value));
     }
 
     @Override
     public void batchWriteSet(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.SET.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        clusterPipeline.write(
+                keys, values, expireSeconds, (pipeline, key, value) -> pipeline.sadd(key, value));
     }
 
     @Override
     public void batchWriteHash(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.HASH.set(this, keys.get(i), values.get(i), expireSeconds);
-        }
+        clusterPipeline.write(
+                keys,
+                values,
+                expireSeconds,
+                (pipeline, key, value) -> pipeline.hset(key, JsonUtils.toMap(value)));
     }
 
     @Override
     public void batchWriteZset(List<String> keys, List<String> values, long expireSeconds) {
-        int size = keys.size();
-        for (int i = 0; i < size; i++) {
-            RedisDataType.ZSET.set(this, keys.get(i), values.get(i), expireSeconds);
+        clusterPipeline.write(
+                keys,
+                values,
+                expireSeconds,
+                (pipeline, key, value) -> pipeline.zadd(key, 1, value));
+    }
+
+    @Override
+    public void close() {
+        try {
+            clusterPipeline.close();
+        } finally {
+            super.close();
         }
     }
 }
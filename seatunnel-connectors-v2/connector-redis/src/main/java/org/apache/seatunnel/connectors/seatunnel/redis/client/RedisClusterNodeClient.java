@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The client of a master node of redis cluster, which reads the keys scanned from the node. The
+ * keys are in different slots, so the strings are got by a pipeline instead of MGET, which is
+ * rejected by CROSSSLOT.
+ */
+public class RedisClusterNodeClient extends RedisSingleClient {
+
+    public RedisClusterNodeClient(RedisParameters redisParameters, Jedis jedis) {
+        super(redisParameters, jedis);
+    }
+
+    @Override
+    public List<String> batchGetString(List<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return new ArrayList<>();
+        }
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<String>> responses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            responses.add(pipeline.get(key));
+        }
+        pipeline.sync();
+        List<String> resultList = new ArrayList<>(keys.size());
+        for (Response<String> response : responses) {
+            resultList.add(response.get());
+        }
+        return resultList;
+    }
+}
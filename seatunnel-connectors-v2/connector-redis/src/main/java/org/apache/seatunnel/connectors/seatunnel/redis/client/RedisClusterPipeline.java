@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Write a batch of commands to Redis cluster. The commands are grouped by the node owning the slot
+ * of the key, each group is sent to its node as one pipeline, and the pipelines of the nodes are
+ * sent in parallel. The expire command of a key is sent in the same pipeline.
+ *
+ * <p>The commands redirected by MOVED are grouped again after the slot cache is renewed, and the
+ * commands redirected by ASK are sent to the target node after ASKING, only the redirected commands
+ * are sent again.
+ */
+@Slf4j
+public class RedisClusterPipeline implements Closeable {
+    private static final int MAX_REDIRECTIONS = 5;
+    private static final CommandArguments ASKING = new CommandArguments(Protocol.Command.ASKING);
+
+    private final ClusterConnectionProvider connectionProvider;
+    private final ExecutorService executor;
+
+    public RedisClusterPipeline(ClusterConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+        this.executor =
+                Executors.newCachedThreadPool(
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("redis-cluster-pipeline-%d")
+                                .setDaemon(true)
+                                .build());
+    }
+
+    /** The command of a key to add into a pipeline. */
+    @FunctionalInterface
+    public interface Command {
+        Response<?> apply(Pipeline pipeline, String key, String value);
+    }
+
+    public void write(List<String> keys, List<String> values, long expireSeconds, Command command) {
+        List<Integer> pending = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            pending.add(i);
+        }
+        // the target nodes of the commands redirected by ASK
+        Map<Integer, HostAndPort> askNodes = new HashMap<>();
+        for (int redirections = 0; !pending.isEmpty(); redirections++) {
+            if (redirections > MAX_REDIRECTIONS) {
+                throw new RedisConnectorException(
+                        CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                        String.format(
+                                "%d commands are still redirected after %d redirections",
+                                pending.size(), MAX_REDIRECTIONS));
+            }
+            Map<HostAndPort, List<Integer>> groups = new LinkedHashMap<>();
+            for (Integer index : pending) {
+                HostAndPort node = askNodes.get(index);
+                if (node == null) {
+                    node = getNode(keys.get(index));
+                }
+                groups.computeIfAbsent(node, k -> new ArrayList<>()).add(index);
+            }
+            List<Future<List<Redirection>>> futures = new ArrayList<>(groups.size());
+            for (Map.Entry<HostAndPort, List<Integer>> group : groups.entrySet()) {
+                boolean asking = askNodes.containsKey(group.getValue().get(0));
+                futures.add(
+                        executor.submit(
+                                () ->
+                                        writeGroup(
+                                                group.getKey(),
+                                                group.getValue(),
+                                                asking,
+                                                keys,
+                                                values,
+                                                expireSeconds,
+                                                command)));
+            }
+            List<Redirection> redirected = new ArrayList<>();
+            for (Future<List<Redirection>> future : futures) {
+                redirected.addAll(getResult(future));
+            }
+
+            pending = new ArrayList<>(redirected.size());
+            askNodes.clear();
+            boolean moved = false;
+            for (Redirection redirection : redirected) {
+                pending.add(redirection.index);
+                if (redirection.exception instanceof JedisAskDataException) {
+                    askNodes.put(redirection.index, redirection.exception.getTargetNode());
+                } else {
+                    moved = true;
+                }
+            }
+            if (moved) {
+                log.info("{} commands are moved, renew the slot cache", pending.size());
+                connectionProvider.renewSlotCache();
+            }
+        }
+    }
+
+    private HostAndPort getNode(String key) {
+        int slot = JedisClusterCRC16.getSlot(key);
+        HostAndPort node = connectionProvider.getNode(slot);
+        if (node == null) {
+            connectionProvider.renewSlotCache();
+            node = connectionProvider.getNode(slot);
+        }
+        if (node == null) {
+            throw new RedisConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "No redis node is found for the slot " + slot);
+        }
+        return node;
+    }
+
+    private List<Redirection> writeGroup(
+            HostAndPort node,
+            List<Integer> indexes,
+            boolean asking,
+            List<String> keys,
+            List<String> values,
+            long expireSeconds,
+            Command command) {
+        List<Redirection> redirected = new ArrayList<>();
+        try (Connection connection = connectionProvider.getConnection(node)) {
+            Pipeline pipeline = new Pipeline(connection);
+            List<Response<?>> responses = new ArrayList<>(indexes.size());
+            List<Response<?>> expireResponses = new ArrayList<>(indexes.size());
+            for (Integer index : indexes) {
+                String key = keys.get(index);
+                if (asking) {
+                    pipeline.sendCommand(ASKING);
+                }
+                responses.add(command.apply(pipeline, key, values.get(index)));
+                if (expireSeconds > 0) {
+                    if (asking) {
+                        pipeline.sendCommand(ASKING);
+                    }
+                    expireResponses.add(pipeline.expire(key, expireSeconds));
+                }
+            }
+            pipeline.sync();
+            for (int i = 0; i < indexes.size(); i++) {
+                try {
+                    responses.get(i).get();
+                    if (expireSeconds > 0) {
+                        expireResponses.get(i).get();
+                    }
+                } catch (JedisMovedDataException | JedisAskDataException e) {
+                    redirected.add(new Redirection(indexes.get(i), e));
+                }
+            }
+        }
+        return redirected;
+    }
+
+    private static List<Redirection> getResult(Future<List<Redirection>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Interrupted while writing the pipelines",
+                    e);
+        } catch (ExecutionException e) {
+            throw new RedisConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "Failed to write the pipeline to redis cluster",
+                    e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        connectionProvider.close();
+    }
+
+    private static class Redirection {
+        private final int index;
+        private final JedisRedirectionException exception;
+
+        private Redirection(int index, JedisRedirectionException exception) {
+            this.index = index;
+            this.exception = exception;
+        }
+    }
+}
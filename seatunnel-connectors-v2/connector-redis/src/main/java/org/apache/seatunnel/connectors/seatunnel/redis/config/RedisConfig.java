@@ -127,6 +127,15 @@ public class RedisConfig {
                             "batch_size is used to control the size of a batch of data during read and write operations"
                                     + ",default 10");
 
+    public static final Option<Integer> SCAN_PARTITIONS =
+            Options.key("scan_partitions")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The number of the SCAN cursor partitions of the single redis node, each partition is read as a split "
+                                    + "and rounded up to a power of two, the parallelism is used by default. "
+                                    + "It is ignored in the cluster mode, each master node is read as a split");
+
     public enum Format {
         JSON,
         // TEXT will be supported later
@@ -21,6 +21,8 @@ import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterNodeClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterPipeline;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisSingleClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
 
@@ -28,14 +30,20 @@ import org.apache.commons.lang3.StringUtils;
 
 import lombok.Data;
 import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Data
 public class RedisParameters implements Serializable {
@@ -52,6 +60,7 @@ public class RedisParameters implements Serializable {
     private List<String> redisNodes = Collections.emptyList();
     private long expire = RedisConfig.EXPIRE.defaultValue();
     private int batchSize = RedisConfig.BATCH_SIZE.defaultValue();
+    private Integer scanPartitions;
 
     public void buildWithConfig(ReadonlyConfig config) {
         // set host
@@ -90,6 +99,10 @@ public class RedisParameters implements Serializable {
         this.redisDataType = config.get(RedisConfig.DATA_TYPE);
         // Indicates the number of keys to attempt to return per iteration.default 10
         this.batchSize = config.get(RedisConfig.BATCH_SIZE);
+        // set scan partitions
+        if (config.getOptional(RedisConfig.SCAN_PARTITIONS).isPresent()) {
+            this.scanPartitions = config.get(RedisConfig.SCAN_PARTITIONS);
+        }
     }
 
     public RedisClient buildRedisClient() {
@@ -97,40 +110,95 @@ public class RedisParameters implements Serializable {
         if (mode.equals(RedisConfig.RedisMode.SINGLE)) {
             return new RedisSingleClient(this, jedis);
         } else {
-            return new RedisClusterClient(this, jedis);
+            return new RedisClusterClient(
+                    this, jedis, new RedisClusterPipeline(buildClusterConnectionProvider()));
+        }
+    }
+
+    /**
+     * Build the client of a node to scan, the keys of a redis cluster are scanned from each master
+     * node.
+     */
+    public RedisClient buildNodeClient(HostAndPort node) {
+        if (mode.equals(RedisConfig.RedisMode.SINGLE)) {
+            return new RedisSingleClient(this, buildSingleJedis(node));
+        }
+        Jedis jedis = new Jedis(node.getHost(), node.getPort());
+        if (StringUtils.isNotBlank(auth)) {
+            jedis.auth(auth);
+        }
+        return new RedisClusterNodeClient(this, jedis);
+    }
+
+    /** The nodes to scan, which are the master nodes of all the slots in cluster mode. */
+    public List<HostAndPort> buildScanNodes() {
+        if (mode.equals(RedisConfig.RedisMode.SINGLE)) {
+            return Collections.singletonList(new HostAndPort(host, port));
         }
+        Set<HostAndPort> masters = new LinkedHashSet<>();
+        ClusterConnectionProvider connectionProvider = buildClusterConnectionProvider();
+        try {
+            for (int slot = 0; slot < Protocol.CLUSTER_HASHSLOTS; slot++) {
+                HostAndPort master = connectionProvider.getNode(slot);
+                if (master == null) {
+                    throw new RedisConnectorException(
+                            CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                            "The slot " + slot + " of the redis cluster is not served");
+                }
+                masters.add(master);
+            }
+        } finally {
+            connectionProvider.close();
+        }
+        return new ArrayList<>(masters);
+    }
+
+    private ClusterConnectionProvider buildClusterConnectionProvider() {
+        DefaultJedisClientConfig.Builder clientConfig = DefaultJedisClientConfig.builder();
+        if (StringUtils.isNotBlank(auth)) {
+            clientConfig.password(auth);
+        }
+        return new ClusterConnectionProvider(buildClusterNodes(), clientConfig.build());
+    }
+
+    private Jedis buildSingleJedis(HostAndPort node) {
+        Jedis jedis = new Jedis(node.getHost(), node.getPort());
+        if (StringUtils.isNotBlank(auth)) {
+            jedis.auth(auth);
+        }
+        if (StringUtils.isNotBlank(user)) {
+            jedis.aclSetUser(user);
+        }
+        jedis.select(dbNum);
+        return jedis;
+    }
+
+    private Set<HostAndPort> buildClusterNodes() {
+        HashSet<HostAndPort> nodes = new HashSet<>();
+        HostAndPort node = new HostAndPort(host, port);
+        nodes.add(node);
+        if (!redisNodes.isEmpty()) {
+            for (String redisNode : redisNodes) {
+                String[] splits = redisNode.split(":");
+                if (splits.length != 2) {
+                    throw new RedisConnectorException(
+                            CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                            "Invalid redis node information,"
+                                    + "redis node information must like as the following: [host:port]");
+                }
+                HostAndPort hostAndPort = new HostAndPort(splits[0], Integer.parseInt(splits[1]));
+                nodes.add(hostAndPort);
+            }
+        }
+        return nodes;
     }
 
     public Jedis buildJedis() {
         switch (mode) {
             case SINGLE:
-                Jedis jedis = new Jedis(host, port);
-                if (StringUtils.isNotBlank(auth)) {
-                    jedis.auth(auth);
-                }
-                if (StringUtils.isNotBlank(user)) {
-                    jedis.aclSetUser(user);
-                }
-                jedis.select(dbNum);
-                return jedis;
+                return buildSingleJedis(new HostAndPort(host, port));
             case CLUSTER:
-                HashSet<HostAndPort> nodes = new HashSet<>();
-                HostAndPort node = new HostAndPort(host, port);
-                nodes.add(node);
-                if (!redisNodes.isEmpty()) {
-                    for (String redisNode : redisNodes) {
-                        String[] splits = redisNode.split(":");
-                        if (splits.length != 2) {
-                            throw new RedisConnectorException(
-                                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
-                                    "Invalid redis node information,"
-                                            + "redis node information must like as the following: [host:port]");
-                        }
-                        HostAndPort hostAndPort =
-                                new HostAndPort(splits[0], Integer.parseInt(splits[1]));
-                        nodes.add(hostAndPort);
-                    }
-                }
+                Set<HostAndPort> nodes = buildClusterNodes();
                 ConnectionPoolConfig connectionPoolConfig = new ConnectionPoolConfig();
                 JedisCluster jedisCluster;
                 if (StringUtils.isNotBlank(auth)) {
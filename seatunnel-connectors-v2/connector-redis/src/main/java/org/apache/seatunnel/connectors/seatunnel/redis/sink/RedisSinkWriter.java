@@ -111,9 +111,13 @@ public class RedisSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
 
     @Override
     public void close() throws IOException {
-        if (!keyBuffer.isEmpty()) {
-            doBatchWrite();
-            clearBuffer();
+        try {
+            if (!keyBuffer.isEmpty()) {
+                doBatchWrite();
+                clearBuffer();
+            }
+        } finally {
+            redisClient.close();
         }
     }
 }
@@ -57,7 +57,9 @@ public class RedisSourceFactory implements TableSourceFactory {
                         RedisConfig.HASH_KEY_PARSE_MODE,
                         RedisConfig.AUTH,
                         RedisConfig.USER,
-                        RedisConfig.KEY)
+                        RedisConfig.KEY,
+                        RedisConfig.BATCH_SIZE,
+                        RedisConfig.SCAN_PARTITIONS)
                 .conditional(RedisConfig.MODE, RedisConfig.RedisMode.CLUSTER, RedisConfig.NODES)
                 .bundled(RedisConfig.FORMAT, TableSchemaOptions.SCHEMA)
                 .build();
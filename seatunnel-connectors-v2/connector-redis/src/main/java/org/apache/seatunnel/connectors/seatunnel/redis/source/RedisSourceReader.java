@@ -19,11 +19,10 @@ package org.apache.seatunnel.connectors.seatunnel.redis.source;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.utils.JsonUtils;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
@@ -32,66 +31,133 @@ import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorE
 
 import org.apache.commons.collections4.CollectionUtils;
 
-import redis.clients.jedis.params.ScanParams;
+import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.resps.ScanResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+/**
+ * Read a SCAN page of the current split in each {@link #pollNext(Collector)}, the values of the
+ * keys are got by MGET or a pipeline on the same connection. The cursor of the next page is
+ * checkpointed in the split, so a restored split resumes from the cursor.
+ */
+@Slf4j
+public class RedisSourceReader implements SourceReader<SeaTunnelRow, RedisSourceSplit> {
     private final RedisParameters redisParameters;
-    private final SingleSplitReaderContext context;
+    private final SourceReader.Context context;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private final RedisDataType redisDataType;
+
+    private final Deque<RedisSourceSplit> splits = new LinkedList<>();
+    private volatile boolean noMoreSplit;
+
+    private final long pollNextWaitTime = 1000L;
+
+    /** The split being read, it is checkpointed with its cursor. */
+    private RedisSourceSplit currentSplit;
+
+    /** The client of the node of the current split. */
     private RedisClient redisClient;
 
     public RedisSourceReader(
             RedisParameters redisParameters,
-            SingleSplitReaderContext context,
+            SourceReader.Context context,
             DeserializationSchema<SeaTunnelRow> deserializationSchema) {
         this.redisParameters = redisParameters;
         this.context = context;
         this.deserializationSchema = deserializationSchema;
+        this.redisDataType = resolveScanType(redisParameters.getRedisDataType());
     }
 
     @Override
-    public void open() throws Exception {
-        this.redisClient = redisParameters.buildRedisClient();
-    }
+    public void open() throws Exception {}
 
     @Override
     public void close() throws IOException {
+        closeClient();
+    }
+
+    @Override
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        synchronized (output.getCheckpointLock()) {
+            if (currentSplit == null) {
+                currentSplit = splits.poll();
+                if (currentSplit != null) {
+                    redisClient = redisParameters.buildNodeClient(currentSplit.getNode());
+                }
+            }
+            if (currentSplit != null) {
+                if (!pollNextPage(currentSplit, output)) {
+                    log.info("Finished reading the split {}", currentSplit.splitId());
+                    closeClient();
+                    currentSplit = null;
+                }
+            } else if (noMoreSplit) {
+                // signal to the source that we have reached the end of the data.
+                log.info("Closed the bounded Redis source");
+                context.signalNoMoreElement();
+            } else {
+                Thread.sleep(pollNextWaitTime);
+            }
+        }
+    }
+
+    /** Read a SCAN page of the split, returns false if the split is finished. */
+    private boolean pollNextPage(RedisSourceSplit split, Collector<SeaTunnelRow> output)
+            throws IOException {
+        ScanResult<String> scanResult =
+                redisClient.scanKeys(
+                        split.getCursor(),
+                        redisParameters.getBatchSize(),
+                        redisParameters.getKeysPattern(),
+                        redisDataType);
+        List<String> keys = scanResult.getResult();
+        // a page may be empty before the scan ends, since the keys are filtered after scanned
+        if (CollectionUtils.isNotEmpty(keys)) {
+            pollNext(keys, redisDataType, output);
+        }
+        String nextCursor = scanResult.getCursor();
+        split.setCursor(nextCursor);
+        return !split.isEnd(nextCursor);
+    }
+
+    private void closeClient() {
         if (Objects.nonNull(redisClient)) {
             redisClient.close();
+            redisClient = null;
         }
     }
 
     @Override
-    public void internalPollNext(Collector<SeaTunnelRow> output) throws Exception {
-        RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
-        String cursor = ScanParams.SCAN_POINTER_START;
-        String keysPattern = redisParameters.getKeysPattern();
-        int batchSize = redisParameters.getBatchSize();
-        while (true) {
-            // String cursor, int batchSize, String keysPattern, RedisType type
-            ScanResult<String> scanResult =
-                    redisClient.scanKeys(cursor, batchSize, keysPattern, redisDataType);
-            cursor = scanResult.getCursor();
-            List<String> keys = scanResult.getResult();
-            if (CollectionUtils.isEmpty(keys)) {
-                break;
-            }
-            pollNext(keys, redisDataType, output);
-            // when cursor return "0", scan end
-            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
-                break;
-            }
+    public List<RedisSourceSplit> snapshotState(long checkpointId) throws Exception {
+        List<RedisSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(currentSplit);
         }
-        context.signalNoMoreElement();
+        state.addAll(splits);
+        return state;
     }
 
+    @Override
+    public void addSplits(List<RedisSourceSplit> splits) {
+        this.splits.addAll(splits);
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+
     private void pollNext(List<String> keys, RedisDataType dataType, Collector<SeaTunnelRow> output)
             throws IOException {
         if (RedisDataType.HASH.equals(dataType)) {
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplit;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.params.ScanParams;
+
+/**
+ * A SCAN cursor partition of a redis node.
+ *
+ * <p>Redis increments the SCAN cursor in the reversed bits, so the low bits of the cursor, in the
+ * reversed order, are the prefix of the progress of the scan. A node is partitioned by the low
+ * {@code log2(partitions)} bits of the cursor, the split of a partition starts from the first
+ * cursor of the partition, and ends when the cursor goes into the next partitions or returns to 0.
+ * As a SCAN page may go over the end of the partition, and the keys may be returned more than once
+ * by SCAN, the keys near the ends of the partitions, in a hash table smaller than the partitions or
+ * being rehashed may be read by more than one split.
+ */
+@ToString
+public class RedisSourceSplit implements SourceSplit {
+
+    private static final long serialVersionUID = -1L;
+
+    private final String splitId;
+
+    @Getter private final String host;
+
+    @Getter private final int port;
+
+    @Getter private final int partition;
+
+    /** The number of the partitions of the node, which is a power of two. */
+    @Getter private final int partitions;
+
+    /** The cursor of the next SCAN, it is checkpointed to resume the split. */
+    @Getter @Setter private String cursor;
+
+    public RedisSourceSplit(HostAndPort node, int partition, int partitions) {
+        this.splitId = node + "-" + partition;
+        this.host = node.getHost();
+        this.port = node.getPort();
+        this.partition = partition;
+        this.partitions = partitions;
+        this.cursor = startCursor(partition, partitions);
+    }
+
+    @Override
+    public String splitId() {
+        return splitId;
+    }
+
+    public HostAndPort getNode() {
+        return new HostAndPort(host, port);
+    }
+
+    /** Whether the cursor returned by SCAN is out of the partition of the split. */
+    public boolean isEnd(String nextCursor) {
+        return ScanParams.SCAN_POINTER_START.equals(nextCursor)
+                || getPartition(nextCursor, partitions) != partition;
+    }
+
+    static String startCursor(int partition, int partitions) {
+        if (partitions <= 1) {
+            return ScanParams.SCAN_POINTER_START;
+        }
+        return String.valueOf(reverse(partition, partitions));
+    }
+
+    static int getPartition(String cursor, int partitions) {
+        if (partitions <= 1) {
+            return 0;
+        }
+        long lowBits = Long.parseUnsignedLong(cursor) & (partitions - 1);
+        return reverse((int) lowBits, partitions);
+    }
+
+    /** Reverse the low {@code log2(partitions)} bits of the value. */
+    private static int reverse(int value, int partitions) {
+        int bits = Integer.numberOfTrailingZeros(partitions);
+        return Integer.reverse(value) >>> (Integer.SIZE - bits);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisConfig;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.HostAndPort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Split the keyspace by the master nodes of redis cluster, or by the SCAN cursor partitions of the
+ * single node, see {@link RedisSourceSplit}.
+ *
+ * <p>The cursor of a cluster node is not partitioned, since redis 7.4 and valkey 8 keep a hash
+ * table per slot in the cluster mode and put the slot index in the low bits of the cursor, a
+ * partition of the low bits would end after about one slot.
+ */
+@Slf4j
+public class RedisSourceSplitEnumerator
+        implements SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> {
+
+    /** The max partitions of a node, the cursor of a small hash table can not be partitioned. */
+    static final int MAX_PARTITIONS = 1 << 10;
+
+    private final SourceSplitEnumerator.Context<RedisSourceSplit> context;
+
+    private final RedisParameters redisParameters;
+
+    private final Object stateLock = new Object();
+
+    private final Map<Integer, List<RedisSourceSplit>> pendingSplit;
+
+    private volatile boolean shouldEnumerate;
+
+    public RedisSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> context,
+            RedisParameters redisParameters) {
+        this(context, null, redisParameters);
+    }
+
+    public RedisSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> context,
+            RedisSourceState sourceState,
+            RedisParameters redisParameters) {
+        this.context = context;
+        this.redisParameters = redisParameters;
+        this.pendingSplit = new HashMap<>();
+        this.shouldEnumerate = sourceState == null;
+        if (sourceState != null) {
+            this.shouldEnumerate = sourceState.isShouldEnumerate();
+            this.pendingSplit.putAll(sourceState.getPendingSplit());
+        }
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() {
+        Set<Integer> readers = context.registeredReaders();
+        if (shouldEnumerate) {
+            List<RedisSourceSplit> newSplits = getRedisSplits();
+
+            synchronized (stateLock) {
+                addPendingSplit(newSplits);
+                shouldEnumerate = false;
+            }
+
+            assignSplit(readers);
+        }
+
+        log.debug(
+                "No more splits to assign." + " Sending NoMoreSplitsEvent to reader {}.", readers);
+        readers.forEach(context::signalNoMoreSplits);
+    }
+
+    List<RedisSourceSplit> getRedisSplits() {
+        List<HostAndPort> nodes = redisParameters.buildScanNodes();
+        int partitions;
+        if (redisParameters.getMode() == RedisConfig.RedisMode.CLUSTER) {
+            if (redisParameters.getScanPartitions() != null) {
+                log.warn("The scan partitions is ignored in the cluster mode, a split per node");
+            }
+            partitions = 1;
+        } else {
+            partitions = getPartitions(nodes.size());
+        }
+        List<RedisSourceSplit> splits = new ArrayList<>(nodes.size() * partitions);
+        // the partitions of a node are assigned to the successive readers
+        for (int partition = 0; partition < partitions; partition++) {
+            for (HostAndPort node : nodes) {
+                splits.add(new RedisSourceSplit(node, partition, partitions));
+            }
+        }
+        return splits;
+    }
+
+    /**
+     * The partitions of each node is the configured scan partitions, or the parallelism divided
+     * among the nodes, it is rounded up to a power of two.
+     */
+    private int getPartitions(int nodeCount) {
+        Integer scanPartitions = redisParameters.getScanPartitions();
+        int partitions;
+        if (scanPartitions != null) {
+            if (scanPartitions < 1) {
+                throw new RedisConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        "The scan partitions must be positive, but is " + scanPartitions);
+            }
+            partitions = scanPartitions;
+        } else {
+            int parallelism = context.currentParallelism();
+            partitions = (parallelism + nodeCount - 1) / nodeCount;
+        }
+        partitions = Math.min(Math.max(partitions, 1), MAX_PARTITIONS);
+        return partitions == 1 ? 1 : Integer.highestOneBit(partitions - 1) << 1;
+    }
+
+    private void addPendingSplit(List<RedisSourceSplit> splits) {
+        int readerCount = context.currentParallelism();
+        for (int i = 0; i < splits.size(); i++) {
+            int ownerReader = i % readerCount;
+            log.info("Assigning {} to {} reader.", splits.get(i), ownerReader);
+            pendingSplit.computeIfAbsent(ownerReader, r -> new ArrayList<>()).add(splits.get(i));
+        }
+    }
+
+    private void assignSplit(Collection<Integer> readers) {
+        log.debug("Assign pendingSplits to readers {}", readers);
+
+        for (int reader : readers) {
+            List<RedisSourceSplit> assignmentForReader = pendingSplit.remove(reader);
+            if (assignmentForReader != null && !assignmentForReader.isEmpty()) {
+                log.info("Assign splits {} to reader {}", assignmentForReader, reader);
+                try {
+                    context.assignSplit(reader, assignmentForReader);
+                } catch (Exception e) {
+                    log.error(
+                            "Failed to assign splits {} to reader {}",
+                            assignmentForReader,
+                            reader,
+                            e);
+                    pendingSplit.put(reader, assignmentForReader);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    @Override
+    public void addSplitsBack(List<RedisSourceSplit> splits, int subtaskId) {
+        if (!splits.isEmpty()) {
+            synchronized (stateLock) {
+                pendingSplit.computeIfAbsent(subtaskId, r -> new ArrayList<>()).addAll(splits);
+            }
+            assignSplit(Collections.singletonList(subtaskId));
+        }
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        return pendingSplit.size();
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {
+        throw new RedisConnectorException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                "Unsupported handleSplitRequest: " + subtaskId);
+    }
+
+    @Override
+    public void registerReader(int subtaskId) {
+        log.debug("Register reader {} to RedisSourceSplitEnumerator.", subtaskId);
+        if (!pendingSplit.isEmpty()) {
+            assignSplit(Collections.singletonList(subtaskId));
+        }
+    }
+
+    @Override
+    public RedisSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (stateLock) {
+            return new RedisSourceState(shouldEnumerate, pendingSplit);
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+}
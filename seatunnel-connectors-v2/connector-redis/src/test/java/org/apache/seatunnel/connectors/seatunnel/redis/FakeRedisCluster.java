@@ -0,0 +1,488 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A stand-in of Redis cluster speaking RESP, the slots are assigned to the nodes in ranges, and a
+ * node replies MOVED or ASK for the keys of the slots it does not serve. A cluster of one node is
+ * also used as a standalone redis.
+ *
+ * <p>SCAN walks a hash table of {@link #SCAN_TABLE_SIZE} buckets by the reversed cursor like redis.
+ * With {@link #setSlotTables(boolean)}, a node keeps a hash table per slot like redis 7.4 in the
+ * cluster mode, and the slot index is put in the low 14 bits of the cursor.
+ */
+public class FakeRedisCluster implements Closeable {
+    private static final int SLOTS = 16384;
+    public static final int SCAN_TABLE_SIZE = 16;
+
+    private final List<Node> nodes = new ArrayList<>();
+    /** The index of the node owning each slot. */
+    private final int[] slotOwners = new int[SLOTS];
+    /** The slots migrating to other nodes, keyed by slot. */
+    private final Map<Integer, Integer> migratingSlots = new ConcurrentHashMap<>();
+
+    private final AtomicInteger clusterSlotsRequests = new AtomicInteger();
+
+    private volatile boolean slotTables;
+
+    public FakeRedisCluster(int nodeCount) throws IOException {
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(new Node(i));
+        }
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slotOwners[slot] = slot * nodeCount / SLOTS;
+        }
+    }
+
+    public HostAndPort getNode(int index) {
+        return new HostAndPort("127.0.0.1", nodes.get(index).serverSocket.getLocalPort());
+    }
+
+    public int getOwner(String key) {
+        return slotOwners[JedisClusterCRC16.getSlot(key)];
+    }
+
+    /** Move the slot of the key to the node, the slot cache of the clients is stale after it. */
+    public synchronized void moveSlot(String key, int node) {
+        slotOwners[JedisClusterCRC16.getSlot(key)] = node;
+    }
+
+    /** Start to migrate the slot of the key, the keys not in the owner are asked to the node. */
+    public void migrateSlot(String key, int node) {
+        migratingSlots.put(JedisClusterCRC16.getSlot(key), node);
+    }
+
+    public Map<String, Object> getData(int node) {
+        return nodes.get(node).data;
+    }
+
+    public Map<String, Long> getExpires(int node) {
+        return nodes.get(node).expires;
+    }
+
+    /** The commands received by the node, with the key of each command. */
+    public List<String> getCommands(int node) {
+        return nodes.get(node).commands;
+    }
+
+    /** Keep a hash table per slot, the SCAN cursor is the bucket cursor and the slot index. */
+    public void setSlotTables(boolean slotTables) {
+        this.slotTables = slotTables;
+    }
+
+    public int getClusterSlotsRequests() {
+        return clusterSlotsRequests.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Node node : nodes) {
+            node.serverSocket.close();
+        }
+    }
+
+    private synchronized byte[] clusterSlots() {
+        clusterSlotsRequests.incrementAndGet();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<int[]> ranges = new ArrayList<>();
+        int start = 0;
+        for (int slot = 1; slot <= SLOTS; slot++) {
+            if (slot == SLOTS || slotOwners[slot] != slotOwners[start]) {
+                ranges.add(new int[] {start, slot - 1, slotOwners[start]});
+                start = slot;
+            }
+        }
+        write(out, "*" + ranges.size());
+        for (int[] range : ranges) {
+            HostAndPort node = getNode(range[2]);
+            write(out, "*3");
+            write(out, ":" + range[0]);
+            write(out, ":" + range[1]);
+            write(out, "*3");
+            writeBulk(out, node.getHost());
+            write(out, ":" + node.getPort());
+            writeBulk(out, "node" + range[2]);
+        }
+        return out.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, String line) {
+        byte[] bytes = (line + "\r\n").getBytes(StandardCharsets.UTF_8);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeBulk(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            write(out, "$-1");
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        write(out, "$" + bytes.length);
+        out.write(bytes, 0, bytes.length);
+        write(out, "");
+    }
+
+    private class Node {
+        private final int index;
+        private final ServerSocket serverSocket;
+        private final Map<String, Object> data = new ConcurrentHashMap<>();
+        private final Map<String, Long> expires = new ConcurrentHashMap<>();
+        private final List<String> commands = new CopyOnWriteArrayList<>();
+
+        private Node(int index) throws IOException {
+            this.index = index;
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+            Thread acceptor = new Thread(this::accept, "fake-redis-" + index);
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread handler = new Thread(() -> handle(socket));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (Socket closeable = socket;
+                    InputStream in = new BufferedInputStream(socket.getInputStream());
+                    OutputStream out = socket.getOutputStream()) {
+                boolean asking = false;
+                List<String> request;
+                while ((request = readRequest(in)) != null) {
+                    String command = request.get(0).toUpperCase();
+                    ByteArrayOutputStream reply = new ByteArrayOutputStream();
+                    if ("ASKING".equals(command)) {
+                        asking = true;
+                        write(reply, "+OK");
+                    } else {
+                        reply(request, asking, reply);
+                        asking = false;
+                    }
+                    out.write(reply.toByteArray());
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // the connection is closed
+            }
+        }
+
+        private void reply(List<String> request, boolean asking, ByteArrayOutputStream reply) {
+            String command = request.get(0).toUpperCase();
+            if ("CLUSTER".equals(command)) {
+                byte[] slots = clusterSlots();
+                reply.write(slots, 0, slots.length);
+                return;
+            }
+            if ("PING".equals(command)) {
+                write(reply, "+PONG");
+                return;
+            }
+            if ("SELECT".equals(command)) {
+                write(reply, "+OK");
+                return;
+            }
+            if ("SCAN".equals(command)) {
+                commands.add(command + " " + request.get(1));
+                scan(request, reply);
+                return;
+            }
+            if ("MGET".equals(command)) {
+                mget(request.subList(1, request.size()), reply);
+                return;
+            }
+            if (request.size() < 2) {
+                write(reply, "QUIT".equals(command) ? "+OK" : "-ERR wrong number of arguments");
+                return;
+            }
+            String key = request.get(1);
+            int slot = JedisClusterCRC16.getSlot(key);
+            int owner = slotOwners[slot];
+            Integer migrating = migratingSlots.get(slot);
+            if (owner == index && migrating != null && !data.containsKey(key)) {
+                write(reply, "-ASK " + slot + " " + getNode(migrating));
+                return;
+            }
+            if (owner != index && !(asking && migrating != null && migrating == index)) {
+                write(reply, "-MOVED " + slot + " " + getNode(owner));
+                return;
+            }
+            commands.add(command + " " + key);
+            List<String> args = request.subList(2, request.size());
+            switch (command) {
+                case "SET":
+                    data.put(key, args.get(0));
+                    write(reply, "+OK");
+                    break;
+                case "GET":
+                    Object value = data.get(key);
+                    writeBulk(reply, value == null ? null : value.toString());
+                    break;
+                case "LRANGE":
+                case "SMEMBERS":
+                    @SuppressWarnings("unchecked")
+                    java.util.Collection<String> members =
+                            (java.util.Collection<String>) data.get(key);
+                    writeArray(reply, members == null ? new ArrayList<>() : members);
+                    break;
+                case "ZRANGE":
+                    @SuppressWarnings("unchecked")
+                    Map<String, Double> scores = (Map<String, Double>) data.get(key);
+                    List<String> sorted = new ArrayList<>();
+                    if (scores != null) {
+                        sorted.addAll(scores.keySet());
+                        sorted.sort(Comparator.comparing(scores::get));
+                    }
+                    writeArray(reply, sorted);
+                    break;
+                case "HGETALL":
+                    @SuppressWarnings("unchecked")
+                    Map<String, String> fields = (Map<String, String>) data.get(key);
+                    List<String> entries = new ArrayList<>();
+                    if (fields != null) {
+                        fields.forEach(
+                                (field, fieldValue) -> {
+                                    entries.add(field);
+                                    entries.add(fieldValue);
+                                });
+                    }
+                    writeArray(reply, entries);
+                    break;
+                case "EXPIRE":
+                    expires.put(key, Long.parseLong(args.get(0)));
+                    write(reply, ":1");
+                    break;
+                case "LPUSH":
+                case "SADD":
+                    Object collection =
+                            data.computeIfAbsent(
+                                    key,
+                                    k ->
+                                            "LPUSH".equals(command)
+                                                    ? new CopyOnWriteArrayList<String>()
+                                                    : new LinkedHashSet<String>());
+                    @SuppressWarnings("unchecked")
+                    java.util.Collection<String> values = (java.util.Collection<String>) collection;
+                    values.addAll(args);
+                    write(reply, ":" + values.size());
+                    break;
+                case "ZADD":
+                    @SuppressWarnings("unchecked")
+                    Map<String, Double> zset =
+                            (Map<String, Double>)
+                                    data.computeIfAbsent(key, k -> new LinkedHashMap<>());
+                    zset.put(args.get(1), Double.parseDouble(args.get(0)));
+                    write(reply, ":1");
+                    break;
+                case "HSET":
+                    @SuppressWarnings("unchecked")
+                    Map<String, String> hash =
+                            (Map<String, String>) data.computeIfAbsent(key, k -> new HashMap<>());
+                    for (int i = 0; i + 1 < args.size(); i += 2) {
+                        hash.put(args.get(i), args.get(i + 1));
+                    }
+                    write(reply, ":" + args.size() / 2);
+                    break;
+                default:
+                    write(reply, "-ERR unknown command '" + command + "'");
+            }
+        }
+
+        /** SCAN cursor [MATCH pattern] [COUNT count] [TYPE type]. */
+        private void scan(List<String> request, ByteArrayOutputStream reply) {
+            long cursor = Long.parseUnsignedLong(request.get(1));
+            String pattern = "*";
+            int count = 10;
+            String type = null;
+            for (int i = 2; i + 1 < request.size(); i += 2) {
+                String option = request.get(i).toUpperCase();
+                if ("MATCH".equals(option)) {
+                    pattern = request.get(i + 1);
+                } else if ("COUNT".equals(option)) {
+                    count = Integer.parseInt(request.get(i + 1));
+                } else if ("TYPE".equals(option)) {
+                    type = request.get(i + 1);
+                }
+            }
+            int slotBits = Integer.numberOfTrailingZeros(SLOTS);
+            // the slot of the table in the low bits of the cursor, -1 without the slot tables
+            int slot = slotTables ? (int) (cursor & (SLOTS - 1)) : -1;
+            long bucketCursor = slotTables ? cursor >>> slotBits : cursor;
+            int bucket = (int) (bucketCursor & (SCAN_TABLE_SIZE - 1));
+            List<String> scanned = new ArrayList<>();
+            do {
+                for (String key : data.keySet()) {
+                    if ((key.hashCode() & (SCAN_TABLE_SIZE - 1)) == bucket
+                            && (slot < 0 || JedisClusterCRC16.getSlot(key) == slot)) {
+                        scanned.add(key);
+                    }
+                }
+                bucket = nextBucket(bucket);
+                if (bucket == 0 && slot >= 0) {
+                    // go to the next table when the table of the slot is scanned
+                    slot = nextSlot(slot);
+                }
+            } while ((bucket != 0 || slot >= 0) && scanned.size() < count);
+            List<String> keys = new ArrayList<>();
+            String regex = pattern.replace("?", ".").replace("*", ".*");
+            for (String key : scanned) {
+                if (key.matches(regex) && (type == null || type.equalsIgnoreCase(typeOf(key)))) {
+                    keys.add(key);
+                }
+            }
+            long nextCursor = bucket;
+            if (slotTables) {
+                nextCursor = slot < 0 ? 0 : ((long) bucket << slotBits) | slot;
+            }
+            write(reply, "*2");
+            writeBulk(reply, String.valueOf(nextCursor));
+            writeArray(reply, keys);
+        }
+
+        private int nextBucket(int bucket) {
+            int bits = Integer.numberOfTrailingZeros(SCAN_TABLE_SIZE);
+            int reversed = (Integer.reverse(bucket) >>> (Integer.SIZE - bits)) + 1;
+            return reversed == SCAN_TABLE_SIZE
+                    ? 0
+                    : Integer.reverse(reversed) >>> (Integer.SIZE - bits);
+        }
+
+        /** The next slot having keys, or -1 if there is not any. */
+        private int nextSlot(int slot) {
+            int next = SLOTS;
+            for (String key : data.keySet()) {
+                int keySlot = JedisClusterCRC16.getSlot(key);
+                if (keySlot > slot && keySlot < next) {
+                    next = keySlot;
+                }
+            }
+            return next == SLOTS ? -1 : next;
+        }
+
+        private String typeOf(String key) {
+            Object value = data.get(key);
+            if (value instanceof String) {
+                return "string";
+            }
+            if (value instanceof java.util.List) {
+                return "list";
+            }
+            if (value instanceof java.util.Set) {
+                return "set";
+            }
+            // the sorted sets are kept in the linked hash maps
+            return value instanceof LinkedHashMap ? "zset" : "hash";
+        }
+
+        private void mget(List<String> keys, ByteArrayOutputStream reply) {
+            for (String key : keys) {
+                if (JedisClusterCRC16.getSlot(key) != JedisClusterCRC16.getSlot(keys.get(0))
+                        && nodes.size() > 1) {
+                    write(reply, "-CROSSSLOT Keys in request don't hash to the same slot");
+                    return;
+                }
+            }
+            commands.add("MGET " + keys.size());
+            List<String> values = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Object value = data.get(key);
+                values.add(value == null ? null : value.toString());
+            }
+            writeArray(reply, values);
+        }
+    }
+
+    private static void writeArray(ByteArrayOutputStream out, java.util.Collection<String> values) {
+        write(out, "*" + values.size());
+        for (String value : values) {
+            writeBulk(out, value);
+        }
+    }
+
+    private static List<String> readRequest(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (header.charAt(0) != '*') {
+            return new ArrayList<>(Arrays.asList(header.trim().split("\\s+")));
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> args = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = in.read(bytes, read, length - read);
+                if (n < 0) {
+                    return null;
+                }
+                read += n;
+            }
+            readLine(in);
+            args.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) c);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+}
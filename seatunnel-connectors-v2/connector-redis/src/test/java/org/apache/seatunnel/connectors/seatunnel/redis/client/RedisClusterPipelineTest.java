@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.connectors.seatunnel.redis.FakeRedisCluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class RedisClusterPipelineTest {
+
+    private FakeRedisCluster cluster;
+    private RedisClusterPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        cluster = new FakeRedisCluster(3);
+        pipeline =
+                new RedisClusterPipeline(
+                        new ClusterConnectionProvider(
+                                Collections.singleton(cluster.getNode(0)),
+                                DefaultJedisClientConfig.builder().build()));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        pipeline.close();
+        cluster.close();
+    }
+
+    @Test
+    public void testGroupCommandsBySlotOwner() {
+        List<String> keys = keys(90);
+        pipeline.write(keys, values(keys), 60, (p, key, value) -> p.set(key, value));
+
+        for (String key : keys) {
+            int owner = cluster.getOwner(key);
+            Assertions.assertEquals("value_" + key, cluster.getData(owner).get(key));
+            Assertions.assertEquals(60L, cluster.getExpires(owner).get(key));
+        }
+        int commands = 0;
+        for (int node = 0; node < 3; node++) {
+            Assertions.assertFalse(cluster.getData(node).isEmpty());
+            commands += cluster.getCommands(node).size();
+        }
+        // each key is sent to its owner only, with the expire command
+        Assertions.assertEquals(keys.size() * 2, commands);
+    }
+
+    @Test
+    public void testRegroupMovedCommands() {
+        List<String> keys = keys(30);
+        // load the slot cache before the slot is moved
+        pipeline.write(
+                Collections.singletonList("init"),
+                Collections.singletonList("init"),
+                0,
+                (p, key, value) -> p.set(key, value));
+        String movedKey = keys.get(0);
+        int source = cluster.getOwner(movedKey);
+        int target = (source + 1) % 3;
+        cluster.moveSlot(movedKey, target);
+        int clusterSlotsRequests = cluster.getClusterSlotsRequests();
+
+        pipeline.write(keys, values(keys), 0, (p, key, value) -> p.lpush(key, value));
+
+        Assertions.assertEquals(
+                Collections.singletonList("value_" + movedKey),
+                cluster.getData(target).get(movedKey));
+        Assertions.assertFalse(cluster.getData(source).containsKey(movedKey));
+        Assertions.assertEquals(clusterSlotsRequests + 1, cluster.getClusterSlotsRequests());
+        // only the moved command is sent again, the other commands are written once
+        for (String key : keys) {
+            int owner = cluster.getOwner(key);
+            Assertions.assertEquals(
+                    Collections.singletonList("value_" + key), cluster.getData(owner).get(key));
+        }
+    }
+
+    @Test
+    public void testAskMigratingSlot() {
+        List<String> keys = keys(30);
+        String askedKey = keys.get(0);
+        int source = cluster.getOwner(askedKey);
+        int target = (source + 1) % 3;
+        cluster.migrateSlot(askedKey, target);
+
+        pipeline.write(keys, values(keys), 60, (p, key, value) -> p.sadd(key, value));
+
+        Assertions.assertTrue(cluster.getData(target).containsKey(askedKey));
+        Assertions.assertEquals(60L, cluster.getExpires(target).get(askedKey));
+        Assertions.assertFalse(cluster.getData(source).containsKey(askedKey));
+        // the slot cache is not renewed by ASK
+        Assertions.assertEquals(1, cluster.getClusterSlotsRequests());
+    }
+
+    @Test
+    public void testWriteHash() {
+        List<String> keys = keys(10);
+        List<String> values = new ArrayList<>();
+        for (String key : keys) {
+            values.add("{\"name\":\"" + key + "\"}");
+        }
+        pipeline.write(
+                keys,
+                values,
+                0,
+                (p, key, value) -> p.hset(key, Collections.singletonMap("name", key)));
+        for (String key : keys) {
+            Map<?, ?> hash = (Map<?, ?>) cluster.getData(cluster.getOwner(key)).get(key);
+            Assertions.assertEquals(key, hash.get("name"));
+        }
+    }
+
+    private static List<String> keys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add("key_" + i);
+        }
+        return keys;
+    }
+
+    private static List<String> values(List<String> keys) {
+        List<String> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add("value_" + key);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.source.Boundedness;
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceEvent;
+import org.apache.seatunnel.api.source.SourceReader;
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.redis.FakeRedisCluster;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.HostAndPort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class RedisSourceReaderTest {
+
+    private FakeRedisCluster cluster;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void testCursorPartitions() {
+        for (int partition = 0; partition < 8; partition++) {
+            String cursor = RedisSourceSplit.startCursor(partition, 8);
+            Assertions.assertEquals(partition, RedisSourceSplit.getPartition(cursor, 8));
+        }
+        RedisSourceSplit split = new RedisSourceSplit(new HostAndPort("localhost", 6379), 1, 4);
+        // the cursor 0b10 is the first cursor of the partition 1 of 4 partitions
+        Assertions.assertEquals("2", split.getCursor());
+        Assertions.assertFalse(split.isEnd("6"));
+        Assertions.assertTrue(split.isEnd("1"));
+        Assertions.assertTrue(split.isEnd("0"));
+    }
+
+    @Test
+    public void testReadStandaloneByCursorPartitions() throws Exception {
+        cluster = new FakeRedisCluster(1);
+        Set<String> values = putStrings(100);
+        Map<String, Object> config = config(cluster.getNode(0), "single");
+        config.put("scan_partitions", 3);
+        // a page of one key does not go over the end of the partition
+        config.put("batch_size", 1);
+        RedisParameters parameters = parameters(config);
+
+        TestEnumeratorContext context = new TestEnumeratorContext(2);
+        RedisSourceSplitEnumerator enumerator = new RedisSourceSplitEnumerator(context, parameters);
+        enumerator.run();
+
+        // the partitions are rounded up to a power of two
+        List<RedisSourceSplit> splits = context.getAllSplits();
+        Assertions.assertEquals(4, splits.size());
+        Assertions.assertEquals(2, context.assignedSplits.get(0).size());
+        Assertions.assertEquals(2, context.assignedSplits.get(1).size());
+
+        List<String> rows = new ArrayList<>();
+        for (List<RedisSourceSplit> readerSplits : context.assignedSplits.values()) {
+            rows.addAll(readAll(parameters, readerSplits));
+        }
+        // each key is read once, the table is not smaller than the partitions
+        Assertions.assertEquals(values.size(), rows.size());
+        Assertions.assertEquals(values, new HashSet<>(rows));
+        Assertions.assertTrue(cluster.getCommands(0).stream().anyMatch(c -> c.startsWith("MGET")));
+    }
+
+    @Test
+    public void testReadClusterByMasterNodes() throws Exception {
+        cluster = new FakeRedisCluster(3);
+        Set<String> values = putStrings(90);
+        Map<String, Object> config = config(cluster.getNode(1), "cluster");
+        config.put("batch_size", 1);
+        RedisParameters parameters = parameters(config);
+
+        TestEnumeratorContext context = new TestEnumeratorContext(4);
+        new RedisSourceSplitEnumerator(context, parameters).run();
+
+        // a split per master node
+        List<RedisSourceSplit> splits = context.getAllSplits();
+        Assertions.assertEquals(3, splits.size());
+        Set<HostAndPort> nodes =
+                splits.stream().map(RedisSourceSplit::getNode).collect(Collectors.toSet());
+        Assertions.assertEquals(3, nodes.size());
+
+        List<String> rows = readAll(parameters, splits);
+        Assertions.assertEquals(values.size(), rows.size());
+        Assertions.assertEquals(values, new HashSet<>(rows));
+        for (int node = 0; node < 3; node++) {
+            // the keys of different slots are got by a pipeline instead of MGET
+            Assertions.assertTrue(
+                    cluster.getCommands(node).stream().noneMatch(c -> c.startsWith("MGET")));
+            Assertions.assertTrue(
+                    cluster.getCommands(node).stream().anyMatch(c -> c.startsWith("GET")));
+        }
+    }
+
+    @Test
+    public void testReadClusterWithSlotTables() throws Exception {
+        cluster = new FakeRedisCluster(3);
+        // a hash table per slot, the slot index is in the low bits of the cursor
+        cluster.setSlotTables(true);
+        Set<String> values = putStrings(90);
+        Map<String, Object> config = config(cluster.getNode(0), "cluster");
+        config.put("scan_partitions", 4);
+        config.put("batch_size", 1);
+        RedisParameters parameters = parameters(config);
+
+        TestEnumeratorContext context = new TestEnumeratorContext(6);
+        new RedisSourceSplitEnumerator(context, parameters).run();
+
+        // the cursor of a cluster node is not partitioned by the low bits
+        List<RedisSourceSplit> splits = context.getAllSplits();
+        Assertions.assertEquals(3, splits.size());
+        for (RedisSourceSplit split : splits) {
+            Assertions.assertEquals(1, split.getPartitions());
+        }
+
+        List<String> rows = readAll(parameters, splits);
+        Assertions.assertEquals(values.size(), rows.size());
+        Assertions.assertEquals(values, new HashSet<>(rows));
+        for (int node = 0; node < 3; node++) {
+            // the scan went through the tables of more than one slot
+            Set<Long> scannedSlots =
+                    cluster.getCommands(node).stream()
+                            .filter(c -> c.startsWith("SCAN "))
+                            .map(c -> Long.parseUnsignedLong(c.substring(5)) & (16384 - 1))
+                            .collect(Collectors.toSet());
+            Assertions.assertTrue(scannedSlots.size() > 1);
+        }
+    }
+
+    @Test
+    public void testReadHashes() throws Exception {
+        cluster = new FakeRedisCluster(1);
+        for (int i = 0; i < 20; i++) {
+            Map<String, String> hash = new HashMap<>();
+            hash.put("id", String.valueOf(i));
+            cluster.getData(0).put("key_" + i, hash);
+        }
+        Map<String, Object> config = config(cluster.getNode(0), "single");
+        config.put("data_type", "HASH");
+        RedisParameters parameters = parameters(config);
+
+        TestEnumeratorContext context = new TestEnumeratorContext(1);
+        new RedisSourceSplitEnumerator(context, parameters).run();
+
+        List<String> rows = readAll(parameters, context.getAllSplits());
+        Assertions.assertEquals(20, rows.size());
+        Assertions.assertTrue(
+                rows.stream()
+                        .anyMatch(
+                                row ->
+                                        row.contains("\"hash_key\":\"key_7\"")
+                                                && row.contains("\"id\":\"7\"")));
+    }
+
+    @Test
+    public void testResumeFromCheckpointedCursor() throws Exception {
+        cluster = new FakeRedisCluster(1);
+        Set<String> values = putStrings(100);
+        Map<String, Object> config = config(cluster.getNode(0), "single");
+        config.put("batch_size", 5);
+        RedisParameters parameters = parameters(config);
+
+        TestEnumeratorContext context = new TestEnumeratorContext(1);
+        new RedisSourceSplitEnumerator(context, parameters).run();
+
+        List<String> rows = new ArrayList<>();
+        RedisSourceReader reader = new RedisSourceReader(parameters, new TestReaderContext(), null);
+        reader.open();
+        reader.addSplits(context.getAllSplits());
+        reader.handleNoMoreSplits();
+        for (int i = 0; i < 3; i++) {
+            reader.pollNext(new TestCollector(rows));
+        }
+        List<RedisSourceSplit> state =
+                SerializationUtils.clone(new ArrayList<>(reader.snapshotState(1)));
+        reader.close();
+        String cursor = state.get(0).getCursor();
+        Assertions.assertNotEquals("0", cursor);
+        int readBeforeFailure = rows.size();
+        Assertions.assertTrue(readBeforeFailure > 0 && readBeforeFailure < values.size());
+
+        // the restored split is resumed from the checkpointed cursor
+        cluster.getCommands(0).clear();
+        rows.addAll(readAll(parameters, state));
+        Assertions.assertEquals("SCAN " + cursor, cluster.getCommands(0).get(0));
+        Assertions.assertEquals(values.size(), rows.size());
+        Assertions.assertEquals(values, new HashSet<>(rows));
+    }
+
+    private Set<String> putStrings(int count) {
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            String key = "key_" + i;
+            cluster.getData(cluster.getOwner(key)).put(key, "value_" + i);
+            values.add("value_" + i);
+        }
+        // the keys not matched by the pattern are skipped
+        cluster.getData(0).put("other", "other");
+        return values;
+    }
+
+    private static Map<String, Object> config(HostAndPort node, String mode) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("host", node.getHost());
+        config.put("port", node.getPort());
+        config.put("keys", "key_*");
+        config.put("data_type", "STRING");
+        config.put("mode", mode);
+        config.put("nodes", Collections.singletonList(node.toString()));
+        return config;
+    }
+
+    private static RedisParameters parameters(Map<String, Object> config) {
+        RedisParameters parameters = new RedisParameters();
+        parameters.buildWithConfig(ReadonlyConfig.fromMap(config));
+        return parameters;
+    }
+
+    private static List<String> readAll(RedisParameters parameters, List<RedisSourceSplit> splits)
+            throws Exception {
+        List<String> rows = new ArrayList<>();
+        TestReaderContext context = new TestReaderContext();
+        RedisSourceReader reader = new RedisSourceReader(parameters, context, null);
+        reader.open();
+        reader.addSplits(splits);
+        reader.handleNoMoreSplits();
+        TestCollector collector = new TestCollector(rows);
+        while (!context.noMoreElement) {
+            reader.pollNext(collector);
+        }
+        reader.close();
+        return rows;
+    }
+
+    private static class TestCollector implements Collector<SeaTunnelRow> {
+        private final List<String> rows;
+
+        private TestCollector(List<String> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void collect(SeaTunnelRow record) {
+            rows.add((String) record.getField(0));
+        }
+
+        @Override
+        public Object getCheckpointLock() {
+            return this;
+        }
+    }
+
+    private static class TestReaderContext implements SourceReader.Context {
+        private boolean noMoreElement;
+
+        @Override
+        public int getIndexOfSubtask() {
+            return 0;
+        }
+
+        @Override
+        public Boundedness getBoundedness() {
+            return Boundedness.BOUNDED;
+        }
+
+        @Override
+        public void signalNoMoreElement() {
+            noMoreElement = true;
+        }
+
+        @Override
+        public void sendSplitRequest() {}
+
+        @Override
+        public void sendSourceEventToEnumerator(SourceEvent sourceEvent) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+
+    private static class TestEnumeratorContext
+            implements SourceSplitEnumerator.Context<RedisSourceSplit> {
+        private final int parallelism;
+        private final Map<Integer, List<RedisSourceSplit>> assignedSplits = new HashMap<>();
+
+        private TestEnumeratorContext(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        private List<RedisSourceSplit> getAllSplits() {
+            return assignedSplits.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public int currentParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public Set<Integer> registeredReaders() {
+            Set<Integer> readers = new HashSet<>();
+            for (int i = 0; i < parallelism; i++) {
+                readers.add(i);
+            }
+            return readers;
+        }
+
+        @Override
+        public void assignSplit(int subtaskId, List<RedisSourceSplit> splits) {
+            assignedSplits.computeIfAbsent(subtaskId, k -> new ArrayList<>()).addAll(splits);
+        }
+
+        @Override
+        public void signalNoMoreSplits(int subtask) {}
+
+        @Override
+        public void sendEventToSourceReader(int subtaskId, SourceEvent event) {}
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return null;
+        }
+    }
+}
@@ -124,9 +124,15 @@ public class HttpHelper {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Map<String, Object> doHttpPut(String url, byte[] data, Map<String, String> header)
             throws IOException {
+        return doHttpPut(url, data, data.length, header);
+    }
+
+    /** Put the first {@code length} bytes of the data by the chunked transfer encoding. */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> doHttpPut(
+            String url, byte[] data, int length, Map<String, String> header) throws IOException {
         final HttpClientBuilder httpClientBuilder =
                 HttpClients.custom()
                         .addInterceptorFirst(
@@ -151,7 +157,9 @@ public class HttpHelper {
                     httpPut.setHeader(entry.getKey(), String.valueOf(entry.getValue()));
                 }
             }
-            httpPut.setEntity(new ByteArrayEntity(data));
+            ByteArrayEntity entity = new ByteArrayEntity(data, 0, length);
+            entity.setChunked(true);
+            httpPut.setEntity(entity);
             httpPut.setConfig(
                     RequestConfig.custom()
                             .setSocketTimeout(sinkConfig.getHttpSocketTimeout())
@@ -17,17 +17,19 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.List;
-
 @AllArgsConstructor
 @Getter
 @Setter
 public class StarRocksFlushTuple {
     private String label;
     private Long bytes;
-    private List<byte[]> rows;
+    private int rowCount;
+    /** The joined rows in the stream load format, whose first {@code bytes} bytes are written. */
+    private ByteSink body;
 }
@@ -17,37 +17,60 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
+import org.apache.seatunnel.connectors.seatunnel.common.sink.InFlightRequests;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
 
 import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
+/**
+ * Join the records into reusable buffers in the stream load format, and load the full batches in
+ * the background. At most {@code max_concurrent_loads} stream loads of the table are in flight, the
+ * writer is blocked only when all of them are busy. {@link #flush()} loads the buffered records and
+ * waits for all the in-flight loads, so it is called on checkpoint.
+ */
 @Slf4j
 public class StarRocksSinkManager {
+    private static final String THREAD_NAME_PREFIX = "starrocks-stream-load";
 
     private final SinkConfig sinkConfig;
-    private final List<byte[]> batchList;
+    private final byte[] rowDelimiter;
+    private final boolean jsonFormat;
+    private final InFlightRequests inFlightLoads;
 
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
     private volatile boolean initialize;
-    private volatile Exception flushException;
+    private ByteSink batchBuffer;
     private int batchRowCount = 0;
-    private long batchBytesSize = 0;
 
     public StarRocksSinkManager(SinkConfig sinkConfig, List<String> fileNames) {
         this.sinkConfig = sinkConfig;
-        this.batchList = new ArrayList<>();
+        this.jsonFormat = SinkConfig.StreamLoadFormat.JSON.equals(sinkConfig.getLoadFormat());
+        this.rowDelimiter =
+                StarRocksDelimiterParser.parse(
+                                (String) sinkConfig.getStreamLoadProps().get("row_delimiter"), "\n")
+                        .getBytes(StandardCharsets.UTF_8);
+        this.inFlightLoads =
+                new InFlightRequests(THREAD_NAME_PREFIX, sinkConfig.getMaxConcurrentLoads());
+        this.batchBuffer = inFlightLoads.newBuffer();
         starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, fileNames);
     }
 
+    /** Load the batches by the executor shared by the tables. */
+    public synchronized void setLoadExecutor(ExecutorService loadExecutor) {
+        inFlightLoads.setSharedExecutor(loadExecutor);
+    }
+
     private void tryInit() throws IOException {
         if (initialize) {
             return;
@@ -55,31 +78,68 @@ public class StarRocksSinkManager {
         initialize = true;
     }
 
+    public static ExecutorService createLoadExecutor(int threads) {
+        return InFlightRequests.createExecutor(THREAD_NAME_PREFIX, threads);
+    }
+
     public synchronized void write(String record) throws IOException {
         tryInit();
         checkFlushException();
-        byte[] bts = record.getBytes(StandardCharsets.UTF_8);
-        batchList.add(bts);
+        if (jsonFormat) {
+            batchBuffer.write(batchRowCount == 0 ? '[' : ',');
+            batchBuffer.write(record, StandardCharsets.UTF_8);
+        } else {
+            batchBuffer.write(record, StandardCharsets.UTF_8);
+            batchBuffer.write(rowDelimiter, 0, rowDelimiter.length);
+        }
         batchRowCount++;
-        batchBytesSize += bts.length;
         if (batchRowCount >= sinkConfig.getBatchMaxSize()
-                || batchBytesSize >= sinkConfig.getBatchMaxBytes()) {
-            flush();
+                || batchBuffer.size() >= sinkConfig.getBatchMaxBytes()) {
+            loadBatch();
         }
     }
 
     public synchronized void close() throws IOException {
-        flush();
+        try {
+            flush();
+        } finally {
+            inFlightLoads.close();
+        }
     }
 
     public synchronized void flush() throws IOException {
         checkFlushException();
-        if (batchList.isEmpty()) {
-            return;
+        if (batchRowCount > 0) {
+            tryInit();
+            loadBatch();
+        }
+        try {
+            inFlightLoads.awaitAll();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        }
+        checkFlushException();
+    }
+
+    private void loadBatch() {
+        if (jsonFormat) {
+            batchBuffer.write(']');
         }
-        String label = createBatchLabel();
         StarRocksFlushTuple tuple =
-                new StarRocksFlushTuple(label, batchBytesSize, new ArrayList<>(batchList));
+                new StarRocksFlushTuple(
+                        createBatchLabel(), (long) batchBuffer.size(), batchRowCount, batchBuffer);
+        batchBuffer = inFlightLoads.newBuffer();
+        batchRowCount = 0;
+        try {
+            inFlightLoads.send(tuple.getBody(), () -> loadWithRetry(tuple));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e);
+        }
+    }
+
+    private void loadWithRetry(StarRocksFlushTuple tuple) throws IOException {
         for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
             try {
                 Boolean successFlag = starrocksStreamLoadVisitor.doStreamLoad(tuple);
@@ -118,15 +178,12 @@ public class StarRocksSinkManager {
                 }
             }
         }
-        batchList.clear();
-        batchRowCount = 0;
-        batchBytesSize = 0;
     }
 
     private void checkFlushException() {
-        if (flushException != null) {
-            throw new StarRocksConnectorException(
-                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, flushException);
+        Throwable t = inFlightLoads.getFailure();
+        if (t != null) {
+            throw new StarRocksConnectorException(StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, t);
         }
     }
 
@@ -51,6 +51,7 @@ public class SinkConfig implements Serializable {
     private StreamLoadFormat loadFormat;
     private int batchMaxSize;
     private long batchMaxBytes;
+    private int maxConcurrentLoads;
 
     private int maxRetries;
     private int retryBackoffMultiplierMs;
@@ -78,6 +79,7 @@ public class SinkConfig implements Serializable {
         config.getOptional(StarRocksSinkOptions.LABEL_PREFIX).ifPresent(sinkConfig::setLabelPrefix);
         sinkConfig.setBatchMaxSize(config.get(StarRocksSinkOptions.BATCH_MAX_SIZE));
         sinkConfig.setBatchMaxBytes(config.get(StarRocksSinkOptions.BATCH_MAX_BYTES));
+        sinkConfig.setMaxConcurrentLoads(config.get(StarRocksSinkOptions.MAX_CONCURRENT_LOADS));
         config.getOptional(StarRocksSinkOptions.MAX_RETRIES).ifPresent(sinkConfig::setMaxRetries);
         config.getOptional(StarRocksSinkOptions.RETRY_BACKOFF_MULTIPLIER_MS)
                 .ifPresent(sinkConfig::setRetryBackoffMultiplierMs);
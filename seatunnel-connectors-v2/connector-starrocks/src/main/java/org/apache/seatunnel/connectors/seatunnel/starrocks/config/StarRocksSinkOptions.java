@@ -94,6 +94,16 @@ public interface StarRocksSinkOptions {
                     .withDescription(
                             "For batch writing, when the number of buffers reaches the number of batch_max_rows or the byte size of batch_max_bytes or the time reaches checkpoint.interval, the data will be flushed into the StarRocks");
 
+    Option<Integer> MAX_CONCURRENT_LOADS =
+            Options.key("max_concurrent_loads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The max number of the concurrent stream loads of each table. A full batch is loaded in the background, "
+                                    + "the writer is blocked only when there are too many in-flight stream loads. "
+                                    + "The concurrent loads may commit the rows of the same primary key out of order, "
+                                    + "so it must be 1 when enable_upsert_delete is enabled or the table has a primary key");
+
     Option<Integer> MAX_RETRIES =
             Options.key("max_retries")
                     .intType()
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.starrocks.sink;
 
+import org.apache.seatunnel.api.sink.MultiTableResourceManager;
+import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
@@ -36,11 +38,14 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @Slf4j
-public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void> {
+public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
+        implements SupportMultiTableSinkWriter<ExecutorService> {
 
+    private final SinkConfig sinkConfig;
     private final StarRocksISerializer serializer;
     private final StarRocksSinkManager manager;
 
@@ -50,6 +55,7 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         if (sinkConfig.isEnableUpsertDelete()) {
             fieldNames.add(StarRocksSinkOP.COLUMN_KEY);
         }
+        this.sinkConfig = sinkConfig;
         this.serializer = createSerializer(sinkConfig, seaTunnelRowType);
         this.manager = new StarRocksSinkManager(sinkConfig, fieldNames);
     }
@@ -68,6 +74,21 @@ public class StarRocksSinkWriter extends AbstractSinkWriter<SeaTunnelRow, Void>
         manager.write(record);
     }
 
+    /** The stream loads of all the tables are executed by a shared thread pool. */
+    @Override
+    public MultiTableResourceManager<ExecutorService> initMultiTableResourceManager(
+            int tableSize, int queueSize) {
+        return new StarRocksMultiTableResourceManager(
+                StarRocksSinkManager.createLoadExecutor(
+                        queueSize * Math.max(sinkConfig.getMaxConcurrentLoads(), 1)));
+    }
+
+    @Override
+    public void setMultiTableResourceManager(
+            MultiTableResourceManager<ExecutorService> multiTableResourceManager, int queueIndex) {
+        manager.setLoadExecutor(multiTableResourceManager.getSharedResource().get());
+    }
+
     @SneakyThrows
     @Override
     public Optional<Void> prepareCommit() {
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+public class StarRocksSinkManagerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final Set<String> labels = ConcurrentHashMap.newKeySet();
+
+    private HttpServer server;
+    private volatile boolean fail;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/test/t/_stream_load", this::handleStreamLoad);
+        server.createContext("/", exchange -> sendResponse(exchange, ""));
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testLoadJsonBatches() throws IOException {
+        StarRocksSinkManager manager =
+                new StarRocksSinkManager(
+                        sinkConfig(SinkConfig.StreamLoadFormat.JSON), Arrays.asList("id"));
+        for (int i = 0; i < 7; i++) {
+            manager.write("{\"id\":" + i + "}");
+        }
+        manager.flush();
+        // 2 full batches and the rest flushed
+        Assertions.assertEquals(3, bodies.size());
+        Assertions.assertEquals(3, labels.size());
+        int rows = 0;
+        for (String body : bodies) {
+            JsonNode array = objectMapper.readTree(body);
+            Assertions.assertTrue(array.isArray(), body);
+            rows += array.size();
+        }
+        Assertions.assertEquals(7, rows);
+        manager.close();
+    }
+
+    @Test
+    public void testLoadCsvBatches() throws IOException {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadFormat.CSV);
+        sinkConfig.getStreamLoadProps().put("row_delimiter", "\\x02");
+        StarRocksSinkManager manager = new StarRocksSinkManager(sinkConfig, Arrays.asList("id"));
+        manager.write("1");
+        manager.write("2");
+        manager.close();
+        Assertions.assertEquals(Collections.singletonList("1\u00022\u0002"), bodies);
+    }
+
+    @Test
+    public void testLoadFailure() throws IOException {
+        fail = true;
+        StarRocksSinkManager manager =
+                new StarRocksSinkManager(
+                        sinkConfig(SinkConfig.StreamLoadFormat.JSON), Arrays.asList("id"));
+        manager.write("{\"id\":1}");
+        Assertions.assertThrows(StarRocksConnectorException.class, manager::flush);
+        // the failure is reported by the following writes as well
+        Assertions.assertThrows(
+                StarRocksConnectorException.class, () -> manager.write("{\"id\":2}"));
+    }
+
+    private SinkConfig sinkConfig(SinkConfig.StreamLoadFormat format) {
+        SinkConfig sinkConfig = new SinkConfig();
+        sinkConfig.setNodeUrls(
+                Collections.singletonList("localhost:" + server.getAddress().getPort()));
+        sinkConfig.setDatabase("test");
+        sinkConfig.setTable("t");
+        sinkConfig.setUsername("root");
+        sinkConfig.setPassword("");
+        sinkConfig.setLoadFormat(format);
+        sinkConfig.setBatchMaxSize(3);
+        sinkConfig.setBatchMaxBytes(1024 * 1024);
+        sinkConfig.setMaxConcurrentLoads(2);
+        sinkConfig.setHttpSocketTimeout(10 * 1000);
+        return sinkConfig;
+    }
+
+    private void handleStreamLoad(HttpExchange exchange) throws IOException {
+        Assertions.assertEquals(
+                "chunked", exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream in = exchange.getRequestBody()) {
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+        }
+        if (fail) {
+            sendResponse(exchange, "{\"Status\":\"Fail\",\"Message\":\"too many filtered rows\"}");
+            return;
+        }
+        bodies.add(new String(out.toByteArray(), StandardCharsets.UTF_8));
+        labels.add(exchange.getRequestHeaders().getFirst("label"));
+        sendResponse(exchange, "{\"Status\":\"Success\"}");
+    }
+
+    private static void sendResponse(HttpExchange exchange, String response) throws IOException {
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
@@ -40,6 +42,8 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -63,6 +67,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /**
+     * Runtime converter that converts the tokens of a {@link JsonParser} into {@link SeaTunnelRow}s
+     * without building the JSON tree, null if the row type is not supported.
+     */
+    private final JsonParserToRowConverters.JsonParserToObjectConverter parserConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -78,9 +88,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(rowType);
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters jsonToRowConverters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = jsonToRowConverters.createRowConverter(checkNotNull(rowType));
+        this.parserConverter =
+                createParserConverter(
+                        jsonToRowConverters, failOnMissingField, hasDecimalType(rowType));
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -99,9 +112,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(catalogTable.getSeaTunnelRowType());
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters jsonToRowConverters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = jsonToRowConverters.createRowConverter(checkNotNull(rowType));
+        this.parserConverter =
+                createParserConverter(
+                        jsonToRowConverters, failOnMissingField, hasDecimalType(rowType));
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -109,6 +125,20 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
     }
 
+    private JsonParserToRowConverters.JsonParserToObjectConverter createParserConverter(
+            JsonToRowConverters jsonToRowConverters,
+            boolean failOnMissingField,
+            boolean useBigDecimalForFloats) {
+        try {
+            return new JsonParserToRowConverters(
+                            jsonToRowConverters, failOnMissingField, useBigDecimalForFloats)
+                    .createRowConverter(rowType);
+        } catch (SeaTunnelJsonFormatException e) {
+            // the field names can not be indexed, the rows are converted from the JSON tree
+            return null;
+        }
+    }
+
     private static boolean hasDecimalType(SeaTunnelDataType<?> dataType) {
         if (dataType.getSqlType() == SqlType.DECIMAL) {
             return true;
@@ -129,6 +159,13 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        if (parserConverter != null) {
+            try (JsonParser parser = objectMapper.createParser(message)) {
+                return convertTokens(parser);
+            } catch (IOException | RuntimeException e) {
+                // the JSON tree reports the error of the message, or ignores it
+            }
+        }
         return convertJsonNode(convertBytes(message));
     }
 
@@ -136,10 +173,32 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        if (parserConverter != null) {
+            try (JsonParser parser = objectMapper.createParser(message)) {
+                return convertTokens(parser);
+            } catch (IOException | RuntimeException e) {
+                // the JSON tree reports the error of the message, or ignores it
+            }
+        }
         return convertJsonNode(convert(message));
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        if (parserConverter != null) {
+            List<SeaTunnelRow> rows = null;
+            try (JsonParser parser = objectMapper.createParser(message)) {
+                rows = convertTokensToRows(parser);
+            } catch (IOException | RuntimeException e) {
+                // the JSON tree reports the error of the message, or ignores it
+            }
+            if (rows != null) {
+                for (SeaTunnelRow row : rows) {
+                    setCollectorTablePath(row, catalogTable);
+                    out.collect(row);
+                }
+                return;
+            }
+        }
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
@@ -163,6 +222,34 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         }
     }
 
+    private SeaTunnelRow convertTokens(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        return (SeaTunnelRow) parserConverter.convert(parser);
+    }
+
+    /** Converts a row, or the rows of an array, returns null if the message has no row. */
+    private List<SeaTunnelRow> convertTokensToRows(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        if (token == JsonToken.START_OBJECT) {
+            rows.add((SeaTunnelRow) parserConverter.convert(parser));
+            return rows;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            return null;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            rows.add((SeaTunnelRow) parserConverter.convert(parser));
+        }
+        return rows;
+    }
+
     private SeaTunnelRow convertJsonNode(JsonNode jsonNode) {
         if (jsonNode.isNull()) {
             return null;
@@ -0,0 +1,525 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.TextNode;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.DateTimeUtils;
+import org.apache.seatunnel.common.utils.DateUtils;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tool class used to convert the tokens of a {@link JsonParser} to {@link SeaTunnelRow} without
+ * building the JSON tree. The unknown fields are skipped by the parser, and the field names are
+ * mapped to the indexes by a perfect hash table.
+ *
+ * <p>Only the values in the common form are converted, e.g. a number or a string for a numeric
+ * field. The converters throw an exception for any other value, then the message is converted by
+ * {@link JsonToRowConverters} from the JSON tree, which reports the error of the field or ignores
+ * it, so the result is always the same as {@link JsonToRowConverters}.
+ */
+public class JsonParserToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The tree converters, their date formatters are shared and the map keys are converted. */
+    private final JsonToRowConverters jsonToRowConverters;
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    /** Whether the JSON tree reads the floats as {@link BigDecimal}, it changes the float value. */
+    private final boolean useBigDecimalForFloats;
+
+    public JsonParserToRowConverters(
+            JsonToRowConverters jsonToRowConverters,
+            boolean failOnMissingField,
+            boolean useBigDecimalForFloats) {
+        this.jsonToRowConverters = jsonToRowConverters;
+        this.failOnMissingField = failOnMissingField;
+        this.useBigDecimalForFloats = useBigDecimalForFloats;
+    }
+
+    /**
+     * Creates a runtime converter of the row, the parser must be positioned at the first token of
+     * the value.
+     *
+     * @throws SeaTunnelJsonFormatException if the names of the fields of a row are duplicated or
+     *     have the same hash code
+     */
+    public JsonParserToObjectConverter createRowConverter(SeaTunnelRowType rowType) {
+        return wrapIntoNullableConverter(createRowConverter(rowType, null));
+    }
+
+    private JsonParserToObjectConverter createConverter(SeaTunnelDataType<?> type, String path) {
+        return wrapIntoNullableConverter(createNotNullConverter(type, path));
+    }
+
+    private JsonParserToObjectConverter createNotNullConverter(
+            SeaTunnelDataType<?> type, String path) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case NULL:
+                return parser -> {
+                    parser.skipChildren();
+                    return null;
+                };
+            case BOOLEAN:
+                return this::convertToBoolean;
+            case TINYINT:
+                return parser -> Byte.parseByte(getScalarText(parser, false).trim());
+            case SMALLINT:
+                return parser -> Short.parseShort(getScalarText(parser, false).trim());
+            case INT:
+                return this::convertToInt;
+            case BIGINT:
+                return this::convertToLong;
+            case DATE:
+                return parser -> convertToLocalDate(parser, path);
+            case TIME:
+                return this::convertToLocalTime;
+            case TIMESTAMP:
+                return parser -> convertToLocalDateTime(parser, path);
+            case FLOAT:
+                return this::convertToFloat;
+            case DOUBLE:
+                return parser -> Double.parseDouble(getScalarText(parser, true).trim());
+            case STRING:
+                return this::convertToString;
+            case BYTES:
+                return this::convertToBytes;
+            case DECIMAL:
+                return this::convertToBigDecimal;
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type, path);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type, path);
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type, path);
+            default:
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unsupported type: " + type);
+        }
+    }
+
+    private boolean convertToBoolean(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_STRING:
+                return Boolean.parseBoolean(parser.getText().trim());
+            default:
+                throw new UnsupportedValueException();
+        }
+    }
+
+    private int convertToInt(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() == JsonParser.NumberType.INT) {
+            // avoid redundant toString and parseInt, for better performance
+            return parser.getIntValue();
+        }
+        return Integer.parseInt(getScalarText(parser, false).trim());
+    }
+
+    private long convertToLong(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            // avoid redundant toString and parseLong, for better performance
+            return parser.getLongValue();
+        }
+        return Long.parseLong(getScalarText(parser, false).trim());
+    }
+
+    private float convertToFloat(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !useBigDecimalForFloats) {
+            // the float of the JSON tree is a double value
+            return (float) parser.getDoubleValue();
+        }
+        return Float.parseFloat(getScalarText(parser, true).trim());
+    }
+
+    private LocalDate convertToLocalDate(JsonParser parser, String path) throws IOException {
+        String dateStr = getStringText(parser);
+        DateTimeFormatter dateFormatter = jsonToRowConverters.fieldFormatterMap.get(path);
+        if (dateFormatter == null) {
+            dateFormatter = DateUtils.matchDateFormatter(dateStr);
+            if (dateFormatter == null) {
+                throw new UnsupportedValueException();
+            }
+            jsonToRowConverters.fieldFormatterMap.put(path, dateFormatter);
+        }
+        return dateFormatter.parse(dateStr).query(TemporalQueries.localDate());
+    }
+
+    private LocalTime convertToLocalTime(JsonParser parser) throws IOException {
+        TemporalAccessor parsedTime = JsonToRowConverters.TIME_FORMAT.parse(getStringText(parser));
+        return parsedTime.query(TemporalQueries.localTime());
+    }
+
+    private LocalDateTime convertToLocalDateTime(JsonParser parser, String path)
+            throws IOException {
+        String datetimeStr = getStringText(parser);
+        DateTimeFormatter dateTimeFormatter = jsonToRowConverters.fieldFormatterMap.get(path);
+        if (dateTimeFormatter == null) {
+            dateTimeFormatter = DateTimeUtils.matchDateTimeFormatter(datetimeStr);
+            if (dateTimeFormatter == null) {
+                throw new UnsupportedValueException();
+            }
+            jsonToRowConverters.fieldFormatterMap.put(path, dateTimeFormatter);
+        }
+        TemporalAccessor parsedTimestamp = dateTimeFormatter.parse(datetimeStr);
+        LocalTime localTime = parsedTimestamp.query(TemporalQueries.localTime());
+        LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
+        return LocalDateTime.of(localDate, localTime);
+    }
+
+    private String convertToString(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT:
+                return useBigDecimalForFloats
+                        ? getTreeDecimalValue(parser).toString()
+                        : Double.toString(parser.getDoubleValue());
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return parser.getText();
+            case START_OBJECT:
+            case START_ARRAY:
+                // the container is kept as the JSON text
+                return parser.readValueAsTree().toString();
+            default:
+                throw new UnsupportedValueException();
+        }
+    }
+
+    private byte[] convertToBytes(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new UnsupportedValueException();
+        }
+        return parser.getBinaryValue();
+    }
+
+    private BigDecimal convertToBigDecimal(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && useBigDecimalForFloats) {
+            return getTreeDecimalValue(parser);
+        }
+        return new BigDecimal(getScalarText(parser, true));
+    }
+
+    /** Returns the decimal of a float like the JSON tree, whose trailing zeros are stripped. */
+    private static BigDecimal getTreeDecimalValue(JsonParser parser) throws IOException {
+        BigDecimal value = parser.getDecimalValue();
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+    /** Returns the text of a string or a number, the number is in the form of the JSON text. */
+    private static String getScalarText(JsonParser parser, boolean allowFloat) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING
+                || token == JsonToken.VALUE_NUMBER_INT
+                || (allowFloat && token == JsonToken.VALUE_NUMBER_FLOAT)) {
+            return parser.getText();
+        }
+        throw new UnsupportedValueException();
+    }
+
+    private static String getStringText(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new UnsupportedValueException();
+        }
+        return parser.getText();
+    }
+
+    private JsonParserToObjectConverter createRowConverter(
+            SeaTunnelRowType rowType, String rowFieldName) {
+        final String[] fieldNames = rowType.getFieldNames();
+        final JsonParserToObjectConverter[] fieldConverters =
+                new JsonParserToObjectConverter[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            // the same path as the tree converters, which is the key of the date formatters
+            String path =
+                    StringUtils.isNotBlank(rowFieldName)
+                            ? rowFieldName + "." + fieldNames[i]
+                            : fieldNames[i];
+            fieldConverters[i] = createConverter(rowType.getFieldType(i), path);
+        }
+        final FieldIndex fieldIndex = new FieldIndex(fieldNames);
+
+        return parser -> {
+            int arity = fieldNames.length;
+            SeaTunnelRow row = new SeaTunnelRow(arity);
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                boolean[] found = failOnMissingField ? new boolean[arity] : null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    int index = fieldIndex.indexOf(parser.getCurrentName());
+                    parser.nextToken();
+                    if (index < 0) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    row.setField(index, fieldConverters[index].convert(parser));
+                    if (found != null) {
+                        found[index] = true;
+                    }
+                }
+                if (found != null) {
+                    for (boolean fieldFound : found) {
+                        if (!fieldFound) {
+                            throw new UnsupportedValueException();
+                        }
+                    }
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                // the fields are in order of the row type
+                int i = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (i < arity) {
+                        row.setField(i, fieldConverters[i].convert(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                    i++;
+                }
+                if (failOnMissingField && i < arity) {
+                    throw new UnsupportedValueException();
+                }
+            } else {
+                throw new UnsupportedValueException();
+            }
+            return row;
+        };
+    }
+
+    private JsonParserToObjectConverter createArrayConverter(ArrayType<?, ?> type, String path) {
+        final JsonParserToObjectConverter valueConverter =
+                createConverter(type.getElementType(), path);
+        final Class<?> elementClass = type.getElementType().getTypeClass();
+        return parser -> {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new UnsupportedValueException();
+            }
+            List<Object> values = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                values.add(valueConverter.convert(parser));
+            }
+            Object arr = Array.newInstance(elementClass, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Array.set(arr, i, values.get(i));
+            }
+            return arr;
+        };
+    }
+
+    private JsonParserToObjectConverter createMapConverter(MapType<?, ?> type, String path) {
+        final boolean stringKey = type.getKeyType().getSqlType() == SqlType.STRING;
+        // the keys are converted from the text nodes like the tree converters
+        final JsonToRowConverters.JsonToObjectConverter keyConverter =
+                jsonToRowConverters.createConverter(type.getKeyType());
+        final JsonParserToObjectConverter valueConverter =
+                createConverter(type.getValueType(), path + ".value");
+        final String keyPath = path + ".key";
+        return parser -> {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new UnsupportedValueException();
+            }
+            Map<Object, Object> value = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                Object key =
+                        stringKey ? name : keyConverter.convert(TextNode.valueOf(name), keyPath);
+                parser.nextToken();
+                value.put(key, valueConverter.convert(parser));
+            }
+            return value;
+        };
+    }
+
+    private static JsonParserToObjectConverter wrapIntoNullableConverter(
+            JsonParserToObjectConverter converter) {
+        return parser -> {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return converter.convert(parser);
+        };
+    }
+
+    /**
+     * Runtime converter that converts the tokens of a {@link JsonParser} into objects of internal
+     * data structures. The parser is positioned at the first token of the value, and at the last
+     * token of the value after the conversion.
+     */
+    @FunctionalInterface
+    public interface JsonParserToObjectConverter extends Serializable {
+        Object convert(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Map the field names to their indexes by a perfect hash table of two levels. The names are
+     * divided into buckets by their hash codes, and the names of a bucket are placed into a table
+     * without collision, whose size is the square of the number of the names. A lookup compares one
+     * name at most, and the hash code of the names read by the parser is cached, as the parser
+     * canonicalizes the field names.
+     */
+    static final class FieldIndex implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private static final int MAX_SEED_ATTEMPTS = 1000;
+
+        private final int[] bucketOffsets;
+        private final int[] bucketSizes;
+        private final int[] bucketSeeds;
+        private final String[] names;
+        private final int[] indexes;
+
+        FieldIndex(String[] fieldNames) {
+            int bucketCount = Math.max(fieldNames.length, 1);
+            List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            Set<String> distinctNames = new HashSet<>();
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (!distinctNames.add(fieldNames[i])) {
+                    throw new SeaTunnelJsonFormatException(
+                            CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                            "Duplicate field name: " + fieldNames[i]);
+                }
+                buckets.get(bucket(fieldNames[i].hashCode(), bucketCount)).add(i);
+            }
+            this.bucketOffsets = new int[bucketCount];
+            this.bucketSizes = new int[bucketCount];
+            this.bucketSeeds = new int[bucketCount];
+            int tableSize = 0;
+            for (int b = 0; b < bucketCount; b++) {
+                int size = buckets.get(b).size();
+                bucketOffsets[b] = tableSize;
+                bucketSizes[b] = size * size;
+                tableSize += size * size;
+            }
+            this.names = new String[tableSize];
+            this.indexes = new int[tableSize];
+            for (int b = 0; b < bucketCount; b++) {
+                placeBucket(b, buckets.get(b), fieldNames);
+            }
+        }
+
+        private void placeBucket(int b, List<Integer> fieldIndexes, String[] fieldNames) {
+            if (fieldIndexes.isEmpty()) {
+                return;
+            }
+            for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS; attempt++) {
+                int seed = 0x9E3779B9 * (2 * attempt + 1);
+                boolean[] used = new boolean[bucketSizes[b]];
+                boolean collided = false;
+                for (int fieldIndex : fieldIndexes) {
+                    int slot = slot(fieldNames[fieldIndex].hashCode(), seed, bucketSizes[b]);
+                    if (used[slot]) {
+                        collided = true;
+                        break;
+                    }
+                    used[slot] = true;
+                }
+                if (!collided) {
+                    bucketSeeds[b] = seed;
+                    for (int fieldIndex : fieldIndexes) {
+                        int slot =
+                                bucketOffsets[b]
+                                        + slot(
+                                                fieldNames[fieldIndex].hashCode(),
+                                                seed,
+                                                bucketSizes[b]);
+                        names[slot] = fieldNames[fieldIndex];
+                        indexes[slot] = fieldIndex;
+                    }
+                    return;
+                }
+            }
+            // only the names with the same hash code can not be separated
+            throw new SeaTunnelJsonFormatException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    "The field names have the same hash code");
+        }
+
+        /** Returns the index of the field, or -1 if the row has no such field. */
+        int indexOf(String name) {
+            int hash = name.hashCode();
+            int b = bucket(hash, bucketSizes.length);
+            int size = bucketSizes[b];
+            if (size == 0) {
+                return -1;
+            }
+            int slot = bucketOffsets[b] + slot(hash, bucketSeeds[b], size);
+            String candidate = names[slot];
+            return name.equals(candidate) ? indexes[slot] : -1;
+        }
+
+        private static int bucket(int hash, int bucketCount) {
+            return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % bucketCount;
+        }
+
+        private static int slot(int hash, int seed, int size) {
+            int h = hash * seed;
+            return ((h ^ (h >>> 15)) & Integer.MAX_VALUE) % size;
+        }
+    }
+
+    /** The value is not in the common form, it is converted from the JSON tree instead. */
+    private static final class UnsupportedValueException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedValueException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -18,9 +18,10 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
 import org.apache.seatunnel.api.serialization.SerializationSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -28,6 +29,9 @@ import org.apache.seatunnel.common.exception.CommonError;
 
 import lombok.Getter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -39,15 +43,21 @@ public class JsonSerializationSchema implements SerializationSchema {
     /** RowType to generate the runtime converter. */
     private final SeaTunnelRowType rowType;
 
-    /** Reusable object node. */
-    private transient ObjectNode node;
+    /**
+     * Reusable writer of the chars of a row. The rows are written as chars and encoded by the
+     * charset, the same as the JSON string of the row.
+     */
+    private transient StringWriter writer;
+
+    /** Reusable buffer of {@link #serialize(SeaTunnelRow)}. */
+    private transient ByteSink buffer;
 
     /** Object mapper that is used to create output JSON objects. */
     @Getter private final ObjectMapper mapper = new ObjectMapper();
 
     private final Charset charset;
 
-    private final RowToJsonConverters.RowToJsonConverter runtimeConverter;
+    private final RowToJsonGeneratorConverters.RowToJsonGeneratorConverter runtimeConverter;
 
     public JsonSerializationSchema(SeaTunnelRowType rowType) {
         this(rowType, StandardCharsets.UTF_8);
@@ -55,28 +65,48 @@ public class JsonSerializationSchema implements SerializationSchema {
 
     public JsonSerializationSchema(SeaTunnelRowType rowType, Charset charset) {
         this.rowType = rowType;
-        this.runtimeConverter = new RowToJsonConverters().createConverter(checkNotNull(rowType));
+        this.runtimeConverter =
+                new RowToJsonGeneratorConverters(null).createConverter(checkNotNull(rowType));
         this.charset = charset;
     }
 
     public JsonSerializationSchema(SeaTunnelRowType rowType, String nullValue) {
         this.rowType = rowType;
         this.runtimeConverter =
-                new RowToJsonConverters().createConverter(checkNotNull(rowType), nullValue);
+                new RowToJsonGeneratorConverters(nullValue).createConverter(checkNotNull(rowType));
         this.charset = StandardCharsets.UTF_8;
     }
 
     @Override
     public byte[] serialize(SeaTunnelRow row) {
-        if (node == null) {
-            node = mapper.createObjectNode();
+        if (buffer == null) {
+            buffer = new ByteSink();
         }
-
+        buffer.reset();
         try {
-            runtimeConverter.convert(mapper, node, row);
-            return mapper.writeValueAsString(node).getBytes(charset);
+            serialize(row, buffer);
+        } catch (IOException e) {
+            throw CommonError.jsonOperationError(FORMAT, row.toString(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow row, OutputStream out) throws IOException {
+        if (writer == null) {
+            writer = new StringWriter();
+        }
+        writer.getBuffer().setLength(0);
+
+        try (JsonGenerator generator = mapper.createGenerator(writer)) {
+            runtimeConverter.convert(mapper, generator, row);
         } catch (Throwable t) {
             throw CommonError.jsonOperationError(FORMAT, row.toString(), t);
         }
+        if (out instanceof ByteSink) {
+            ((ByteSink) out).write(writer.getBuffer(), charset);
+        } else {
+            out.write(writer.toString().getBytes(charset));
+        }
     }
 }
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.io.SerializedString;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+/**
+ * Tool class used to write {@link SeaTunnelRow} through a {@link JsonGenerator} without building
+ * the JSON tree. The output is the same as the JSON tree of {@link RowToJsonConverters}.
+ */
+public class RowToJsonGeneratorConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String nullValue;
+
+    /** The tree converters which convert the keys of the maps. */
+    private final RowToJsonConverters rowToJsonConverters = new RowToJsonConverters();
+
+    public RowToJsonGeneratorConverters(String nullValue) {
+        this.nullValue = nullValue;
+    }
+
+    public RowToJsonGeneratorConverter createConverter(SeaTunnelDataType<?> type) {
+        return wrapIntoNullableConverter(createNotNullConverter(type));
+    }
+
+    private RowToJsonGeneratorConverter wrapIntoNullableConverter(
+            RowToJsonGeneratorConverter converter) {
+        return (mapper, generator, value) -> {
+            if (value == null) {
+                writeNull(generator);
+                return;
+            }
+            converter.convert(mapper, generator, value);
+        };
+    }
+
+    private void writeNull(JsonGenerator generator) throws IOException {
+        if (nullValue != null) {
+            generator.writeString(nullValue);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private RowToJsonGeneratorConverter createNotNullConverter(SeaTunnelDataType<?> type) {
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type);
+            case NULL:
+                return (mapper, generator, value) -> {
+                    if (nullValue == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString((String) value);
+                    }
+                };
+            case BOOLEAN:
+                return (mapper, generator, value) -> generator.writeBoolean((Boolean) value);
+            case TINYINT:
+                return (mapper, generator, value) -> generator.writeNumber((byte) value);
+            case SMALLINT:
+                return (mapper, generator, value) -> generator.writeNumber((short) value);
+            case INT:
+                return (mapper, generator, value) -> generator.writeNumber((int) value);
+            case BIGINT:
+                return (mapper, generator, value) -> generator.writeNumber((long) value);
+            case FLOAT:
+                return (mapper, generator, value) -> generator.writeNumber((float) value);
+            case DOUBLE:
+                return (mapper, generator, value) -> generator.writeNumber((double) value);
+            case DECIMAL:
+                return (mapper, generator, value) ->
+                        generator.writeNumber(normalizeDecimal((BigDecimal) value));
+            case BYTES:
+                return (mapper, generator, value) -> generator.writeBinary((byte[]) value);
+            case STRING:
+                return (mapper, generator, value) -> generator.writeString((String) value);
+            case DATE:
+                return (mapper, generator, value) ->
+                        generator.writeString(ISO_LOCAL_DATE.format((LocalDate) value));
+            case TIME:
+                return (mapper, generator, value) ->
+                        generator.writeString(TimeFormat.TIME_FORMAT.format((LocalTime) value));
+            case TIMESTAMP:
+                return (mapper, generator, value) ->
+                        generator.writeString(ISO_LOCAL_DATE_TIME.format((LocalDateTime) value));
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type);
+            case MAP:
+                MapType<?, ?> mapType = (MapType<?, ?>) type;
+                return createMapConverter(mapType.getKeyType(), mapType.getValueType());
+            default:
+                throw new SeaTunnelJsonFormatException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "unsupported parse type: " + type);
+        }
+    }
+
+    /** The decimal node of the JSON tree strips the trailing zeros. */
+    private static BigDecimal normalizeDecimal(BigDecimal value) {
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        try {
+            return value.stripTrailingZeros();
+        } catch (ArithmeticException e) {
+            return value;
+        }
+    }
+
+    private RowToJsonGeneratorConverter createRowConverter(SeaTunnelRowType rowType) {
+        final String[] fieldNames = rowType.getFieldNames();
+        // a duplicated field name keeps its first position and the value of its last field, like
+        // the object node of the JSON tree
+        Map<String, Integer> lastIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            lastIndexes.put(fieldNames[i], i);
+        }
+        final SerializedString[] names = new SerializedString[lastIndexes.size()];
+        final int[] indexes = new int[lastIndexes.size()];
+        final RowToJsonGeneratorConverter[] fieldConverters =
+                new RowToJsonGeneratorConverter[lastIndexes.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : lastIndexes.entrySet()) {
+            names[i] = new SerializedString(entry.getKey());
+            indexes[i] = entry.getValue();
+            fieldConverters[i] = createConverter(rowType.getFieldType(entry.getValue()));
+            i++;
+        }
+
+        return (mapper, generator, value) -> {
+            SeaTunnelRow row = (SeaTunnelRow) value;
+            generator.writeStartObject();
+            for (int j = 0; j < names.length; j++) {
+                generator.writeFieldName(names[j]);
+                fieldConverters[j].convert(mapper, generator, row.getField(indexes[j]));
+            }
+            generator.writeEndObject();
+        };
+    }
+
+    private RowToJsonGeneratorConverter createArrayConverter(ArrayType<?, ?> arrayType) {
+        final RowToJsonGeneratorConverter elementConverter =
+                createConverter(arrayType.getElementType());
+        return (mapper, generator, value) -> {
+            Object[] arrayData = (Object[]) value;
+            generator.writeStartArray();
+            for (Object element : arrayData) {
+                elementConverter.convert(mapper, generator, element);
+            }
+            generator.writeEndArray();
+        };
+    }
+
+    private RowToJsonGeneratorConverter createMapConverter(
+            SeaTunnelDataType<?> keyType, SeaTunnelDataType<?> valueType) {
+        final boolean stringKey = keyType.getSqlType() == SqlType.STRING;
+        final RowToJsonConverters.RowToJsonConverter keyConverter =
+                rowToJsonConverters.createConverter(keyType, nullValue);
+        final RowToJsonGeneratorConverter valueConverter = createConverter(valueType);
+
+        return (mapper, generator, value) -> {
+            Map<?, ?> mapData = (Map<?, ?>) value;
+            generator.writeStartObject();
+            if (stringKey && !hasNullKey(mapData)) {
+                // the string keys are distinct field names
+                for (Map.Entry<?, ?> entry : mapData.entrySet()) {
+                    generator.writeFieldName((String) entry.getKey());
+                    valueConverter.convert(mapper, generator, entry.getValue());
+                }
+            } else {
+                // the keys are converted like the JSON tree, a duplicated field name keeps its
+                // first position and the last value
+                Map<String, Object> fields = new LinkedHashMap<>();
+                for (Map.Entry<?, ?> entry : mapData.entrySet()) {
+                    JsonNode keyNode = keyConverter.convert(mapper, null, entry.getKey());
+                    String fieldName = keyNode.isTextual() ? keyNode.asText() : keyNode.toString();
+                    fields.put(fieldName, entry.getValue());
+                }
+                for (Map.Entry<String, Object> field : fields.entrySet()) {
+                    generator.writeFieldName(field.getKey());
+                    valueConverter.convert(mapper, generator, field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        };
+    }
+
+    private static boolean hasNullKey(Map<?, ?> mapData) {
+        for (Object key : mapData.keySet()) {
+            if (key == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runtime converter that writes the objects of internal data structures through a {@link
+     * JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface RowToJsonGeneratorConverter extends Serializable {
+        void convert(ObjectMapper mapper, JsonGenerator generator, Object value) throws IOException;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.seatunnel.api.table.type.BasicType.BOOLEAN_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.BYTE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.DOUBLE_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.FLOAT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.INT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.LONG_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.SHORT_TYPE;
+import static org.apache.seatunnel.api.table.type.BasicType.STRING_TYPE;
+
+public class JsonParserToRowConvertersTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "tags"},
+                    new SeaTunnelDataType[] {LONG_TYPE, ArrayType.STRING_ARRAY_TYPE});
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "c_boolean",
+                        "c_tinyint",
+                        "c_smallint",
+                        "c_int",
+                        "c_bigint",
+                        "c_float",
+                        "c_double",
+                        "c_decimal",
+                        "c_string",
+                        "c_bytes",
+                        "c_date",
+                        "c_time",
+                        "c_timestamp",
+                        "c_array",
+                        "c_map",
+                        "c_int_map",
+                        "c_row",
+                        "c_rows"
+                    },
+                    new SeaTunnelDataType[] {
+                        BOOLEAN_TYPE,
+                        BYTE_TYPE,
+                        SHORT_TYPE,
+                        INT_TYPE,
+                        LONG_TYPE,
+                        FLOAT_TYPE,
+                        DOUBLE_TYPE,
+                        new DecimalType(38, 10),
+                        STRING_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        ArrayType.INT_ARRAY_TYPE,
+                        new MapType<>(STRING_TYPE, DOUBLE_TYPE),
+                        new MapType<>(INT_TYPE, STRING_TYPE),
+                        NESTED_TYPE,
+                        new ArrayType<SeaTunnelRow[], SeaTunnelRow>(
+                                SeaTunnelRow[].class, NESTED_TYPE) {}
+                    });
+
+    @Test
+    public void testConvertSameAsJsonTree() throws IOException {
+        String[] messages = {
+            "{\"c_boolean\":true,\"c_tinyint\":1,\"c_smallint\":\"12\",\"c_int\":123,"
+                    + "\"c_bigint\":12345678901,\"c_float\":1.1,\"c_double\":2.25E3,"
+                    + "\"c_decimal\":1.50,\"c_string\":\"abc\",\"c_bytes\":\"AQID\","
+                    + "\"c_date\":\"2024-01-02\",\"c_time\":\"12:12:43.123\","
+                    + "\"c_timestamp\":\"2024-01-02 12:12:43\",\"c_array\":[1,null,3],"
+                    + "\"c_map\":{\"a\":1.5,\"b\":null},\"c_int_map\":{\"1\":\"x\"},"
+                    + "\"c_row\":{\"id\":1,\"tags\":[\"a\",\"b\"]},"
+                    + "\"c_rows\":[{\"id\":2,\"tags\":[]},null,[3,[\"c\"]]]}",
+            "{\"c_string\":{\"a\":[1,2.50,true]},\"c_float\":\"3.3\",\"c_double\":7,"
+                    + "\"c_decimal\":\"12.345\",\"c_bigint\":\" 42 \",\"c_boolean\":\"TRUE\"}",
+            "{\"c_string\":1.10,\"c_decimal\":0.0,\"c_float\":1E-3,\"c_int\":null}",
+            "{\"c_string\":false,\"c_row\":null,\"c_decimal\":12}",
+            "{\"c_string\":1000.0,\"c_decimal\":-0.00}",
+            "{\"unknown\":{\"a\":[{\"b\":1}],\"c\":\"d\"},\"c_int\":1,\"unknown2\":[[]],"
+                    + "\"c_int\":2}",
+            "[true,1,2,3,4]",
+            "{}",
+            "null"
+        };
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        JsonToRowConverters jsonToRowConverters = new JsonToRowConverters(false, false);
+        JsonToRowConverters.JsonToObjectConverter treeConverter =
+                jsonToRowConverters.createRowConverter(ROW_TYPE);
+        JsonParserToRowConverters.JsonParserToObjectConverter parserConverter =
+                new JsonParserToRowConverters(jsonToRowConverters, false, true)
+                        .createRowConverter(ROW_TYPE);
+        for (String message : messages) {
+            SeaTunnelRow expected =
+                    (SeaTunnelRow) treeConverter.convert(objectMapper.readTree(message), null);
+            SeaTunnelRow actual;
+            try (JsonParser parser = objectMapper.createParser(message)) {
+                parser.nextToken();
+                actual = (SeaTunnelRow) parserConverter.convert(parser);
+                // the parser is at the end of the value
+                Assertions.assertNull(parser.nextToken(), message);
+            }
+            assertRowEquals(expected, actual, message);
+        }
+    }
+
+    @Test
+    public void testFallbackToJsonTree() throws IOException {
+        JsonDeserializationSchema schema = new JsonDeserializationSchema(false, false, ROW_TYPE);
+        // the values not in the common form are converted from the JSON tree
+        String[] messages = {
+            "{\"c_int\":1.9,\"c_bigint\":2.5}",
+            "{\"c_array\":{\"a\":1},\"c_map\":[1],\"c_row\":1}",
+            "{\"c_bytes\":1,\"c_boolean\":1}",
+            "1"
+        };
+        for (String message : messages) {
+            SeaTunnelRow expected =
+                    schema.convertToRowData(schema.deserializeToJsonNode(message.getBytes()));
+            assertRowEquals(expected, schema.deserialize(message.getBytes()), message);
+            assertRowEquals(expected, schema.deserialize(message), message);
+        }
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        schema.collect(
+                "[{\"c_int\":1},{\"c_int\":2,\"x\":{}}]".getBytes(),
+                new Collector<SeaTunnelRow>() {
+                    @Override
+                    public void collect(SeaTunnelRow record) {
+                        rows.add(record);
+                    }
+
+                    @Override
+                    public Object getCheckpointLock() {
+                        return this;
+                    }
+                });
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(2, rows.get(1).getField(3));
+    }
+
+    @Test
+    public void testFieldIndex() {
+        String[] fieldNames = new String[100];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = "field_" + i;
+        }
+        JsonParserToRowConverters.FieldIndex fieldIndex =
+                new JsonParserToRowConverters.FieldIndex(fieldNames);
+        for (int i = 0; i < fieldNames.length; i++) {
+            Assertions.assertEquals(i, fieldIndex.indexOf(new String(fieldNames[i])));
+        }
+        Assertions.assertEquals(-1, fieldIndex.indexOf("field_100"));
+        Assertions.assertEquals(
+                -1, new JsonParserToRowConverters.FieldIndex(new String[0]).indexOf("a"));
+        // the names with the same hash code and the duplicated names are not supported
+        Assertions.assertThrows(
+                SeaTunnelJsonFormatException.class,
+                () -> new JsonParserToRowConverters.FieldIndex(new String[] {"Aa", "BB"}));
+        Assertions.assertThrows(
+                SeaTunnelJsonFormatException.class,
+                () -> new JsonParserToRowConverters.FieldIndex(new String[] {"a", "a"}));
+    }
+
+    private static void assertRowEquals(
+            SeaTunnelRow expected, SeaTunnelRow actual, String message) {
+        // the arrays of the rows are compared by content
+        Assertions.assertEquals(expected, actual, message);
+    }
+}
@@ -24,11 +24,13 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.type.DecimalType;
 import org.apache.seatunnel.api.table.type.LocalTimeType;
 import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -42,6 +44,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -49,6 +52,7 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalQueries;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.apache.seatunnel.api.table.type.ArrayType.INT_ARRAY_TYPE;
@@ -678,4 +682,65 @@ public class JsonRowDataSerDeSchemaTest {
                 "{\"timestamp\":\"2022-09-24T22:45:00.000123456\"}",
                 new String(new JsonSerializationSchema(schema, "\\N").serialize(row)));
     }
+
+    @Test
+    public void testSerializeIntoByteSink() throws IOException {
+        SeaTunnelRowType nestedType =
+                new SeaTunnelRowType(
+                        new String[] {"a", "a", "b"},
+                        new SeaTunnelDataType[] {INT_TYPE, STRING_TYPE, new DecimalType(10, 2)});
+        SeaTunnelRowType schema =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "string", "decimal", "float", "bytes", "int_map", "array", "row"
+                        },
+                        new SeaTunnelDataType[] {
+                            STRING_TYPE,
+                            new DecimalType(10, 2),
+                            FLOAT_TYPE,
+                            PrimitiveByteArrayType.INSTANCE,
+                            new MapType<>(INT_TYPE, STRING_TYPE),
+                            STRING_ARRAY_TYPE,
+                            nestedType
+                        });
+        Map<Integer, String> map = new LinkedHashMap<>();
+        map.put(1, "x");
+        map.put(null, null);
+        SeaTunnelRow row1 =
+                new SeaTunnelRow(
+                        new Object[] {
+                            "\uD83D\uDE00 \"quoted\"\n",
+                            new BigDecimal("10.00"),
+                            1.5F,
+                            new byte[] {1, 2, 3},
+                            map,
+                            new String[] {"a", null},
+                            new SeaTunnelRow(new Object[] {1, "2", new BigDecimal("0.00")})
+                        });
+        SeaTunnelRow row2 = new SeaTunnelRow(new Object[7]);
+
+        for (String nullValue : new String[] {null, "\\N"}) {
+            JsonSerializationSchema serializationSchema =
+                    new JsonSerializationSchema(schema, nullValue);
+            ByteSink sink = new ByteSink(8);
+            StringBuilder expected = new StringBuilder();
+            for (SeaTunnelRow row : new SeaTunnelRow[] {row1, row2, row1}) {
+                // the JSON of the tree converters
+                JsonNode node =
+                        new RowToJsonConverters()
+                                .createConverter(schema, nullValue)
+                                .convert(serializationSchema.getMapper(), null, row);
+                String json = serializationSchema.getMapper().writeValueAsString(node);
+                assertEquals(
+                        json,
+                        new String(serializationSchema.serialize(row), StandardCharsets.UTF_8));
+                expected.append(json).append('\n');
+                serializationSchema.serialize(row, sink);
+                sink.write('\n');
+            }
+            assertEquals(
+                    expected.toString(),
+                    new String(sink.getBuffer(), 0, sink.size(), StandardCharsets.UTF_8));
+        }
+    }
 }
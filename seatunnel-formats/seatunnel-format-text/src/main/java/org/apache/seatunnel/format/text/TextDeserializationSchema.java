@@ -42,6 +42,7 @@ import lombok.NonNull;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -63,6 +64,10 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
     private final String encoding;
     private final TextLineSplitor splitor;
     private final CatalogTable catalogTable;
+    /** Resolved from the encoding on first use, {@link Charset} is not serializable. */
+    private transient Charset charset;
+    /** The single byte delimiter of the fields, -1 if the line can not be split as bytes. */
+    private final int byteDelimiter;
 
     @SuppressWarnings("MagicNumber")
     public static final DateTimeFormatter TIME_FORMAT =
@@ -71,6 +76,8 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
                     .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
                     .toFormatter();
 
+    private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+
     public Map<String, DateTimeFormatter> fieldFormatterMap = new HashMap<>();
 
     private TextDeserializationSchema(
@@ -84,6 +91,36 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         this.encoding = encoding;
         this.splitor = splitor;
         this.catalogTable = catalogTable;
+        this.byteDelimiter =
+                parseByteDelimiter(
+                        separators[0], EncodingUtils.tryParseCharset(encoding), splitor);
+    }
+
+    /**
+     * The line can be split as bytes when the delimiter is a literal ascii char of {@link
+     * String#split}, and the charset never encodes other chars with the byte of it.
+     */
+    private static int parseByteDelimiter(
+            String separator, Charset charset, TextLineSplitor splitor) {
+        if (!(splitor instanceof DefaultTextLineSplitor)) {
+            return -1;
+        }
+        if (!StandardCharsets.UTF_8.equals(charset)
+                && !StandardCharsets.US_ASCII.equals(charset)
+                && !StandardCharsets.ISO_8859_1.equals(charset)) {
+            return -1;
+        }
+        char delimiter;
+        if (separator.length() == 1 && REGEX_META_CHARS.indexOf(separator.charAt(0)) < 0) {
+            delimiter = separator.charAt(0);
+        } else if (separator.length() == 2
+                && separator.charAt(0) == '\\'
+                && !Character.isLetterOrDigit(separator.charAt(1))) {
+            delimiter = separator.charAt(1);
+        } else {
+            return -1;
+        }
+        return delimiter < 0x80 ? delimiter : -1;
     }
 
     public static Builder builder() {
@@ -156,16 +193,33 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
 
     @Override
     public SeaTunnelRow deserialize(byte[] message) throws IOException {
-        if (message == null || message.length == 0) {
+        if (message == null) {
+            return null;
+        }
+        return deserialize(message, 0, message.length);
+    }
+
+    /**
+     * Deserialize a line in the byte array slice. The line is split into fields without decoding
+     * the whole line if the delimiter is a single byte, so only the fields are decoded to string.
+     */
+    public SeaTunnelRow deserialize(byte[] message, int offset, int length) throws IOException {
+        if (message == null || length == 0) {
             return null;
         }
-        String content = new String(message, EncodingUtils.tryParseCharset(encoding));
-        Map<Integer, String> splitsMap = splitLineBySeaTunnelRowType(content, seaTunnelRowType, 0);
+        String[] splits;
+        if (byteDelimiter < 0) {
+            String line = new String(message, offset, length, getCharset());
+            splits = splitor.spliteLine(line, separators[0]);
+        } else {
+            splits = splitBytes(message, offset, length, (byte) byteDelimiter);
+        }
         Object[] objects = new Object[seaTunnelRowType.getTotalFields()];
         for (int i = 0; i < objects.length; i++) {
+            // the missing fields are null, e.g. the partition columns
             objects[i] =
                     convert(
-                            splitsMap.get(i),
+                            i < splits.length ? splits[i] : null,
                             seaTunnelRowType.getFieldType(i),
                             0,
                             seaTunnelRowType.getFieldNames()[i]);
@@ -179,6 +233,36 @@ public class TextDeserializationSchema implements DeserializationSchema<SeaTunne
         return seaTunnelRow;
     }
 
+    /** Split the bytes in the same way as {@code String.split(delimiter, -1)}. */
+    private String[] splitBytes(byte[] bytes, int offset, int length, byte delimiter) {
+        int end = offset + length;
+        int count = 1;
+        for (int i = offset; i < end; i++) {
+            if (bytes[i] == delimiter) {
+                count++;
+            }
+        }
+        Charset charset = getCharset();
+        String[] splits = new String[count];
+        int index = 0;
+        int start = offset;
+        for (int i = offset; i < end; i++) {
+            if (bytes[i] == delimiter) {
+                splits[index++] = new String(bytes, start, i - start, charset);
+                start = i + 1;
+            }
+        }
+        splits[index] = new String(bytes, start, end - start, charset);
+        return splits;
+    }
+
+    private Charset getCharset() {
+        if (charset == null) {
+            charset = EncodingUtils.tryParseCharset(encoding);
+        }
+        return charset;
+    }
+
     @Override
     public SeaTunnelDataType<SeaTunnelRow> getProducedType() {
         return seaTunnelRowType;
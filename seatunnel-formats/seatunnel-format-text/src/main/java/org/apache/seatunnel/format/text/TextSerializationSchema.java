@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.format.text;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
 import org.apache.seatunnel.api.serialization.SerializationSchema;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.MapType;
@@ -32,14 +33,14 @@ import org.apache.seatunnel.format.text.exception.SeaTunnelTextFormatException;
 
 import lombok.NonNull;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Arrays;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class TextSerializationSchema implements SerializationSchema {
     private final SeaTunnelRowType seaTunnelRowType;
@@ -50,6 +51,9 @@ public class TextSerializationSchema implements SerializationSchema {
     private final Charset charset;
     private final String nullValue;
 
+    /** Reusable builder of the text of a row. */
+    private transient StringBuilder builder;
+
     private TextSerializationSchema(
             @NonNull SeaTunnelRowType seaTunnelRowType,
             String[] separators,
@@ -137,22 +141,89 @@ public class TextSerializationSchema implements SerializationSchema {
 
     @Override
     public byte[] serialize(SeaTunnelRow element) {
+        return toText(element).toString().getBytes(charset);
+    }
+
+    @Override
+    public void serialize(SeaTunnelRow element, OutputStream out) throws IOException {
+        StringBuilder text = toText(element);
+        if (out instanceof ByteSink) {
+            ((ByteSink) out).write(text, charset);
+        } else {
+            out.write(text.toString().getBytes(charset));
+        }
+    }
+
+    /** Appends the fields into the reusable builder instead of concatenating the strings. */
+    private StringBuilder toText(SeaTunnelRow element) {
         if (element.getFields().length != seaTunnelRowType.getTotalFields()) {
             throw new IndexOutOfBoundsException(
                     "The data does not match the configured schema information, please check");
         }
+        if (builder == null) {
+            builder = new StringBuilder();
+        }
+        builder.setLength(0);
         Object[] fields = element.getFields();
-        String[] strings = new String[fields.length];
         for (int i = 0; i < fields.length; i++) {
-            strings[i] = convert(fields[i], seaTunnelRowType.getFieldType(i), 0);
+            if (i > 0) {
+                builder.append(separators[0]);
+            }
+            append(builder, fields[i], seaTunnelRowType.getFieldType(i), 0);
         }
-        return String.join(separators[0], strings).getBytes(charset);
+        return builder;
     }
 
-    private String convert(Object field, SeaTunnelDataType<?> fieldType, int level) {
+    private void append(
+            StringBuilder builder, Object field, SeaTunnelDataType<?> fieldType, int level) {
         if (field == null) {
-            return nullValue;
+            builder.append(nullValue);
+            return;
         }
+        switch (fieldType.getSqlType()) {
+            case ARRAY:
+                SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) fieldType).getElementType();
+                Object[] elements = (Object[]) field;
+                for (int i = 0; i < elements.length; i++) {
+                    if (i > 0) {
+                        builder.append(separators[level + 1]);
+                    }
+                    append(builder, elements[i], elementType, level + 1);
+                }
+                return;
+            case MAP:
+                SeaTunnelDataType<?> keyType = ((MapType<?, ?>) fieldType).getKeyType();
+                SeaTunnelDataType<?> valueType = ((MapType<?, ?>) fieldType).getValueType();
+                boolean first = true;
+                for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) field).entrySet()) {
+                    if (!first) {
+                        builder.append(separators[level + 1]);
+                    }
+                    first = false;
+                    append(builder, entry.getKey(), keyType, level + 1);
+                    builder.append(separators[level + 2]);
+                    append(builder, entry.getValue(), valueType, level + 1);
+                }
+                return;
+            case ROW:
+                Object[] fields = ((SeaTunnelRow) field).getFields();
+                for (int i = 0; i < fields.length; i++) {
+                    if (i > 0) {
+                        builder.append(separators[level + 1]);
+                    }
+                    append(
+                            builder,
+                            fields[i],
+                            ((SeaTunnelRowType) fieldType).getFieldType(i),
+                            level + 1);
+                }
+                return;
+            default:
+                builder.append(convert(field, fieldType));
+        }
+    }
+
+    private String convert(Object field, SeaTunnelDataType<?> fieldType) {
         switch (fieldType.getSqlType()) {
             case DOUBLE:
             case FLOAT:
@@ -176,37 +247,6 @@ public class TextSerializationSchema implements SerializationSchema {
                 return "";
             case BYTES:
                 return new String((byte[]) field, StandardCharsets.UTF_8);
-            case ARRAY:
-                SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) fieldType).getElementType();
-                return Arrays.stream((Object[]) field)
-                        .map(f -> convert(f, elementType, level + 1))
-                        .collect(Collectors.joining(separators[level + 1]));
-            case MAP:
-                SeaTunnelDataType<?> keyType = ((MapType<?, ?>) fieldType).getKeyType();
-                SeaTunnelDataType<?> valueType = ((MapType<?, ?>) fieldType).getValueType();
-                return ((Map<Object, Object>) field)
-                        .entrySet().stream()
-                                .map(
-                                        entry ->
-                                                String.join(
-                                                        separators[level + 2],
-                                                        convert(entry.getKey(), keyType, level + 1),
-                                                        convert(
-                                                                entry.getValue(),
-                                                                valueType,
-                                                                level + 1)))
-                                .collect(Collectors.joining(separators[level + 1]));
-            case ROW:
-                Object[] fields = ((SeaTunnelRow) field).getFields();
-                String[] strings = new String[fields.length];
-                for (int i = 0; i < fields.length; i++) {
-                    strings[i] =
-                            convert(
-                                    fields[i],
-                                    ((SeaTunnelRowType) fieldType).getFieldType(i),
-                                    level + 1);
-                }
-                return String.join(separators[level + 1], strings);
             default:
                 throw new SeaTunnelTextFormatException(
                         CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.format.text;
 
+import org.apache.seatunnel.api.serialization.ByteSink;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.DecimalType;
@@ -28,11 +29,14 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 
+import org.apache.commons.lang3.SerializationUtils;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
 
@@ -154,6 +158,94 @@ public class TextFormatSchemaTest {
         Assertions.assertEquals(data, content);
     }
 
+    @Test
+    public void testSerializeIntoByteSink() throws IOException {
+        TextDeserializationSchema deserializationSchema =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(seaTunnelRowType)
+                        .delimiter("\u0001")
+                        .build();
+        TextSerializationSchema serializationSchema =
+                TextSerializationSchema.builder()
+                        .seaTunnelRowType(seaTunnelRowType)
+                        .delimiter("\u0001")
+                        .build();
+        SeaTunnelRow seaTunnelRow = deserializationSchema.deserialize(content.getBytes());
+        // the rows are appended into one reusable buffer
+        ByteSink sink = new ByteSink(16);
+        serializationSchema.serialize(seaTunnelRow, sink);
+        sink.write('\n');
+        serializationSchema.serialize(seaTunnelRow, sink);
+        Assertions.assertEquals(
+                content + "\n" + content,
+                new String(sink.getBuffer(), 0, sink.size(), StandardCharsets.UTF_8));
+        sink.reset();
+        serializationSchema.serialize(seaTunnelRow, sink);
+        Assertions.assertArrayEquals(
+                serializationSchema.serialize(seaTunnelRow), sink.toByteArray());
+    }
+
+    @Test
+    public void testParseByteSlice() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "tags", "partition"},
+                        new SeaTunnelDataType<?>[] {
+                            INT_TYPE, STRING_TYPE, ArrayType.STRING_ARRAY_TYPE, STRING_TYPE
+                        });
+        byte[] line = "##1|名字|a\u0002b|##".getBytes(StandardCharsets.UTF_8);
+        for (String delimiter : new String[] {"\\|", "[|]"}) {
+            TextDeserializationSchema deserializationSchema =
+                    TextDeserializationSchema.builder()
+                            .seaTunnelRowType(rowType)
+                            .delimiter(delimiter)
+                            .build();
+            SeaTunnelRow seaTunnelRow = deserializationSchema.deserialize(line, 2, line.length - 4);
+            Assertions.assertEquals(1, seaTunnelRow.getField(0));
+            Assertions.assertEquals("名字", seaTunnelRow.getField(1));
+            Assertions.assertArrayEquals(
+                    new String[] {"a", "b"}, (String[]) seaTunnelRow.getField(2));
+            Assertions.assertNull(seaTunnelRow.getField(3));
+        }
+        TextDeserializationSchema deserializationSchema =
+                TextDeserializationSchema.builder()
+                        .seaTunnelRowType(seaTunnelRowType)
+                        .delimiter("\u0001")
+                        .build();
+        TextSerializationSchema serializationSchema =
+                TextSerializationSchema.builder()
+                        .seaTunnelRowType(seaTunnelRowType)
+                        .delimiter("\u0001")
+                        .build();
+        byte[] bytes = ("\n" + content + "\n").getBytes(StandardCharsets.UTF_8);
+        SeaTunnelRow seaTunnelRow = deserializationSchema.deserialize(bytes, 1, bytes.length - 2);
+        Assertions.assertEquals(content, new String(serializationSchema.serialize(seaTunnelRow)));
+        Assertions.assertNull(deserializationSchema.deserialize(bytes, 0, 0));
+    }
+
+    @Test
+    public void testJavaSerialization() throws IOException {
+        // the schema is shipped to the workers inside the sources
+        for (String encoding : new String[] {"UTF-8", "GBK"}) {
+            TextDeserializationSchema deserializationSchema =
+                    SerializationUtils.clone(
+                            TextDeserializationSchema.builder()
+                                    .seaTunnelRowType(seaTunnelRowType)
+                                    .delimiter("\u0001")
+                                    .encoding(encoding)
+                                    .build());
+            TextSerializationSchema serializationSchema =
+                    TextSerializationSchema.builder()
+                            .seaTunnelRowType(seaTunnelRowType)
+                            .delimiter("\u0001")
+                            .build();
+            SeaTunnelRow seaTunnelRow =
+                    deserializationSchema.deserialize(content.getBytes(StandardCharsets.UTF_8));
+            Assertions.assertEquals(
+                    content, new String(serializationSchema.serialize(seaTunnelRow)));
+        }
+    }
+
     @Test
     public void testParseUnsupportedDateTimeFormat() throws IOException {
         SeaTunnelRowType rowType =